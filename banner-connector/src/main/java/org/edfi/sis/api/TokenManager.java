@@ -0,0 +1,200 @@
+package org.edfi.sis.api;
+
+import org.edfi.api.ApiClient;
+import org.edfi.api.RetryInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.naming.AuthenticationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the bearer token of the {@link ApiClient} valid. The token is replaced oauth.token.refresh.margin.seconds
+ * before it expires, in the background while the old one still works, and a token the API rejected is replaced at
+ * once. However many threads ask at the same time, only one token request is made; the others wait for its result.
+ * Requests the API answers 401 to are sent again by the retry interceptor of the api client with the token returned
+ * by {@link #refreshToken(String)}, or, when they were asynchronous, once {@link #refreshTokenAsync(String)} has it.
+ */
+@Component
+public class TokenManager {
+
+    @Autowired
+    TokenRetriever tokenRetriever;
+
+    @Autowired
+    ApiClient apiClient;
+
+    @Value( "${oauth.token.refresh.margin.seconds:60}" )
+    long refreshMarginSeconds;
+
+    /**
+     * A token with the times it should be refreshed and stops working, as System.currentTimeMillis values.
+     */
+    private static class Token {
+        final String value;
+        final long refreshAt;
+        final long expiresAt;
+
+        Token(String value, long refreshAt, long expiresAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Token current = null;
+    private CompletableFuture<Token> refreshing = null;
+    private long refreshCount = 0;
+
+    @PostConstruct
+    public void registerTokenRefresher() {
+        apiClient.getRetryInterceptor().setTokenRefresher(new RetryInterceptor.TokenRefresher() {
+            @Override
+            public String refreshToken(String rejectedToken) {
+                try {
+                    return TokenManager.this.refreshToken(rejectedToken);
+                } catch (AuthenticationException e) {
+                    // no new token, so the request fails with the 401 it was answered
+                    return null;
+                }
+            }
+
+            @Override
+            public CompletableFuture<String> refreshTokenAsync(String rejectedToken) {
+                return TokenManager.this.refreshTokenAsync(rejectedToken).exceptionally(e -> null);
+            }
+        });
+    }
+
+    /**
+     * @return a token that has not expired, requesting one when there is none yet
+     */
+    public String getToken() throws AuthenticationException {
+        Token token = current;
+        long now = System.currentTimeMillis();
+        if (token != null && now < token.refreshAt) {
+            return token.value;
+        }
+        if (token != null && now < token.expiresAt) {
+            // close to expiring but still usable, so the caller need not wait for the new one
+            startRefresh(token);
+            return token.value;
+        }
+        return await(startRefresh(token)).value;
+    }
+
+    /**
+     * Replaces a token the API answered 401 to. When another thread has replaced it already, its successor is
+     * returned without a new request.
+     */
+    public String refreshToken(String rejectedToken) throws AuthenticationException {
+        Token token = current;
+        if (token != null && !token.value.equals(rejectedToken)) {
+            return token.value;
+        }
+        return await(startRefresh(token)).value;
+    }
+
+    /**
+     * Replaces a token the API answered 401 to without waiting for the token request, which runs on the refresh
+     * thread. The future fails, with the AuthenticationException as its cause, when no token was granted.
+     */
+    public CompletableFuture<String> refreshTokenAsync(String rejectedToken) {
+        Token token = current;
+        if (token != null && !token.value.equals(rejectedToken)) {
+            return CompletableFuture.completedFuture(token.value);
+        }
+        return startRefresh(token).thenApply(refreshed -> refreshed.value);
+    }
+
+    public synchronized long getRefreshCount() {
+        return refreshCount;
+    }
+
+    private synchronized CompletableFuture<Token> startRefresh(Token stale) {
+        if (current != stale) {
+            return CompletableFuture.completedFuture(current);
+        }
+        if (refreshing == null) {
+            refreshing = CompletableFuture.supplyAsync(this::requestToken, executor);
+        }
+        return refreshing;
+    }
+
+    /**
+     * Requests a new token and installs it before the waiting threads are woken up.
+     */
+    private Token requestToken() {
+        try {
+            long issuedAt = System.currentTimeMillis();
+            AccessToken accessToken = tokenRetriever.obtainNewAccessToken();
+            if (accessToken == null || accessToken.getAccessToken() == null) {
+                throw new AuthenticationException("The OAuth endpoint did not grant a token");
+            }
+            Token token;
+            if (accessToken.getExpiresIn() <= 0) {
+                token = new Token(accessToken.getAccessToken(), Long.MAX_VALUE, Long.MAX_VALUE);
+            } else {
+                long lifetime = TimeUnit.SECONDS.toMillis(accessToken.getExpiresIn());
+                // a lifetime shorter than the margin is refreshed half way through instead
+                long margin = Math.min(TimeUnit.SECONDS.toMillis(refreshMarginSeconds), lifetime / 2);
+                token = new Token(accessToken.getAccessToken(), issuedAt + lifetime - margin, issuedAt + lifetime);
+            }
+            installToken(token);
+            return token;
+        } catch (AuthenticationException e) {
+            throw new CompletionException(e);
+        } finally {
+            endRefresh();
+        }
+    }
+
+    /**
+     * Puts a new token on the api client before publishing it, so that a thread which sees the new token never
+     * sends a request with the old one.
+     */
+    private synchronized void installToken(Token token) {
+        apiClient.setAccessToken(token.value);
+        current = token;
+        refreshCount++;
+    }
+
+    private synchronized void endRefresh() {
+        refreshing = null;
+    }
+
+    private Token await(CompletableFuture<Token> token) throws AuthenticationException {
+        try {
+            return token.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthenticationException("Interrupted while waiting for a token");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof AuthenticationException) {
+                throw (AuthenticationException) cause;
+            }
+            throw new AuthenticationException(cause.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
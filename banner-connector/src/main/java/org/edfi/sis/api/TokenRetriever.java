@@ -2,12 +2,13 @@ package org.edfi.sis.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.*;
-import org.apache.http.client.CredentialsProvider;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,12 +16,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import javax.naming.AuthenticationException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 
+/**
+ * Requests client credentials tokens from the OAuth endpoint over one pooled HTTP client, so that every refresh reuses
+ * an open connection. Connecting and every read are bounded by timeouts, so that an endpoint that stops answering
+ * fails the refresh instead of holding the requests waiting for it. {@link TokenManager} decides when a new token is
+ * needed.
+ */
 @Component
 public class TokenRetriever {
 
@@ -30,6 +38,13 @@ public class TokenRetriever {
     private String clientKey;
     @Value( "${oauth.client.secret}" )
     private String clientSecret;
+    @Value( "${oauth.token.connect.timeout.ms:10000}" )
+    private int connectTimeoutMillis = 10000;
+    @Value( "${oauth.token.socket.timeout.ms:10000}" )
+    private int socketTimeoutMillis = 10000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CloseableHttpClient client = null;
 
     public TokenRetriever() {
 
@@ -42,12 +57,17 @@ public class TokenRetriever {
     }
 
     public String obtainNewBearerToken() throws AuthenticationException {
-        CredentialsProvider provider = new BasicCredentialsProvider();
+        AccessToken accessToken = obtainNewAccessToken();
+        return accessToken != null ? accessToken.getAccessToken() : null;
+    }
+
+    /**
+     * @return the token with its lifetime, or null when the endpoint did not grant one
+     */
+    public AccessToken obtainNewAccessToken() throws AuthenticationException {
         String clientCredentials = Base64.getEncoder()
                 .encodeToString(new String(clientKey + ":" + clientSecret).getBytes());
 
-        HttpClient client = HttpClientBuilder.create().setDefaultCredentialsProvider(provider).build();
-
         HttpPost httpPost = new HttpPost(oauthUrl);
         List<NameValuePair> params = new ArrayList<>();
         httpPost.addHeader(org.apache.http.HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE);
@@ -55,15 +75,15 @@ public class TokenRetriever {
         params.add(new BasicNameValuePair("grant_type", "client_credentials"));
         try {
             httpPost.setEntity(new UrlEncodedFormEntity(params));
-            HttpResponse response = client.execute(httpPost);
-            StatusLine statusLine = response.getStatusLine();
-            if (statusLine.getStatusCode() == HttpStatus.OK.value()) {
+            try (CloseableHttpResponse response = getClient().execute(httpPost)) {
+                StatusLine statusLine = response.getStatusLine();
                 HttpEntity entity = response.getEntity();
-                String responseData = EntityUtils.toString(entity, Consts.UTF_8);
-                ObjectMapper objectMapper = new ObjectMapper();
-                AccessToken acessTokenObject = objectMapper.readValue(responseData, AccessToken.class);
-                String accessToken = acessTokenObject.getAccessToken();
-                return accessToken;
+                if (statusLine.getStatusCode() == HttpStatus.OK.value()) {
+                    String responseData = EntityUtils.toString(entity, Consts.UTF_8);
+                    return objectMapper.readValue(responseData, AccessToken.class);
+                }
+                // reading the body to the end hands the connection back to the pool
+                EntityUtils.consume(entity);
             }
         } catch (IOException e) {
             throw new AuthenticationException(e.getMessage());
@@ -71,4 +91,28 @@ public class TokenRetriever {
 
         return null;
     }
-}
\ No newline at end of file
+
+    private synchronized CloseableHttpClient getClient() {
+        if (client == null) {
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setMaxTotal(2);
+            connectionManager.setDefaultMaxPerRoute(2);
+            RequestConfig requestConfig = RequestConfig.custom()
+                    .setConnectTimeout(connectTimeoutMillis)
+                    .setConnectionRequestTimeout(connectTimeoutMillis)
+                    .setSocketTimeout(socketTimeoutMillis)
+                    .build();
+            client = HttpClientBuilder.create().setConnectionManager(connectionManager)
+                    .setDefaultRequestConfig(requestConfig).build();
+        }
+        return client;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() throws IOException {
+        if (client != null) {
+            client.close();
+            client = null;
+        }
+    }
+}
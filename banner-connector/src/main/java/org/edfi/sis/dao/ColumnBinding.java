@@ -0,0 +1,107 @@
+package org.edfi.sis.dao;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The column map of one SQL file compiled into a binding plan. Each field of the map is resolved to the position of
+ * its column on the first result set of the SQL, and the positions are reused for every later result set of the
+ * same SQL instead of scanning the header row again.
+ *
+ * Problems with the map are collected as warnings: fields the mapper does not know, which are usually misspelled,
+ * fields the mapper expects but the map leaves out, and mapped columns the result set does not have.
+ */
+public class ColumnBinding {
+    private final String sqlName;
+    private final String[] fields;
+    private final String[] columns;
+    private final Map<String, Integer> fieldPositions = new HashMap<>();
+    private final List<String> warnings = Collections.synchronizedList(new ArrayList<>());
+    private volatile int[] columnIndexes = null;
+
+    /**
+     * @param sqlName name of the SQL file the map belongs to
+     * @param columnMap field to column name, as read from the columnmap file
+     * @param knownFields every field the mapper reads; the fields of the map are checked against them
+     */
+    public ColumnBinding(String sqlName, Map<String, String> columnMap, Collection<String> knownFields) {
+        this.sqlName = sqlName;
+        List<String> fieldList = new ArrayList<>();
+        List<String> columnList = new ArrayList<>();
+        for (Map.Entry<String, String> entry : columnMap.entrySet()) {
+            if (!knownFields.contains(entry.getKey())) {
+                warnings.add(String.format("Column map %s: unknown field %s=%s is ignored",
+                        sqlName, entry.getKey(), entry.getValue()));
+                continue;
+            }
+            fieldPositions.put(entry.getKey(), fieldList.size());
+            fieldList.add(entry.getKey());
+            columnList.add(entry.getValue());
+        }
+        for (String field : knownFields) {
+            if (!fieldPositions.containsKey(field)) {
+                warnings.add(String.format("Column map %s: field %s is not mapped", sqlName, field));
+            }
+        }
+        this.fields = fieldList.toArray(new String[0]);
+        this.columns = columnList.toArray(new String[0]);
+    }
+
+    /**
+     * Resolves the column positions from the first result set of the SQL; later calls return at once.
+     */
+    public ColumnBinding bind(RowCursor cursor) {
+        if (columnIndexes == null) {
+            synchronized (this) {
+                if (columnIndexes == null) {
+                    columnIndexes = resolve(cursor.getColumnNames());
+                }
+            }
+        }
+        return this;
+    }
+
+    private int[] resolve(List<String> columnNames) {
+        int[] indexes = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            indexes[i] = -1;
+            for (int j = 0; j < columnNames.size(); j++) {
+                if (StringUtils.equalsIgnoreCase(columnNames.get(j), columns[i])) {
+                    indexes[i] = j;
+                }
+            }
+            if (indexes[i] < 0) {
+                warnings.add(String.format("Column map %s: column %s of field %s is not returned by the SQL",
+                        sqlName, columns[i], fields[i]));
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * @return the position of the field's column in the bound result sets, or -1 when the field is not mapped or
+     * its column is missing
+     * @throws IllegalStateException when no result set was bound yet
+     */
+    public int index(String field) {
+        if (columnIndexes == null) {
+            throw new IllegalStateException("Column map " + sqlName + " is not bound to a result set");
+        }
+        Integer position = fieldPositions.get(field);
+        return position != null ? columnIndexes[position] : -1;
+    }
+
+    public String getSqlName() {
+        return sqlName;
+    }
+
+    public List<String> getWarnings() {
+        return warnings;
+    }
+}
@@ -1,5 +1,10 @@
 package org.edfi.sis.dao;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,13 +12,29 @@ import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Repository;
 
 import java.sql.*;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
 public class Dao {
     private final static Logger logger = LoggerFactory.getLogger(Dao.class);
 
+    public static final String STUDENT_UNIQUE_IDS_PLACEHOLDER = "{studentUniqueIds}";
+    public static final String WATERMARK_PLACEHOLDER = "{watermark}";
+    public static final String PARTITION_PLACEHOLDER = "{partition}";
+    public static final String PARTITION_COUNT_PLACEHOLDER = "{partitionCount}";
+    public static final String PARTITION_LOW_PLACEHOLDER = "{partitionLow}";
+    public static final String PARTITION_HIGH_PLACEHOLDER = "{partitionHigh}";
+
+    @FunctionalInterface
+    private interface ParameterBinder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+
     @Value( "${database.url}" )
     String url;
     @Value( "${database.driver}" )
@@ -23,94 +44,307 @@ public class Dao {
     @Value( "${database.password}" )
     String password;
 
-    Connection connection = null;
+    @Value( "${database.fetch.size:500}" )
+    int fetchSize;
+
+    @Value( "${database.pool.size:4}" )
+    int poolSize;
+    @Value( "${database.pool.statement.cache.size:50}" )
+    int statementCacheSize;
+    @Value( "${database.pool.validation.timeout.ms:5000}" )
+    long validationTimeout;
+    @Value( "${database.pool.connection.timeout.ms:30000}" )
+    long connectionTimeout;
+    @Value( "${database.pool.read.only:true}" )
+    boolean readOnly;
+
+    HikariDataSource dataSource = null;
+
+    private final AtomicLong connectionWaitCount = new AtomicLong();
+    private final AtomicLong connectionWaitNanos = new AtomicLong();
+    private final AtomicLong maxConnectionWaitNanos = new AtomicLong();
+    private final AtomicInteger peakActiveConnections = new AtomicInteger();
+    private final AtomicInteger peakThreadsAwaitingConnection = new AtomicInteger();
 
 
     public void getRemoteConnection() throws ClassNotFoundException, SQLException {
+        getRemoteConnection(1);
+    }
+
+    /**
+     * Opens the connection pool, refusing a database.pool.size below the number of connections one extraction holds
+     * at once, which would otherwise wait for database.pool.connection.timeout.ms and then fail.
+     */
+    public void getRemoteConnection(int minimumPoolSize) throws ClassNotFoundException, SQLException {
+        if (poolSize < minimumPoolSize) {
+            throw new SQLException(String.format("database.pool.size is %d but this extraction holds %d connections "
+                    + "at once; set it to at least %d", poolSize, minimumPoolSize, minimumPoolSize));
+        }
         Class.forName(getDriver());
-        setConnection(DriverManager.getConnection(getUrl(), getUsername(), getPassword()));
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("banner");
+        config.setJdbcUrl(getUrl());
+        config.setUsername(getUsername());
+        config.setPassword(getPassword());
+        config.setDriverClassName(getDriver());
+        config.setMaximumPoolSize(Math.max(1, poolSize));
+        config.setMinimumIdle(Math.max(1, poolSize));
+        config.setValidationTimeout(validationTimeout);
+        config.setConnectionTimeout(connectionTimeout);
+        config.setReadOnly(readOnly);
+        addStatementCacheProperties(config);
+
+        try {
+            setDataSource(new HikariDataSource(config));
+        } catch (HikariPool.PoolInitializationException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
     }
 
     public void closeRemoteConnection() throws SQLException {
-        if (getConnection()!=null) {
-            getConnection().close();
+        if (getDataSource()!=null) {
+            getDataSource().close();
         }
     }
 
-    public List<List<String>> makeSqlCall(String sql) {
-        Statement st = null;
-        List<List<String>> result = new ArrayList<>();
+    /**
+     * Statement caching is done by the JDBC driver, so the cache size is passed on using each driver's own property.
+     */
+    private void addStatementCacheProperties(HikariConfig config) {
+        if (statementCacheSize <= 0 || getUrl() == null) {
+            return;
+        }
+        if (getUrl().startsWith("jdbc:oracle:")) {
+            config.addDataSourceProperty("oracle.jdbc.implicitStatementCacheSize", statementCacheSize);
+        } else if (getUrl().startsWith("jdbc:mysql:")) {
+            config.addDataSourceProperty("cachePrepStmts", true);
+            config.addDataSourceProperty("prepStmtCacheSize", statementCacheSize);
+        } else if (getUrl().startsWith("jdbc:postgresql:")) {
+            config.addDataSourceProperty("preparedStatementCacheQueries", statementCacheSize);
+        }
+    }
+
+    /**
+     * Borrows a connection from the pool, recording how long the caller had to wait for it. The caller must close
+     * the connection to return it to the pool.
+     */
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = getDataSource().getConnection();
+        long waited = System.nanoTime() - start;
 
+        connectionWaitCount.incrementAndGet();
+        connectionWaitNanos.addAndGet(waited);
+        maxConnectionWaitNanos.accumulateAndGet(waited, Math::max);
+        HikariPoolMXBean pool = getDataSource().getHikariPoolMXBean();
+        if (pool != null) {
+            peakActiveConnections.accumulateAndGet(pool.getActiveConnections(), Math::max);
+            peakThreadsAwaitingConnection.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+        }
+        return connection;
+    }
+
+    /**
+     * @return pool usage for the run report, in insertion order
+     */
+    public Map<String, Object> getPoolMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("Pool Size", poolSize);
+        HikariPoolMXBean pool = getDataSource() != null ? getDataSource().getHikariPoolMXBean() : null;
+        if (pool != null) {
+            metrics.put("Pool Active Connections", pool.getActiveConnections());
+            metrics.put("Pool Idle Connections", pool.getIdleConnections());
+        }
+        metrics.put("Pool Peak Active Connections", peakActiveConnections.get());
+        metrics.put("Pool Peak Threads Awaiting Connection", peakThreadsAwaitingConnection.get());
+        metrics.put("Pool Connections Borrowed", connectionWaitCount.get());
+        metrics.put("Pool Total Wait (ms)", TimeUnit.NANOSECONDS.toMillis(connectionWaitNanos.get()));
+        metrics.put("Pool Max Wait (ms)", TimeUnit.NANOSECONDS.toMillis(maxConnectionWaitNanos.get()));
+        return metrics;
+    }
+
+    /**
+     * Opens a forward-only cursor over the results of the given SQL. The caller must close the cursor.
+     */
+    public RowCursor openCursor(String sql) throws SQLException {
+        Connection connection = getConnection();
+        Statement st = null;
         try {
             st = connection.createStatement();
-            ResultSet resultSet = st.executeQuery(sql);
-
-            int columnCount = resultSet.getMetaData().getColumnCount();
+            st.setFetchSize(getFetchSize());
+            return new RowCursor(connection, st, st.executeQuery(sql));
+        } catch (SQLException e) {
+            closeStatement(st);
+            closeConnection(connection);
+            throw e;
+        }
+    }
 
-            //Add the column headers
-            List<String> headerRow = new ArrayList<>();
-            for (int i = 1; i <= columnCount; i++) {
-                headerRow.add(resultSet.getMetaData().getColumnName(i));
+    /**
+     * Opens a forward-only cursor over a set-based query for a chunk of ids. The {studentUniqueIds} placeholder in
+     * the SQL is expanded to one bind parameter per id; when ids is null the SQL is run as is.
+     */
+    public RowCursor openCursor(String sql, List<String> ids) throws SQLException {
+        if (ids == null) {
+            return openCursor(sql);
+        }
+        return openPreparedCursor(expandStudentUniqueIds(sql, ids.size()), ps -> {
+            for (int i = 0; i < ids.size(); i++) {
+                ps.setString(i + 1, ids.get(i));
             }
-            result.add(headerRow);
-
-            while (resultSet.next()) {
-                List<String> dataRow = new ArrayList<>();
-
-                for (int i = 1; i <= columnCount; i++) {
-                    if (resultSet.getObject(i) != null) {
-                        String data = resultSet.getObject(i).toString();
-                        dataRow.add(data);
-                    } else {
-                        String data = "[null]";
-                        dataRow.add(data);
-                    }
+        });
+    }
+
+    /**
+     * Opens a forward-only cursor over the results of the given SQL with every {watermark} placeholder bound to the
+     * watermark. A null watermark is bound as a SQL NULL, which the SQL can test to select every row on full runs.
+     */
+    public RowCursor openWatermarkCursor(String sql, Timestamp watermark) throws SQLException {
+        int count = StringUtils.countMatches(sql, WATERMARK_PLACEHOLDER);
+        return openPreparedCursor(sql.replace(WATERMARK_PLACEHOLDER, "?"), ps -> {
+            for (int i = 1; i <= count; i++) {
+                if (watermark != null) {
+                    ps.setTimestamp(i, watermark);
+                } else {
+                    ps.setNull(i, Types.TIMESTAMP);
                 }
-                result.add(dataRow);
             }
-        } catch (SQLException e) {
-            logger.error(e.getMessage());
+        });
+    }
+
+    /**
+     * @return the first column of the first row of the given SQL as a timestamp, or null when there is no row
+     */
+    public Timestamp queryTimestamp(String sql) throws SQLException {
+        try (Connection connection = getConnection();
+             Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery(sql)) {
+            return rs.next() ? rs.getTimestamp(1) : null;
         }
-        return result;
     }
 
+    /**
+     * @return the first two columns of the first row of the given SQL, e.g. the lowest and highest id, or null when
+     * there is no row or either value is NULL
+     */
+    public long[] queryBounds(String sql) throws SQLException {
+        try (Connection connection = getConnection();
+             Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery(sql)) {
+            if (!rs.next()) {
+                return null;
+            }
+            long min = rs.getLong(1);
+            boolean minNull = rs.wasNull();
+            long max = rs.getLong(2);
+            return minNull || rs.wasNull() ? null : new long[] {min, max};
+        }
+    }
 
-    public List<List<String>> makeSqlCall(String sql, String id) {
+    private RowCursor openPreparedCursor(String sql, ParameterBinder binder) throws SQLException {
+        Connection connection = getConnection();
         PreparedStatement ps = null;
-        List<List<String>> result = new ArrayList<>();
-
         try {
-            ps = getConnection().prepareStatement(sql);
-            ps.setString(1, id);
-            ResultSet resultSet = ps.executeQuery();
+            ps = connection.prepareStatement(sql);
+            ps.setFetchSize(getFetchSize());
+            binder.bind(ps);
+            return new RowCursor(connection, ps, ps.executeQuery());
+        } catch (SQLException e) {
+            closeStatement(ps);
+            closeConnection(connection);
+            throw e;
+        }
+    }
 
-            int columnCount = resultSet.getMetaData().getColumnCount();
+    /**
+     * Opens a cache of prepared statements on a connection borrowed for the lifetime of the cache, for queries that
+     * are run once per id. The caller must close the cache.
+     */
+    public StatementCache openStatementCache() throws SQLException {
+        return new StatementCache(getConnection(), getFetchSize());
+    }
+
+    public boolean hasStudentUniqueIdsPlaceholder(String sql) {
+        return sql != null && sql.contains(STUDENT_UNIQUE_IDS_PLACEHOLDER);
+    }
 
-            //Add the column headers
-            List<String> headerRow = new ArrayList<>();
-            for (int i = 1; i <= columnCount; i++) {
-                headerRow.add(resultSet.getMetaData().getColumnName(i));
+    /**
+     * @return true when the SQL binds a ? parameter outside its quoted text and comments, as the perId SQL does
+     */
+    public boolean hasBindParameters(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        int length = sql.length();
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+            if (c == '\'' || c == '"') {
+                // a doubled quote inside the text closes and reopens it, which scans the same
+                int end = sql.indexOf(c, i + 1);
+                i = end < 0 ? length : end;
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end;
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 1;
+            } else if (c == '?') {
+                return true;
             }
-            result.add(headerRow);
-
-            while (resultSet.next()) {
-                List<String> dataRow = new ArrayList<>();
-
-                for (int i = 1; i <= columnCount; i++) {
-                    if (resultSet.getObject(i) != null) {
-                        String data = resultSet.getObject(i).toString();
-                        dataRow.add(data);
-                    } else {
-                        String data = "[null]";
-                        dataRow.add(data);
-                    }
-                }
-                result.add(dataRow);
+        }
+        return false;
+    }
+
+    /**
+     * @return why the SQL cannot run on its own, as a snapshot runs it, or null when it can
+     */
+    public String getStandaloneProblem(String sql) {
+        if (hasStudentUniqueIdsPlaceholder(sql)) {
+            return "its SQL needs the " + STUDENT_UNIQUE_IDS_PLACEHOLDER + " of a chunk";
+        }
+        if (hasBindParameters(sql)) {
+            return "its SQL binds ? parameters";
+        }
+        return null;
+    }
+
+    public boolean hasWatermarkPlaceholder(String sql) {
+        return sql != null && sql.contains(WATERMARK_PLACEHOLDER);
+    }
+
+    public boolean hasPartitionPlaceholder(String sql) {
+        return sql != null && (sql.contains(PARTITION_PLACEHOLDER) || hasPartitionRangePlaceholder(sql));
+    }
+
+    public boolean hasPartitionRangePlaceholder(String sql) {
+        return sql != null && (sql.contains(PARTITION_LOW_PLACEHOLDER) || sql.contains(PARTITION_HIGH_PLACEHOLDER));
+    }
+
+    private String expandStudentUniqueIds(String sql, int idCount) {
+        StringBuilder binds = new StringBuilder();
+        for (int i = 0; i < idCount; i++) {
+            binds.append(i == 0 ? "?" : ",?");
+        }
+        return sql.replace(STUDENT_UNIQUE_IDS_PLACEHOLDER, binds.toString());
+    }
+
+    private void closeStatement(Statement statement) {
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                logger.error(e.getMessage());
             }
+        }
+    }
+
+    private void closeConnection(Connection connection) {
+        try {
+            connection.close();
         } catch (SQLException e) {
             logger.error(e.getMessage());
         }
-        return result;
     }
 
     public String getUrl() {
@@ -145,11 +379,27 @@ public class Dao {
         this.driver = driver;
     }
 
-    public Connection getConnection() {
-        return connection;
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
     }
 
-    public void setConnection(Connection connection) {
-        this.connection = connection;
+    public void setDataSource(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
     }
 }
@@ -0,0 +1,80 @@
+package org.edfi.sis.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One slice of the id population for partitioned extraction. Its values replace the placeholders of the SQL files:
+ * {partition} and {partitionCount} for a MOD split, e.g. MOD(SPRIDEN_PIDM, {partitionCount}) = {partition}, and
+ * {partitionLow} inclusive to {partitionHigh} exclusive for a range split.
+ */
+public class Partition {
+    private final int index;
+    private final int count;
+    private final long low;
+    private final long high;
+
+    Partition(int index, int count, long low, long high) {
+        this.index = index;
+        this.count = count;
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Splits the ids from min to max, both inclusive, into ranges of about the same width. Each partition also
+     * knows its index, so the SQL may use either kind of placeholder.
+     */
+    public static List<Partition> split(int count, long min, long max) {
+        List<Partition> partitions = new ArrayList<>(count);
+        long width = Math.max(1, (max - min + count) / count);
+        for (int i = 0; i < count; i++) {
+            long low = min + i * width;
+            long high = i == count - 1 ? max + 1 : Math.min(max + 1, low + width);
+            partitions.add(new Partition(i, count, low, high));
+        }
+        return partitions;
+    }
+
+    /**
+     * @return count partitions for a MOD split only, whose range placeholders cover every id
+     */
+    public static List<Partition> modulo(int count) {
+        List<Partition> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            partitions.add(new Partition(i, count, Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+        return partitions;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * @return the SQL with the partition placeholders replaced by this partition's values
+     */
+    public String bind(String sql) {
+        return sql.replace(Dao.PARTITION_PLACEHOLDER, Integer.toString(index))
+                .replace(Dao.PARTITION_COUNT_PLACEHOLDER, Integer.toString(count))
+                .replace(Dao.PARTITION_LOW_PLACEHOLDER, Long.toString(low))
+                .replace(Dao.PARTITION_HIGH_PLACEHOLDER, Long.toString(high));
+    }
+
+    @Override
+    public String toString() {
+        return "partition " + index + " of " + count;
+    }
+}
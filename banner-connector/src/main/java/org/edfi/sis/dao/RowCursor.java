@@ -0,0 +1,276 @@
+package org.edfi.sis.dao;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Forward-only cursor over a query result. The column names and types are read once when the cursor is opened and
+ * every call to {@link #next()} overwrites the same row buffer, so callers must copy any value they want to keep.
+ * Closing the cursor returns its connection to the pool. Rows from other sources, such as staged extract files, are
+ * read by subclasses through {@link #fetch(Object[])}.
+ *
+ * Each column is read with the getter that matches its SQL type, so dates come back as {@link LocalDate}, timestamps
+ * as {@link Timestamp}, numbers as {@link Integer}, {@link Long} or {@link BigDecimal}, booleans as {@link Boolean}
+ * and a SQL NULL as null. As text, dates and timestamps are ISO, e.g. 2020-01-01 and 2020-01-01T00:00:00.000.
+ */
+public class RowCursor implements AutoCloseable {
+    /**
+     * Stands in for a SQL NULL in the string form of a row returned by {@link #getRow()}.
+     */
+    public static final String NULL_VALUE = "[null]";
+
+    @FunctionalInterface
+    private interface ColumnReader {
+        Object read(ResultSet resultSet, int column) throws SQLException;
+    }
+
+    private final Connection connection;
+    private final Statement statement;
+    private final ResultSet resultSet;
+    private final List<String> columnNames;
+    private final ColumnReader[] readers;
+    private final Object[] values;
+    private final String[] strings;
+    private final List<String> row;
+
+    RowCursor(Connection connection, Statement statement, ResultSet resultSet) throws SQLException {
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<String> names = new ArrayList<>(columnCount);
+        this.readers = new ColumnReader[columnCount];
+        for (int i = 1; i <= columnCount; i++) {
+            names.add(metaData.getColumnName(i));
+            readers[i - 1] = getReader(metaData.getColumnType(i), metaData.getScale(i));
+        }
+        this.columnNames = Collections.unmodifiableList(names);
+        this.values = new Object[columnCount];
+        this.strings = new String[columnCount];
+        this.row = Collections.unmodifiableList(Arrays.asList(strings));
+    }
+
+    /**
+     * Creates a cursor over rows that do not come from a result set; the subclass supplies them by overriding
+     * {@link #fetch(Object[])} and {@link #close()}.
+     */
+    protected RowCursor(List<String> columnNames) {
+        this.connection = null;
+        this.statement = null;
+        this.resultSet = null;
+        this.readers = new ColumnReader[0];
+        this.columnNames = Collections.unmodifiableList(new ArrayList<>(columnNames));
+        this.values = new Object[columnNames.size()];
+        this.strings = new String[columnNames.size()];
+        this.row = Collections.unmodifiableList(Arrays.asList(strings));
+    }
+
+    private static ColumnReader getReader(int sqlType, int scale) {
+        switch (sqlType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+                return ResultSet::getString;
+            case Types.DATE:
+                return (rs, column) -> {
+                    java.sql.Date date = rs.getDate(column);
+                    return date != null ? LocalDate.fromDateFields(date) : null;
+                };
+            case Types.TIMESTAMP:
+                // Oracle reports DATE columns as TIMESTAMP
+                return ResultSet::getTimestamp;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return (rs, column) -> {
+                    boolean value = rs.getBoolean(column);
+                    return rs.wasNull() ? null : value;
+                };
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return (rs, column) -> {
+                    int value = rs.getInt(column);
+                    return rs.wasNull() ? null : value;
+                };
+            case Types.BIGINT:
+                return (rs, column) -> {
+                    long value = rs.getLong(column);
+                    return rs.wasNull() ? null : value;
+                };
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                if (scale == 0) {
+                    // whole numbers, e.g. Oracle NUMBER(8), stay exact without the cost of a BigDecimal
+                    return (rs, column) -> {
+                        BigDecimal value = rs.getBigDecimal(column);
+                        if (value == null || value.scale() != 0 || value.unscaledValue().bitLength() >= 64) {
+                            return value;
+                        }
+                        return value.longValue();
+                    };
+                }
+                return ResultSet::getBigDecimal;
+            default:
+                return ResultSet::getObject;
+        }
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public int getColumnCount() {
+        return values.length;
+    }
+
+    /**
+     * @return the position of the column with the given name, ignoring case, or -1 when there is no such column
+     */
+    public int findColumn(String columnName) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (StringUtils.equalsIgnoreCase(columnNames.get(i), columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean next() throws SQLException {
+        if (!fetch(values)) {
+            return false;
+        }
+        Arrays.fill(strings, null);
+        return true;
+    }
+
+    /**
+     * Reads the next row into the row buffer.
+     *
+     * @return false when there are no more rows
+     */
+    protected boolean fetch(Object[] values) throws SQLException {
+        if (!resultSet.next()) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readers[i].read(resultSet, i + 1);
+        }
+        return true;
+    }
+
+    /**
+     * @return the typed value of the column, or null when the column is NULL or the index is negative
+     */
+    public Object getObject(int index) {
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * @return the value of the column as text, numbers in plain notation and dates in ISO format, or null when the
+     * column is NULL or the index is negative
+     */
+    public String getString(int index) {
+        return toString(getObject(index));
+    }
+
+    /**
+     * @return the date part of a date or timestamp column, or of a text column starting with yyyy-MM-dd
+     */
+    public LocalDate getLocalDate(int index) {
+        Object value = getObject(index);
+        if (value == null || value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        if (value instanceof java.util.Date) {
+            return LocalDate.fromDateFields((java.util.Date) value);
+        }
+        String text = value.toString().trim();
+        return LocalDate.parse(StringUtils.substringBefore(StringUtils.substringBefore(text, " "), "T"));
+    }
+
+    /**
+     * @return the value of a boolean column, of a number column as true when not zero, or of a text column such as
+     * Y/N or true/false; null when the column is NULL or the text is not a boolean
+     */
+    public Boolean getBoolean(int index) {
+        Object value = getObject(index);
+        if (value == null || value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue() != 0;
+        }
+        return BooleanUtils.toBooleanObject(value.toString().trim());
+    }
+
+    /**
+     * @return a read-only view of the current row as text, with {@link #NULL_VALUE} for a NULL column, backed by the
+     * reused row buffer
+     */
+    public List<String> getRow() {
+        for (int i = 0; i < values.length; i++) {
+            if (strings[i] == null) {
+                strings[i] = values[i] != null ? toString(values[i]) : NULL_VALUE;
+            }
+        }
+        return row;
+    }
+
+    private static String toString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof Timestamp) {
+            // Timestamp.toString gives "2020-01-01 00:00:00.0", which the ISO parsers of a replay reject
+            return LocalDateTime.fromDateFields((Timestamp) value).toString();
+        }
+        return value.toString();
+    }
+
+    /**
+     * Closes the result set, then the statement and connection when the cursor owns them.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (resultSet != null) {
+                resultSet.close();
+            }
+        } finally {
+            try {
+                if (statement != null) {
+                    statement.close();
+                }
+            } finally {
+                if (connection != null) {
+                    connection.close();
+                }
+            }
+        }
+    }
+}
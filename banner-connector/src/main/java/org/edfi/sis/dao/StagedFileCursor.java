@@ -0,0 +1,405 @@
+package org.edfi.sis.dao;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cursor over a staged CSV or NDJSON extract file, as written by the export mode. The file is cut into chunks that
+ * end on a record boundary and the chunks are parsed on a thread pool, a few ahead of the reader, while the rows are
+ * still returned in file order. An uncompressed file is read through memory mapped regions; a gzip file can only be
+ * read from start to end, so its chunks are decompressed in turn and only parsed in parallel.
+ *
+ * CSV values come back as text, with an empty unquoted field as NULL; NDJSON numbers and booleans keep their type.
+ */
+class StagedFileCursor extends RowCursor {
+
+    /**
+     * Hands out the bytes of the file in chunks that each end after a complete record.
+     */
+    interface ChunkReader extends Closeable {
+        /**
+         * @return the next chunk, or null at the end of the file
+         */
+        ByteBuffer nextChunk() throws IOException;
+    }
+
+    private final ChunkReader chunks;
+    private final boolean csv;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final AtomicLong rowCount;
+    private final AtomicLong chunkCount;
+    private final Deque<Future<List<Object[]>>> pending = new ArrayDeque<>();
+    private List<Object[]> rows;
+    private int position = 0;
+
+    private StagedFileCursor(List<String> columnNames, List<Object[]> firstRows, ChunkReader chunks, boolean csv,
+                             ExecutorService executor, int parallelism, AtomicLong rowCount, AtomicLong chunkCount) {
+        super(columnNames);
+        this.chunks = chunks;
+        this.csv = csv;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+        this.rowCount = rowCount;
+        this.chunkCount = chunkCount;
+        this.rows = firstRows;
+        for (int i = 0; i < columnNames.size(); i++) {
+            columnIndexes.put(columnNames.get(i), i);
+        }
+    }
+
+    /**
+     * Reads the first chunk right away for the column names: the header line of a CSV file or the names of the first
+     * NDJSON record. The remaining chunks are parsed on the executor.
+     */
+    static StagedFileCursor open(ChunkReader chunks, boolean csv, ExecutorService executor, int parallelism,
+                                 AtomicLong rowCount, AtomicLong chunkCount) throws IOException {
+        ByteBuffer first = chunks.nextChunk();
+        List<String> columnNames = new ArrayList<>();
+        List<Object[]> firstRows = new ArrayList<>();
+        if (first != null) {
+            chunkCount.incrementAndGet();
+            CharBuffer text = decode(first);
+            if (csv) {
+                List<String[]> records = parseCsv(text);
+                if (!records.isEmpty()) {
+                    columnNames.addAll(Arrays.asList(records.get(0)));
+                    firstRows = toRows(records.subList(1, records.size()), columnNames.size());
+                }
+            } else {
+                firstRows = parseNdjson(text, columnNames, null);
+            }
+        }
+        rowCount.addAndGet(firstRows.size());
+        StagedFileCursor cursor = new StagedFileCursor(columnNames, firstRows, chunks, csv, executor, parallelism,
+                rowCount, chunkCount);
+        cursor.readAhead();
+        return cursor;
+    }
+
+    @Override
+    protected boolean fetch(Object[] values) throws SQLException {
+        while (position >= rows.size()) {
+            if (pending.isEmpty()) {
+                return false;
+            }
+            rows = await(pending.poll());
+            position = 0;
+            try {
+                readAhead();
+            } catch (IOException e) {
+                throw new SQLException("Could not read staged file: " + e.getMessage(), e);
+            }
+        }
+        Object[] row = rows.get(position);
+        rows.set(position++, null);
+        System.arraycopy(row, 0, values, 0, values.length);
+        return true;
+    }
+
+    /**
+     * Keeps as many chunks being parsed as the cursor may use threads.
+     */
+    private void readAhead() throws IOException {
+        while (pending.size() < parallelism) {
+            ByteBuffer chunk = chunks.nextChunk();
+            if (chunk == null) {
+                return;
+            }
+            chunkCount.incrementAndGet();
+            pending.add(executor.submit(() -> {
+                List<Object[]> parsed = csv
+                        ? toRows(parseCsv(decode(chunk)), getColumnCount())
+                        : parseNdjson(decode(chunk), getColumnNames(), columnIndexes);
+                rowCount.addAndGet(parsed.size());
+                return parsed;
+            }));
+        }
+    }
+
+    private List<Object[]> await(Future<List<Object[]>> chunk) throws SQLException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while reading staged file", e);
+        } catch (ExecutionException e) {
+            throw new SQLException("Could not parse staged file: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        pending.forEach(chunk -> chunk.cancel(true));
+        pending.clear();
+        try {
+            chunks.close();
+        } catch (IOException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+
+    private static CharBuffer decode(ByteBuffer chunk) throws CharacterCodingException {
+        return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(chunk);
+    }
+
+    private static List<Object[]> toRows(List<String[]> records, int columnCount) {
+        List<Object[]> rows = new ArrayList<>(records.size());
+        for (String[] record : records) {
+            rows.add(record.length == columnCount ? record : Arrays.copyOf(record, columnCount, Object[].class));
+        }
+        return rows;
+    }
+
+    /**
+     * Splits RFC 4180 CSV into records. A quoted field may hold commas, line breaks and doubled quotes; an empty
+     * unquoted field is null and an empty line is skipped.
+     */
+    static List<String[]> parseCsv(CharBuffer text) {
+        List<String[]> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quoted = false;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.get(i);
+            if (inQuotes) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < length && text.get(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(quoted || field.length() > 0 ? field.toString() : null);
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '\n') {
+                if (!fields.isEmpty() || quoted || field.length() > 0) {
+                    fields.add(quoted || field.length() > 0 ? field.toString() : null);
+                    records.add(fields.toArray(new String[0]));
+                }
+                fields.clear();
+                field.setLength(0);
+                quoted = false;
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+        if (!fields.isEmpty() || quoted || field.length() > 0) {
+            fields.add(quoted || field.length() > 0 ? field.toString() : null);
+            records.add(fields.toArray(new String[0]));
+        }
+        return records;
+    }
+
+    /**
+     * Reads one json object per record. When columnIndexes is null the column names are learnt from the first
+     * record, in its order, and added to columnNames; names the file did not start with are ignored.
+     */
+    static List<Object[]> parseNdjson(CharBuffer text, List<String> columnNames, Map<String, Integer> columnIndexes)
+            throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        JsonReader reader = new JsonReader(new StringReader(text.toString()));
+        reader.setLenient(true);
+        while (reader.peek() != JsonToken.END_DOCUMENT) {
+            reader.beginObject();
+            if (columnIndexes == null) {
+                List<Object> values = new ArrayList<>();
+                while (reader.hasNext()) {
+                    columnNames.add(reader.nextName());
+                    values.add(readValue(reader));
+                }
+                rows.add(values.toArray());
+                columnIndexes = new HashMap<>();
+                for (int i = 0; i < columnNames.size(); i++) {
+                    columnIndexes.put(columnNames.get(i), i);
+                }
+            } else {
+                Object[] row = new Object[columnNames.size()];
+                while (reader.hasNext()) {
+                    Integer index = columnIndexes.get(reader.nextName());
+                    Object value = readValue(reader);
+                    if (index != null) {
+                        row[index] = value;
+                    }
+                }
+                rows.add(row);
+            }
+            reader.endObject();
+        }
+        return rows;
+    }
+
+    private static Object readValue(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+                return null;
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NUMBER:
+                String number = reader.nextString();
+                if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0 && number.length() < 19) {
+                    return Long.parseLong(number);
+                }
+                return new BigDecimal(number);
+            case STRING:
+                return reader.nextString();
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    /**
+     * @return the position of the last line break of the chunk that ends a record, or -1 when there is none; line
+     * breaks inside quoted CSV fields do not end a record, and NDJSON escapes every line break inside a value
+     */
+    static int lastRecordEnd(ByteBuffer chunk, int length, boolean csv) {
+        int last = -1;
+        boolean inQuotes = false;
+        for (int i = 0; i < length; i++) {
+            byte b = chunk.get(i);
+            if (csv && b == '"') {
+                inQuotes = !inQuotes;
+            } else if (b == '\n' && !inQuotes) {
+                last = i;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Maps the file region by region, each region cut back to its last complete record.
+     */
+    static class MappedChunkReader implements ChunkReader {
+        private final FileChannel channel;
+        private final int chunkSize;
+        private final boolean csv;
+        private final long size;
+        private long position = 0;
+
+        MappedChunkReader(FileChannel channel, int chunkSize, boolean csv) throws IOException {
+            this.channel = channel;
+            this.chunkSize = Math.max(1024, chunkSize);
+            this.csv = csv;
+            this.size = channel.size();
+        }
+
+        @Override
+        public ByteBuffer nextChunk() throws IOException {
+            if (position >= size) {
+                return null;
+            }
+            long length = Math.min(chunkSize, size - position);
+            while (true) {
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                if (position + length >= size) {
+                    position = size;
+                    return region;
+                }
+                int end = lastRecordEnd(region, (int) length, csv);
+                if (end >= 0) {
+                    region.limit(end + 1);
+                    position += end + 1;
+                    return region;
+                }
+                // a single record is longer than the chunk
+                length = Math.min(Math.min(length * 2, Integer.MAX_VALUE), size - position);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Reads a stream, e.g. a decompressed gzip file, into chunks, carrying the bytes after the last complete record
+     * over to the next chunk.
+     */
+    static class StreamChunkReader implements ChunkReader {
+        private final InputStream in;
+        private final int chunkSize;
+        private final boolean csv;
+        private byte[] carry = new byte[0];
+        private boolean ended = false;
+
+        StreamChunkReader(InputStream in, int chunkSize, boolean csv) {
+            this.in = in;
+            this.chunkSize = Math.max(1024, chunkSize);
+            this.csv = csv;
+        }
+
+        @Override
+        public ByteBuffer nextChunk() throws IOException {
+            if (ended && carry.length == 0) {
+                return null;
+            }
+            byte[] buffer = Arrays.copyOf(carry, Math.max(chunkSize, carry.length * 2));
+            int length = carry.length;
+            while (true) {
+                while (!ended && length < buffer.length) {
+                    int read = in.read(buffer, length, buffer.length - length);
+                    if (read < 0) {
+                        ended = true;
+                    } else {
+                        length += read;
+                    }
+                }
+                if (ended) {
+                    carry = new byte[0];
+                    return length > 0 ? ByteBuffer.wrap(buffer, 0, length) : null;
+                }
+                int end = lastRecordEnd(ByteBuffer.wrap(buffer), length, csv);
+                if (end >= 0) {
+                    carry = Arrays.copyOfRange(buffer, end + 1, length);
+                    return ByteBuffer.wrap(buffer, 0, end + 1).slice();
+                }
+                // a single record is longer than the chunk
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
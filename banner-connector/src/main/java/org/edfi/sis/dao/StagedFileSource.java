@@ -0,0 +1,140 @@
+package org.edfi.sis.dao;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the staged extract files of a snapshot, as written by the export mode, in place of the Banner queries of the
+ * same name. The rows come back through the same {@link RowCursor} the mappers read from the database, so a replay
+ * runs the mapping and upload of a normal run without a connection to Banner.
+ */
+@Component
+public class StagedFileSource {
+    private static final String[] EXTENSIONS = { ".csv", ".csv.gz", ".ndjson", ".ndjson.gz" };
+
+    @Autowired
+    Dao dao;
+
+    @Value( "${replay.dir:}" )
+    String replayDirectory;
+
+    @Value( "${replay.parallelism:4}" )
+    int parallelism;
+
+    @Value( "${replay.chunk.size:8388608}" )
+    int chunkSize;
+
+    private ExecutorService executor = null;
+    private final AtomicInteger fileCount = new AtomicInteger();
+    private final AtomicLong byteCount = new AtomicLong();
+    private final AtomicLong chunkCount = new AtomicLong();
+    private final AtomicLong rowCount = new AtomicLong();
+
+    /**
+     * @return true when replay.dir names a snapshot to load instead of Banner
+     */
+    public boolean isEnabled() {
+        return StringUtils.isNotBlank(replayDirectory);
+    }
+
+    /**
+     * The export leaves out SQL that cannot run on its own, so a replay leaves it out by the same rule.
+     *
+     * @return why the SQL has no staged file, or null when it was exported
+     */
+    public String getSkipReason(String sql) {
+        return dao.getStandaloneProblem(sql);
+    }
+
+    /**
+     * Opens a cursor over the staged file of the given name. The caller must close the cursor.
+     */
+    public RowCursor openCursor(String name) throws SQLException {
+        Path file = findFile(name);
+        if (file == null) {
+            throw new SQLException("No staged file for " + name + " in " + replayDirectory);
+        }
+        String fileName = file.getFileName().toString();
+        boolean csv = fileName.endsWith(".csv") || fileName.endsWith(".csv.gz");
+        FileChannel channel = null;
+        try {
+            byteCount.addAndGet(Files.size(file));
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            StagedFileCursor.ChunkReader chunks;
+            if (fileName.endsWith(".gz")) {
+                chunks = new StagedFileCursor.StreamChunkReader(
+                        new GZIPInputStream(new BufferedInputStream(Channels.newInputStream(channel),
+                                65536), 65536), chunkSize, csv);
+            } else {
+                chunks = new StagedFileCursor.MappedChunkReader(channel, chunkSize, csv);
+            }
+            fileCount.incrementAndGet();
+            return StagedFileCursor.open(chunks, csv, getExecutor(), parallelism, rowCount, chunkCount);
+        } catch (IOException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+            throw new SQLException("Could not read staged file " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("Replay Files", fileCount.get());
+        metrics.put("Replay Bytes", byteCount.get());
+        metrics.put("Replay Chunks", chunkCount.get());
+        metrics.put("Replay Rows", rowCount.get());
+        return metrics;
+    }
+
+    private Path findFile(String name) {
+        for (String extension : EXTENSIONS) {
+            Path file = Paths.get(replayDirectory, name + extension);
+            if (Files.isRegularFile(file)) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+                Thread thread = new Thread(runnable, "replay-parser");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
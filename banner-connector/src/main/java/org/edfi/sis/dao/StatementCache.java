@@ -0,0 +1,101 @@
+package org.edfi.sis.dao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prepared statements keyed by SQL file name, kept open on a single pooled connection so that a query run once per
+ * id is parsed once and then only re-bound and executed. Not thread safe; closing the cache closes every statement
+ * and returns the connection to the pool.
+ */
+public class StatementCache implements AutoCloseable {
+    private final static Logger logger = LoggerFactory.getLogger(StatementCache.class);
+
+    private final Connection connection;
+    private final int fetchSize;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private final Map<String, StatementStats> stats = new LinkedHashMap<>();
+
+    StatementCache(Connection connection, int fetchSize) {
+        this.connection = connection;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Binds the id to the single parameter of the named statement, preparing it on first use, and executes it. The
+     * returned cursor only closes the result set; the statement stays cached.
+     */
+    public RowCursor openCursor(String name, String sql, String id) throws SQLException {
+        PreparedStatement ps = statements.get(name);
+        if (ps == null) {
+            ps = connection.prepareStatement(sql);
+            ps.setFetchSize(fetchSize);
+            statements.put(name, ps);
+        }
+        ps.clearParameters();
+        ps.setString(1, id);
+
+        long start = System.nanoTime();
+        ResultSet resultSet = ps.executeQuery();
+        stats.computeIfAbsent(name, StatementStats::new).record(System.nanoTime() - start);
+        return new RowCursor(null, null, resultSet);
+    }
+
+    /**
+     * @return execution count and timings per statement for the run report
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (StatementStats statementStats : stats.values()) {
+            String prefix = "Statement " + statementStats.name;
+            metrics.put(prefix + " Executions", statementStats.executions);
+            metrics.put(prefix + " Total Execute (ms)", TimeUnit.NANOSECONDS.toMillis(statementStats.totalNanos));
+            metrics.put(prefix + " Avg Execute (ms)", String.format("%.2f",
+                    statementStats.totalNanos / 1_000_000.0 / Math.max(1, statementStats.executions)));
+            metrics.put(prefix + " Max Execute (ms)", TimeUnit.NANOSECONDS.toMillis(statementStats.maxNanos));
+        }
+        return metrics;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (PreparedStatement ps : statements.values()) {
+                try {
+                    ps.close();
+                } catch (SQLException e) {
+                    logger.error(e.getMessage());
+                }
+            }
+            statements.clear();
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static class StatementStats {
+        private final String name;
+        private long executions;
+        private long totalNanos;
+        private long maxNanos;
+
+        StatementStats(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos) {
+            executions++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+    }
+}
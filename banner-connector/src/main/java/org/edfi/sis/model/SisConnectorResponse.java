@@ -3,19 +3,31 @@ package org.edfi.sis.model;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.joda.time.DateTime;
 
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class SisConnectorResponse {
     private boolean fatalError = false;
     private String errorMessage;
     private long upsertCount;
     private long deleteCount;
+    private long newCount;
+    private long changedCount;
+    private long skippedCount;
+    private String runMode;
+    private Timestamp watermarkFrom;
+    private Timestamp watermarkTo;
     private DateTime startTime;
     private DateTime endTime;
     private long duration;
     private Exception exception;
-    List<String> errors = new ArrayList<>();
+    List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    List<String> warnings = Collections.synchronizedList(new ArrayList<>());
+    Map<String, Object> metrics = new LinkedHashMap<>();
 
     public boolean isFatalError() {
         return fatalError;
@@ -49,6 +61,54 @@ public class SisConnectorResponse {
         this.deleteCount = deleteCount;
     }
 
+    public long getNewCount() {
+        return newCount;
+    }
+
+    public void setNewCount(long newCount) {
+        this.newCount = newCount;
+    }
+
+    public long getChangedCount() {
+        return changedCount;
+    }
+
+    public void setChangedCount(long changedCount) {
+        this.changedCount = changedCount;
+    }
+
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(long skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    public String getRunMode() {
+        return runMode;
+    }
+
+    public void setRunMode(String runMode) {
+        this.runMode = runMode;
+    }
+
+    public Timestamp getWatermarkFrom() {
+        return watermarkFrom;
+    }
+
+    public void setWatermarkFrom(Timestamp watermarkFrom) {
+        this.watermarkFrom = watermarkFrom;
+    }
+
+    public Timestamp getWatermarkTo() {
+        return watermarkTo;
+    }
+
+    public void setWatermarkTo(Timestamp watermarkTo) {
+        this.watermarkTo = watermarkTo;
+    }
+
     public DateTime getStartTime() {
         return startTime;
     }
@@ -93,6 +153,37 @@ public class SisConnectorResponse {
         this.getErrors().add(error);
     }
 
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    public void setWarnings(List<String> warnings) {
+        this.warnings = warnings;
+    }
+
+    /**
+     * Records a problem that does not fail the run, e.g. a misspelled column map entry.
+     */
+    public void addWarning(String warning) {
+        this.getWarnings().add(warning);
+    }
+
+    public Map<String, Object> getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Map<String, Object> metrics) {
+        this.metrics = metrics;
+    }
+
+    public void addMetric(String name, Object value) {
+        this.getMetrics().put(name, value);
+    }
+
+    public void addMetrics(Map<String, ?> metrics) {
+        this.getMetrics().putAll(metrics);
+    }
+
     public String buildReport() {
         final String LINE_DIVISION = String.format("-----------------------------------------%n");
         final String ERROR_LINE_DIVISION = String.format("!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!%n");
@@ -121,18 +212,40 @@ public class SisConnectorResponse {
         report.append(LINE_DIVISION)
                 .append(String.format("Start Time: %s %n", getStartTime()))
                 .append(String.format("  End Time: %s %n", getEndTime()))
-                .append(String.format(" Exec Time: %s %n%n", getDuration()))
-                .append(String.format("Upsert Count: %s %n", getUpsertCount()))
+                .append(String.format(" Exec Time: %s %n%n", getDuration()));
+
+        if (getRunMode() != null) {
+            report.append(String.format("Run Mode: %s %n", getRunMode()))
+                    .append(String.format("Watermark Window: %s to %s %n%n",
+                            getWatermarkFrom() != null ? "after " + getWatermarkFrom() : "beginning",
+                            getWatermarkTo() != null ? getWatermarkTo() : "now"));
+        }
+
+        report.append(String.format("Upsert Count: %s %n", getUpsertCount()))
+                .append(String.format("New Count: %s %n", getNewCount()))
+                .append(String.format("Changed Count: %s %n", getChangedCount()))
+                .append(String.format("Skipped Count: %s %n", getSkippedCount()))
                 .append(String.format("Delete Count: %s %n", getDeleteCount()))
                 .append(LINE_DIVISION);
 
-        if (errors.size() > 0) {
+        if (metrics.size() > 0) {
+            report.append(String.format("%n"))
+                    .append(LINE_DIVISION)
+                    .append(String.format("Metrics:%n"))
+                    .append(LINE_DIVISION);
+            metrics.forEach((name, value) -> report.append(String.format("%s: %s %n", name, value)));
+            report.append(LINE_DIVISION);
+        }
+
+        if (errors.size() > 0 || warnings.size() > 0) {
             report.append(String.format("%n"))
                     .append(LINE_DIVISION)
                     .append(String.format("Errors/Warnings:%n"))
                     .append(LINE_DIVISION);
             errors.forEach(error -> report.append(String.format("%s %n", error))
                                             .append(LINE_DIVISION));
+            warnings.forEach(warning -> report.append(String.format("Warning: %s %n", warning))
+                                            .append(LINE_DIVISION));
         }
         return report.toString();
     }
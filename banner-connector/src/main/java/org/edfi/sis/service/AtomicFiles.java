@@ -0,0 +1,48 @@
+package org.edfi.sis.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Replaces state files only once their new content has been written completely, so that an interrupted or failed
+ * write never leaves a truncated file behind.
+ */
+final class AtomicFiles {
+
+    /**
+     * Writes the content of a file as UTF-8 text.
+     */
+    interface Content {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Writes the content to a temporary file next to the file, creating the directory if needed, and then moves it
+     * over the file. The temporary file is deleted when writing or moving it fails.
+     */
+    static void write(Path file, Content content) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                content.writeTo(writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException deleteError) {
+                e.addSuppressed(deleteError);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package org.edfi.sis.service;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.lang3.StringUtils;
+import org.edfi.api.ApiClient;
+import org.edfi.api.ApiException;
+import org.edfi.api.AsyncApiClient;
+import org.edfi.sis.api.TokenManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.naming.AuthenticationException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads descriptors of any type from the API by paging through the whole collection, and keeps them by code value.
+ * The path of a descriptor type is derived from its model class, e.g. EdFiSexDescriptor is read from
+ * /ed-fi/sexDescriptors and TpdmTppDegreeTypeDescriptor from /tpdm/tppDegreeTypeDescriptors.
+ *
+ * When a cache directory is configured each type is also saved to a file. A file younger than the TTL is used
+ * without calling the API; an older one is revalidated page by page with the ETag it was saved with.
+ */
+@Component
+public class DescriptorCacheService {
+    private final static Logger logger = LoggerFactory.getLogger(DescriptorCacheService.class);
+
+    @Autowired
+    ApiClient apiClient;
+
+    @Autowired
+    AsyncApiClient asyncApiClient;
+
+    @Autowired
+    TokenManager tokenManager;
+
+    @Value( "${descriptor.cache.dir:}" )
+    String cacheDirectory;
+
+    @Value( "${descriptor.cache.ttl.minutes:1440}" )
+    long cacheTtlMinutes;
+
+    @Value( "${descriptor.page.size:500}" )
+    int pageSize;
+
+    private final Map<String, Map<String, JsonObject>> descriptors = new ConcurrentHashMap<>();
+
+    private final AtomicLong typesFromCache = new AtomicLong();
+    private final AtomicLong typesFromApi = new AtomicLong();
+    private final AtomicLong pagesFetched = new AtomicLong();
+    private final AtomicLong pagesNotModified = new AtomicLong();
+
+    private static class DescriptorPage {
+        final String etag;
+        final JsonArray items;
+
+        DescriptorPage(String etag, JsonArray items) {
+            this.etag = etag;
+            this.items = items;
+        }
+    }
+
+    private static class CachedDescriptors {
+        final long fetchedAt;
+        final List<DescriptorPage> pages;
+
+        CachedDescriptors(long fetchedAt, List<DescriptorPage> pages) {
+            this.fetchedAt = fetchedAt;
+            this.pages = pages;
+        }
+    }
+
+    /**
+     * @return the API path of the descriptor collection for a descriptor model class
+     */
+    public static String getDescriptorPath(Class<?> descriptorClass) {
+        return ResourceMapping.getResourcePath(descriptorClass);
+    }
+
+    /**
+     * Loads every given descriptor type at once, from the cache directory when it is fresh.
+     */
+    public void preload(Collection<Class<?>> descriptorClasses) throws ApiException, AuthenticationException {
+        tokenManager.getToken();
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        for (Class<?> descriptorClass : descriptorClasses) {
+            loads.add(load(getDescriptorPath(descriptorClass)));
+        }
+
+        for (CompletableFuture<Void> load : loads) {
+            asyncApiClient.await(load);
+        }
+    }
+
+    /**
+     * @return the descriptors of the given type by code value, loading the type if it has not been loaded yet
+     */
+    public <D> Map<String, D> getDescriptors(Class<D> descriptorClass) throws ApiException, AuthenticationException {
+        String path = getDescriptorPath(descriptorClass);
+        if (!descriptors.containsKey(path)) {
+            preload(Collections.singletonList(descriptorClass));
+        }
+        Map<String, D> map = new HashMap<>();
+        descriptors.get(path).forEach((code, descriptor) ->
+                map.put(code, apiClient.getJSON().getGson().fromJson(descriptor, descriptorClass)));
+        return map;
+    }
+
+    /**
+     * @return the namespace qualified uri of the code, or the code itself when the type has no such descriptor
+     * @throws IllegalStateException when the descriptor type was not preloaded
+     */
+    public String getDescriptorUri(Class<?> descriptorClass, String code) {
+        Map<String, JsonObject> map = descriptors.get(getDescriptorPath(descriptorClass));
+        if (map == null) {
+            throw new IllegalStateException(descriptorClass.getSimpleName() + " descriptors were not preloaded");
+        }
+        JsonObject descriptor = code != null ? map.get(code) : null;
+        if (descriptor != null && descriptor.has("namespace")) {
+            return descriptor.get("namespace").getAsString() + "#" + code;
+        }
+        return code;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("Descriptor Types From Cache", typesFromCache.get());
+        metrics.put("Descriptor Types From API", typesFromApi.get());
+        metrics.put("Descriptor Pages Fetched", pagesFetched.get());
+        metrics.put("Descriptor Pages Not Modified", pagesNotModified.get());
+        return metrics;
+    }
+
+    private CompletableFuture<Void> load(String path) {
+        CachedDescriptors cached = readCache(path);
+        if (cached != null && System.currentTimeMillis() - cached.fetchedAt < TimeUnit.MINUTES.toMillis(cacheTtlMinutes)) {
+            typesFromCache.incrementAndGet();
+            store(path, cached.pages);
+            return CompletableFuture.completedFuture(null);
+        }
+        List<DescriptorPage> cachedPages = cached != null ? cached.pages : Collections.emptyList();
+        return loadPage(path, 0, cachedPages, new ArrayList<>()).thenAccept(pages -> {
+            typesFromApi.incrementAndGet();
+            store(path, pages);
+            writeCache(path, pages);
+        });
+    }
+
+    /**
+     * Requests the page at the given index, and the following ones until a page comes back short. A cached page is
+     * sent with its ETag and reused when the API answers 304 Not Modified.
+     */
+    private CompletableFuture<List<DescriptorPage>> loadPage(String path, int index, List<DescriptorPage> cachedPages,
+                                                             List<DescriptorPage> pages) {
+        DescriptorPage cachedPage = index < cachedPages.size() ? cachedPages.get(index) : null;
+        String etag = cachedPage != null ? cachedPage.etag : null;
+        Map<String, String> headerParams = new HashMap<>();
+        if (etag != null) {
+            headerParams.put("If-None-Match", etag);
+        }
+        return asyncApiClient.getCollectionPage(path, index * pageSize, pageSize, false, headerParams)
+                .handle((response, e) -> {
+                    if (e == null) {
+                        pagesFetched.incrementAndGet();
+                        JsonArray items = response.getData() != null ? response.getData() : new JsonArray();
+                        return new DescriptorPage(AsyncApiClient.getHeader(response, "ETag"), items);
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cachedPage != null && cause instanceof ApiException
+                            && ((ApiException) cause).getCode() == HttpStatus.NOT_MODIFIED.value()) {
+                        pagesNotModified.incrementAndGet();
+                        return cachedPage;
+                    }
+                    throw new CompletionException(cause);
+                })
+                .thenCompose(page -> {
+                    pages.add(page);
+                    if (page.items.size() < pageSize) {
+                        return CompletableFuture.completedFuture(pages);
+                    }
+                    return loadPage(path, index + 1, cachedPages, pages);
+                });
+    }
+
+    private void store(String path, List<DescriptorPage> pages) {
+        Map<String, JsonObject> map = new HashMap<>();
+        for (DescriptorPage page : pages) {
+            for (JsonElement item : page.items) {
+                JsonObject descriptor = item.getAsJsonObject();
+                if (descriptor.has("codeValue")) {
+                    map.put(descriptor.get("codeValue").getAsString(), descriptor);
+                }
+            }
+        }
+        descriptors.put(path, map);
+    }
+
+    private Path getCacheFile(String path) {
+        return Paths.get(cacheDirectory, path.substring(1).replace('/', '.') + ".json");
+    }
+
+    private CachedDescriptors readCache(String path) {
+        if (StringUtils.isBlank(cacheDirectory) || !Files.exists(getCacheFile(path))) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(getCacheFile(path), StandardCharsets.UTF_8)) {
+            JsonObject cache = new JsonParser().parse(reader).getAsJsonObject();
+            List<DescriptorPage> pages = new ArrayList<>();
+            for (JsonElement element : cache.getAsJsonArray("pages")) {
+                JsonObject page = element.getAsJsonObject();
+                String etag = page.has("etag") ? page.get("etag").getAsString() : null;
+                pages.add(new DescriptorPage(etag, page.getAsJsonArray("items")));
+            }
+            return new CachedDescriptors(cache.get("fetchedAt").getAsLong(), pages);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring descriptor cache for " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String path, List<DescriptorPage> pages) {
+        if (StringUtils.isBlank(cacheDirectory)) {
+            return;
+        }
+        JsonArray pageArray = new JsonArray();
+        for (DescriptorPage page : pages) {
+            JsonObject pageObject = new JsonObject();
+            if (page.etag != null) {
+                pageObject.addProperty("etag", page.etag);
+            }
+            pageObject.add("items", page.items);
+            pageArray.add(pageObject);
+        }
+        JsonObject cache = new JsonObject();
+        cache.addProperty("fetchedAt", System.currentTimeMillis());
+        cache.add("pages", pageArray);
+
+        try {
+            AtomicFiles.write(getCacheFile(path), writer -> writer.write(cache.toString()));
+        } catch (IOException e) {
+            logger.warn("Could not write descriptor cache for " + path + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package org.edfi.sis.service;
+
+import com.google.gson.stream.JsonWriter;
+import org.apache.commons.lang3.StringUtils;
+import org.edfi.sis.dao.Dao;
+import org.edfi.sis.dao.Partition;
+import org.edfi.sis.dao.RowCursor;
+import org.edfi.sis.model.SisConnectorResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Takes a snapshot of Banner by streaming the result of every mapped SQL file from its cursor straight to a CSV or
+ * newline delimited json file, gzip compressed by default, without uploading anything. Rows are written as they are
+ * fetched, so the size of a snapshot is not limited by memory.
+ */
+@Component
+public class ExportService {
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    @Autowired
+    Dao dao;
+
+    @Value( "${export.dir:${output.dir}}" )
+    String exportDirectory;
+
+    @Value( "${export.format:}" )
+    String format;
+
+    @Value( "${export.gzip:true}" )
+    boolean gzip;
+
+    @Value( "${export.buffer.size:1048576}" )
+    int bufferSize;
+
+    /**
+     * @return true when export.format asks for a snapshot instead of an upload
+     */
+    public boolean isEnabled() {
+        return StringUtils.isNotBlank(format);
+    }
+
+    /**
+     * Exports each SQL file that has a column map to a file of the same name in a date/time folder of export.dir.
+     * SQL that needs the ids of a chunk or binds ? parameters, such as the perId SQL, cannot run on its own and is
+     * left out with a warning; the other placeholders select every row.
+     */
+    public void export(Map<String, String> sqlMap, Collection<String> mappedNames, String date, String time,
+                       SisConnectorResponse response) throws SQLException, IOException {
+        Path directory = Paths.get(exportDirectory, date, time);
+        if (!FORMAT_CSV.equalsIgnoreCase(format) && !FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("export.format must be " + FORMAT_CSV + " or " + FORMAT_NDJSON
+                    + ", not " + format);
+        }
+        Files.createDirectories(directory);
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        try {
+            for (String name : new TreeSet<>(mappedNames)) {
+                String sql = sqlMap.get(name);
+                if (sql == null) {
+                    continue;
+                }
+                String problem = dao.getStandaloneProblem(sql);
+                if (problem != null) {
+                    response.addWarning("Export of " + name + " skipped, " + problem);
+                    continue;
+                }
+                Path file = directory.resolve(name + "." + format.toLowerCase() + (gzip ? ".gz" : ""));
+                long start = System.nanoTime();
+                long rows = exportQuery(Partition.modulo(1).get(0).bind(sql), file);
+                metrics.put("Export " + name + " Rows", rows);
+                metrics.put("Export " + name + " Bytes", Files.size(file));
+                metrics.put("Export " + name + " Time (ms)", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        } finally {
+            response.addMetrics(metrics);
+        }
+    }
+
+    private long exportQuery(String sql, Path file) throws SQLException, IOException {
+        try (RowCursor cursor = dao.openWatermarkCursor(sql, null);
+             Writer writer = openWriter(file)) {
+            return FORMAT_CSV.equalsIgnoreCase(format) ? writeCsv(cursor, writer) : writeNdjson(cursor, writer);
+        }
+    }
+
+    /**
+     * Opens the file as a channel with a large buffer in front of it, compressing on the way when export.gzip is set.
+     */
+    private Writer openWriter(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        OutputStream out = Channels.newOutputStream(channel);
+        if (gzip) {
+            out = new GZIPOutputStream(out, bufferSize);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+    }
+
+    /**
+     * Writes a header line of column names, then one line per row as RFC 4180 CSV; a NULL is an empty field and an
+     * empty text a quoted one, so that a replay can tell them apart.
+     */
+    private long writeCsv(RowCursor cursor, Writer writer) throws SQLException, IOException {
+        List<String> columnNames = cursor.getColumnNames();
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, columnNames.get(i));
+        }
+        writer.write("\r\n");
+
+        long rows = 0;
+        int columnCount = cursor.getColumnCount();
+        while (cursor.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvField(writer, cursor.getString(i));
+            }
+            writer.write("\r\n");
+            rows++;
+        }
+        return rows;
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.isEmpty() || StringUtils.containsAny(value, ',', '"', '\r', '\n')) {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(value);
+        }
+    }
+
+    /**
+     * Writes one json object per line, keyed by column name. Numbers and booleans keep their json type, dates are
+     * written as text and a NULL as null.
+     */
+    private long writeNdjson(RowCursor cursor, Writer writer) throws SQLException, IOException {
+        List<String> columnNames = cursor.getColumnNames();
+        int columnCount = cursor.getColumnCount();
+        JsonWriter json = new JsonWriter(writer);
+        json.setLenient(true);
+        json.setSerializeNulls(true);
+
+        long rows = 0;
+        while (cursor.next()) {
+            json.beginObject();
+            for (int i = 0; i < columnCount; i++) {
+                json.name(columnNames.get(i));
+                Object value = cursor.getObject(i);
+                if (value == null) {
+                    json.nullValue();
+                } else if (value instanceof Number) {
+                    json.value((Number) value);
+                } else if (value instanceof Boolean) {
+                    json.value((Boolean) value);
+                } else {
+                    json.value(cursor.getString(i));
+                }
+            }
+            json.endObject();
+            // the json writer has no buffer of its own, so the line break lands right after the object
+            writer.write('\n');
+            rows++;
+        }
+        return rows;
+    }
+}
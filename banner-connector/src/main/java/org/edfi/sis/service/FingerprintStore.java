@@ -0,0 +1,127 @@
+package org.edfi.sis.service;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers a SHA-256 hash of the last content posted for each natural key, in a tab separated file of key and hash,
+ * so that records which did not change since the last run need not be posted again.
+ *
+ * A hash is staged when a record is extracted and only committed once the record was posted, so a failed post is
+ * retried on the next run. Nothing is remembered when no file is configured.
+ */
+@Component
+public class FingerprintStore {
+    private final static Logger logger = LoggerFactory.getLogger(FingerprintStore.class);
+
+    public enum Status { NEW, CHANGED, UNCHANGED }
+
+    @Value( "${fingerprint.store.file:}" )
+    String storeFile;
+
+    private final Map<String, String> committed = new ConcurrentHashMap<>();
+    private final Map<String, String> staged = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    private final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    public boolean isEnabled() {
+        return StringUtils.isNotBlank(storeFile);
+    }
+
+    /**
+     * Reads the hashes saved by the last run. A missing or unreadable file starts an empty store.
+     */
+    public void load() {
+        committed.clear();
+        staged.clear();
+        loaded = true;
+        if (!isEnabled() || !Files.exists(Paths.get(storeFile))) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(storeFile), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.lastIndexOf('\t');
+                if (tab > 0) {
+                    committed.put(line.substring(0, tab), line.substring(tab + 1));
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Ignoring fingerprint store " + storeFile + ": " + e.getMessage());
+            committed.clear();
+        }
+    }
+
+    /**
+     * Hashes the canonical content of a record and compares it with the hash committed for its key. The hash of a
+     * new or changed record is staged until {@link #commit(String)}.
+     */
+    public Status stage(String key, String content) {
+        String fingerprint = Base64.getEncoder().encodeToString(
+                digest.get().digest(content.getBytes(StandardCharsets.UTF_8)));
+        String previous = committed.get(key);
+        if (fingerprint.equals(previous)) {
+            return Status.UNCHANGED;
+        }
+        staged.put(key, fingerprint);
+        return previous == null ? Status.NEW : Status.CHANGED;
+    }
+
+    /**
+     * Remembers the staged hash of a record that was posted.
+     */
+    public void commit(String key) {
+        String fingerprint = staged.remove(key);
+        if (fingerprint != null) {
+            committed.put(key, fingerprint);
+        }
+    }
+
+    public void remove(String key) {
+        staged.remove(key);
+        committed.remove(key);
+    }
+
+    /**
+     * Writes the committed hashes, replacing the file only once it has been written completely. Does nothing when
+     * the store was not loaded in this run, so that a run that failed early keeps the previous hashes.
+     */
+    public void save() {
+        if (!isEnabled() || !loaded) {
+            return;
+        }
+        try {
+            AtomicFiles.write(Paths.get(storeFile), writer -> {
+                for (Map.Entry<String, String> entry : committed.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('\t');
+                    writer.write(entry.getValue());
+                    writer.write(System.lineSeparator());
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Could not write fingerprint store " + storeFile + ": " + e.getMessage());
+        }
+    }
+}
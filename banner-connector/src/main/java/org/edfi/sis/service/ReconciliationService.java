@@ -0,0 +1,146 @@
+package org.edfi.sis.service;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.apache.commons.lang3.StringUtils;
+import org.edfi.api.ApiResponse;
+import org.edfi.api.AsyncApiClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Finds the records that exist in the ODS, keeping only their natural key and resource id, so that records no longer
+ * extracted from Banner can be deleted. The first page asks for the Total-Count header, then the remaining pages are
+ * all requested at once. Without a Total-Count the scan reads one page after the other until a short page.
+ *
+ * Pages are read from the response stream record by record and every other field is skipped, so neither a page nor
+ * a record is ever built in memory.
+ */
+@Component
+public class ReconciliationService {
+
+    @Autowired
+    AsyncApiClient asyncApiClient;
+
+    @Value( "${reconciliation.page.size:500}" )
+    int pageSize;
+
+    @Value( "${reconciliation.delete.max.percent:20}" )
+    int deleteMaxPercent;
+
+    private final AtomicLong pagesScanned = new AtomicLong();
+    private final AtomicLong keysScanned = new AtomicLong();
+
+    /**
+     * Reads the key field and id of every record of the collection.
+     *
+     * @param path Path of the collection, e.g. /tpdm/teacherCandidates
+     * @param keyField Json name of the natural key, e.g. teacherCandidateIdentifier
+     */
+    public CompletableFuture<ResourceKeyMap> scanKeys(String path, String keyField) {
+        ResourceKeyMap keys = new ResourceKeyMap();
+        return asyncApiClient.visitCollectionPage(path, 0, pageSize, true, Collections.emptyMap(),
+                        record -> readKey(keys, record, keyField))
+                .thenCompose(firstPage -> {
+                    int count = countPage(firstPage);
+                    String totalCount = AsyncApiClient.getHeader(firstPage, "Total-Count");
+                    if (count < pageSize) {
+                        return CompletableFuture.completedFuture(keys);
+                    }
+                    if (StringUtils.isNumeric(totalCount)) {
+                        return scanRemainingPages(path, keyField, Long.parseLong(totalCount), keys);
+                    }
+                    return scanNextPage(path, keyField, pageSize, keys);
+                });
+    }
+
+    /**
+     * @return true when deleting the given number of records out of the existing ones stays within
+     * reconciliation.delete.max.percent; a larger share usually means the extraction was incomplete
+     */
+    public boolean isWithinDeleteThreshold(int deleteCount, long existingCount) {
+        if (deleteCount == 0 || deleteMaxPercent >= 100) {
+            return true;
+        }
+        return deleteCount * 100L <= existingCount * deleteMaxPercent;
+    }
+
+    public int getDeleteMaxPercent() {
+        return deleteMaxPercent;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("Reconciliation Pages Scanned", pagesScanned.get());
+        metrics.put("Reconciliation Keys Scanned", keysScanned.get());
+        return metrics;
+    }
+
+    private CompletableFuture<ResourceKeyMap> scanRemainingPages(String path, String keyField, long totalCount,
+                                                                ResourceKeyMap keys) {
+        List<Integer> offsets = new ArrayList<>();
+        for (long offset = pageSize; offset < totalCount; offset += pageSize) {
+            offsets.add((int) offset);
+        }
+        // keys are taken from each page as it arrives, so that only one page per open request is held at a time
+        List<CompletableFuture<Integer>> pages = asyncApiClient.submitAll(offsets,
+                offset -> asyncApiClient.visitCollectionPage(path, offset, pageSize, false, Collections.emptyMap(),
+                        record -> readKey(keys, record, keyField)).thenApply(this::countPage));
+        return CompletableFuture.allOf(pages.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> keys);
+    }
+
+    private CompletableFuture<ResourceKeyMap> scanNextPage(String path, String keyField, int offset, ResourceKeyMap keys) {
+        return asyncApiClient.visitCollectionPage(path, offset, pageSize, false, Collections.emptyMap(),
+                        record -> readKey(keys, record, keyField))
+                .thenCompose(page -> {
+                    if (countPage(page) < pageSize) {
+                        return CompletableFuture.completedFuture(keys);
+                    }
+                    return scanNextPage(path, keyField, offset + pageSize, keys);
+                });
+    }
+
+    private int countPage(ApiResponse<Integer> page) {
+        pagesScanned.incrementAndGet();
+        int count = page.getData() != null ? page.getData() : 0;
+        keysScanned.addAndGet(count);
+        return count;
+    }
+
+    /**
+     * Takes the key field and id of one record, skipping every other field without reading it into memory.
+     */
+    private void readKey(ResourceKeyMap keys, JsonReader record, String keyField) throws IOException {
+        if (record.peek() != JsonToken.BEGIN_OBJECT) {
+            record.skipValue();
+            return;
+        }
+        String key = null;
+        String id = null;
+        record.beginObject();
+        while (record.hasNext()) {
+            String name = record.nextName();
+            JsonToken token = record.peek();
+            boolean scalar = token == JsonToken.STRING || token == JsonToken.NUMBER;
+            if (scalar && name.equals(keyField)) {
+                key = record.nextString();
+            } else if (scalar && name.equals("id")) {
+                id = record.nextString();
+            } else {
+                record.skipValue();
+            }
+        }
+        record.endObject();
+        keys.put(key, id);
+    }
+}
@@ -0,0 +1,56 @@
+package org.edfi.sis.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Natural key to resource id map of the records that exist in the ODS. Ids in the ODS form of 32 lower case hex
+ * digits are held as a {@link UUID}, two longs instead of a 32 character string; any other id is kept as is.
+ * Safe for concurrent use, as uploads remove the keys they save from several threads.
+ */
+public class ResourceKeyMap {
+    private static final Pattern COMPACT_ID = Pattern.compile("[0-9a-f]{32}");
+
+    private final Map<String, Object> ids = new ConcurrentHashMap<>();
+
+    public void put(String key, String id) {
+        if (key != null && id != null) {
+            ids.put(key, compact(id));
+        }
+    }
+
+    public String getId(String key) {
+        Object id = ids.get(key);
+        return id != null ? expand(id) : null;
+    }
+
+    public boolean remove(String key) {
+        return key != null && ids.remove(key) != null;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public Set<String> keySet() {
+        return ids.keySet();
+    }
+
+    private static Object compact(String id) {
+        if (!COMPACT_ID.matcher(id).matches()) {
+            return id;
+        }
+        return new UUID(Long.parseUnsignedLong(id.substring(0, 16), 16), Long.parseUnsignedLong(id.substring(16), 16));
+    }
+
+    private static String expand(Object id) {
+        if (id instanceof UUID) {
+            UUID uuid = (UUID) id;
+            return String.format("%016x%016x", uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        }
+        return (String) id;
+    }
+}
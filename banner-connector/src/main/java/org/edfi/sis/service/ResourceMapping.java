@@ -0,0 +1,548 @@
+package org.edfi.sis.service;
+
+import org.apache.commons.lang3.StringUtils;
+import org.edfi.api.LambdaAccessors;
+import org.edfi.sis.dao.ColumnBinding;
+import org.edfi.sis.dao.RowCursor;
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A column map compiled into a mapper from the rows of its SQL to any model class of org.edfi.model.resource.
+ * Besides its field=COLUMN lines the map holds directives:
+ *
+ * <pre>
+ * &#64;class=TpdmTeacherCandidate           model class, by simple name or fully qualified
+ * &#64;path=/tpdm/teacherCandidates         API path to post to, derived from the class when left out
+ * &#64;key=teacherCandidateIdentifier       field whose consecutive rows build one resource
+ * </pre>
+ *
+ * A field is a property path such as studentReference.studentUniqueId or addresses[].periods[].beginDate, where []
+ * marks a list. Each row adds one element to every list it has values for, unless an element with the same values,
+ * also in its single-valued properties, is already there; a String property named *Descriptor is mapped to the uri
+ * of its descriptor.
+ *
+ * Constructors, getters and setters are compiled once into lambdas with {@link LambdaAccessors}, and the reader of
+ * each column is chosen from the setter's type, so mapping a row costs no reflection.
+ */
+public class ResourceMapping {
+    public static final String CLASS_DIRECTIVE = "@class";
+    public static final String PATH_DIRECTIVE = "@path";
+    public static final String KEY_DIRECTIVE = "@key";
+
+    private static final String RESOURCE_PACKAGE = "org.edfi.model.resource.";
+    private static final String DESCRIPTOR_PACKAGE = "org.edfi.model.descriptor.";
+    private static final String LIST_SUFFIX = "[]";
+
+    @FunctionalInterface
+    public interface DescriptorResolver {
+        String getDescriptorUri(Class<?> descriptorClass, String code);
+    }
+
+    @FunctionalInterface
+    public interface ResourceHandler {
+        void handle(Object resource) throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Object read(RowCursor row, int index);
+    }
+
+    private static class Leaf {
+        final String field;
+        final Function<Object, Object> getter;
+        final BiConsumer<Object, Object> setter;
+        final ValueReader reader;
+        int column = -1;
+
+        Leaf(String field, Function<Object, Object> getter, BiConsumer<Object, Object> setter, ValueReader reader) {
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+            this.reader = reader;
+        }
+
+        Object read(RowCursor row) {
+            return column >= 0 ? reader.read(row, column) : null;
+        }
+    }
+
+    private static class Node {
+        final Class<?> type;
+        final Supplier<Object> constructor;
+        final List<Leaf> leaves = new ArrayList<>();
+        final Map<String, Child> children = new LinkedHashMap<>();
+
+        Node(Class<?> type) {
+            this.type = type;
+            this.constructor = LambdaAccessors.compileConstructor(type);
+        }
+    }
+
+    private static class Child {
+        final boolean list;
+        final Function<Object, Object> getter;
+        final BiConsumer<Object, Object> setter;
+        final Node node;
+
+        Child(boolean list, Function<Object, Object> getter, BiConsumer<Object, Object> setter, Node node) {
+            this.list = list;
+            this.getter = getter;
+            this.setter = setter;
+            this.node = node;
+        }
+    }
+
+    private final String name;
+    private final Class<?> resourceClass;
+    private final String path;
+    private final Node root;
+    private final Leaf keyLeaf;
+    private final List<Leaf> leaves = new ArrayList<>();
+    private final Set<Class<?>> descriptorClasses = new HashSet<>();
+    private final List<String> warnings = new ArrayList<>();
+    private final ColumnBinding binding;
+
+    /**
+     * Compiles the column map of the given SQL file. Fields that cannot be mapped are left out and reported by
+     * {@link #getWarnings()}.
+     *
+     * @throws IllegalArgumentException when the map has no valid @class directive
+     */
+    public ResourceMapping(String name, Map<String, String> columnMap, DescriptorResolver descriptorResolver) {
+        this.name = name;
+        this.resourceClass = findResourceClass(columnMap.get(CLASS_DIRECTIVE));
+        if (resourceClass == null) {
+            throw new IllegalArgumentException("Column map " + name + ": " + CLASS_DIRECTIVE + "="
+                    + columnMap.get(CLASS_DIRECTIVE) + " is not a model resource class");
+        }
+        this.path = StringUtils.defaultIfBlank(columnMap.get(PATH_DIRECTIVE), getResourcePath(resourceClass));
+        this.root = new Node(resourceClass);
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : columnMap.entrySet()) {
+            if (entry.getKey().startsWith("@")) {
+                continue;
+            }
+            try {
+                leaves.add(compileField(entry.getKey(), descriptorResolver));
+                fields.put(entry.getKey(), entry.getValue());
+            } catch (IllegalArgumentException e) {
+                warnings.add("Column map " + name + ": field " + entry.getKey() + " is ignored, " + e.getMessage());
+            }
+        }
+
+        String keyField = columnMap.get(KEY_DIRECTIVE);
+        Leaf key = null;
+        for (Leaf leaf : root.leaves) {
+            if (leaf.field.equals(keyField)) {
+                key = leaf;
+            }
+        }
+        if (keyField != null && key == null) {
+            warnings.add("Column map " + name + ": " + KEY_DIRECTIVE + "=" + keyField
+                    + " is not a mapped field of the resource itself, every row is one resource");
+        }
+        this.keyLeaf = key;
+        this.binding = new ColumnBinding(name, fields, fields.keySet());
+    }
+
+    /**
+     * @return the API path of the collection of a model class, e.g. /tpdm/teacherCandidates for
+     * TpdmTeacherCandidate, /ed-fi/localEducationAgencies for EdFiLocalEducationAgency or
+     * /tpdm/anonymizedStudentAssessmentFacts for TpdmAnonymizedStudentAssessmentFacts, as the generated APIs name it
+     */
+    public static String getResourcePath(Class<?> modelClass) {
+        String className = modelClass.getSimpleName();
+        String namespace;
+        if (className.startsWith("EdFi")) {
+            namespace = "/ed-fi/";
+        } else if (className.startsWith("Tpdm")) {
+            namespace = "/tpdm/";
+        } else {
+            throw new IllegalArgumentException(className + " is not an Ed-Fi or TPDM model class");
+        }
+        return namespace + pluralize(StringUtils.uncapitalize(className.substring(4)));
+    }
+
+    /**
+     * @return the plural of a resource name, following the only rules the collection names of the API use
+     */
+    private static String pluralize(String name) {
+        if (name.endsWith("s")) {
+            return name;
+        }
+        if (name.endsWith("y") && name.length() > 1 && "aeiou".indexOf(name.charAt(name.length() - 2)) < 0) {
+            return name.substring(0, name.length() - 1) + "ies";
+        }
+        return name + "s";
+    }
+
+    /**
+     * @return true when the column map targets a model class, rather than one of the hand-written mappers
+     */
+    public static boolean isResourceMap(Map<String, String> columnMap) {
+        return columnMap.containsKey(CLASS_DIRECTIVE);
+    }
+
+    /**
+     * Maps the rows of the cursor to resources and hands each one over as soon as its last row was read.
+     */
+    public void mapRows(RowCursor cursor, ResourceHandler handler) throws SQLException, InterruptedException {
+        bind(cursor);
+        Object current = null;
+        Object currentKey = null;
+        while (cursor.next()) {
+            Object key = keyLeaf != null ? keyLeaf.read(cursor) : null;
+            if (current != null && (key == null || !key.equals(currentKey))) {
+                handler.handle(current);
+                current = null;
+            }
+            if (current == null) {
+                current = root.constructor.get();
+                currentKey = key;
+                apply(root, current, cursor, true);
+            } else {
+                apply(root, current, cursor, false);
+            }
+        }
+        if (current != null) {
+            handler.handle(current);
+        }
+    }
+
+    /**
+     * @return the value of the key field of a mapped resource, or null when the map has no key
+     */
+    public Object getKey(Object resource) {
+        return keyLeaf != null ? keyLeaf.getter.apply(resource) : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getResourceClass() {
+        return resourceClass;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the descriptor types the mapped values are resolved against, which must be loaded before mapping
+     */
+    public Set<Class<?>> getDescriptorClasses() {
+        return descriptorClasses;
+    }
+
+    public List<String> getWarnings() {
+        List<String> all = new ArrayList<>(warnings);
+        all.addAll(binding.getWarnings());
+        return all;
+    }
+
+    private void bind(RowCursor cursor) {
+        binding.bind(cursor);
+        for (Leaf leaf : leaves) {
+            leaf.column = binding.index(leaf.field);
+        }
+    }
+
+    /**
+     * Sets the values of the row on a new object, or on the object built from the previous rows of the same key,
+     * where only the lists can still grow.
+     */
+    private void apply(Node node, Object target, RowCursor row, boolean isNew) {
+        if (isNew) {
+            for (Leaf leaf : node.leaves) {
+                Object value = leaf.read(row);
+                if (value != null) {
+                    leaf.setter.accept(target, value);
+                }
+            }
+        }
+        for (Child child : node.children.values()) {
+            if (!hasValues(child.node, row)) {
+                continue;
+            }
+            Object value = child.getter.apply(target);
+            if (!child.list) {
+                boolean created = value == null;
+                if (created) {
+                    value = child.node.constructor.get();
+                    child.setter.accept(target, value);
+                }
+                apply(child.node, value, row, created);
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            List<Object> list = (List<Object>) value;
+            if (list == null) {
+                list = new ArrayList<>();
+                child.setter.accept(target, list);
+            }
+            Object element = null;
+            for (Object existing : list) {
+                if (hasSameValues(child.node, existing, row)) {
+                    element = existing;
+                }
+            }
+            if (element != null) {
+                apply(child.node, element, row, false);
+            } else {
+                element = child.node.constructor.get();
+                apply(child.node, element, row, true);
+                list.add(element);
+            }
+        }
+    }
+
+    private boolean hasValues(Node node, RowCursor row) {
+        for (Leaf leaf : node.leaves) {
+            if (leaf.column >= 0 && row.getObject(leaf.column) != null) {
+                return true;
+            }
+        }
+        for (Child child : node.children.values()) {
+            if (hasValues(child.node, row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true when the row holds the values of the list element, i.e. of its leaves and of the leaves of its
+     * single-valued children. An element with no such leaves, whose identity lies only in its lists, is never the
+     * same, so every row adds one.
+     */
+    private boolean hasSameValues(Node node, Object element, RowCursor row) {
+        return hasIdentity(node) && hasSameLeaves(node, element, row);
+    }
+
+    private boolean hasIdentity(Node node) {
+        if (!node.leaves.isEmpty()) {
+            return true;
+        }
+        for (Child child : node.children.values()) {
+            if (!child.list && hasIdentity(child.node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasSameLeaves(Node node, Object target, RowCursor row) {
+        for (Leaf leaf : node.leaves) {
+            if (!Objects.equals(target != null ? leaf.getter.apply(target) : null, leaf.read(row))) {
+                return false;
+            }
+        }
+        for (Child child : node.children.values()) {
+            if (!child.list && !hasSameLeaves(child.node, target != null ? child.getter.apply(target) : null, row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Leaf compileField(String field, DescriptorResolver descriptorResolver) {
+        String[] segments = field.split("\\.");
+        Node node = root;
+        for (int i = 0; i < segments.length - 1; i++) {
+            node = getChild(node, segments[i]).node;
+        }
+
+        String property = segments[segments.length - 1];
+        if (property.endsWith(LIST_SUFFIX)) {
+            throw new IllegalArgumentException("a list must be followed by one of its element's properties");
+        }
+        Method setter = findSetter(node.type, property);
+        Method getter = findGetter(node.type, property);
+        Class<?> type = setter.getParameterTypes()[0];
+        ValueReader reader = getReader(type);
+        if (reader == null) {
+            throw new IllegalArgumentException(type.getSimpleName() + " " + property + " is not a column value");
+        }
+        if (type == String.class && property.endsWith("Descriptor")) {
+            Class<?> descriptorClass = findDescriptorClass(property);
+            if (descriptorClass != null) {
+                descriptorClasses.add(descriptorClass);
+                reader = (row, index) -> descriptorResolver.getDescriptorUri(descriptorClass, row.getString(index));
+            }
+        }
+        Leaf leaf = new Leaf(field, LambdaAccessors.compileGetter(getter), LambdaAccessors.compileSetter(setter),
+                reader);
+        node.leaves.add(leaf);
+        return leaf;
+    }
+
+    private static Child getChild(Node node, String segment) {
+        boolean list = segment.endsWith(LIST_SUFFIX);
+        String property = list ? segment.substring(0, segment.length() - LIST_SUFFIX.length()) : segment;
+        Child child = node.children.get(property);
+        if (child != null) {
+            if (child.list != list) {
+                throw new IllegalArgumentException(property + " is used both as a list and as a single value");
+            }
+            return child;
+        }
+
+        Method getter = findGetter(node.type, property);
+        Method setter = findSetter(node.type, property);
+        Class<?> type = getter.getReturnType();
+        if (list) {
+            if (!List.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException(property + " of " + node.type.getSimpleName() + " is not a list");
+            }
+            Type elementType = getter.getGenericReturnType() instanceof ParameterizedType
+                    ? ((ParameterizedType) getter.getGenericReturnType()).getActualTypeArguments()[0] : null;
+            if (!(elementType instanceof Class)) {
+                throw new IllegalArgumentException("the element type of " + property + " is unknown");
+            }
+            type = (Class<?>) elementType;
+        } else if (List.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(property + " is a list and must be written as " + property + LIST_SUFFIX);
+        }
+        if (type.getName().startsWith("java.") || type.isPrimitive()) {
+            throw new IllegalArgumentException(property + " has no properties");
+        }
+        child = new Child(list, LambdaAccessors.compileGetter(getter), LambdaAccessors.compileSetter(setter),
+                new Node(type));
+        node.children.put(property, child);
+        return child;
+    }
+
+    private static ValueReader getReader(Class<?> type) {
+        if (type == String.class) {
+            return RowCursor::getString;
+        }
+        if (type == LocalDate.class) {
+            return RowCursor::getLocalDate;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return RowCursor::getBoolean;
+        }
+        if (type == DateTime.class) {
+            return (row, index) -> {
+                Object value = row.getObject(index);
+                if (value == null || value instanceof java.util.Date) {
+                    return value != null ? new DateTime(value) : null;
+                }
+                return DateTime.parse(value.toString().trim());
+            };
+        }
+        if (type == Integer.class || type == int.class) {
+            return (row, index) -> {
+                Object value = row.getObject(index);
+                return value instanceof Number ? (Object) ((Number) value).intValue() : parse(value, Integer::valueOf);
+            };
+        }
+        if (type == Long.class || type == long.class) {
+            return (row, index) -> {
+                Object value = row.getObject(index);
+                return value instanceof Number ? (Object) ((Number) value).longValue() : parse(value, Long::valueOf);
+            };
+        }
+        if (type == Double.class || type == double.class) {
+            return (row, index) -> {
+                Object value = row.getObject(index);
+                return value instanceof Number ? (Object) ((Number) value).doubleValue() : parse(value, Double::valueOf);
+            };
+        }
+        if (type == Float.class || type == float.class) {
+            return (row, index) -> {
+                Object value = row.getObject(index);
+                return value instanceof Number ? (Object) ((Number) value).floatValue() : parse(value, Float::valueOf);
+            };
+        }
+        if (type == BigDecimal.class) {
+            return (row, index) -> {
+                Object value = row.getObject(index);
+                return value instanceof BigDecimal ? value : parse(value, BigDecimal::new);
+            };
+        }
+        return null;
+    }
+
+    private static Object parse(Object value, Function<String, Object> parser) {
+        return value != null ? parser.apply(value.toString().trim()) : null;
+    }
+
+    private static Class<?> findResourceClass(String className) {
+        if (StringUtils.isBlank(className)) {
+            return null;
+        }
+        for (String candidate : new String[] {className.trim(), RESOURCE_PACKAGE + className.trim()}) {
+            try {
+                return Class.forName(candidate);
+            } catch (ClassNotFoundException e) {
+                // try the next candidate
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the descriptor class of a descriptor property, e.g. EdFiSexDescriptor for sexDescriptor or
+     * TpdmTppDegreeTypeDescriptor for tppDegreeTypeDescriptor, or null when there is none
+     */
+    private static Class<?> findDescriptorClass(String property) {
+        for (String prefix : new String[] {"EdFi", "Tpdm"}) {
+            try {
+                return Class.forName(DESCRIPTOR_PACKAGE + prefix + StringUtils.capitalize(property));
+            } catch (ClassNotFoundException e) {
+                // try the next prefix
+            }
+        }
+        return null;
+    }
+
+    private static Method findSetter(Class<?> type, String property) {
+        String setterName = "set" + StringUtils.capitalize(property);
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(setterName) && method.getParameterCount() == 1
+                    && !Modifier.isStatic(method.getModifiers())) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(type.getSimpleName() + " has no property " + property);
+    }
+
+    private static Method findGetter(Class<?> type, String property) {
+        for (String prefix : new String[] {"get", "is"}) {
+            try {
+                return type.getMethod(prefix + StringUtils.capitalize(property));
+            } catch (NoSuchMethodException e) {
+                // try the next prefix
+            }
+        }
+        throw new IllegalArgumentException(type.getSimpleName() + " has no property " + property);
+    }
+
+    @Override
+    public String toString() {
+        return name + " -> " + resourceClass.getSimpleName() + " " + path;
+    }
+}
@@ -1,16 +1,23 @@
 package org.edfi.sis.service;
 
 import com.google.gson.annotations.SerializedName;
-import com.opencsv.RFC4180Parser;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.edfi.api.ApiClient;
 import org.edfi.api.ApiException;
-import org.edfi.api.descriptor.*;
+import org.edfi.api.ApiRegistry;
+import org.edfi.api.ApiResponse;
+import org.edfi.api.AsyncApiClient;
 import org.edfi.api.resource.TeacherCandidatesApi;
 import org.edfi.model.descriptor.*;
 import org.edfi.model.resource.*;
-import org.edfi.sis.api.TokenRetriever;
+import org.edfi.sis.api.TokenManager;
+import org.edfi.sis.dao.ColumnBinding;
 import org.edfi.sis.dao.Dao;
+import org.edfi.sis.dao.Partition;
+import org.edfi.sis.dao.RowCursor;
+import org.edfi.sis.dao.StagedFileSource;
+import org.edfi.sis.dao.StatementCache;
 import org.edfi.sis.model.SisConnectorResponse;
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
@@ -18,7 +25,6 @@ import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import javax.naming.AuthenticationException;
@@ -27,7 +33,16 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 @Component
@@ -36,11 +51,35 @@ public class SisConnectorService {
     Dao dao;
 
     @Autowired
-    TokenRetriever tokenRetriever;
+    TokenManager tokenManager;
 
     @Autowired
     ApiClient apiClient;
 
+    @Autowired
+    AsyncApiClient asyncApiClient;
+
+    @Autowired
+    ApiRegistry apiRegistry;
+
+    @Autowired
+    DescriptorCacheService descriptorCacheService;
+
+    @Autowired
+    ReconciliationService reconciliationService;
+
+    @Autowired
+    FingerprintStore fingerprintStore;
+
+    @Autowired
+    WatermarkStore watermarkStore;
+
+    @Autowired
+    ExportService exportService;
+
+    @Autowired
+    StagedFileSource stagedFileSource;
+
     @Value( "${input.sql.dir}" )
     String sqlDirectory;
 
@@ -56,26 +95,76 @@ public class SisConnectorService {
     @Value( "${output.data.to.dir}" )
     boolean outputDataToDir;
 
+    @Value( "${extraction.mode:perId}" )
+    String extractionMode;
+
+    @Value( "${extraction.chunk.size:1000}" )
+    int extractionChunkSize;
+
+    @Value( "${extraction.parallelism:1}" )
+    int extractionParallelism;
+
+    @Value( "${extraction.partitions:1}" )
+    int extractionPartitions;
+
+    @Value( "${extraction.incremental:false}" )
+    boolean incrementalExtraction;
+
+    @Value( "${extraction.full.run.interval.days:7}" )
+    int fullRunIntervalDays;
+
+    @Value( "${upload.workers:4}" )
+    int uploadWorkers;
+
+    @Value( "${upload.queue.capacity:100}" )
+    int uploadQueueCapacity;
+
+    @Value( "${upload.max.in.flight:4}" )
+    int uploadMaxInFlight;
+
     String nowDate = null;
     String nowTime = null;
 
     public static final String TEACHER_CANDIDATE_IDS_SQL_NAME = "teacherCandidateIds";
     public static final String TEACHER_CANDIDATE_SQL_NAME = "teacherCandidate";
     public static final String TEACHER_CANDIDATE_ADDRESSES_SQL_NAME = "teacherCandidateAddresses";
-
-    Map<String, EdFiAddressTypeDescriptor> addressTypeDescriptorMap = null;
-    Map<String, EdFiLocaleDescriptor> localeDescriptorMap = null;
-    Map<String, EdFiStateAbbreviationDescriptor> stateAbbreviationDescriptorMap = null;
-    Map<String, EdFiAcademicSubjectDescriptor> academicSubjectDescriptorMap = null;
-    Map<String, EdFiGradeLevelDescriptor> gradeLevelDescriptorMap = null;
-    Map<String, TpdmTppDegreeTypeDescriptor> tppDegreeTypeDescriptorMap = null;
-    Map<String, EdFiSexDescriptor> sexDescriptorMap = null;
-    Map<String, String> existingTeacherCandidateMap = null;
+    public static final String WATERMARK_SQL_NAME = "watermark";
+    public static final String PARTITION_BOUNDS_SQL_NAME = "partitionBounds";
+
+    public static final String EXTRACTION_MODE_PER_ID = "perId";
+    public static final String EXTRACTION_MODE_SET = "set";
+
+    public static final String RUN_MODE_FULL = "full";
+    public static final String RUN_MODE_INCREMENTAL = "incremental";
+
+    public static final List<String> TEACHER_CANDIDATE_IDS_FIELDS = Collections.singletonList("studentUniqueId");
+    public static final List<String> TEACHER_CANDIDATE_FIELDS = Arrays.asList("teacherCandidateId", "firstName",
+            "middleName", "lastName", "birthDate", "academicSubjectDescriptor", "gradeLevelDescriptor",
+            "tppDegreeTypeDescriptor", "studentUniqueId", "sex");
+    public static final List<String> TEACHER_CANDIDATE_ADDRESSES_FIELDS = Arrays.asList("addressTypeDescriptor",
+            "localDescriptor", "stateAbbreviationDescriptor", "apartmentRoomSuiteNumber", "buildingSiteNumber", "city",
+            "congressionalDistrict", "countyFIPSCode", "doNotPublishIndicator", "nameOfCounty", "postalCode",
+            "streetNumberName", "periodBeginDate", "periodEndDate", "studentUniqueId");
+
+    public static final String TEACHER_CANDIDATES_PATH = "/tpdm/teacherCandidates";
+    public static final String TEACHER_CANDIDATE_KEY_FIELD = "teacherCandidateIdentifier";
+
+    ResourceKeyMap existingTeacherCandidateMap = null;
+    int existingTeacherCandidateCount = 0;
+    boolean incrementalRun = false;
+    // a replay without staged teacher candidates has not seen them, so none may be deleted
+    boolean teacherCandidatesSkipped = false;
+    Timestamp watermarkFrom = null;
+    Timestamp watermarkTo = null;
+
+    private final AtomicLong newCount = new AtomicLong();
+    private final AtomicLong changedCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
     Map<String, Map<String, String>> columnsMap = null;
+    Map<String, ColumnBinding> columnBindings = null;
+    List<ResourceMapping> resourceMappings = null;
     Map<String, String> sqlMap = null;
 
-    private final RFC4180Parser rfc4180Parser = new RFC4180Parser();
-
     public SisConnectorService(Dao dao) {
         this.dao = dao;
     }
@@ -85,27 +174,26 @@ public class SisConnectorService {
         DateTime startTime = new DateTime();
         response.setStartTime(startTime);
         try {
-            apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-
             DateTimeFormatter formatDate = DateTimeFormat.forPattern("YYYYMMdd");
             DateTimeFormatter formatTime = DateTimeFormat.forPattern("HHmmss");
             DateTime dateTime = DateTime.now();
             nowDate = dateTime.toString(formatDate);
             nowTime = dateTime.toString(formatTime);
 
-            initializeMaps();
-
-            dao.getRemoteConnection();
-
-            processTeacherCandidate(response);
-
-            removeDeletedTeacherCandidates(response);
-
+            if (exportService.isEnabled()) {
+                // a snapshot only reads Banner, so neither the API nor the column map checks are needed
+                sqlMap = loadSqlMap();
+                columnsMap = loadColumnsMap();
+                dao.getRemoteConnection();
+                exportService.export(sqlMap, columnsMap.keySet(), nowDate, nowTime, response);
+            } else {
+                extractAndUpload(response, startTime);
+            }
         } catch (AuthenticationException | ApiException e) {
             response.setFatalError(true);
             response.setErrorMessage(e.getMessage());
             response.setException(e);
-        } catch (SQLException e) {
+        } catch (SQLException | IOException | IllegalArgumentException e) {
             response.setFatalError(true);
             response.setErrorMessage(e.getMessage());
             response.setException(e);
@@ -113,7 +201,36 @@ public class SisConnectorService {
             response.setFatalError(true);
             response.setErrorMessage(e.getMessage());
             response.setException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.setFatalError(true);
+            response.setErrorMessage(e.getMessage());
+            response.setException(e);
         } finally {
+            if (columnBindings != null) {
+                columnBindings.values().forEach(binding -> binding.getWarnings().forEach(response::addWarning));
+            }
+            if (resourceMappings != null) {
+                resourceMappings.forEach(mapping -> mapping.getWarnings().forEach(response::addWarning));
+            }
+            if (!exportService.isEnabled() && stagedFileSource.isEnabled()) {
+                response.addMetrics(stagedFileSource.getMetrics());
+            }
+            if (!exportService.isEnabled()) {
+                response.addMetrics(descriptorCacheService.getMetrics());
+                response.addMetrics(reconciliationService.getMetrics());
+                response.addMetrics(Collections.singletonMap("Token Refreshes", tokenManager.getRefreshCount()));
+                response.addMetric("API Bytes Sent", apiClient.getBytesSent());
+                response.addMetric("API Bytes Received", apiClient.getBytesReceived());
+                response.addMetrics(apiClient.getRetryInterceptor().getMetrics());
+                if (apiClient.getWriteLimiter() != null) {
+                    response.addMetrics(apiClient.getWriteLimiter().getMetrics());
+                }
+                fingerprintStore.save();
+            }
+            if (dao.getDataSource() != null) {
+                response.addMetrics(dao.getPoolMetrics());
+            }
             try {
                 dao.closeRemoteConnection();
             } catch (SQLException e) {
@@ -126,37 +243,282 @@ public class SisConnectorService {
         buildReport(response);
     }
 
-    private void initializeMaps() throws AuthenticationException, ApiException {
+    private void extractAndUpload(SisConnectorResponse response, DateTime startTime)
+            throws AuthenticationException, ApiException, SQLException, ClassNotFoundException, InterruptedException {
+        tokenManager.getToken();
+
+        initializeMaps(response);
+
+        // a replay reads the staged files of a snapshot instead of Banner
+        if (!stagedFileSource.isEnabled()) {
+            // set mode reads the candidates and their addresses through two cursors at once
+            dao.getRemoteConnection(EXTRACTION_MODE_SET.equalsIgnoreCase(extractionMode) ? 2 : 1);
+        }
+
+        if (isIncrementalExtraction()) {
+            // read before extracting so that changes made during the run are picked up by the next one
+            watermarkTo = dao.queryTimestamp(sqlMap.get(WATERMARK_SQL_NAME));
+            response.setWatermarkTo(watermarkTo);
+        }
+
+        processTeacherCandidate(response);
+
+        processMappedResources(response);
+
+        // an incremental run only sees changed records, so it cannot tell which ones were deleted
+        if (!incrementalRun && !teacherCandidatesSkipped) {
+            removeDeletedTeacherCandidates(response);
+        }
+
+        if (isIncrementalExtraction()) {
+            recordWatermark(response, startTime);
+        }
+    }
+
+    /**
+     * A replay always loads a whole snapshot, so it is never incremental and leaves the watermark alone.
+     */
+    private boolean isIncrementalExtraction() {
+        return incrementalExtraction && !stagedFileSource.isEnabled();
+    }
+
+    private void initializeMaps(SisConnectorResponse response) throws AuthenticationException, ApiException, SQLException {
         sqlMap = loadSqlMap();
         columnsMap = loadColumnsMap();
-        addressTypeDescriptorMap = loadAddressTypeDescriptorsMap();
-        localeDescriptorMap = loadLocaleDescriptorsMap();
-        stateAbbreviationDescriptorMap = loadStateAbbreviationDescriptorsMap();
-        academicSubjectDescriptorMap = loadAcademicSubjectDescriptorsMap();
-        gradeLevelDescriptorMap = loadGradeLevelDescriptorsMap();
-        tppDegreeTypeDescriptorMap = loadTppDegreeTypeDescriptorsMap();
-        sexDescriptorMap = loadSexDescriptorsMap();
-        existingTeacherCandidateMap = loadExistingTeacherCandidateMap();
+        columnBindings = compileColumnBindings();
+        resourceMappings = compileResourceMappings(response);
+        fingerprintStore.load();
+        planExtraction(response);
+
+        // existing teacher candidates are scanned while the descriptors load
+        tokenManager.getToken();
+        CompletableFuture<ResourceKeyMap> existingTeacherCandidates = incrementalRun
+                ? CompletableFuture.completedFuture(new ResourceKeyMap())
+                : reconciliationService.scanKeys(TEACHER_CANDIDATES_PATH, TEACHER_CANDIDATE_KEY_FIELD);
+
+        Set<Class<?>> descriptorClasses = new LinkedHashSet<>(Arrays.asList(EdFiAddressTypeDescriptor.class,
+                EdFiLocaleDescriptor.class, EdFiStateAbbreviationDescriptor.class, EdFiAcademicSubjectDescriptor.class,
+                EdFiGradeLevelDescriptor.class, TpdmTppDegreeTypeDescriptor.class, EdFiSexDescriptor.class));
+        resourceMappings.forEach(mapping -> descriptorClasses.addAll(mapping.getDescriptorClasses()));
+        descriptorCacheService.preload(descriptorClasses);
+
+        existingTeacherCandidateMap = asyncApiClient.await(existingTeacherCandidates);
+        existingTeacherCandidateCount = existingTeacherCandidateMap.size();
     }
 
-    private void processTeacherCandidate(SisConnectorResponse response) throws AuthenticationException, ApiException {
-        int upsertCount = 0;
+    /**
+     * Chooses between a full and an incremental run. An incremental run extracts only the ids whose activity date
+     * is after the watermark of the last successful run; a full run is made when there is no watermark yet or the
+     * last full run is extraction.full.run.interval.days old.
+     */
+    private void planExtraction(SisConnectorResponse response) throws SQLException {
+        incrementalRun = false;
+        watermarkFrom = null;
+        if (isIncrementalExtraction()) {
+            if (!sqlMap.containsKey(WATERMARK_SQL_NAME)
+                    || !dao.hasWatermarkPlaceholder(sqlMap.get(TEACHER_CANDIDATE_IDS_SQL_NAME))) {
+                throw new SQLException("Incremental extraction requires " + WATERMARK_SQL_NAME + ".sql and the " +
+                        Dao.WATERMARK_PLACEHOLDER + " placeholder in " + TEACHER_CANDIDATE_IDS_SQL_NAME + ".sql");
+            }
+            if (EXTRACTION_MODE_SET.equalsIgnoreCase(extractionMode)
+                    && !dao.hasStudentUniqueIdsPlaceholder(sqlMap.get(TEACHER_CANDIDATE_SQL_NAME))) {
+                throw new SQLException("Incremental extraction in set mode requires the " +
+                        Dao.STUDENT_UNIQUE_IDS_PLACEHOLDER + " placeholder");
+            }
+            watermarkStore.load();
+            DateTime lastFullRun = watermarkStore.getLastFullRun();
+            boolean fullRunDue = lastFullRun == null || !lastFullRun.plusDays(fullRunIntervalDays).isAfterNow();
+            incrementalRun = watermarkStore.getWatermark() != null && !fullRunDue;
+            watermarkFrom = incrementalRun ? watermarkStore.getWatermark() : null;
+        }
+        response.setRunMode(incrementalRun ? RUN_MODE_INCREMENTAL : RUN_MODE_FULL);
+        response.setWatermarkFrom(watermarkFrom);
+    }
 
-        List<String> studentUniqueIds = retrieveStudentUniqueIds();
+    /**
+     * Moves the watermark forward after a run without errors. A run with failed uploads keeps the old watermark so
+     * that the failed records are extracted again.
+     */
+    private void recordWatermark(SisConnectorResponse response, DateTime startTime) {
+        if (!response.getErrors().isEmpty()) {
+            return;
+        }
+        Timestamp watermark = watermarkTo != null ? watermarkTo : watermarkFrom;
+        watermarkStore.save(watermark, incrementalRun ? watermarkStore.getLastFullRun() : startTime);
+    }
 
-        for (String studentUniqueId : studentUniqueIds) {
-            TpdmTeacherCandidate teacherCandidate = retrieveTeacherCandidate(studentUniqueId);
-            List<TpdmTeacherCandidateAddress> teacherCandidateAddresses = retrieveTeacherCandidateAddresses(studentUniqueId);
-            teacherCandidate.setAddresses(teacherCandidateAddresses);
+    private void processTeacherCandidate(SisConnectorResponse response)
+            throws AuthenticationException, ApiException, SQLException, InterruptedException {
+        teacherCandidatesSkipped = false;
+        if (stagedFileSource.isEnabled()) {
+            String reason = ObjectUtils.firstNonNull(
+                    stagedFileSource.getSkipReason(sqlMap.get(TEACHER_CANDIDATE_SQL_NAME)),
+                    stagedFileSource.getSkipReason(sqlMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME)));
+            if (reason != null) {
+                response.addWarning("Replay of teacher candidates and their deletes skipped, " + reason);
+                teacherCandidatesSkipped = true;
+                return;
+            }
+        }
+        UploadPipeline<TpdmTeacherCandidate> pipeline = new UploadPipeline<>("Upload", uploadWorkers,
+                uploadQueueCapacity, uploadMaxInFlight, TpdmTeacherCandidate::getTeacherCandidateIdentifier,
+                teacherCandidate -> upsertTeacherCandidate(teacherCandidate, response));
+        try {
             try {
-                saveTeacherCandidate(teacherCandidate);
-                existingTeacherCandidateMap.remove(teacherCandidate.getTeacherCandidateIdentifier());
-                upsertCount++;
-            } catch (ApiException ae) {
-                response.addError(teacherCandidate.toString() + String.format("%n") + ae.getResponseBody());
+                List<Partition> partitions = !stagedFileSource.isEnabled()
+                        && EXTRACTION_MODE_SET.equalsIgnoreCase(extractionMode) ? planPartitions() : null;
+                if (stagedFileSource.isEnabled()) {
+                    try (RowCursor candidates = stagedFileSource.openCursor(TEACHER_CANDIDATE_SQL_NAME);
+                         RowCursor addresses = stagedFileSource.openCursor(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME)) {
+                        mergeTeacherCandidates(candidates, addresses, pipeline);
+                    }
+                } else if (partitions != null) {
+                    extractTeacherCandidatePartitions(partitions, pipeline, response);
+                } else if (EXTRACTION_MODE_SET.equalsIgnoreCase(extractionMode)) {
+                    List<List<String>> chunks = retrieveStudentUniqueIdChunks();
+                    // every chunk holds two connections at once, one per cursor
+                    int parallelism = Math.min(extractionParallelism, dao.getPoolSize() / 2);
+                    if (parallelism > 1 && chunks.size() > 1) {
+                        extractTeacherCandidateChunksInParallel(chunks, parallelism, pipeline);
+                    } else {
+                        for (List<String> chunk : chunks) {
+                            streamTeacherCandidates(sqlMap.get(TEACHER_CANDIDATE_SQL_NAME),
+                                    sqlMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME), chunk, pipeline);
+                        }
+                    }
+                } else {
+                    List<String> studentUniqueIds = retrieveStudentUniqueIds();
+
+                    try (StatementCache statements = dao.openStatementCache()) {
+                        try {
+                            for (String studentUniqueId : studentUniqueIds) {
+                                TpdmTeacherCandidate teacherCandidate = retrieveTeacherCandidate(statements, studentUniqueId);
+                                List<TpdmTeacherCandidateAddress> teacherCandidateAddresses = retrieveTeacherCandidateAddresses(statements, studentUniqueId);
+                                teacherCandidate.setAddresses(teacherCandidateAddresses);
+                                submitTeacherCandidate(pipeline, teacherCandidate);
+                            }
+                        } finally {
+                            response.addMetrics(statements.getMetrics());
+                        }
+                    }
+                }
+            } catch (CancellationException e) {
+                // the pipeline stopped on a fatal upload error, which awaitUploads rethrows
+            }
+            awaitUploads(pipeline);
+        } finally {
+            pipeline.close();
+            response.setUpsertCount(pipeline.getSucceededCount());
+            response.setNewCount(newCount.get());
+            response.setChangedCount(changedCount.get());
+            response.setSkippedCount(skippedCount.get());
+            response.addMetrics(pipeline.getMetrics());
+        }
+    }
+
+    /**
+     * Queues the teacher candidate for upload unless it is unchanged since it was last posted and still exists in
+     * the ODS. A skipped candidate is taken out of the existing ones so that it is not deleted. An incremental run
+     * scans no existing keys and deletes nothing, so there an unchanged candidate is skipped on its fingerprint alone.
+     */
+    private void submitTeacherCandidate(UploadPipeline<TpdmTeacherCandidate> pipeline, TpdmTeacherCandidate teacherCandidate)
+            throws InterruptedException {
+        if (fingerprintStore.isEnabled() && saveToTPDM) {
+            String key = teacherCandidate.getTeacherCandidateIdentifier();
+            FingerprintStore.Status status = fingerprintStore.stage(key, apiClient.getJSON().serialize(teacherCandidate));
+            if (status == FingerprintStore.Status.UNCHANGED
+                    && (incrementalRun || existingTeacherCandidateMap.remove(key))) {
+                skippedCount.incrementAndGet();
+                return;
+            }
+            if (status == FingerprintStore.Status.CHANGED) {
+                changedCount.incrementAndGet();
+            } else {
+                newCount.incrementAndGet();
+            }
+        }
+        pipeline.submit(teacherCandidate);
+    }
+
+    /**
+     * Extracts the resources of each compiled column map from its SQL, which may use the {watermark} placeholder
+     * like teacherCandidateIds.sql, and posts them to the path of the map.
+     */
+    private void processMappedResources(SisConnectorResponse response)
+            throws AuthenticationException, ApiException, SQLException, InterruptedException {
+        for (ResourceMapping mapping : resourceMappings) {
+            String skipReason = stagedFileSource.isEnabled()
+                    ? stagedFileSource.getSkipReason(sqlMap.get(mapping.getName())) : null;
+            if (skipReason != null) {
+                response.addWarning("Replay of " + mapping.getName() + " skipped, " + skipReason);
+                continue;
+            }
+            UploadPipeline<Object> pipeline = new UploadPipeline<>(mapping.getName() + " Upload", uploadWorkers,
+                    uploadQueueCapacity, uploadMaxInFlight, mapping::getKey,
+                    resource -> upsertResource(mapping, resource, response));
+            try {
+                try (RowCursor cursor = stagedFileSource.isEnabled()
+                        ? stagedFileSource.openCursor(mapping.getName())
+                        : dao.openWatermarkCursor(sqlMap.get(mapping.getName()), watermarkFrom)) {
+                    mapping.mapRows(cursor, pipeline::submit);
+                } catch (CancellationException e) {
+                    // the pipeline stopped on a fatal upload error, which awaitUploads rethrows
+                }
+                awaitUploads(pipeline);
+            } finally {
+                pipeline.close();
+                response.addMetrics(pipeline.getMetrics());
+            }
+        }
+    }
+
+    private boolean upsertResource(ResourceMapping mapping, Object resource, SisConnectorResponse response)
+            throws AuthenticationException {
+        if (!saveToTPDM) {
+            return true;
+        }
+        try {
+            tokenManager.getToken();
+            asyncApiClient.await(asyncApiClient.post(mapping.getPath(), resource));
+            return true;
+        } catch (ApiException ae) {
+            response.addError(mapping.getName() + " " + resource + String.format("%n") + ae.getResponseBody());
+            return false;
+        }
+    }
+
+    private void awaitUploads(UploadPipeline<?> pipeline) throws AuthenticationException, ApiException, InterruptedException {
+        try {
+            pipeline.awaitCompletion();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AuthenticationException) {
+                throw (AuthenticationException) e.getCause();
+            }
+            if (e.getCause() instanceof ApiException) {
+                throw (ApiException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean upsertTeacherCandidate(TpdmTeacherCandidate teacherCandidate, SisConnectorResponse response) throws AuthenticationException {
+        try {
+            saveTeacherCandidate(teacherCandidate);
+            existingTeacherCandidateMap.remove(teacherCandidate.getTeacherCandidateIdentifier());
+            if (saveToTPDM) {
+                fingerprintStore.commit(teacherCandidate.getTeacherCandidateIdentifier());
             }
+            return true;
+        } catch (ApiException ae) {
+            response.addError(teacherCandidate.toString() + String.format("%n") + ae.getResponseBody());
+            return false;
         }
-        response.setUpsertCount(upsertCount);
     }
 
     private void saveTeacherCandidate(TpdmTeacherCandidate teacherCandidate) throws AuthenticationException, ApiException {
@@ -182,219 +544,317 @@ public class SisConnectorService {
         }
 
         if (saveToTPDM) {
-            try {
-                TeacherCandidatesApi teacherCandidatesApi = new TeacherCandidatesApi(apiClient);
-                teacherCandidatesApi.postTeacherCandidate(teacherCandidate);
-                existingTeacherCandidateMap.remove(teacherCandidate.getTeacherCandidateIdentifier());
-            } catch (ApiException ae) {
-                if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                    apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                    TeacherCandidatesApi teacherCandidatesApi = new TeacherCandidatesApi(apiClient);
-                    teacherCandidatesApi.postTeacherCandidate(teacherCandidate);
-                } else {
-                    throw ae;
-                }
-            }
+            TeacherCandidatesApi teacherCandidatesApi = apiRegistry.get(TeacherCandidatesApi.class);
+            tokenManager.getToken();
+            asyncApiClient.await(asyncApiClient.<Void>submitWrite(
+                    callback -> teacherCandidatesApi.postTeacherCandidateAsync(teacherCandidate, callback)));
+            existingTeacherCandidateMap.remove(teacherCandidate.getTeacherCandidateIdentifier());
         }
     }
 
-    private List<String> retrieveStudentUniqueIds() {
-        boolean firstRow = true;
-        int studentUniqueIdIndex = 0;
+    private List<String> retrieveStudentUniqueIds() throws SQLException {
         List<String> studentUniqueIds = new ArrayList<>();
 
-        List<List<String>> result = dao.makeSqlCall(sqlMap.get(TEACHER_CANDIDATE_IDS_SQL_NAME));
-        for (List<String> row : result) {
-            if (firstRow) {
-                int currentIndex = 0;
-                for (String header : row) {
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_IDS_SQL_NAME).get("studentUniqueId"))) {
-                        studentUniqueIdIndex = currentIndex;
-                    }
-                    currentIndex++;
+        try (RowCursor cursor = dao.openWatermarkCursor(sqlMap.get(TEACHER_CANDIDATE_IDS_SQL_NAME), watermarkFrom)) {
+            int studentUniqueIdIndex = Math.max(0,
+                    columnBindings.get(TEACHER_CANDIDATE_IDS_SQL_NAME).bind(cursor).index("studentUniqueId"));
+            while (cursor.next()) {
+                String studentUniqueId = cursor.getString(studentUniqueIdIndex);
+                if (studentUniqueId != null) {
+                    studentUniqueIds.add(studentUniqueId);
                 }
-                firstRow = false;
-            } else {
-                studentUniqueIds.add(row.get(studentUniqueIdIndex));
             }
         }
         return studentUniqueIds;
     }
 
-    private TpdmTeacherCandidate retrieveTeacherCandidate(String studentUniqueId) {
-        boolean firstRow = true;
-        int teacherCandidateIdIndex = -1;
-        int firstNameIndex = -1;
-        int middleNameIndex = -1;
-        int lastNameIndex = -1;
-        int birthDateIndex = -1;
-        int academicSubjectDescriptorIndex = -1;
-        int gradeLevelDescriptorIndex = -1;
-        int tppDegreeTypeDescriptorIndex = -1;
-        int studentUniqueIdIndex = -1;
-        int sexIndex = -1;
+    /**
+     * Splits the teacher candidate ids into chunks for set-based extraction. When the mapped SQL does not use the
+     * {studentUniqueIds} placeholder, a single null chunk is returned and each SQL file is run once.
+     */
+    private List<List<String>> retrieveStudentUniqueIdChunks() throws SQLException {
+        boolean candidateChunked = dao.hasStudentUniqueIdsPlaceholder(sqlMap.get(TEACHER_CANDIDATE_SQL_NAME));
+        boolean addressesChunked = dao.hasStudentUniqueIdsPlaceholder(sqlMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME));
+        if (candidateChunked != addressesChunked) {
+            throw new SQLException("Set-based extraction requires both " + TEACHER_CANDIDATE_SQL_NAME + " and " +
+                    TEACHER_CANDIDATE_ADDRESSES_SQL_NAME + " to either use or omit the " +
+                    Dao.STUDENT_UNIQUE_IDS_PLACEHOLDER + " placeholder");
+        }
 
-        TpdmTeacherCandidate teacherCandidate = null;
+        List<List<String>> chunks = new ArrayList<>();
+        if (!candidateChunked) {
+            chunks.add(null);
+            return chunks;
+        }
 
-        List<List<String>> result = dao.makeSqlCall(sqlMap.get(TEACHER_CANDIDATE_SQL_NAME), studentUniqueId);
-        for (List<String> row : result) {
-            if (firstRow) {
-                int currentIndex = 0;
-                for (String header : row) {
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_SQL_NAME).get("teacherCandidateId"))) {
-                        teacherCandidateIdIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_SQL_NAME).get("firstName"))) {
-                        firstNameIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_SQL_NAME).get("middleName"))) {
-                        middleNameIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_SQL_NAME).get("lastName"))) {
-                        lastNameIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_SQL_NAME).get("birthDate"))) {
-                        birthDateIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_SQL_NAME).get("academicSubjectDescriptor"))) {
-                        academicSubjectDescriptorIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_SQL_NAME).get("gradeLevelDescriptor"))) {
-                        gradeLevelDescriptorIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_SQL_NAME).get("tppDegreeTypeDescriptor"))) {
-                        tppDegreeTypeDescriptorIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_SQL_NAME).get("studentUniqueId"))) {
-                        studentUniqueIdIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get("teacherCandidate").get("sex"))) {
-                        sexIndex = currentIndex;
+        List<String> studentUniqueIds = retrieveStudentUniqueIds();
+        int chunkSize = Math.max(1, extractionChunkSize);
+        for (int i = 0; i < studentUniqueIds.size(); i += chunkSize) {
+            chunks.add(studentUniqueIds.subList(i, Math.min(i + chunkSize, studentUniqueIds.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Extracts up to the given number of chunks at once, each on its own pooled connections, feeding the candidates
+     * straight into the upload pipeline.
+     */
+    private void extractTeacherCandidateChunksInParallel(List<List<String>> chunks, int parallelism,
+                                                         UploadPipeline<TpdmTeacherCandidate> pipeline)
+            throws SQLException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> extractions = new ArrayList<>();
+            for (List<String> chunk : chunks) {
+                extractions.add(executor.submit(() -> streamTeacherCandidates(sqlMap.get(TEACHER_CANDIDATE_SQL_NAME),
+                        sqlMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME), chunk, pipeline)));
+            }
+            for (Future<?> extraction : extractions) {
+                awaitChunk(extraction);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Splits the population into extraction.partitions slices when both set-based SQL files use the partition
+     * placeholders, or returns null to extract without partitions. The {partitionLow} and {partitionHigh} range
+     * placeholders need partitionBounds.sql, which selects the lowest and highest id.
+     */
+    private List<Partition> planPartitions() throws SQLException {
+        String candidateSql = sqlMap.get(TEACHER_CANDIDATE_SQL_NAME);
+        String addressesSql = sqlMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME);
+        boolean candidatePartitioned = dao.hasPartitionPlaceholder(candidateSql);
+        if (candidatePartitioned != dao.hasPartitionPlaceholder(addressesSql)) {
+            throw new SQLException("Partitioned extraction requires both " + TEACHER_CANDIDATE_SQL_NAME + " and " +
+                    TEACHER_CANDIDATE_ADDRESSES_SQL_NAME + " to either use or omit the partition placeholders");
+        }
+        if (!candidatePartitioned) {
+            return null;
+        }
+        if (dao.hasStudentUniqueIdsPlaceholder(candidateSql)) {
+            throw new SQLException("The partition placeholders cannot be combined with the " +
+                    Dao.STUDENT_UNIQUE_IDS_PLACEHOLDER + " placeholder");
+        }
+
+        int count = Math.max(1, extractionPartitions);
+        if (!dao.hasPartitionRangePlaceholder(candidateSql) && !dao.hasPartitionRangePlaceholder(addressesSql)) {
+            return Partition.modulo(count);
+        }
+        if (!sqlMap.containsKey(PARTITION_BOUNDS_SQL_NAME)) {
+            throw new SQLException("The " + Dao.PARTITION_LOW_PLACEHOLDER + " and " + Dao.PARTITION_HIGH_PLACEHOLDER +
+                    " placeholders require " + PARTITION_BOUNDS_SQL_NAME + ".sql");
+        }
+        long[] bounds = dao.queryBounds(sqlMap.get(PARTITION_BOUNDS_SQL_NAME));
+        return bounds != null ? Partition.split(count, bounds[0], bounds[1]) : new ArrayList<>();
+    }
+
+    /**
+     * Extracts up to extraction.parallelism partitions at once, as many as the pool has connections for, each with its
+     * own pair of cursors feeding the same upload pipeline. The candidates and time of every partition are added to
+     * the report.
+     */
+    private void extractTeacherCandidatePartitions(List<Partition> partitions, UploadPipeline<TpdmTeacherCandidate> pipeline,
+                                                   SisConnectorResponse response)
+            throws SQLException, InterruptedException {
+        // every partition holds two connections at once, one per cursor
+        int parallelism = Math.max(1, Math.min(partitions.size(),
+                Math.min(extractionParallelism, dao.getPoolSize() / 2)));
+        long[] partitionMillis = new long[partitions.size()];
+        List<Future<Integer>> extractions = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (Partition partition : partitions) {
+                extractions.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        return streamTeacherCandidates(partition.bind(sqlMap.get(TEACHER_CANDIDATE_SQL_NAME)),
+                                partition.bind(sqlMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME)), null, pipeline);
+                    } finally {
+                        partitionMillis[partition.getIndex()] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
                     }
-                    currentIndex++;
+                }));
+            }
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("Partitions", partitions.size());
+            metrics.put("Partition Parallelism", parallelism);
+            try {
+                for (int i = 0; i < extractions.size(); i++) {
+                    metrics.put("Partition " + i + " Candidates", awaitChunk(extractions.get(i)));
+                    metrics.put("Partition " + i + " Time (ms)", partitionMillis[i]);
                 }
-                firstRow = false;
-            } else {
-                String teacherCandidateId = getString(teacherCandidateIdIndex, row);
-                String firstName = getString(firstNameIndex, row);
-                String middleName = getString(middleNameIndex, row);
-                String lastName = getString(lastNameIndex, row);
-                String birthDate = getString(birthDateIndex, row);
-                String academicSubjectDescriptor = getString(academicSubjectDescriptorIndex, row);
-                String gradeLevelDescriptor = getString(gradeLevelDescriptorIndex, row);
-                String tppDegreeTypeDescriptor = getString(tppDegreeTypeDescriptorIndex, row);
-                String studentId = getString(studentUniqueIdIndex, row);
-                String sex = getString(sexIndex, row);
-
-                teacherCandidate = createTeacherCandidate(teacherCandidateId, firstName, middleName, lastName,
-                        birthDate, academicSubjectDescriptor, gradeLevelDescriptor, tppDegreeTypeDescriptor,
-                        studentId, sex);
+            } finally {
+                response.addMetrics(metrics);
             }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> T awaitChunk(Future<T> chunk) throws SQLException, InterruptedException {
+        try {
+            return chunk.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SQLException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Streams the teacher candidates, with their addresses, for a chunk of ids from one cursor per SQL file and submits
+     * each one for upload as soon as it is complete. Both result sets must be ordered by studentUniqueId so the rows
+     * can be grouped with a single merge pass.
+     *
+     * @return the number of teacher candidates extracted
+     */
+    private int streamTeacherCandidates(String candidateSql, String addressesSql, List<String> studentUniqueIds,
+                                        UploadPipeline<TpdmTeacherCandidate> pipeline)
+            throws SQLException, InterruptedException {
+        try (RowCursor candidates = dao.openCursor(candidateSql, studentUniqueIds);
+             RowCursor addresses = dao.openCursor(addressesSql, studentUniqueIds)) {
+            return mergeTeacherCandidates(candidates, addresses, pipeline);
         }
-        return teacherCandidate;
     }
 
-    private List<TpdmTeacherCandidateAddress> retrieveTeacherCandidateAddresses (String studentUniqueId) {
-        boolean firstRow = true;
-        int addressTypeDescriptorIndex = -1;
-        int localDescriptorIndex = -1;
-        int stateAbbreviationDescriptorIndex = -1;
-        int apartmentRoomSuiteNumberIndex = -1;
-        int buildingSiteNumberIndex = -1;
-        int cityIndex = -1;
-        int congressionalDistrictIndex = -1;
-        int countyFIPSCodeIndex = -1;
-        int doNotPublishIndicatorIndex = -1;
-        int nameOfCountyIndex = -1;
-        int postalCodeIndex = -1;
-        int streetNumberNameIndex = -1;
-        int periodBeginDateIndex = -1;
-        int periodEndDateIndex = -1;
+    /**
+     * Groups the address rows with their candidate row in a single pass over both cursors, which must be ordered by
+     * studentUniqueId, and submits each candidate as soon as its addresses are read.
+     *
+     * @return the number of teacher candidates extracted
+     */
+    private int mergeTeacherCandidates(RowCursor candidates, RowCursor addresses,
+                                       UploadPipeline<TpdmTeacherCandidate> pipeline)
+            throws SQLException, InterruptedException {
+        ColumnBinding candidateColumns = columnBindings.get(TEACHER_CANDIDATE_SQL_NAME).bind(candidates);
+        ColumnBinding addressColumns = columnBindings.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).bind(addresses);
+        return SortedMerge.<TpdmTeacherCandidate, TpdmTeacherCandidateAddress>merge("studentUniqueId",
+                candidates, candidateColumns.index("studentUniqueId"),
+                addresses, addressColumns.index("studentUniqueId"),
+                cursor -> mapTeacherCandidate(candidateColumns, cursor),
+                (teacherCandidateAddresses, cursor) ->
+                        addTeacherAddress(teacherCandidateAddresses, mapTeacherCandidateAddress(addressColumns, cursor)),
+                (teacherCandidate, teacherCandidateAddresses) -> {
+                    teacherCandidate.setAddresses(teacherCandidateAddresses);
+                    submitTeacherCandidate(pipeline, teacherCandidate);
+                });
+    }
+
+    private TpdmTeacherCandidate retrieveTeacherCandidate(StatementCache statements, String studentUniqueId) throws SQLException {
+        TpdmTeacherCandidate teacherCandidate = null;
+
+        try (RowCursor cursor = statements.openCursor(TEACHER_CANDIDATE_SQL_NAME, sqlMap.get(TEACHER_CANDIDATE_SQL_NAME), studentUniqueId)) {
+            ColumnBinding columns = columnBindings.get(TEACHER_CANDIDATE_SQL_NAME).bind(cursor);
+            while (cursor.next()) {
+                teacherCandidate = mapTeacherCandidate(columns, cursor);
+            }
+        }
+        return teacherCandidate;
+    }
 
+    private List<TpdmTeacherCandidateAddress> retrieveTeacherCandidateAddresses (StatementCache statements, String studentUniqueId) throws SQLException {
         List<TpdmTeacherCandidateAddress> teacherCandidateAddresses = new ArrayList<>();
 
-        List<List<String>> result = dao.makeSqlCall(sqlMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME),studentUniqueId);
-        for (List<String> row : result) {
-            if (firstRow) {
-                int currentIndex = 0;
-                for (String header : row) {
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("addressTypeDescriptor"))) {
-                        addressTypeDescriptorIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("localDescriptor"))) {
-                        localDescriptorIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("stateAbbreviationDescriptor"))) {
-                        stateAbbreviationDescriptorIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("apartmentRoomSuiteNumber"))) {
-                        apartmentRoomSuiteNumberIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("buildingSiteNumber"))) {
-                        buildingSiteNumberIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("city"))) {
-                        cityIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("congressionalDistrict"))) {
-                        congressionalDistrictIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("countyFIPSCode"))) {
-                        countyFIPSCodeIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("doNotPublishIndicator"))) {
-                        doNotPublishIndicatorIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("nameOfCounty"))) {
-                        nameOfCountyIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("postalCode"))) {
-                        postalCodeIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("streetNumberName"))) {
-                        streetNumberNameIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("periodBeginDate"))) {
-                        periodBeginDateIndex = currentIndex;
-                    }
-                    if (StringUtils.equalsAnyIgnoreCase(header, columnsMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).get("periodEndDate"))) {
-                        periodEndDateIndex = currentIndex;
-                    }
-                    currentIndex++;
-                }
-                firstRow = false;
-            } else {
-                String addressTypeDescriptor = getString(addressTypeDescriptorIndex, row);
-                String localDescriptor = getString(localDescriptorIndex, row);
-                String stateAbbreviationDescriptor = getString(stateAbbreviationDescriptorIndex, row);
-                String apartmentRoomSuiteNumber = getString(apartmentRoomSuiteNumberIndex, row);
-                String buildingSiteNumber = getString(buildingSiteNumberIndex, row);
-                String city = getString(cityIndex, row);
-                String congressionalDistrict = getString(congressionalDistrictIndex, row);
-                String countyFIPSCode = getString(countyFIPSCodeIndex, row);
-                String doNotPublishIndicator = getString(doNotPublishIndicatorIndex, row);
-                String nameOfCounty = getString(nameOfCountyIndex, row);
-                String postalCode = getString(postalCodeIndex, row);
-                String streetNumberName = getString(streetNumberNameIndex, row);
-                String periodBeginDate = getString(periodBeginDateIndex, row);
-                String periodEndDate = getString(periodEndDateIndex, row);
-
-                TpdmTeacherCandidateAddress teacherCandidateAddress = createTeacherCandidateAddress(
-                        addressTypeDescriptor, localDescriptor, stateAbbreviationDescriptor, apartmentRoomSuiteNumber,
-                        buildingSiteNumber, city, congressionalDistrict, countyFIPSCode, doNotPublishIndicator,
-                        nameOfCounty, postalCode, streetNumberName, periodBeginDate, periodEndDate);
-                addTeacherAddress(teacherCandidateAddresses, teacherCandidateAddress);
+        try (RowCursor cursor = statements.openCursor(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME, sqlMap.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME), studentUniqueId)) {
+            ColumnBinding columns = columnBindings.get(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME).bind(cursor);
+            while (cursor.next()) {
+                addTeacherAddress(teacherCandidateAddresses, mapTeacherCandidateAddress(columns, cursor));
             }
         }
         return teacherCandidateAddresses;
     }
 
+    /**
+     * Compiles the column map of each SQL file read by a mapper into a binding plan, checking its fields against the
+     * ones the mapper reads.
+     */
+    private Map<String, ColumnBinding> compileColumnBindings() {
+        Map<String, ColumnBinding> bindings = new LinkedHashMap<>();
+        bindings.put(TEACHER_CANDIDATE_IDS_SQL_NAME, compileColumnBinding(TEACHER_CANDIDATE_IDS_SQL_NAME, TEACHER_CANDIDATE_IDS_FIELDS));
+        bindings.put(TEACHER_CANDIDATE_SQL_NAME, compileColumnBinding(TEACHER_CANDIDATE_SQL_NAME, TEACHER_CANDIDATE_FIELDS));
+        bindings.put(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME,
+                compileColumnBinding(TEACHER_CANDIDATE_ADDRESSES_SQL_NAME, TEACHER_CANDIDATE_ADDRESSES_FIELDS));
+        return bindings;
+    }
+
+    private ColumnBinding compileColumnBinding(String sqlName, List<String> fields) {
+        return new ColumnBinding(sqlName, columnsMap.getOrDefault(sqlName, Collections.emptyMap()), fields);
+    }
+
+    /**
+     * Compiles every column map with a @class directive into a mapper for the SQL file of the same name. A map that
+     * cannot be compiled or has no SQL file is reported and left out.
+     */
+    private List<ResourceMapping> compileResourceMappings(SisConnectorResponse response) {
+        List<ResourceMapping> mappings = new ArrayList<>();
+        for (Map.Entry<String, Map<String, String>> columnMap : new TreeMap<>(columnsMap).entrySet()) {
+            if (!ResourceMapping.isResourceMap(columnMap.getValue())) {
+                continue;
+            }
+            if (!sqlMap.containsKey(columnMap.getKey())) {
+                response.addWarning("Column map " + columnMap.getKey() + " has no " + columnMap.getKey() + ".sql and is ignored");
+                continue;
+            }
+            try {
+                mappings.add(new ResourceMapping(columnMap.getKey(), columnMap.getValue(),
+                        descriptorCacheService::getDescriptorUri));
+            } catch (IllegalArgumentException e) {
+                response.addWarning(e.getMessage());
+            }
+        }
+        return mappings;
+    }
+
+    private TpdmTeacherCandidate mapTeacherCandidate(ColumnBinding columns, RowCursor row) {
+        String teacherCandidateId = row.getString(columns.index("teacherCandidateId"));
+        String firstName = row.getString(columns.index("firstName"));
+        String middleName = row.getString(columns.index("middleName"));
+        String lastName = row.getString(columns.index("lastName"));
+        LocalDate birthDate = row.getLocalDate(columns.index("birthDate"));
+        String academicSubjectDescriptor = row.getString(columns.index("academicSubjectDescriptor"));
+        String gradeLevelDescriptor = row.getString(columns.index("gradeLevelDescriptor"));
+        String tppDegreeTypeDescriptor = row.getString(columns.index("tppDegreeTypeDescriptor"));
+        String studentId = row.getString(columns.index("studentUniqueId"));
+        String sex = row.getString(columns.index("sex"));
+
+        return createTeacherCandidate(teacherCandidateId, firstName, middleName, lastName,
+                birthDate, academicSubjectDescriptor, gradeLevelDescriptor, tppDegreeTypeDescriptor,
+                studentId, sex);
+    }
+
+    private TpdmTeacherCandidateAddress mapTeacherCandidateAddress(ColumnBinding columns, RowCursor row) {
+        String addressTypeDescriptor = row.getString(columns.index("addressTypeDescriptor"));
+        String localDescriptor = row.getString(columns.index("localDescriptor"));
+        String stateAbbreviationDescriptor = row.getString(columns.index("stateAbbreviationDescriptor"));
+        String apartmentRoomSuiteNumber = row.getString(columns.index("apartmentRoomSuiteNumber"));
+        String buildingSiteNumber = row.getString(columns.index("buildingSiteNumber"));
+        String city = row.getString(columns.index("city"));
+        String congressionalDistrict = row.getString(columns.index("congressionalDistrict"));
+        String countyFIPSCode = row.getString(columns.index("countyFIPSCode"));
+        Boolean doNotPublishIndicator = row.getBoolean(columns.index("doNotPublishIndicator"));
+        String nameOfCounty = row.getString(columns.index("nameOfCounty"));
+        String postalCode = row.getString(columns.index("postalCode"));
+        String streetNumberName = row.getString(columns.index("streetNumberName"));
+        LocalDate periodBeginDate = row.getLocalDate(columns.index("periodBeginDate"));
+        LocalDate periodEndDate = row.getLocalDate(columns.index("periodEndDate"));
+
+        return createTeacherCandidateAddress(
+                addressTypeDescriptor, localDescriptor, stateAbbreviationDescriptor, apartmentRoomSuiteNumber,
+                buildingSiteNumber, city, congressionalDistrict, countyFIPSCode, doNotPublishIndicator,
+                nameOfCounty, postalCode, streetNumberName, periodBeginDate, periodEndDate);
+    }
+
     private void addTeacherAddress(List<TpdmTeacherCandidateAddress> list, TpdmTeacherCandidateAddress newAddress) {
         for (TpdmTeacherCandidateAddress address: list) {
-            if (address.getStreetNumberName().equals(newAddress.getStreetNumberName()) &&
-                    address.getCity().equals(newAddress.getCity()) &&
-                    address.getStateAbbreviationDescriptor().equals(newAddress.getStateAbbreviationDescriptor()) &&
-                    address.getPostalCode().equals(newAddress.getPostalCode()) ) {
+            if (Objects.equals(address.getStreetNumberName(), newAddress.getStreetNumberName()) &&
+                    Objects.equals(address.getCity(), newAddress.getCity()) &&
+                    Objects.equals(address.getStateAbbreviationDescriptor(), newAddress.getStateAbbreviationDescriptor()) &&
+                    Objects.equals(address.getPostalCode(), newAddress.getPostalCode()) ) {
                 for (TpdmTeacherCandidateAddressPeriod period : address.getPeriods()) {
                     if (newAddress.getPeriods().get(0).equals(period)){
                         return;
@@ -408,7 +868,7 @@ public class SisConnectorService {
     }
 
     private TpdmTeacherCandidate createTeacherCandidate(String teacherCandidateId, String firstName, String middleName,
-                                                        String lastName, String birthDate, String academicSubject,
+                                                        String lastName, LocalDate birthDate, String academicSubject,
                                                         String gradeLevel, String degreeType, String studentId,
                                                         String sex) {
         TpdmTeacherCandidate teacherCandidate = new TpdmTeacherCandidate();
@@ -416,12 +876,12 @@ public class SisConnectorService {
         teacherCandidate.setFirstName(firstName);
         teacherCandidate.setLastSurname(lastName);
         teacherCandidate.setMiddleName(middleName);
-        teacherCandidate.setBirthDate(LocalDate.parse(birthDate));
+        teacherCandidate.setBirthDate(birthDate);
 
         TpdmTeacherCandidateTPPProgramDegree degree = new TpdmTeacherCandidateTPPProgramDegree();
-        degree.setAcademicSubjectDescriptor(getAcademicSubjectDescriptorUri(academicSubject));
-        degree.setGradeLevelDescriptor(getGradeLevelDescriptorUri(gradeLevel));
-        degree.setTppDegreeTypeDescriptor(getTppDegreeTypeDescriptorUri(degreeType));
+        degree.setAcademicSubjectDescriptor(descriptorCacheService.getDescriptorUri(EdFiAcademicSubjectDescriptor.class, academicSubject));
+        degree.setGradeLevelDescriptor(descriptorCacheService.getDescriptorUri(EdFiGradeLevelDescriptor.class, gradeLevel));
+        degree.setTppDegreeTypeDescriptor(descriptorCacheService.getDescriptorUri(TpdmTppDegreeTypeDescriptor.class, degreeType));
         List<TpdmTeacherCandidateTPPProgramDegree> degrees = new ArrayList<>();
         degrees.add(degree);
         teacherCandidate.setTppProgramDegrees(degrees);
@@ -429,282 +889,74 @@ public class SisConnectorService {
         EdFiStudentReference studentReference = new EdFiStudentReference();
         studentReference.setStudentUniqueId(studentId);
         teacherCandidate.setStudentReference(studentReference);
-        teacherCandidate.setSexDescriptor(getSexDescriptorUri(sex));
+        teacherCandidate.setSexDescriptor(descriptorCacheService.getDescriptorUri(EdFiSexDescriptor.class, sex));
         return teacherCandidate;
     }
 
     private TpdmTeacherCandidateAddress createTeacherCandidateAddress(String addressTypeDescriptor, String localDescriptor,
                 String stateAbbreviationDescriptor, String apartmentRoomSuiteNumber, String buildingSiteNumber, String city,
-                String congressionalDistrict, String countyFIPSCode, String doNotPublishIndicator, String nameOfCounty,
-                String postalCode, String streetNumberName, String periodBeginDate, String periodEndDate) {
+                String congressionalDistrict, String countyFIPSCode, Boolean doNotPublishIndicator, String nameOfCounty,
+                String postalCode, String streetNumberName, LocalDate periodBeginDate, LocalDate periodEndDate) {
 
         TpdmTeacherCandidateAddress address = new TpdmTeacherCandidateAddress();
-        address.setAddressTypeDescriptor(getAddressTypeDescriptorUri(addressTypeDescriptor));
-        address.setLocaleDescriptor(getLocaleDescriptorUri(localDescriptor));
-        address.stateAbbreviationDescriptor(getStateAbbreviationDescriptorUri(stateAbbreviationDescriptor));
+        address.setAddressTypeDescriptor(descriptorCacheService.getDescriptorUri(EdFiAddressTypeDescriptor.class, addressTypeDescriptor));
+        address.setLocaleDescriptor(descriptorCacheService.getDescriptorUri(EdFiLocaleDescriptor.class, localDescriptor));
+        address.stateAbbreviationDescriptor(descriptorCacheService.getDescriptorUri(EdFiStateAbbreviationDescriptor.class, stateAbbreviationDescriptor));
         address.setApartmentRoomSuiteNumber(apartmentRoomSuiteNumber);
         address.setBuildingSiteNumber(buildingSiteNumber);
         address.setCity(city);
         address.setCongressionalDistrict(congressionalDistrict);
         address.setCountyFIPSCode(countyFIPSCode);
-        address.setDoNotPublishIndicator(Boolean.valueOf(doNotPublishIndicator));
+        address.setDoNotPublishIndicator(doNotPublishIndicator);
         address.setNameOfCounty(nameOfCounty);
         address.setPostalCode(postalCode);
         address.setStreetNumberName(streetNumberName);
         TpdmTeacherCandidateAddressPeriod period = new TpdmTeacherCandidateAddressPeriod();
-        period.setBeginDate(LocalDate.parse(periodBeginDate));
-        period.setEndDate(LocalDate.parse(periodEndDate));
+        period.setBeginDate(periodBeginDate);
+        period.setEndDate(periodEndDate);
         List<TpdmTeacherCandidateAddressPeriod> periods = new ArrayList<>();
         periods.add(period);
         address.periods(periods);
         return address;
     }
 
+    /**
+     * Deletes the existing teacher candidates that were not extracted from Banner in this run, all at once. Nothing
+     * is deleted when they exceed reconciliation.delete.max.percent of the existing teacher candidates.
+     */
     private void removeDeletedTeacherCandidates(SisConnectorResponse response)  throws ApiException, AuthenticationException {
-        int deleteCount = 0;
-        for (String key : existingTeacherCandidateMap.keySet()) {
-            deleteTeacherCandidate(existingTeacherCandidateMap.get(key));
-            deleteCount++;
+        List<String> keys = new ArrayList<>(existingTeacherCandidateMap.keySet());
+        if (!reconciliationService.isWithinDeleteThreshold(keys.size(), existingTeacherCandidateCount)) {
+            response.addError(String.format("Deletes skipped: %d of %d existing teacher candidates were not extracted, "
+                    + "more than the %d%% allowed by reconciliation.delete.max.percent", keys.size(),
+                    existingTeacherCandidateCount, reconciliationService.getDeleteMaxPercent()));
+            return;
         }
-        response.setDeleteCount(deleteCount);
-    }
-
-    private void deleteTeacherCandidate(String id) throws ApiException, AuthenticationException {
-        if (saveToTPDM) {
-            try {
-                TeacherCandidatesApi teacherCandidatesApi = new TeacherCandidatesApi(apiClient);
-                teacherCandidatesApi.deleteTeacherCandidateById(id, null);
-            } catch (ApiException ae) {
-                if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                    apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                    TeacherCandidatesApi teacherCandidatesApi = new TeacherCandidatesApi(apiClient);
-                    teacherCandidatesApi.deleteTeacherCandidateById(id, null);
-                } else {
-                    throw ae;
-                }
-            }
+        if (!saveToTPDM) {
+            response.setDeleteCount(keys.size());
+            return;
         }
-    }
 
-    private Map<String, EdFiAddressTypeDescriptor> loadAddressTypeDescriptorsMap() throws ApiException, AuthenticationException {
-        List<EdFiAddressTypeDescriptor> list = null;
-        try {
-            AddressTypeDescriptorsApi addressTypeDescriptorsApi = new AddressTypeDescriptorsApi(apiClient);
-            list = addressTypeDescriptorsApi.getAddressTypeDescriptors(0, 100, false, null);
-        } catch (ApiException ae) {
-            if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                AddressTypeDescriptorsApi addressTypeDescriptorsApi = new AddressTypeDescriptorsApi(apiClient);
-                list = addressTypeDescriptorsApi.getAddressTypeDescriptors(0, 100, false, null);
-            } else {
-                throw ae;
-            }
-        }
-        Map<String, EdFiAddressTypeDescriptor> map = new HashMap<>();
-        for (EdFiAddressTypeDescriptor addressTypeDescriptor : list) {
-            map.put(addressTypeDescriptor.getCodeValue(), addressTypeDescriptor);
-        }
-        return map;
-    }
+        TeacherCandidatesApi teacherCandidatesApi = apiRegistry.get(TeacherCandidatesApi.class);
+        List<String> ids = new ArrayList<>(keys.size());
+        keys.forEach(key -> ids.add(existingTeacherCandidateMap.getId(key)));
+        tokenManager.getToken();
+        List<CompletableFuture<ApiResponse<Void>>> deletes = asyncApiClient.submitAll(ids,
+                id -> asyncApiClient.<Void>submitWrite(
+                        callback -> teacherCandidatesApi.deleteTeacherCandidateByIdAsync(id, null, callback)));
 
-    private String getAddressTypeDescriptorUri (String code) {
-        EdFiAddressTypeDescriptor addressTypeDescriptor = addressTypeDescriptorMap.get(code);
-        if (addressTypeDescriptor!=null) {
-            return addressTypeDescriptor.getNamespace() + "#" + code;
-        }
-        return code;
-    }
-
-    private Map<String, EdFiLocaleDescriptor> loadLocaleDescriptorsMap() throws ApiException, AuthenticationException {
-        List<EdFiLocaleDescriptor> list = null;
-        try {
-            LocaleDescriptorsApi localeDescriptorsApi = new LocaleDescriptorsApi(apiClient);
-            list = localeDescriptorsApi.getLocaleDescriptors(0, 100, false, null);
-        } catch (ApiException ae) {
-            if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                LocaleDescriptorsApi localeDescriptorsApi = new LocaleDescriptorsApi(apiClient);
-                list = localeDescriptorsApi.getLocaleDescriptors(0, 100, false, null);
-            } else {
-                throw ae;
-            }
-        }
-        Map<String, EdFiLocaleDescriptor> map = new HashMap<>();
-        for (EdFiLocaleDescriptor localeDescriptor : list) {
-            map.put(localeDescriptor.getCodeValue(), localeDescriptor);
-        }
-        return map;
-    }
-
-    private String getLocaleDescriptorUri (String code) {
-        EdFiLocaleDescriptor localeDescriptor = localeDescriptorMap.get(code);
-        if (localeDescriptor!=null) {
-            return localeDescriptor.getNamespace() + "#" + code;
-        }
-        return code;
-    }
-
-    private Map<String, EdFiStateAbbreviationDescriptor> loadStateAbbreviationDescriptorsMap() throws ApiException, AuthenticationException {
-        List<EdFiStateAbbreviationDescriptor> list = null;
-        try {
-            StateAbbreviationDescriptorsApi stateAbbreviationDescriptorsApi = new StateAbbreviationDescriptorsApi(apiClient);
-            list = stateAbbreviationDescriptorsApi.getStateAbbreviationDescriptors(0, 100, false, null);
-        } catch (ApiException ae) {
-            if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                StateAbbreviationDescriptorsApi stateAbbreviationDescriptorsApi = new StateAbbreviationDescriptorsApi(apiClient);
-                list = stateAbbreviationDescriptorsApi.getStateAbbreviationDescriptors(0, 100, false, null);
-            } else {
-                throw ae;
-            }
-        }
-        Map<String, EdFiStateAbbreviationDescriptor> map = new HashMap<>();
-        for (EdFiStateAbbreviationDescriptor stateAbbreviationDescriptor : list) {
-            map.put(stateAbbreviationDescriptor.getCodeValue(), stateAbbreviationDescriptor);
-        }
-        return map;
-    }
-
-    private String getStateAbbreviationDescriptorUri (String code) {
-        EdFiStateAbbreviationDescriptor stateAbbreviationDescriptor = stateAbbreviationDescriptorMap.get(code);
-        if (stateAbbreviationDescriptor!=null) {
-            return stateAbbreviationDescriptor.getNamespace() + "#" + code;
-        }
-        return code;
-    }
-
-    private Map<String, EdFiAcademicSubjectDescriptor> loadAcademicSubjectDescriptorsMap() throws ApiException, AuthenticationException {
-        List<EdFiAcademicSubjectDescriptor> list = null;
-        try {
-            AcademicSubjectDescriptorsApi academicSubjectDescriptorsApi = new AcademicSubjectDescriptorsApi(apiClient);
-            list = academicSubjectDescriptorsApi.getAcademicSubjectDescriptors(0, 100, false, null);
-        } catch (ApiException ae) {
-            if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                AcademicSubjectDescriptorsApi academicSubjectDescriptorsApi = new AcademicSubjectDescriptorsApi(apiClient);
-                list = academicSubjectDescriptorsApi.getAcademicSubjectDescriptors(0, 100, false, null);
-            } else {
-                throw ae;
-            }
-        }
-        Map<String, EdFiAcademicSubjectDescriptor> map = new HashMap<>();
-        for (EdFiAcademicSubjectDescriptor academicSubjectDescriptor : list) {
-            map.put(academicSubjectDescriptor.getCodeValue(), academicSubjectDescriptor);
-        }
-        return map;
-    }
-
-    private String getAcademicSubjectDescriptorUri (String code) {
-        EdFiAcademicSubjectDescriptor academicSubjectDescriptor = academicSubjectDescriptorMap.get(code);
-        if (academicSubjectDescriptor!=null) {
-            return academicSubjectDescriptor.getNamespace() + "#" + code;
-        }
-        return code;
-    }
-
-    private Map<String, EdFiGradeLevelDescriptor> loadGradeLevelDescriptorsMap() throws ApiException, AuthenticationException {
-        List<EdFiGradeLevelDescriptor> list = null;
-        try {
-            GradeLevelDescriptorsApi gradeLevelDescriptorsApi = new GradeLevelDescriptorsApi(apiClient);
-            list = gradeLevelDescriptorsApi.getGradeLevelDescriptors(0, 100, false, null);
-        } catch (ApiException ae) {
-            if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                GradeLevelDescriptorsApi gradeLevelDescriptorsApi = new GradeLevelDescriptorsApi(apiClient);
-                list = gradeLevelDescriptorsApi.getGradeLevelDescriptors(0, 100, false, null);
-            } else {
-                throw ae;
-            }
-        }
-        Map<String, EdFiGradeLevelDescriptor> map = new HashMap<>();
-        for (EdFiGradeLevelDescriptor gradeLevelDescriptor : list) {
-            map.put(gradeLevelDescriptor.getCodeValue(), gradeLevelDescriptor);
-        }
-        return map;
-    }
-    private String getGradeLevelDescriptorUri (String code) {
-        EdFiGradeLevelDescriptor gradeLevelDescriptor = gradeLevelDescriptorMap.get(code);
-        if (gradeLevelDescriptor!=null) {
-            return gradeLevelDescriptor.getNamespace() + "#" + code;
-        }
-        return code;
-    }
-
-    private Map<String, TpdmTppDegreeTypeDescriptor> loadTppDegreeTypeDescriptorsMap() throws ApiException, AuthenticationException {
-        List<TpdmTppDegreeTypeDescriptor> list = null;
-        try {
-            TppDegreeTypeDescriptorsApi tppDegreeTypeDescriptorsApi = new TppDegreeTypeDescriptorsApi(apiClient);
-            list = tppDegreeTypeDescriptorsApi.getTPPDegreeTypeDescriptors(0, 100, false, null);
-        } catch (ApiException ae) {
-            if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                TppDegreeTypeDescriptorsApi tppDegreeTypeDescriptorsApi = new TppDegreeTypeDescriptorsApi(apiClient);
-                list = tppDegreeTypeDescriptorsApi.getTPPDegreeTypeDescriptors(0, 100, false, null);
-            } else {
-                throw ae;
-            }
-        }
-        Map<String, TpdmTppDegreeTypeDescriptor> map = new HashMap<>();
-        for (TpdmTppDegreeTypeDescriptor tppDegreeTypeDescriptor : list) {
-            map.put(tppDegreeTypeDescriptor.getCodeValue(), tppDegreeTypeDescriptor);
-        }
-        return map;
-    }
-    private String getTppDegreeTypeDescriptorUri (String code) {
-        TpdmTppDegreeTypeDescriptor tppDegreeTypeDescriptor = tppDegreeTypeDescriptorMap.get(code);
-        if (tppDegreeTypeDescriptor!=null) {
-            return tppDegreeTypeDescriptor.getNamespace() + "#" + code;
-        }
-        return code;
-    }
-
-    private Map<String, EdFiSexDescriptor> loadSexDescriptorsMap() throws ApiException, AuthenticationException {
-        List<EdFiSexDescriptor> list = null;
-        try {
-            SexDescriptorsApi sexDescriptorsApi = new SexDescriptorsApi(apiClient);
-            list = sexDescriptorsApi.getSexDescriptors(0, 100, false, null);
-        } catch (ApiException ae) {
-            if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                SexDescriptorsApi sexDescriptorsApi = new SexDescriptorsApi(apiClient);
-                list = sexDescriptorsApi.getSexDescriptors(0, 100, false, null);
-            } else {
-                throw ae;
-            }
-        }
-        Map<String, EdFiSexDescriptor> map = new HashMap<>();
-        for (EdFiSexDescriptor edFiAcademicSubjectDescriptor : list) {
-            map.put(edFiAcademicSubjectDescriptor.getCodeValue(), edFiAcademicSubjectDescriptor);
-        }
-        return map;
-    }
-
-    private String getSexDescriptorUri (String code) {
-        EdFiSexDescriptor sexDescriptor = sexDescriptorMap.get(code);
-        if (sexDescriptor!=null) {
-            return sexDescriptor.getNamespace() + "#" + code;
-        }
-        return code;
-    }
-
-    private Map<String, String> loadExistingTeacherCandidateMap() throws AuthenticationException, ApiException {
-        List<TpdmTeacherCandidate> list = null;
-        try {
-            TeacherCandidatesApi teacherCandidatesApi = new TeacherCandidatesApi(apiClient);
-            list = teacherCandidatesApi.getTeacherCandidates(0, 100, false, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
-        } catch (ApiException ae) {
-            if (ae.getCode() == (HttpStatus.UNAUTHORIZED.value())) {
-                apiClient.setAccessToken(tokenRetriever.obtainNewBearerToken());
-                TeacherCandidatesApi teacherCandidatesApi = new TeacherCandidatesApi(apiClient);
-                list = teacherCandidatesApi.getTeacherCandidates(0, 100, false, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
-            } else {
-                throw ae;
+        int deleteCount = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            try {
+                asyncApiClient.await(deletes.get(i));
+                fingerprintStore.remove(keys.get(i));
+                deleteCount++;
+            } catch (ApiException ae) {
+                response.addError("Delete of teacher candidate " + keys.get(i) + " failed" + String.format("%n")
+                        + (ae.getResponseBody() != null ? ae.getResponseBody() : ae.getMessage()));
             }
         }
-        Map<String, String> map = new HashMap<>();
-        list.forEach(tc -> map.put(tc.getTeacherCandidateIdentifier(), tc.getId()));
-
-        return map;
+        response.setDeleteCount(deleteCount);
     }
 
     private Map<String, String> loadSqlMap() {
@@ -753,47 +1005,6 @@ public class SisConnectorService {
         return getOutputDirectory() + "/" +  nowDate + "-" + nowTime + ".report";
     }
 
-//    public void process() {
-//        try {
-//            File folder = new File(getInputDirectory());
-//            File[] sqlFileList = folder.listFiles();
-//
-//            dao.getRemoteConnection();
-//
-//            for (File sqlFile: sqlFileList) {
-//                String name = parseName(sqlFile.getName());
-//                String sql = readSql(sqlFile);
-//
-//                List<List<String>> result = dao.makeSqlCall(sql);
-//
-//                boolean first = true;
-//                File csvFile = new File(this.getOutputDirectory() + "/" +name + ".csv");
-//                BufferedWriter bw = new BufferedWriter(new FileWriter(csvFile));
-//                for (List<String> row : result) {
-//                    String csvRow = rfc4180Parser.parseToLine(row.stream().toArray(String[]::new), true);
-//                    if (!first) {
-//                        csvRow = "\n" + csvRow;
-//                    }
-//                    bw.write(csvRow);
-//                    first = false;
-//                }
-//                bw.close();
-//            }
-//        } catch (ClassNotFoundException e) {
-//            e.printStackTrace();
-//        } catch (SQLException e) {
-//            e.printStackTrace();
-//        } catch (IOException e) {
-//            e.printStackTrace();
-//        } finally {
-//            try {
-//                dao.closeRemoteConnection();
-//            } catch (SQLException e) {
-//                e.printStackTrace();
-//            }
-//        }
-//    }
-
     private String parseName(String fullname) {
         return fullname.substring(0, fullname.lastIndexOf('.'));
     }
@@ -816,8 +1027,11 @@ public class SisConnectorService {
         try (Stream<String> stream = Files.lines( Paths.get(file.getAbsolutePath()), StandardCharsets.UTF_8))
         {
             stream.forEach(s -> {
-                String[] columns = s.split("=");
-                map.put(columns[0],columns[1]);
+                String[] columns = s.split("=", 2);
+                // lines without a column are left out, and reported as unmapped fields
+                if (columns.length == 2 && StringUtils.isNotBlank(columns[1])) {
+                    map.put(columns[0].trim(), columns[1].trim());
+                }
             });
         }
         catch (IOException e)
@@ -827,14 +1041,6 @@ public class SisConnectorService {
         return map;
     }
 
-    private String getString(int index, List<String> row) {
-        if (index >= 0) {
-            return row.get(index);
-        } else {
-            return null;
-        }
-    }
-
     public String getSqlDirectory() {
         return sqlDirectory;
     }
@@ -0,0 +1,108 @@
+package org.edfi.sis.service;
+
+import org.edfi.sis.dao.RowCursor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Merge join of a cursor of parent rows with a cursor of their child rows, both ordered by the same key. Each parent
+ * is handed over with its children as soon as the children are read. Keys compare as text, character by character,
+ * so the extraction SQL must order them by the text of the key column, also when the keys are numbers: 10 comes
+ * before 9. Only text order is the same for every mix of numeric and alphanumeric keys.
+ *
+ * A cursor whose keys go backwards under that order would make children be taken for orphans and dropped, so it
+ * fails the merge instead.
+ */
+class SortedMerge {
+
+    static final Comparator<String> KEY_ORDER = SortedMerge::compareKeys;
+
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(RowCursor cursor) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface ChildAppender<C> {
+        void append(List<C> children, RowCursor cursor) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface MergedConsumer<P, C> {
+        void accept(P parent, List<C> children) throws SQLException, InterruptedException;
+    }
+
+    private SortedMerge() {
+    }
+
+    /**
+     * Reads both cursors to the end. When several parent rows have the same key the last one wins; child rows whose
+     * key has no parent are skipped.
+     *
+     * @return the number of parents handed to the consumer
+     */
+    static <P, C> int merge(String keyName, RowCursor parents, int parentKeyIndex, RowCursor children,
+                            int childKeyIndex, RowMapper<P> parentMapper, ChildAppender<C> childAppender,
+                            MergedConsumer<P, C> consumer) throws SQLException, InterruptedException {
+        int merged = 0;
+        boolean childAvailable = children.next();
+        String childKey = childAvailable ? children.getString(childKeyIndex) : null;
+        P pending = null;
+        String pendingKey = null;
+        while (true) {
+            boolean parentAvailable = parents.next();
+            String key = parentAvailable ? parents.getString(parentKeyIndex) : null;
+            if (parentAvailable && pending != null) {
+                checkOrder(keyName, "parent", pendingKey, key);
+            }
+
+            if (pending != null && (!parentAvailable || !Objects.equals(key, pendingKey))) {
+                List<C> pendingChildren = new ArrayList<>();
+                while (childAvailable) {
+                    int compare = compareKeys(childKey, pendingKey);
+                    if (compare > 0) {
+                        break;
+                    }
+                    if (compare == 0) {
+                        childAppender.append(pendingChildren, children);
+                    }
+                    childAvailable = children.next();
+                    if (childAvailable) {
+                        String nextChildKey = children.getString(childKeyIndex);
+                        checkOrder(keyName, "child", childKey, nextChildKey);
+                        childKey = nextChildKey;
+                    }
+                }
+                consumer.accept(pending, pendingChildren);
+                merged++;
+            }
+            if (!parentAvailable) {
+                break;
+            }
+            pending = parentMapper.map(parents);
+            pendingKey = key;
+        }
+        return merged;
+    }
+
+    /**
+     * Orders keys by their text, nulls first, as a SQL ORDER BY on the key column does with a binary collation.
+     */
+    static int compareKeys(String left, String right) {
+        if (left == null || right == null) {
+            return left == null ? (right == null ? 0 : -1) : 1;
+        }
+        return left.compareTo(right);
+    }
+
+    private static void checkOrder(String keyName, String side, String previous, String next) throws SQLException {
+        if (compareKeys(next, previous) < 0) {
+            throw new SQLException(String.format("The %s rows are not ordered by %s: %s comes after %s. The SQL must "
+                    + "be ordered by the text of %s, also when it holds numbers", side, keyName, next, previous, keyName));
+        }
+    }
+}
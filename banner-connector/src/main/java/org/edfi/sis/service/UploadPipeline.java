@@ -0,0 +1,171 @@
+package org.edfi.sis.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Uploads items on a pool of worker threads fed by bounded queues. Items are routed to a worker by key, so items with
+ * the same key are uploaded in submission order, and {@link #submit(Object)} blocks while the worker's queue is full
+ * so the producer cannot outrun the API. At most maxInFlight uploads run at the same time.
+ *
+ * An uploader returns false for a rejected item, which is counted as failed. Anything it throws, errors included, is
+ * fatal: the remaining items are skipped, the next submit throws a {@link CancellationException} and
+ * {@link #awaitCompletion()} rethrows it.
+ */
+public class UploadPipeline<T> implements AutoCloseable {
+
+    @FunctionalInterface
+    public interface Uploader<T> {
+        boolean upload(T item) throws Exception;
+    }
+
+    private static final Object END = new Object();
+
+    private final String name;
+    private final Function<T, ?> keyFunction;
+    private final Uploader<T> uploader;
+    private final List<BlockingQueue<Object>> queues = new ArrayList<>();
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong producerWaitNanos = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean completed = false;
+
+    public UploadPipeline(String name, int workers, int queueCapacity, int maxInFlight,
+                          Function<T, ?> keyFunction, Uploader<T> uploader) {
+        this.name = name;
+        this.keyFunction = keyFunction;
+        this.uploader = uploader;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight);
+
+        int workerCount = Math.max(1, workers);
+        int capacityPerWorker = Math.max(1, queueCapacity / workerCount);
+        this.executor = Executors.newFixedThreadPool(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<Object> queue = new ArrayBlockingQueue<>(capacityPerWorker);
+            queues.add(queue);
+            executor.execute(() -> work(queue));
+        }
+    }
+
+    /**
+     * Queues the item for upload, waiting while the queue of its worker is full.
+     */
+    public void submit(T item) throws InterruptedException {
+        checkFailure();
+        Object key = keyFunction.apply(item);
+        BlockingQueue<Object> queue = queues.get(key == null ? 0 : (key.hashCode() & Integer.MAX_VALUE) % queues.size());
+        if (!queue.offer(item)) {
+            long start = System.nanoTime();
+            while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                checkFailure();
+            }
+            producerWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+        submitted.incrementAndGet();
+    }
+
+    /**
+     * Waits for every submitted item to be uploaded and stops the workers.
+     *
+     * @throws ExecutionException wrapping the exception of the first upload that failed fatally
+     */
+    public void awaitCompletion() throws InterruptedException, ExecutionException {
+        for (BlockingQueue<Object> queue : queues) {
+            queue.put(END);
+        }
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            // keep waiting, uploads are still draining
+        }
+        completed = true;
+        if (failure.get() != null) {
+            throw new ExecutionException(failure.get());
+        }
+    }
+
+    public long getSucceededCount() {
+        return succeeded.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put(name + " Workers", queues.size());
+        metrics.put(name + " Max In Flight", maxInFlight);
+        metrics.put(name + " Submitted", submitted.get());
+        metrics.put(name + " Succeeded", succeeded.get());
+        metrics.put(name + " Failed", failed.get());
+        metrics.put(name + " Producer Wait (ms)", TimeUnit.NANOSECONDS.toMillis(producerWaitNanos.get()));
+        return metrics;
+    }
+
+    /**
+     * Stops the workers immediately unless {@link #awaitCompletion()} has already finished.
+     */
+    @Override
+    public void close() {
+        if (!completed) {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void work(BlockingQueue<Object> queue) {
+        try {
+            while (true) {
+                Object next = queue.take();
+                if (next == END) {
+                    return;
+                }
+                if (failure.get() != null) {
+                    // drain without uploading so that producers are released
+                    continue;
+                }
+                inFlight.acquire();
+                try {
+                    if (uploader.upload((T) next)) {
+                        succeeded.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    // the worker keeps draining its queue, or producers and awaitCompletion would block on it
+                    failure.compareAndSet(null, e);
+                } finally {
+                    inFlight.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkFailure() {
+        if (failure.get() != null) {
+            throw new CancellationException(name + " stopped after a fatal upload error");
+        }
+    }
+}
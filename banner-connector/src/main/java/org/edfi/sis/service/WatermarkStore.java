@@ -0,0 +1,95 @@
+package org.edfi.sis.service;
+
+import org.apache.commons.lang3.StringUtils;
+import org.joda.time.DateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.util.Properties;
+
+/**
+ * Keeps the high-water mark of the last successful run, the latest Banner activity date it extracted, and the time
+ * of the last full run in a properties file between runs.
+ */
+@Component
+public class WatermarkStore {
+    private final static Logger logger = LoggerFactory.getLogger(WatermarkStore.class);
+
+    private static final String WATERMARK = "watermark";
+    private static final String LAST_FULL_RUN = "lastFullRun";
+
+    @Value( "${watermark.file:}" )
+    String watermarkFile;
+
+    private Timestamp watermark = null;
+    private DateTime lastFullRun = null;
+
+    public boolean isEnabled() {
+        return StringUtils.isNotBlank(watermarkFile);
+    }
+
+    /**
+     * Reads the state saved by the last successful run. A missing or unreadable file means no run was recorded.
+     */
+    public void load() {
+        watermark = null;
+        lastFullRun = null;
+        if (!isEnabled() || !Files.exists(Paths.get(watermarkFile))) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(Paths.get(watermarkFile), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            if (StringUtils.isNotBlank(properties.getProperty(WATERMARK))) {
+                watermark = Timestamp.valueOf(properties.getProperty(WATERMARK));
+            }
+            if (StringUtils.isNotBlank(properties.getProperty(LAST_FULL_RUN))) {
+                lastFullRun = DateTime.parse(properties.getProperty(LAST_FULL_RUN));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Ignoring watermark file " + watermarkFile + ": " + e.getMessage());
+            watermark = null;
+            lastFullRun = null;
+        }
+    }
+
+    public Timestamp getWatermark() {
+        return watermark;
+    }
+
+    public DateTime getLastFullRun() {
+        return lastFullRun;
+    }
+
+    /**
+     * Records a successful run, replacing the file only once it has been written completely.
+     */
+    public void save(Timestamp watermark, DateTime lastFullRun) {
+        this.watermark = watermark;
+        this.lastFullRun = lastFullRun;
+        if (!isEnabled()) {
+            return;
+        }
+        Properties properties = new Properties();
+        if (watermark != null) {
+            properties.setProperty(WATERMARK, watermark.toString());
+        }
+        if (lastFullRun != null) {
+            properties.setProperty(LAST_FULL_RUN, lastFullRun.toString());
+        }
+        try {
+            AtomicFiles.write(Paths.get(watermarkFile),
+                    writer -> properties.store(writer, "Banner connector high-water mark"));
+        } catch (IOException e) {
+            logger.warn("Could not write watermark file " + watermarkFile + ": " + e.getMessage());
+        }
+    }
+}
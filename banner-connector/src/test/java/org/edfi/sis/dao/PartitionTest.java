@@ -0,0 +1,59 @@
+package org.edfi.sis.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PartitionTest {
+
+    @Test
+    void splitCoversEveryIdOnce() {
+        long[][] ranges = {{0, 0}, {0, 2}, {1, 10}, {1, 100}, {-50, 49}, {7, 1000}};
+        for (long[] range : ranges) {
+            for (int count = 1; count <= 12; count++) {
+                List<Partition> partitions = Partition.split(count, range[0], range[1]);
+                assertEquals(count, partitions.size());
+                for (long id = range[0] - 1; id <= range[1] + 1; id++) {
+                    int expected = id >= range[0] && id <= range[1] ? 1 : 0;
+                    assertEquals(expected, countContaining(partitions, id),
+                            "id " + id + " of " + range[0] + ".." + range[1] + " in " + count + " partitions");
+                }
+            }
+        }
+    }
+
+    @Test
+    void splitKeepsRangesInOrderWithoutGaps() {
+        List<Partition> partitions = Partition.split(7, 1000, 2_000_000_000L);
+
+        assertEquals(1000, partitions.get(0).getLow());
+        for (int i = 0; i < partitions.size(); i++) {
+            assertEquals(i, partitions.get(i).getIndex());
+            assertEquals(7, partitions.get(i).getCount());
+            if (i > 0) {
+                assertEquals(partitions.get(i - 1).getHigh(), partitions.get(i).getLow());
+            }
+        }
+        assertEquals(2_000_000_001L, partitions.get(6).getHigh());
+    }
+
+    @Test
+    void bindReplacesEveryPlaceholder() {
+        Partition partition = Partition.split(4, 0, 99).get(1);
+
+        assertEquals("MOD(ID, 4) = 1 AND ID >= 25 AND ID < 50", partition.bind(
+                "MOD(ID, {partitionCount}) = {partition} AND ID >= {partitionLow} AND ID < {partitionHigh}"));
+    }
+
+    private static int countContaining(List<Partition> partitions, long id) {
+        int count = 0;
+        for (Partition partition : partitions) {
+            if (id >= partition.getLow() && id < partition.getHigh()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
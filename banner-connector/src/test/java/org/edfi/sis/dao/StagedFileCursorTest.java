@@ -0,0 +1,190 @@
+package org.edfi.sis.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StagedFileCursorTest {
+    private static final int CHUNK_SIZE = 1024;
+
+    @TempDir
+    Path dir;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void parseCsvReadsQuotedFields() {
+        List<String[]> records = StagedFileCursor.parseCsv(CharBuffer.wrap(
+                "a,b,c\r\n\"x, y\",\"say \"\"hi\"\"\",\"line\r\nbreak\"\n,\"\",last"));
+
+        assertEquals(3, records.size());
+        assertArrayEquals(new String[] {"a", "b", "c"}, records.get(0));
+        assertArrayEquals(new String[] {"x, y", "say \"hi\"", "line\r\nbreak"}, records.get(1));
+        assertArrayEquals(new String[] {null, "", "last"}, records.get(2));
+    }
+
+    @Test
+    void parseCsvSkipsEmptyLines() {
+        List<String[]> records = StagedFileCursor.parseCsv(CharBuffer.wrap("a\n\n\r\nb\n"));
+
+        assertEquals(2, records.size());
+        assertArrayEquals(new String[] {"a"}, records.get(0));
+        assertArrayEquals(new String[] {"b"}, records.get(1));
+    }
+
+    @Test
+    void lastRecordEndIgnoresLineBreaksInQuotes() {
+        ByteBuffer chunk = ascii("a,b\n\"c\nd\",\"e\"\"\n");
+
+        assertEquals(3, StagedFileCursor.lastRecordEnd(chunk, chunk.limit(), true));
+        assertEquals(chunk.limit() - 1, StagedFileCursor.lastRecordEnd(chunk, chunk.limit(), false));
+        assertEquals(-1, StagedFileCursor.lastRecordEnd(ascii("\"a\nb"), 4, true));
+    }
+
+    @Test
+    void mappedChunksKeepRecordsWhole() throws Exception {
+        List<String[]> expected = new ArrayList<>();
+        Path file = dir.resolve("extract.csv");
+        Files.write(file, csv(expected).getBytes(StandardCharsets.UTF_8));
+
+        assertRows(expected, new StagedFileCursor.MappedChunkReader(FileChannel.open(file), CHUNK_SIZE, true));
+    }
+
+    @Test
+    void streamChunksCarryPartialRecordsOver() throws Exception {
+        List<String[]> expected = new ArrayList<>();
+        byte[] bytes = csv(expected).getBytes(StandardCharsets.UTF_8);
+
+        assertRows(expected, new StagedFileCursor.StreamChunkReader(new TrickleInputStream(bytes), CHUNK_SIZE, true));
+    }
+
+    @Test
+    void gzipChunksCarryPartialRecordsOver() throws Exception {
+        List<String[]> expected = new ArrayList<>();
+        Path file = dir.resolve("extract.csv.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(csv(expected).getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertRows(expected, new StagedFileCursor.StreamChunkReader(
+                new GZIPInputStream(Files.newInputStream(file)), CHUNK_SIZE, true));
+    }
+
+    @Test
+    void ndjsonChunksKeepValueTypes() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            text.append("{\"id\":").append(i).append(",\"name\":\"n\\n").append(i).append("\",\"active\":true}\n");
+        }
+        Path file = dir.resolve("extract.ndjson");
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+
+        try (StagedFileCursor cursor = StagedFileCursor.open(new StagedFileCursor.MappedChunkReader(
+                FileChannel.open(file), CHUNK_SIZE, false), false, executor, 2, new AtomicLong(), new AtomicLong())) {
+            assertEquals(Arrays.asList("id", "name", "active"), cursor.getColumnNames());
+            for (int i = 0; i < 200; i++) {
+                assertTrue(cursor.next());
+                assertEquals((long) i, cursor.getObject(0));
+                assertEquals("n\n" + i, cursor.getObject(1));
+                assertEquals(Boolean.TRUE, cursor.getObject(2));
+            }
+            assertFalse(cursor.next());
+        }
+    }
+
+    /**
+     * Builds a CSV file whose records end in CRLF or LF, hold quoted commas, quotes and line breaks, and include one
+     * record several chunks long, so that chunk boundaries fall inside quoted fields and records.
+     */
+    private static String csv(List<String[]> expected) {
+        StringBuilder text = new StringBuilder("id,name,note\r\n");
+        for (int i = 0; i < 500; i++) {
+            String name = i % 3 == 0 ? "last, first " + i : "name" + i;
+            String note = i % 5 == 0 ? "line one\r\nline \"two\"\n" + i : i % 7 == 0 ? null : "note" + i;
+            if (i == 250) {
+                StringBuilder longNote = new StringBuilder();
+                while (longNote.length() < CHUNK_SIZE * 3) {
+                    longNote.append("a long \"quoted\" note,\nspanning chunks ");
+                }
+                note = longNote.toString();
+            }
+            expected.add(new String[] {Integer.toString(i), name, note});
+            text.append(i).append(',').append(quote(name)).append(',').append(note != null ? quote(note) : "")
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        return text.toString();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private void assertRows(List<String[]> expected, StagedFileCursor.ChunkReader chunks) throws Exception {
+        AtomicLong chunkCount = new AtomicLong();
+        try (StagedFileCursor cursor = StagedFileCursor.open(chunks, true, executor, 2, new AtomicLong(),
+                chunkCount)) {
+            assertEquals(Arrays.asList("id", "name", "note"), cursor.getColumnNames());
+            for (String[] row : expected) {
+                assertTrue(cursor.next(), "missing row " + row[0]);
+                assertEquals(row[0], cursor.getString(0));
+                assertEquals(row[1], cursor.getString(1));
+                assertEquals(row[2], cursor.getString(2), "row " + row[0]);
+            }
+            assertFalse(cursor.next());
+        }
+        assertTrue(chunkCount.get() > 10, "the file was read in " + chunkCount + " chunks");
+    }
+
+    private static ByteBuffer ascii(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Returns at most 100 bytes per read, as a decompressing stream may.
+     */
+    private static class TrickleInputStream extends InputStream {
+        private final ByteArrayInputStream in;
+
+        TrickleInputStream(byte[] bytes) {
+            this.in = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            return in.read(buffer, offset, Math.min(100, length));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.edfi.sis.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AtomicFilesTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replacesTheFileAndLeavesNoTemporaryFile() throws Exception {
+        Path file = dir.resolve("state").resolve("watermark.properties");
+        AtomicFiles.write(file, writer -> writer.write("first"));
+        AtomicFiles.write(file, writer -> writer.write("second"));
+
+        assertEquals("second", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        assertEquals(Collections.singletonList("watermark.properties"), list(file.getParent()));
+    }
+
+    @Test
+    void keepsTheFileAndDeletesTheTemporaryFileOnFailure() throws Exception {
+        Path file = dir.resolve("fingerprints.tsv");
+        AtomicFiles.write(file, writer -> writer.write("kept"));
+
+        assertThrows(IOException.class, () -> AtomicFiles.write(file, writer -> {
+            writer.write("partial");
+            throw new IOException("disk full");
+        }));
+        assertThrows(IllegalStateException.class, () -> AtomicFiles.write(file, writer -> {
+            throw new IllegalStateException("bad content");
+        }));
+
+        assertEquals("kept", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        assertEquals(Collections.singletonList("fingerprints.tsv"), list(dir));
+    }
+
+    private static List<String> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package org.edfi.sis.service;
+
+import org.edfi.api.ApiClient;
+import org.edfi.api.ApiException;
+import org.edfi.api.ProgressRequestBody;
+import org.edfi.api.ProgressResponseBody;
+import org.edfi.api.Pair;
+import org.edfi.model.descriptor.EdFiAddressTypeDescriptor;
+import org.edfi.model.descriptor.EdFiSexDescriptor;
+import org.edfi.model.resource.EdFiLocalEducationAgency;
+import org.edfi.model.resource.TpdmTeacherCandidate;
+import org.edfi.model.resource.TpdmTeacherCandidateAddress;
+import org.edfi.model.resource.TpdmTeacherCandidateCredential;
+import org.edfi.sis.dao.RowCursor;
+import org.joda.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceMappingTest {
+    private static final Pattern API_CLASS = Pattern.compile("org/edfi/api/(resource|descriptor)/(\\w+Api)\\.class$");
+
+    private static final ResourceMapping.DescriptorResolver RESOLVER =
+            (descriptorClass, code) -> code != null ? descriptorClass.getSimpleName() + "#" + code : null;
+
+    @Test
+    void derivesThePathOfEveryGeneratedApi() throws Exception {
+        PathRecorder apiClient = new PathRecorder();
+        int checked = 0;
+        for (Resource resource : new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:org/edfi/api/*/*Api.class")) {
+            Matcher matcher = API_CLASS.matcher(resource.getURL().toString());
+            if (!matcher.find()) {
+                continue;
+            }
+            Class<?> apiClass = Class.forName("org.edfi.api." + matcher.group(1) + "." + matcher.group(2));
+            Method post = findPost(apiClass);
+            Class<?> modelClass = post.getParameterTypes()[0];
+            apiClient.path = null;
+            try {
+                post.invoke(apiClass.getConstructor(ApiClient.class).newInstance(apiClient),
+                        modelClass.getConstructor().newInstance());
+            } catch (InvocationTargetException e) {
+                // the recorder stops the call once it has the path
+            }
+            assertEquals(apiClient.path, ResourceMapping.getResourcePath(modelClass), modelClass.getSimpleName());
+            checked++;
+        }
+        assertTrue(checked > 400, "checked " + checked + " generated APIs");
+    }
+
+    @Test
+    void readsTheDirectives() {
+        ResourceMapping simpleName = new ResourceMapping("teacherCandidates",
+                map("@class", "TpdmTeacherCandidate", "teacherCandidateIdentifier", "ID"), RESOLVER);
+        ResourceMapping qualifiedName = new ResourceMapping("agencies",
+                map("@class", EdFiLocalEducationAgency.class.getName(), "@path", "/ed-fi/agencies"), RESOLVER);
+
+        assertEquals(TpdmTeacherCandidate.class, simpleName.getResourceClass());
+        assertEquals("/tpdm/teacherCandidates", simpleName.getPath());
+        assertEquals(EdFiLocalEducationAgency.class, qualifiedName.getResourceClass());
+        assertEquals("/ed-fi/agencies", qualifiedName.getPath());
+        assertTrue(ResourceMapping.isResourceMap(map("@class", "TpdmTeacherCandidate")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResourceMapping("unknown", map("@class", "TpdmNoSuchThing"), RESOLVER));
+    }
+
+    @Test
+    void groupsRowsByKeyIntoNestedLists() throws Exception {
+        ResourceMapping mapping = new ResourceMapping("teacherCandidates", map(
+                "@class", "TpdmTeacherCandidate",
+                "@key", "teacherCandidateIdentifier",
+                "teacherCandidateIdentifier", "ID",
+                "firstName", "FIRST_NAME",
+                "addresses[].city", "CITY",
+                "addresses[].periods[].beginDate", "BEGIN_DATE"), RESOLVER);
+
+        List<TpdmTeacherCandidate> candidates = mapRows(mapping,
+                cursor(Arrays.asList("ID", "FIRST_NAME", "CITY", "BEGIN_DATE"),
+                        row("1", "Ann", "Austin", "2020-01-01"),
+                        row("1", "Ann", "Austin", "2021-01-01"),
+                        row("1", "Ann", "Boston", null),
+                        row("2", "Bob", null, null),
+                        row("1", "Ann", "Austin", "2022-01-01")));
+
+        assertEquals(3, candidates.size());
+        TpdmTeacherCandidate ann = candidates.get(0);
+        assertEquals("1", mapping.getKey(ann));
+        assertEquals("Ann", ann.getFirstName());
+        assertEquals(Arrays.asList("Austin", "Boston"), cities(ann.getAddresses()));
+        assertEquals(Arrays.asList(new LocalDate(2020, 1, 1), new LocalDate(2021, 1, 1)),
+                ann.getAddresses().get(0).getPeriods().stream().map(period -> period.getBeginDate())
+                        .collect(Collectors.toList()));
+        assertNull(ann.getAddresses().get(1).getPeriods());
+        assertEquals("Bob", candidates.get(1).getFirstName());
+        assertNull(candidates.get(1).getAddresses());
+        assertEquals(1, candidates.get(2).getAddresses().size());
+    }
+
+    @Test
+    void comparesListElementsByTheirNestedValues() throws Exception {
+        ResourceMapping mapping = new ResourceMapping("teacherCandidates", map(
+                "@class", "TpdmTeacherCandidate",
+                "@key", "teacherCandidateIdentifier",
+                "teacherCandidateIdentifier", "ID",
+                "credentials[].credentialReference.credentialIdentifier", "CREDENTIAL"), RESOLVER);
+
+        List<TpdmTeacherCandidate> candidates = mapRows(mapping, cursor(Arrays.asList("ID", "CREDENTIAL"),
+                row("1", "C1"), row("1", "C2"), row("1", "C1")));
+
+        assertEquals(1, candidates.size());
+        List<String> credentials = new ArrayList<>();
+        for (TpdmTeacherCandidateCredential credential : candidates.get(0).getCredentials()) {
+            credentials.add(credential.getCredentialReference().getCredentialIdentifier());
+        }
+        assertEquals(Arrays.asList("C1", "C2"), credentials);
+    }
+
+    @Test
+    void addsAnElementPerRowWhenItHasNoValuesOfItsOwn() throws Exception {
+        ResourceMapping mapping = new ResourceMapping("teacherCandidates", map(
+                "@class", "TpdmTeacherCandidate",
+                "@key", "teacherCandidateIdentifier",
+                "teacherCandidateIdentifier", "ID",
+                "addresses[].periods[].beginDate", "BEGIN_DATE"), RESOLVER);
+
+        List<TpdmTeacherCandidate> candidates = mapRows(mapping, cursor(Arrays.asList("ID", "BEGIN_DATE"),
+                row("1", "2020-01-01"), row("1", "2021-01-01")));
+
+        List<TpdmTeacherCandidateAddress> addresses = candidates.get(0).getAddresses();
+        assertEquals(2, addresses.size());
+        assertEquals(new LocalDate(2020, 1, 1), addresses.get(0).getPeriods().get(0).getBeginDate());
+        assertEquals(new LocalDate(2021, 1, 1), addresses.get(1).getPeriods().get(0).getBeginDate());
+    }
+
+    @Test
+    void resolvesDescriptorCodes() throws Exception {
+        ResourceMapping mapping = new ResourceMapping("teacherCandidates", map(
+                "@class", "TpdmTeacherCandidate",
+                "teacherCandidateIdentifier", "ID",
+                "sexDescriptor", "SEX",
+                "addresses[].addressTypeDescriptor", "ADDRESS_TYPE"), RESOLVER);
+
+        List<TpdmTeacherCandidate> candidates = mapRows(mapping, cursor(Arrays.asList("ID", "SEX", "ADDRESS_TYPE"),
+                row("1", "F", "Home")));
+
+        assertEquals(2, mapping.getDescriptorClasses().size());
+        assertTrue(mapping.getDescriptorClasses().contains(EdFiSexDescriptor.class));
+        assertTrue(mapping.getDescriptorClasses().contains(EdFiAddressTypeDescriptor.class));
+        assertEquals("EdFiSexDescriptor#F", candidates.get(0).getSexDescriptor());
+        assertEquals("EdFiAddressTypeDescriptor#Home",
+                candidates.get(0).getAddresses().get(0).getAddressTypeDescriptor());
+    }
+
+    @Test
+    void warnsAboutFieldsItCannotMap() throws Exception {
+        ResourceMapping mapping = new ResourceMapping("teacherCandidates", map(
+                "@class", "TpdmTeacherCandidate",
+                "@key", "addresses[].city",
+                "teacherCandidateIdentifier", "ID",
+                "nickName", "NICK_NAME",
+                "addresses.city", "CITY",
+                "addresses[]", "ADDRESS",
+                "addresses[].city", "CITY"), RESOLVER);
+
+        List<TpdmTeacherCandidate> candidates = mapRows(mapping, cursor(Arrays.asList("ID"), row("1"), row("1")));
+
+        assertEquals(2, candidates.size());
+        List<String> warnings = mapping.getWarnings();
+        assertEquals(5, warnings.size(), warnings.toString());
+        assertTrue(warnings.get(0).contains("field nickName is ignored"), warnings.get(0));
+        assertTrue(warnings.get(1).contains("must be written as addresses[]"), warnings.get(1));
+        assertTrue(warnings.get(2).contains("a list must be followed"), warnings.get(2));
+        assertTrue(warnings.get(3).contains("every row is one resource"), warnings.get(3));
+        assertTrue(warnings.get(4).contains("column CITY of field addresses[].city is not returned"), warnings.get(4));
+    }
+
+    private static List<TpdmTeacherCandidate> mapRows(ResourceMapping mapping, RowCursor cursor) throws Exception {
+        List<TpdmTeacherCandidate> resources = new ArrayList<>();
+        mapping.mapRows(cursor, resource -> resources.add((TpdmTeacherCandidate) resource));
+        return resources;
+    }
+
+    private static List<String> cities(List<TpdmTeacherCandidateAddress> addresses) {
+        return addresses.stream().map(TpdmTeacherCandidateAddress::getCity).collect(Collectors.toList());
+    }
+
+    private static Method findPost(Class<?> apiClass) {
+        for (Method method : apiClass.getMethods()) {
+            if (method.getName().startsWith("post") && method.getParameterCount() == 1
+                    && method.getReturnType() == void.class) {
+                return method;
+            }
+        }
+        throw new AssertionError(apiClass.getSimpleName() + " has no post method");
+    }
+
+    private static Map<String, String> map(String... entries) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put(entries[i], entries[i + 1]);
+        }
+        return map;
+    }
+
+    private static Object[] row(Object... values) {
+        return values;
+    }
+
+    private static RowCursor cursor(List<String> columnNames, Object[]... rows) {
+        return new ListCursor(columnNames, Arrays.asList(rows));
+    }
+
+    /**
+     * Records the path a generated API builds a call for, and stops the call there.
+     */
+    private static class PathRecorder extends ApiClient {
+        String path;
+
+        @Override
+        public com.squareup.okhttp.Call buildCall(String path, String method, List<Pair> queryParams, Object body,
+                Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames,
+                ProgressRequestBody.ProgressRequestListener progressRequestListener,
+                ProgressResponseBody.ProgressListener progressListener) throws ApiException {
+            this.path = path;
+            throw new ApiException("not sent");
+        }
+    }
+
+    /**
+     * Cursor over rows held in memory.
+     */
+    private static class ListCursor extends RowCursor {
+        private final List<Object[]> rows;
+        private int position = 0;
+
+        ListCursor(List<String> columnNames, List<Object[]> rows) {
+            super(columnNames);
+            this.rows = rows;
+        }
+
+        @Override
+        protected boolean fetch(Object[] values) {
+            if (position >= rows.size()) {
+                return false;
+            }
+            System.arraycopy(rows.get(position++), 0, values, 0, values.length);
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
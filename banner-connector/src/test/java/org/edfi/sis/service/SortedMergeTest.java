@@ -0,0 +1,131 @@
+package org.edfi.sis.service;
+
+import org.edfi.sis.dao.RowCursor;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedMergeTest {
+
+    @Test
+    void mergesChildrenIntoTheirParents() throws Exception {
+        List<String> merged = merge(
+                cursor(row("1", "a"), row("10", "c"), row("2", "b")),
+                cursor(row("1", "a1"), row("1", "a2"), row("10", "c1")));
+
+        assertEquals(Arrays.asList("a[a1, a2]", "c[c1]", "b[]"), merged);
+    }
+
+    @Test
+    void skipsOrphanChildren() throws Exception {
+        List<String> merged = merge(
+                cursor(row("2", "b"), row("4", "d")),
+                cursor(row("1", "x"), row("2", "b1"), row("3", "y"), row("4", "d1"), row("5", "z")));
+
+        assertEquals(Arrays.asList("b[b1]", "d[d1]"), merged);
+    }
+
+    @Test
+    void lastParentRowOfAKeyWins() throws Exception {
+        List<String> merged = merge(
+                cursor(row("1", "first"), row("1", "second"), row("2", "b")),
+                cursor(row("1", "a1"), row("2", "b1")));
+
+        assertEquals(Arrays.asList("second[a1]", "b[b1]"), merged);
+    }
+
+    @Test
+    void handsOverParentsWithoutChildren() throws Exception {
+        List<String> merged = merge(cursor(row("1", "a"), row("2", "b")), cursor());
+
+        assertEquals(Arrays.asList("a[]", "b[]"), merged);
+    }
+
+    @Test
+    void mergesMixedNumericAndAlphanumericKeys() throws Exception {
+        List<String> merged = merge(
+                cursor(row("1", "a"), row("10", "b"), row("1A", "c"), row("9", "d"), row("A1", "e")),
+                cursor(row("10", "b1"), row("1A", "c1"), row("9", "d1"), row("A1", "e1"), row("A1", "e2")));
+
+        assertEquals(Arrays.asList("a[]", "b[b1]", "c[c1]", "d[d1]", "e[e1, e2]"), merged);
+    }
+
+    @Test
+    void failsOnParentsInNumericOrder() {
+        // 9 comes after 10 as text, so rows ordered as numbers would make the children of 10 be taken for orphans
+        SQLException e = assertThrows(SQLException.class, () -> merge(
+                cursor(row("9", "b"), row("10", "a")),
+                cursor(row("9", "b1"), row("10", "a1"))));
+
+        assertTrue(e.getMessage().contains("parent rows are not ordered by studentUniqueId"), e.getMessage());
+    }
+
+    @Test
+    void failsOnChildrenOutOfOrder() {
+        SQLException e = assertThrows(SQLException.class, () -> merge(
+                cursor(row("1", "a"), row("2", "b"), row("3", "c")),
+                cursor(row("1", "a1"), row("3", "c1"), row("2", "b1"))));
+
+        assertTrue(e.getMessage().contains("child rows are not ordered by studentUniqueId"), e.getMessage());
+    }
+
+    @Test
+    void comparesKeysAsText() {
+        assertTrue(SortedMerge.compareKeys("10", "9") < 0);
+        assertTrue(SortedMerge.compareKeys("10", "1A") < 0);
+        assertTrue(SortedMerge.compareKeys("1A", "9") < 0);
+        assertTrue(SortedMerge.compareKeys("007", "7") < 0);
+        assertTrue(SortedMerge.compareKeys(null, "1") < 0);
+    }
+
+    private static List<String> merge(RowCursor parents, RowCursor children) throws Exception {
+        List<String> merged = new ArrayList<>();
+        int count = SortedMerge.<String, String>merge("studentUniqueId", parents, 0, children, 0,
+                cursor -> cursor.getString(1),
+                (list, cursor) -> list.add(cursor.getString(1)),
+                (parent, list) -> merged.add(parent + list));
+        assertEquals(merged.size(), count);
+        return merged;
+    }
+
+    private static Object[] row(String key, String value) {
+        return new Object[] {key, value};
+    }
+
+    private static RowCursor cursor(Object[]... rows) {
+        return new ListCursor(Arrays.asList(rows));
+    }
+
+    /**
+     * Cursor over rows held in memory.
+     */
+    private static class ListCursor extends RowCursor {
+        private final List<Object[]> rows;
+        private int position = 0;
+
+        ListCursor(List<Object[]> rows) {
+            super(Arrays.asList("key", "value"));
+            this.rows = rows;
+        }
+
+        @Override
+        protected boolean fetch(Object[] values) {
+            if (position >= rows.size()) {
+                return false;
+            }
+            System.arraycopy(rows.get(position++), 0, values, 0, values.length);
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
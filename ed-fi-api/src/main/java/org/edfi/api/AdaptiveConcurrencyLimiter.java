@@ -0,0 +1,239 @@
+package org.edfi.api;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Limits how many writes to the API run at once, adjusting the limit to how the server copes (AIMD). A write takes a
+ * {@link Permit} before its call is queued on the http client, and writes above the limit wait in a queue of their own
+ * without holding a thread, so the dispatcher threads stay free for reads.
+ *
+ * Every write that completes while the whole limit is in use raises it by 1/limit, about one request per round of
+ * writes. A 429, 502, 503 or 504 answer, a timed out request, or a window of writes whose 90th percentile latency is
+ * more than latencyTolerance times the normal median cuts it by backoffRatio at once. The normal median is the lowest
+ * median of the windows seen, allowed to creep up a tenth per window so that a server which has become slower for
+ * good is not mistaken for an overloaded one.
+ *
+ * Writes that were sent before the last cut do not cut the limit again, so a burst of failures is one cut.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final Set<Integer> OVERLOAD_CODES = new HashSet<>(Arrays.asList(429, 502, 503, 504));
+
+    private enum Outcome { SUCCESS, OVERLOAD, OTHER }
+
+    /**
+     * A slot of the limit held by one write from the time its call is started until it is released.
+     */
+    public final class Permit {
+        private final long start;
+        private boolean released = false;
+
+        private Permit(long start) {
+            this.start = start;
+        }
+
+        /**
+         * Gives the slot back with the outcome of the write. Releasing a permit again has no effect.
+         *
+         * @param statusCode The status code of the answer, or 0 when there was none
+         * @param error The exception the write failed with before it was answered, or null
+         */
+        public void release(int statusCode, Throwable error) {
+            Outcome outcome;
+            if (error instanceof SocketTimeoutException || OVERLOAD_CODES.contains(statusCode)) {
+                outcome = Outcome.OVERLOAD;
+            } else if (statusCode > 0 && statusCode < 500) {
+                outcome = Outcome.SUCCESS;
+            } else {
+                outcome = Outcome.OTHER;
+            }
+            AdaptiveConcurrencyLimiter.this.release(this, outcome);
+        }
+    }
+
+    private static class Waiter {
+        final Consumer<Permit> start;
+        final long requested;
+        Permit permit;
+
+        Waiter(Consumer<Permit> start, long requested) {
+            this.start = start;
+            this.requested = requested;
+        }
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long[] window;
+    private final Queue<Waiter> waiting = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight = 0;
+    private int windowCount = 0;
+    private long lastDecrease = System.nanoTime();
+    private long baselineNanos = Long.MAX_VALUE;
+    private long[] percentiles = null;
+
+    private int lowestLimit;
+    private int highestLimit;
+    private int peakInFlight = 0;
+    private int peakWaiting = 0;
+    private long increases = 0;
+    private long decreases = 0;
+    private long overloads = 0;
+    private long waitNanos = 0;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                      double latencyTolerance, int windowSize) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.window = new long[Math.max(1, windowSize)];
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.lowestLimit = (int) limit;
+        this.highestLimit = (int) limit;
+    }
+
+    /**
+     * Starts a write once fewer writes than the limit are running: at once on the calling thread, or later on the
+     * thread that releases the permit it waited for. The start must only queue the call, not wait for it, and must
+     * release the permit it is given on every path.
+     *
+     * @param start Starts the call of the write with the permit it holds
+     */
+    public void acquire(Consumer<Permit> start) {
+        Permit permit;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (inFlight >= (int) limit || !waiting.isEmpty()) {
+                waiting.add(new Waiter(start, now));
+                peakWaiting = Math.max(peakWaiting, waiting.size());
+                return;
+            }
+            permit = grant(now);
+        }
+        start.accept(permit);
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        long[] latencies = percentiles != null ? percentiles : windowCount > 0 ? percentiles() : new long[3];
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("API Write Limit", (int) limit);
+        metrics.put("API Write Limit Lowest", lowestLimit);
+        metrics.put("API Write Limit Highest", highestLimit);
+        metrics.put("API Write Limit Increases", increases);
+        metrics.put("API Write Limit Decreases", decreases);
+        metrics.put("API Write Overloads", overloads);
+        metrics.put("API Write Peak In Flight", peakInFlight);
+        metrics.put("API Write Peak Waiting", peakWaiting);
+        metrics.put("API Write Limit Wait (ms)", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        metrics.put("API Write Latency p50 (ms)", TimeUnit.NANOSECONDS.toMillis(latencies[0]));
+        metrics.put("API Write Latency p90 (ms)", TimeUnit.NANOSECONDS.toMillis(latencies[1]));
+        metrics.put("API Write Latency p99 (ms)", TimeUnit.NANOSECONDS.toMillis(latencies[2]));
+        return metrics;
+    }
+
+    private Permit grant(long requested) {
+        inFlight++;
+        peakInFlight = Math.max(peakInFlight, inFlight);
+        long now = System.nanoTime();
+        waitNanos += now - requested;
+        return new Permit(now);
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        List<Waiter> started = new ArrayList<>();
+        synchronized (this) {
+            if (permit.released) {
+                return;
+            }
+            permit.released = true;
+            // only a write that completes with the whole limit in use has shown that the server copes with it
+            boolean saturated = inFlight >= (int) limit;
+            inFlight--;
+            long now = System.nanoTime();
+            if (outcome == Outcome.OVERLOAD) {
+                overloads++;
+                if (permit.start >= lastDecrease) {
+                    decrease(now);
+                }
+            } else if (outcome == Outcome.SUCCESS) {
+                window[windowCount++] = now - permit.start;
+                boolean slow = windowCount == window.length && completeWindow();
+                if (slow) {
+                    if (permit.start >= lastDecrease) {
+                        decrease(now);
+                    }
+                } else if (saturated && limit < maxLimit) {
+                    int before = (int) limit;
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                    if ((int) limit > before) {
+                        increases++;
+                        highestLimit = Math.max(highestLimit, (int) limit);
+                    }
+                }
+            }
+            while (inFlight < (int) limit && !waiting.isEmpty()) {
+                Waiter waiter = waiting.poll();
+                waiter.permit = grant(waiter.requested);
+                started.add(waiter);
+            }
+        }
+        // the waiting writes are started outside the lock, since starting one may complete it at once
+        for (Waiter waiter : started) {
+            waiter.start.accept(waiter.permit);
+        }
+    }
+
+    /**
+     * Takes the percentiles of a full window and starts the next one.
+     *
+     * @return true when the window was slow enough to show that the server is overloaded
+     */
+    private boolean completeWindow() {
+        percentiles = percentiles();
+        windowCount = 0;
+        long median = percentiles[0];
+        boolean slow = baselineNanos != Long.MAX_VALUE && percentiles[1] > latencyTolerance * baselineNanos;
+        baselineNanos = baselineNanos == Long.MAX_VALUE ? median : Math.min(median, baselineNanos + baselineNanos / 10);
+        return slow;
+    }
+
+    private long[] percentiles() {
+        long[] sorted = Arrays.copyOf(window, windowCount);
+        Arrays.sort(sorted);
+        return new long[] { percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99) };
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percent / 100)];
+    }
+
+    private void decrease(long now) {
+        int before = (int) limit;
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastDecrease = now;
+        windowCount = 0;
+        if ((int) limit < before) {
+            decreases++;
+            lowestLimit = Math.min(lowestLimit, (int) limit);
+        }
+    }
+}
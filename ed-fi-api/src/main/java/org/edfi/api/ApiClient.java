@@ -27,9 +27,11 @@ package org.edfi.api;
 
 import com.squareup.okhttp.Call;
 import com.squareup.okhttp.Callback;
+import com.squareup.okhttp.ConnectionPool;
 import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.Request;
 import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
 import com.squareup.okhttp.RequestBody;
 import com.squareup.okhttp.FormEncodingBuilder;
 import com.squareup.okhttp.MultipartBuilder;
@@ -39,6 +41,8 @@ import com.squareup.okhttp.internal.http.HttpMethod;
 import com.squareup.okhttp.logging.HttpLoggingInterceptor;
 import com.squareup.okhttp.logging.HttpLoggingInterceptor.Level;
 
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import java.lang.reflect.Type;
 
 import java.util.Collection;
@@ -57,6 +61,7 @@ import java.util.regex.Pattern;
 import java.net.URLEncoder;
 import java.net.URLConnection;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.InputStream;
 import java.io.IOException;
@@ -74,6 +79,7 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.text.ParseException;
 
+import javax.annotation.PostConstruct;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
@@ -130,6 +136,50 @@ public class ApiClient {
     //private String basePath = "https://api.ed-fi.org:443/v0.7.0-tpdm/api/data/v3";
     @Value( "${api.base.path}" )
     private String basePath;
+    @Value( "${api.http.max.requests:64}" )
+    private int maxRequests = 64;
+    @Value( "${api.http.max.requests.per.host:5}" )
+    private int maxRequestsPerHost = 5;
+    @Value( "${api.http.connect.timeout.ms:10000}" )
+    private int connectTimeout = 10000;
+    @Value( "${api.http.read.timeout.ms:10000}" )
+    private int readTimeout = 10000;
+    @Value( "${api.http.write.timeout.ms:10000}" )
+    private int writeTimeout = 10000;
+    @Value( "${api.http.pool.max.idle.connections:5}" )
+    private int maxIdleConnections = 5;
+    @Value( "${api.http.pool.keep.alive.ms:300000}" )
+    private long keepAliveDuration = 300000;
+    @Value( "${api.http.response.compression:true}" )
+    private boolean responseCompression = true;
+    @Value( "${api.http.request.compression:false}" )
+    private boolean requestCompression = false;
+    @Value( "${api.json.skip.empty.arrays:true}" )
+    private boolean skipEmptyArrays = true;
+    @Value( "${api.write.limit.adaptive:true}" )
+    private boolean adaptiveWriteLimit = true;
+    @Value( "${api.write.limit.initial:4}" )
+    private int initialWriteLimit = 4;
+    @Value( "${api.write.limit.min:1}" )
+    private int minWriteLimit = 1;
+    @Value( "${api.write.limit.max:16}" )
+    private int maxWriteLimit = 16;
+    @Value( "${api.write.limit.backoff.ratio:0.5}" )
+    private double writeLimitBackoffRatio = 0.5;
+    @Value( "${api.write.limit.latency.tolerance:2.0}" )
+    private double writeLimitLatencyTolerance = 2.0;
+    @Value( "${api.write.limit.window.size:50}" )
+    private int writeLimitWindowSize = 50;
+    @Value( "${api.retry.max:3}" )
+    private int maxRetries = 3;
+    @Value( "${api.retry.base.delay.ms:200}" )
+    private long retryBaseDelay = 200;
+    @Value( "${api.retry.max.delay.ms:10000}" )
+    private long retryMaxDelay = 10000;
+    @Value( "${api.retry.budget.ratio:0.1}" )
+    private double retryBudgetRatio = 0.1;
+    @Value( "${api.retry.budget.reserve:10}" )
+    private double retryBudgetReserve = 10;
     private boolean lenientOnJson = false;
     private boolean debugging = false;
     private Map<String, String> defaultHeaderMap = new HashMap<String, String>();
@@ -149,12 +199,18 @@ public class ApiClient {
     private JSON json;
 
     private HttpLoggingInterceptor loggingInterceptor;
+    private final ProgressInterceptor progressInterceptor = new ProgressInterceptor();
+    private final RetryInterceptor retryInterceptor = new RetryInterceptor();
+    private AdaptiveConcurrencyLimiter writeLimiter;
 
     /*
      * Constructor for ApiClient
      */
     public ApiClient() {
         httpClient = new OkHttpClient();
+        // retries synchronous calls; AsyncApiClient retries asynchronous ones on its timer
+        httpClient.interceptors().add(retryInterceptor);
+        httpClient.networkInterceptors().add(progressInterceptor);
 
         verifyingSsl = true;
 
@@ -183,6 +239,30 @@ public class ApiClient {
         authentications = Collections.unmodifiableMap(authentications);
     }
 
+    /**
+     * Apply the connection pool, timeout and dispatcher settings injected by Spring to the http client.
+     */
+    @PostConstruct
+    public void initHttpClient() {
+        setConnectionPool(maxIdleConnections, keepAliveDuration);
+        setConnectTimeout(connectTimeout);
+        setReadTimeout(readTimeout);
+        setWriteTimeout(writeTimeout);
+        setMaxRequests(maxRequests);
+        setMaxRequestsPerHost(maxRequestsPerHost);
+        setResponseCompression(responseCompression);
+        setSkipEmptyArrays(skipEmptyArrays);
+        retryInterceptor.setMaxRetries(maxRetries)
+                .setDelays(retryBaseDelay, retryMaxDelay)
+                .setBudget(retryBudgetRatio, retryBudgetReserve);
+        if (adaptiveWriteLimit) {
+            // writes beyond the per-host limit would only wait in the dispatcher queue and inflate the latencies
+            setWriteLimiter(new AdaptiveConcurrencyLimiter(initialWriteLimit, minWriteLimit,
+                    Math.min(maxWriteLimit, maxRequestsPerHost), writeLimitBackoffRatio, writeLimitLatencyTolerance,
+                    writeLimitWindowSize));
+        }
+    }
+
     /**
      * Get base path
      *
@@ -220,9 +300,63 @@ public class ApiClient {
      */
     public ApiClient setHttpClient(OkHttpClient httpClient) {
         this.httpClient = httpClient;
+        if (!httpClient.interceptors().contains(retryInterceptor)) {
+            httpClient.interceptors().add(0, retryInterceptor);
+        }
+        if (!httpClient.networkInterceptors().contains(progressInterceptor)) {
+            httpClient.networkInterceptors().add(progressInterceptor);
+        }
         return this;
     }
 
+    /**
+     * Get the retry policy, which also retries the calls run by {@link #execute(Call, Type)} as an interceptor.
+     *
+     * @return The retry interceptor
+     */
+    public RetryInterceptor getRetryInterceptor() {
+        return retryInterceptor;
+    }
+
+    /**
+     * Get the limiter of concurrent writes.
+     *
+     * @return The write limiter, or null when writes are not limited
+     */
+    public AdaptiveConcurrencyLimiter getWriteLimiter() {
+        return writeLimiter;
+    }
+
+    /**
+     * Limit concurrent writes with the given limiter, replacing the current one. The limit applies to writes
+     * submitted through {@link AsyncApiClient#submitWrite(AsyncApiClient.AsyncCall)}.
+     *
+     * @param writeLimiter The write limiter, or null to stop limiting writes
+     * @return Api client
+     */
+    public ApiClient setWriteLimiter(AdaptiveConcurrencyLimiter writeLimiter) {
+        this.writeLimiter = writeLimiter;
+        return this;
+    }
+
+    /**
+     * Get the number of request body bytes written to the API, as sent on the wire.
+     *
+     * @return Bytes sent
+     */
+    public long getBytesSent() {
+        return progressInterceptor.getBytesSent();
+    }
+
+    /**
+     * Get the number of response body bytes read from the API, as received on the wire.
+     *
+     * @return Bytes received
+     */
+    public long getBytesReceived() {
+        return progressInterceptor.getBytesReceived();
+    }
+
     /**
      * Get JSON
      *
@@ -638,6 +772,162 @@ public class ApiClient {
         return this;
     }
 
+    /**
+     * Get read timeout (in milliseconds).
+     *
+     * @return Timeout in milliseconds
+     */
+    public int getReadTimeout() {
+        return httpClient.getReadTimeout();
+    }
+
+    /**
+     * Sets the read timeout (in milliseconds).
+     * A value of 0 means no timeout.
+     *
+     * @param readTimeout read timeout in milliseconds
+     * @return Api client
+     */
+    public ApiClient setReadTimeout(int readTimeout) {
+        httpClient.setReadTimeout(readTimeout, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Get write timeout (in milliseconds).
+     *
+     * @return Timeout in milliseconds
+     */
+    public int getWriteTimeout() {
+        return httpClient.getWriteTimeout();
+    }
+
+    /**
+     * Sets the write timeout (in milliseconds).
+     * A value of 0 means no timeout.
+     *
+     * @param writeTimeout write timeout in milliseconds
+     * @return Api client
+     */
+    public ApiClient setWriteTimeout(int writeTimeout) {
+        httpClient.setWriteTimeout(writeTimeout, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Replaces the connection pool of the http client, so that connections to the API are kept open
+     * and reused between requests.
+     *
+     * @param maxIdleConnections maximum number of idle connections kept open
+     * @param keepAliveDuration time in milliseconds an idle connection is kept open
+     * @return Api client
+     */
+    public ApiClient setConnectionPool(int maxIdleConnections, long keepAliveDuration) {
+        httpClient.setConnectionPool(new ConnectionPool(maxIdleConnections, keepAliveDuration, TimeUnit.MILLISECONDS));
+        return this;
+    }
+
+    /**
+     * Enable/disable compressed responses.
+     * When enabled the http client asks for gzip responses and decompresses them transparently.
+     *
+     * @param responseCompression True to accept compressed responses
+     * @return Api client
+     */
+    public ApiClient setResponseCompression(boolean responseCompression) {
+        if (responseCompression) {
+            defaultHeaderMap.remove("Accept-Encoding");
+        } else {
+            addDefaultHeader("Accept-Encoding", "identity");
+        }
+        return this;
+    }
+
+    /**
+     * Check whether json request bodies are sent gzip compressed.
+     *
+     * @return True when request bodies are compressed
+     */
+    public boolean isRequestCompression() {
+        return requestCompression;
+    }
+
+    /**
+     * Enable/disable compressed json request bodies.
+     * When enabled each body is gzip encoded while it is written and sent with a Content-Encoding header, which the
+     * server must support.
+     *
+     * @param requestCompression True to compress request bodies
+     * @return Api client
+     */
+    public ApiClient setRequestCompression(boolean requestCompression) {
+        this.requestCompression = requestCompression;
+        return this;
+    }
+
+    /**
+     * Check whether empty lists of the models are left out of request bodies.
+     *
+     * @return True when empty arrays are skipped
+     */
+    public boolean isSkipEmptyArrays() {
+        return skipEmptyArrays;
+    }
+
+    /**
+     * Enable/disable leaving empty lists of the models out of request bodies, as if they were null.
+     *
+     * @param skipEmptyArrays True to skip empty arrays
+     * @return Api client
+     */
+    public ApiClient setSkipEmptyArrays(boolean skipEmptyArrays) {
+        this.skipEmptyArrays = skipEmptyArrays;
+        json.setSkipEmptyArrays(skipEmptyArrays);
+        return this;
+    }
+
+    /**
+     * Get the maximum number of asynchronous requests executed at once.
+     *
+     * @return Maximum number of requests
+     */
+    public int getMaxRequests() {
+        return httpClient.getDispatcher().getMaxRequests();
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests executed at once.
+     * Requests above the limit wait in the dispatcher queue.
+     *
+     * @param maxRequests maximum number of requests
+     * @return Api client
+     */
+    public ApiClient setMaxRequests(int maxRequests) {
+        httpClient.getDispatcher().setMaxRequests(maxRequests);
+        return this;
+    }
+
+    /**
+     * Get the maximum number of asynchronous requests executed at once for each host.
+     *
+     * @return Maximum number of requests per host
+     */
+    public int getMaxRequestsPerHost() {
+        return httpClient.getDispatcher().getMaxRequestsPerHost();
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests executed at once for each host.
+     * Requests above the limit wait in the dispatcher queue.
+     *
+     * @param maxRequestsPerHost maximum number of requests per host
+     * @return Api client
+     */
+    public ApiClient setMaxRequestsPerHost(int maxRequestsPerHost) {
+        httpClient.getDispatcher().setMaxRequestsPerHost(maxRequestsPerHost);
+        return this;
+    }
+
     /**
      * Format the given parameter object into string.
      *
@@ -834,6 +1124,21 @@ public class ApiClient {
             return (T) downloadFileFromResponse(response);
         }
 
+        String contentType = response.headers().get("Content-Type");
+        if (contentType == null) {
+            // ensuring a default content type
+            contentType = "application/json";
+        }
+        if (isJsonMime(contentType) && !returnType.equals(String.class) && !returnType.equals(Date.class)
+                && response.body() != null) {
+            // parsed straight from the byte stream, so a large page is never held as a string as well
+            try (ResponseBody body = response.body()) {
+                return json.deserialize(body.charStream(), returnType);
+            } catch (IOException | JsonParseException e) {
+                throw new ApiException(e.getMessage(), e, response.code(), response.headers().toMultimap());
+            }
+        }
+
         String respBody;
         try {
             if (response.body() != null)
@@ -848,11 +1153,6 @@ public class ApiClient {
             return null;
         }
 
-        String contentType = response.headers().get("Content-Type");
-        if (contentType == null) {
-            // ensuring a default content type
-            contentType = "application/json";
-        }
         if (isJsonMime(contentType)) {
             return json.deserialize(respBody, returnType);
         } else if (returnType.equals(String.class)) {
@@ -884,13 +1184,11 @@ public class ApiClient {
             // File body parameter support.
             return RequestBody.create(MediaType.parse(contentType), (File) obj);
         } else if (isJsonMime(contentType)) {
-            String content;
             if (obj != null) {
-                content = json.serialize(obj);
-            } else {
-                content = null;
+                // streamed to the connection, so the json is never held as a whole
+                return new JsonRequestBody(MediaType.parse(contentType), json.getGson(), obj, requestCompression);
             }
-            return RequestBody.create(MediaType.parse(contentType), content);
+            return RequestBody.create(MediaType.parse(contentType), (String) null);
         } else {
             throw new ApiException("Content type \"" + contentType + "\" is not supported");
         }
@@ -983,7 +1281,7 @@ public class ApiClient {
      */
     public <T> ApiResponse<T> execute(Call call, Type returnType) throws ApiException {
         try {
-            Response response = call.execute();
+            Response response = retryInterceptor.execute(call);
             T data = handleResponse(response, returnType);
             return new ApiResponse<T>(response.code(), response.headers().toMultimap(), data);
         } catch (IOException e) {
@@ -1033,6 +1331,74 @@ public class ApiClient {
         });
     }
 
+    /**
+     * Execute HTTP call asynchronously, reading a successful json response body with the given reader as it
+     * arrives instead of binding it to a type.
+     *
+     * @param <T> Type
+     * @param call The call
+     * @param bodyReader Reads the json response body
+     * @param callback ApiCallback
+     */
+    public <T> void streamAsync(Call call, final JsonBodyReader<T> bodyReader, final ApiCallback<T> callback) {
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Request request, IOException e) {
+                callback.onFailure(new ApiException(e), 0, null);
+            }
+
+            @Override
+            public void onResponse(Response response) throws IOException {
+                T result;
+                try {
+                    result = readResponse(response, bodyReader);
+                } catch (ApiException e) {
+                    callback.onFailure(e, response.code(), response.headers().toMultimap());
+                    return;
+                }
+                callback.onSuccess(result, response.code(), response.headers().toMultimap());
+            }
+        });
+    }
+
+    /**
+     * Reads a json response body token by token.
+     *
+     * @param <T> Type
+     */
+    @FunctionalInterface
+    public interface JsonBodyReader<T> {
+        T read(JsonReader reader) throws IOException;
+    }
+
+    /**
+     * Handle the given response, reading the body with the given reader when the response is successful.
+     *
+     * @param <T> Type
+     * @param response Response
+     * @param bodyReader Reads the json response body
+     * @throws ApiException If the response has a unsuccessful status code or
+     *   fail to read the response body
+     * @return The result of the reader, or null for an empty body
+     */
+    public <T> T readResponse(Response response, JsonBodyReader<T> bodyReader) throws ApiException {
+        if (!response.isSuccessful() || response.code() == 204 || response.body() == null) {
+            return handleResponse(response, (Type) null);
+        }
+        try (ResponseBody body = response.body()) {
+            JsonReader reader = new JsonReader(body.charStream());
+            reader.setLenient(isLenientOnJson());
+            try {
+                reader.peek();
+            } catch (EOFException e) {
+                return null;
+            }
+            return bodyReader.read(reader);
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            throw new ApiException(e.getMessage(), e, response.code(), response.headers().toMultimap());
+        }
+    }
+
     /**
      * Handle the given response, return the deserialized object when the response is successful.
      *
@@ -1080,11 +1446,33 @@ public class ApiClient {
      * @throws ApiException If fail to serialize the request body object
      */
     public Call buildCall(String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames, ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
+        return buildCall(path, method, queryParams, body, headerParams, formParams, authNames, progressRequestListener, null);
+    }
+
+    /**
+     * Build HTTP call with the given options.
+     *
+     * @param path The sub-path of the HTTP URL
+     * @param method The request method, one of "GET", "HEAD", "OPTIONS", "POST", "PUT", "PATCH" and "DELETE"
+     * @param queryParams The query parameters
+     * @param body The request body object
+     * @param headerParams The header parameters
+     * @param formParams The form parameters
+     * @param authNames The authentications to apply
+     * @param progressRequestListener Progress request listener
+     * @param progressListener Progress listener of the response, passed to the progress interceptor in the request tag
+     * @return The HTTP call
+     * @throws ApiException If fail to serialize the request body object
+     */
+    public Call buildCall(String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames, ProgressRequestBody.ProgressRequestListener progressRequestListener, ProgressResponseBody.ProgressListener progressListener) throws ApiException {
         updateParamsForAuth(authNames, queryParams, headerParams);
 
         final String url = buildUrl(path, queryParams);
         final Request.Builder reqBuilder = new Request.Builder().url(url);
         processHeaderParams(headerParams, reqBuilder);
+        if (progressListener != null) {
+            reqBuilder.tag(new ProgressInterceptor.Tag(progressListener));
+        }
 
         String contentType = (String) headerParams.get("Content-Type");
         // ensuring a default content type
@@ -1109,6 +1497,9 @@ public class ApiClient {
             }
         } else {
             reqBody = serialize(body, contentType);
+            if (reqBody instanceof JsonRequestBody && ((JsonRequestBody) reqBody).isCompressed()) {
+                reqBuilder.header("Content-Encoding", JsonRequestBody.CONTENT_ENCODING);
+            }
         }
 
         Request request = null;
@@ -0,0 +1,43 @@
+package org.edfi.api;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one instance of each generated API class, created on first use, so that every request goes through the
+ * same {@link ApiClient} and its pool of open connections. The generated APIs keep no state of their own and are
+ * safe to share between threads.
+ */
+@Component
+public class ApiRegistry {
+
+    private final ApiClient apiClient;
+    private final Map<Class<?>, Object> apis = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ApiRegistry(ApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    /**
+     * Get the shared instance of a generated API class, e.g. <code>get(TeacherCandidatesApi.class)</code>.
+     *
+     * @param <A> The API type
+     * @param apiClass A generated API class with a constructor taking an ApiClient
+     * @return The shared API instance
+     */
+    public <A> A get(Class<A> apiClass) {
+        return apiClass.cast(apis.computeIfAbsent(apiClass, this::create));
+    }
+
+    private Object create(Class<?> apiClass) {
+        try {
+            return apiClass.getConstructor(ApiClient.class).newInstance(apiClient);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(apiClass.getName() + " is not a generated API class", e);
+        }
+    }
+}
@@ -0,0 +1,511 @@
+package org.edfi.api;
+
+import com.google.gson.JsonArray;
+import com.google.gson.stream.JsonReader;
+import com.squareup.okhttp.Call;
+import org.edfi.api.auth.Authentication;
+import org.edfi.api.auth.OAuth;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Future-returning facade over the generated <code>*Async</code> API methods. Calls are queued on the dispatcher of
+ * the {@link ApiClient}, which limits how many run at once per host, so no thread is held while a request is in
+ * flight. Writes first wait for the {@link AdaptiveConcurrencyLimiter} of the api client, if it has one. Every call
+ * fails with an {@link ApiException} when it does not finish within the request timeout, and cancelling a returned
+ * future cancels the underlying http call.
+ */
+@Component
+public class AsyncApiClient {
+
+    /**
+     * Starts a generated <code>*Async</code> method, e.g.
+     * <code>callback -&gt; api.postTeacherCandidateAsync(teacherCandidate, callback)</code>.
+     *
+     * @param <T> The return type
+     */
+    @FunctionalInterface
+    public interface AsyncCall<T> {
+        Call start(ApiCallback<T> callback) throws ApiException;
+    }
+
+    /**
+     * Starts a generated collection <code>get*Async</code> method for one page, e.g.
+     * <code>(offset, limit, callback) -&gt; api.getSexDescriptorsAsync(offset, limit, false, null, callback)</code>.
+     *
+     * @param <T> The item type
+     */
+    @FunctionalInterface
+    public interface PageCall<T> {
+        Call start(int offset, int limit, ApiCallback<List<T>> callback) throws ApiException;
+    }
+
+    /**
+     * Reads one item of a collection page from the response stream. The reader is positioned at the start of the
+     * item, which the visitor must read or skip completely.
+     */
+    @FunctionalInterface
+    public interface ItemVisitor {
+        void visit(JsonReader item) throws IOException;
+    }
+
+    private static final String[] AUTH_NAMES = new String[] { "oauth2_client_credentials" };
+
+    private final ApiClient apiClient;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "api-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value( "${api.async.timeout.ms:60000}" )
+    private long timeout = 60000;
+    @Value( "${api.async.page.size:100}" )
+    private int pageSize = 100;
+    @Value( "${api.async.page.concurrency:4}" )
+    private int pageConcurrency = 4;
+
+    @Autowired
+    public AsyncApiClient(ApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    public ApiClient getApiClient() {
+        return apiClient;
+    }
+
+    /**
+     * Starts the call and returns a future of its response. Writes should be submitted with
+     * {@link #submitWrite(AsyncCall)} instead, so that the write limit applies to them.
+     *
+     * @param <T> Type
+     * @param asyncCall Starts the generated async method with the given callback
+     * @return Future completed with the response, or exceptionally with an ApiException
+     */
+    public <T> CompletableFuture<ApiResponse<T>> submit(AsyncCall<T> asyncCall) {
+        return new Submission<>(asyncCall, null).start();
+    }
+
+    /**
+     * Starts a call that writes to the API once the write limiter of the api client lets it through, and returns a
+     * future of its response. Until then the call waits without being queued on the dispatcher, so writes above the
+     * limit hold neither a thread nor a place in the dispatcher queue. The request timeout includes the wait.
+     *
+     * @param <T> Type
+     * @param asyncCall Starts the generated async method with the given callback
+     * @return Future completed with the response, or exceptionally with an ApiException
+     */
+    public <T> CompletableFuture<ApiResponse<T>> submitWrite(AsyncCall<T> asyncCall) {
+        return new Submission<>(asyncCall, apiClient.getWriteLimiter()).start();
+    }
+
+    /**
+     * A submitted call, which is started again for every retry the {@link RetryInterceptor} of the api client allows.
+     * The wait before a retry is scheduled on the timer, so a call backing off holds no dispatcher thread and no
+     * permit of the write limiter. The request timeout covers all the attempts.
+     */
+    private class Submission<T> {
+        private final AsyncCall<T> asyncCall;
+        private final AdaptiveConcurrencyLimiter writeLimiter;
+        private final CompletableFuture<ApiResponse<T>> future = new CompletableFuture<>();
+        private final AtomicReference<Call> call = new AtomicReference<>();
+        // only the attempt that just failed changes these, before the next one is scheduled
+        private int attempt = 0;
+        private boolean reauthorized = false;
+
+        Submission(AsyncCall<T> asyncCall, AdaptiveConcurrencyLimiter writeLimiter) {
+            this.asyncCall = asyncCall;
+            this.writeLimiter = writeLimiter;
+        }
+
+        CompletableFuture<ApiResponse<T>> start() {
+            apiClient.getRetryInterceptor().countRequest();
+            startAttempt();
+            ScheduledFuture<?> timeoutTask = timer.schedule(() -> {
+                if (future.completeExceptionally(new ApiException("Request timed out after " + timeout + " ms"))) {
+                    cancelCall();
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+            future.whenComplete((response, e) -> {
+                timeoutTask.cancel(false);
+                if (future.isCancelled()) {
+                    cancelCall();
+                }
+            });
+            return future;
+        }
+
+        private void startAttempt() {
+            if (writeLimiter != null) {
+                writeLimiter.acquire(this::startAttempt);
+            } else {
+                startAttempt(null);
+            }
+        }
+
+        private void startAttempt(AdaptiveConcurrencyLimiter.Permit permit) {
+            // a call that timed out or was cancelled while it waited for the limiter or a retry is not sent
+            if (future.isDone()) {
+                release(permit, 0, null);
+                return;
+            }
+            String token = getAccessToken();
+            try {
+                call.set(asyncCall.start(new ApiCallback<T>() {
+                    @Override
+                    public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                        release(permit, statusCode, e.getCause());
+                        retryOrFail(e, statusCode, responseHeaders, token);
+                    }
+
+                    @Override
+                    public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+                        release(permit, statusCode, null);
+                        future.complete(new ApiResponse<>(statusCode, responseHeaders, result));
+                    }
+
+                    @Override
+                    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+                    }
+
+                    @Override
+                    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+                    }
+                }));
+            } catch (ApiException e) {
+                release(permit, 0, e);
+                future.completeExceptionally(e);
+                return;
+            }
+            // the future may have timed out while the call was being started
+            if (future.isDone()) {
+                call.get().cancel();
+            }
+        }
+
+        private void retryOrFail(ApiException e, int statusCode, Map<String, List<String>> responseHeaders,
+                                 String rejectedToken) {
+            if (future.isDone()) {
+                return;
+            }
+            RetryInterceptor retryPolicy = apiClient.getRetryInterceptor();
+            if (statusCode == 401 && !reauthorized) {
+                reauthorized = true;
+                // the calls the API rejected share one new token, and are started again by whichever thread gets it
+                retryPolicy.reauthorizeAsync(rejectedToken).whenComplete((token, refreshError) -> {
+                    if (token != null) {
+                        startAttempt();
+                        return;
+                    }
+                    if (refreshError != null) {
+                        e.addSuppressed(refreshError);
+                    }
+                    future.completeExceptionally(e);
+                });
+                return;
+            }
+            long delay = retryPolicy.getRetryDelay(attempt, statusCode, getHeader(responseHeaders, "Retry-After"),
+                    e.getCause());
+            if (delay < 0) {
+                future.completeExceptionally(e);
+                return;
+            }
+            attempt++;
+            timer.schedule(() -> startAttempt(), delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void cancelCall() {
+            // a call still waiting for the write limiter or a retry has no http call in flight
+            if (call.get() != null) {
+                call.get().cancel();
+            }
+        }
+    }
+
+    private static void release(AdaptiveConcurrencyLimiter.Permit permit, int statusCode, Throwable error) {
+        if (permit != null) {
+            permit.release(statusCode, error);
+        }
+    }
+
+    private String getAccessToken() {
+        Authentication authentication = apiClient.getAuthentication(AUTH_NAMES[0]);
+        return authentication instanceof OAuth ? ((OAuth) authentication).getAccessToken() : null;
+    }
+
+    /**
+     * Reads one page of any collection of the API as raw json, without binding it to a model class.
+     *
+     * @param path Path of the collection, e.g. /tpdm/teacherCandidates
+     * @param offset Number of items to skip
+     * @param limit Maximum number of items to return
+     * @param totalCount True to ask for the Total-Count response header
+     * @param headerParams Additional request headers, e.g. If-None-Match
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse<JsonArray>> getCollectionPage(String path, int offset, int limit,
+                                                                      boolean totalCount, Map<String, String> headerParams) {
+        return submit(callback -> {
+            Call call = buildCollectionPageCall(path, offset, limit, totalCount, headerParams);
+            apiClient.executeAsync(call, JsonArray.class, callback);
+            return call;
+        });
+    }
+
+    /**
+     * Reads one page of any collection of the API item by item as it arrives, without holding the page or binding
+     * it to a model class, so that a visitor can pick out the few fields it needs. Visitors of pages requested at
+     * once run at the same time.
+     *
+     * @param path Path of the collection, e.g. /tpdm/teacherCandidates
+     * @param offset Number of items to skip
+     * @param limit Maximum number of items to return
+     * @param totalCount True to ask for the Total-Count response header
+     * @param headerParams Additional request headers
+     * @param visitor Reads each item
+     * @return Future of the response, holding the number of items on the page
+     */
+    public CompletableFuture<ApiResponse<Integer>> visitCollectionPage(String path, int offset, int limit,
+                                                                      boolean totalCount, Map<String, String> headerParams,
+                                                                      ItemVisitor visitor) {
+        return submit(callback -> {
+            Call call = buildCollectionPageCall(path, offset, limit, totalCount, headerParams);
+            apiClient.streamAsync(call, reader -> {
+                int count = 0;
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    visitor.visit(reader);
+                    count++;
+                }
+                reader.endArray();
+                return count;
+            }, callback);
+            return call;
+        });
+    }
+
+    private Call buildCollectionPageCall(String path, int offset, int limit, boolean totalCount,
+                                         Map<String, String> headerParams) throws ApiException {
+        List<Pair> queryParams = new ArrayList<>();
+        queryParams.addAll(apiClient.parameterToPairs("", "offset", offset));
+        queryParams.addAll(apiClient.parameterToPairs("", "limit", limit));
+        if (totalCount) {
+            queryParams.addAll(apiClient.parameterToPairs("", "totalCount", true));
+        }
+        Map<String, String> headers = new HashMap<>(headerParams);
+        headers.put("Accept", "application/json");
+        return apiClient.buildCall(path, "GET", queryParams, null, headers, new HashMap<String, Object>(),
+                AUTH_NAMES, null);
+    }
+
+    /**
+     * Posts any model object to a collection of the API, creating or updating the resource it describes.
+     *
+     * @param path Path of the collection, e.g. /tpdm/teacherCandidates
+     * @param body The model object, serialized as json
+     * @return Future of the response
+     */
+    public CompletableFuture<ApiResponse<Void>> post(String path, Object body) {
+        return submitWrite(callback -> {
+            Map<String, String> headers = new HashMap<>();
+            headers.put("Accept", "application/json");
+            headers.put("Content-Type", "application/json");
+            Call call = apiClient.buildCall(path, "POST", new ArrayList<Pair>(), body, headers, new HashMap<String, Object>(),
+                    AUTH_NAMES, null);
+            apiClient.executeAsync(call, callback);
+            return call;
+        });
+    }
+
+    /**
+     * Get the first value of a response header, ignoring the case of its name.
+     *
+     * @param response The response
+     * @param name Header name
+     * @return The header value, or null when the response has no such header
+     */
+    public static String getHeader(ApiResponse<?> response, String name) {
+        return getHeader(response.getHeaders(), name);
+    }
+
+    private static String getHeader(Map<String, List<String>> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Starts a call for every item, keeping no more calls open than the per-host limit of the api client so that
+     * calls do not use up their timeout waiting in the dispatcher queue. Each finished call starts the next one.
+     *
+     * @param <I> The item type
+     * @param <R> The result type
+     * @param items Items to start a call for
+     * @param start Starts the call for an item through this client, e.g. <code>item -&gt; submit(...)</code>
+     * @return Futures of the results, in item order
+     */
+    public <I, R> List<CompletableFuture<R>> submitAll(List<I> items, Function<I, CompletableFuture<R>> start) {
+        List<CompletableFuture<R>> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+        AtomicInteger next = new AtomicInteger();
+        int window = Math.min(items.size(), Math.max(1, apiClient.getMaxRequestsPerHost()));
+        for (int i = 0; i < window; i++) {
+            startNext(items, start, results, next);
+        }
+        return results;
+    }
+
+    private <I, R> void startNext(List<I> items, Function<I, CompletableFuture<R>> start,
+                                  List<CompletableFuture<R>> results, AtomicInteger next) {
+        int index = next.getAndIncrement();
+        // skip results that were cancelled before their call was started
+        while (index < items.size() && results.get(index).isDone()) {
+            index = next.getAndIncrement();
+        }
+        if (index >= items.size()) {
+            return;
+        }
+        CompletableFuture<R> result = results.get(index);
+        CompletableFuture<R> call = start.apply(items.get(index));
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        call.whenComplete((value, e) -> {
+            if (e != null) {
+                result.completeExceptionally(unwrap(e));
+            } else {
+                result.complete(value);
+            }
+            startNext(items, start, results, next);
+        });
+    }
+
+    /**
+     * Reads every page of a collection, using the configured page size and page concurrency.
+     *
+     * @param <T> The item type
+     * @param pageCall Starts the generated get method for one page
+     * @return Future of all items, in page order
+     */
+    public <T> CompletableFuture<List<T>> getAllPages(PageCall<T> pageCall) {
+        return getAllPages(pageCall, pageSize, pageConcurrency);
+    }
+
+    /**
+     * Reads every page of a collection. Pages are requested in windows of concurrentPages, starting the next window
+     * once the current one is complete, until a page comes back short.
+     *
+     * @param <T> The item type
+     * @param pageCall Starts the generated get method for one page
+     * @param pageSize Number of items requested per page
+     * @param concurrentPages Number of pages requested at once
+     * @return Future of all items, in page order
+     */
+    public <T> CompletableFuture<List<T>> getAllPages(PageCall<T> pageCall, int pageSize, int concurrentPages) {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        AtomicReference<List<CompletableFuture<ApiResponse<List<T>>>>> window = new AtomicReference<>();
+        result.whenComplete((items, e) -> {
+            if (result.isCancelled() && window.get() != null) {
+                window.get().forEach(page -> page.cancel(true));
+            }
+        });
+        requestWindow(pageCall, Math.max(1, pageSize), Math.max(1, concurrentPages), 0, new ArrayList<>(), window, result);
+        return result;
+    }
+
+    private <T> void requestWindow(PageCall<T> pageCall, int pageSize, int concurrentPages, int offset, List<T> items,
+                                   AtomicReference<List<CompletableFuture<ApiResponse<List<T>>>>> window,
+                                   CompletableFuture<List<T>> result) {
+        if (result.isDone()) {
+            return;
+        }
+        List<CompletableFuture<ApiResponse<List<T>>>> pages = new ArrayList<>(concurrentPages);
+        for (int i = 0; i < concurrentPages; i++) {
+            int pageOffset = offset + i * pageSize;
+            pages.add(submit(callback -> pageCall.start(pageOffset, pageSize, callback)));
+        }
+        window.set(pages);
+
+        CompletableFuture.allOf(pages.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, e) -> {
+            if (e != null) {
+                result.completeExceptionally(unwrap(e));
+                return;
+            }
+            for (CompletableFuture<ApiResponse<List<T>>> page : pages) {
+                List<T> data = page.join().getData();
+                if (data != null) {
+                    items.addAll(data);
+                }
+                if (data == null || data.size() < pageSize) {
+                    result.complete(items);
+                    return;
+                }
+            }
+            requestWindow(pageCall, pageSize, concurrentPages, offset + concurrentPages * pageSize, items, window, result);
+        });
+    }
+
+    /**
+     * Waits for the future and rethrows the ApiException it failed with.
+     *
+     * @param <T> Type
+     * @param future Future returned by this client
+     * @return The result of the future
+     * @throws ApiException If the call failed, timed out or the wait was interrupted
+     */
+    public <T> T await(CompletableFuture<T> future) throws ApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof ApiException) {
+                throw (ApiException) cause;
+            }
+            throw new ApiException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+}
@@ -40,6 +40,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.util.Date;
@@ -60,13 +61,28 @@ public class JSON {
      */
     public JSON(ApiClient apiClient) {
         this.apiClient = apiClient;
-        gson = new GsonBuilder()
+        gson = createGson(apiClient.isSkipEmptyArrays());
+    }
+
+    private Gson createGson(boolean skipEmptyArrays) {
+        return new GsonBuilder()
             .registerTypeAdapter(Date.class, new DateAdapter(apiClient))
             .registerTypeAdapter(DateTime.class, new DateTimeTypeAdapter())
             .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory(skipEmptyArrays))
             .create();
     }
 
+    /**
+     * Enable/disable leaving empty lists of the models out of serialized json, as if they were null.
+     * Replaces the Gson instance.
+     *
+     * @param skipEmptyArrays True to skip empty arrays
+     */
+    public void setSkipEmptyArrays(boolean skipEmptyArrays) {
+        gson = createGson(skipEmptyArrays);
+    }
+
     /**
      * Get Gson.
      *
@@ -95,6 +111,20 @@ public class JSON {
         return gson.toJson(obj);
     }
 
+    /**
+     * Deserialize JSON read from the given stream to Java object, without holding the whole document as a string.
+     *
+     * @param <T> Type
+     * @param body The JSON stream
+     * @param returnType The type to deserialize into
+     * @return The deserialized Java object, or null for an empty stream
+     */
+    public <T> T deserialize(Reader body, Type returnType) {
+        JsonReader jsonReader = new JsonReader(body);
+        jsonReader.setLenient(apiClient.isLenientOnJson());
+        return gson.fromJson(jsonReader, returnType);
+    }
+
     /**
      * Deserialize the given JSON string to Java object.
      *
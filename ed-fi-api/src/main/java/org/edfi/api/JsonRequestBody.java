@@ -0,0 +1,71 @@
+package org.edfi.api;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Request body that writes the json of an object straight to the connection while it is serialized, instead of
+ * building the whole document as a string first. The length is not known in advance, so the body is sent chunked.
+ * When compressed the body is gzip encoded on the way and the request must carry {@link #CONTENT_ENCODING}.
+ *
+ * The object is serialized again each time the body is written, e.g. when a request is retried, so it must not be
+ * changed until the request completes.
+ */
+public class JsonRequestBody extends RequestBody {
+    public static final String CONTENT_ENCODING = "gzip";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final MediaType contentType;
+    private final Gson gson;
+    private final Object body;
+    private final boolean compressed;
+
+    public JsonRequestBody(MediaType contentType, Gson gson, Object body, boolean compressed) {
+        this.contentType = contentType;
+        this.gson = gson;
+        this.body = body;
+        this.compressed = compressed;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        // the sink is closed by the http client, so neither stream below is closed
+        OutputStream out = sink.outputStream();
+        GZIPOutputStream gzip = compressed ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new OutputStreamWriter(gzip != null ? gzip : out, StandardCharsets.UTF_8);
+        try {
+            gson.toJson(body, writer);
+        } catch (JsonParseException e) {
+            throw new IOException("Could not serialize " + body.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+        writer.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.edfi.api;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Compiles the public constructors, getters and setters of the model classes into lambdas with
+ * {@link LambdaMetafactory}, so that code which reads or fills models by name pays for reflection once per class
+ * rather than once per call. Primitive values are boxed.
+ */
+public final class LambdaAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private LambdaAccessors() {
+    }
+
+    /**
+     * @throws IllegalArgumentException when the type has no public no-argument constructor
+     */
+    @SuppressWarnings("unchecked")
+    public static Supplier<Object> compileConstructor(Class<?> type) {
+        try {
+            MethodHandle constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), constructor, MethodType.methodType(type));
+            return (Supplier<Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(type.getSimpleName() + " has no public no-argument constructor", e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException when the getter cannot be compiled
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> compileGetter(Method getter) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), handle,
+                    MethodType.methodType(wrap(getter.getReturnType()), getter.getDeclaringClass()));
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("cannot compile " + getter.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException when the setter cannot be compiled
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> compileSetter(Method setter) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(setter);
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class), handle,
+                    MethodType.methodType(void.class, setter.getDeclaringClass(), wrap(setter.getParameterTypes()[0])));
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("cannot compile " + setter.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
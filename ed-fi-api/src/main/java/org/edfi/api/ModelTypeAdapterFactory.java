@@ -0,0 +1,189 @@
+package org.edfi.api;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Streaming type adapters for the model classes of org.edfi.model, in place of Gson's reflective adapter. The
+ * constructor and the getter and setter of every {@link SerializedName} field are compiled once per class into
+ * lambdas with {@link LambdaAccessors}, so reading or writing a model costs no reflection. The json is the same as
+ * the reflective adapter's: fields in declaration order, nulls left out unless the writer serializes them, unknown
+ * names skipped.
+ *
+ * When empty arrays are skipped, an empty list is left out like a null one; the models allocate their lists only
+ * once an item is added, so a list that was never filled is null either way.
+ *
+ * A class whose fields do not all have a matching public getter and setter is left to the reflective adapter.
+ */
+public class ModelTypeAdapterFactory implements TypeAdapterFactory {
+    private static final String MODEL_PACKAGE = "org.edfi.model.";
+
+    private final boolean skipEmptyArrays;
+
+    public ModelTypeAdapterFactory() {
+        this(false);
+    }
+
+    public ModelTypeAdapterFactory(boolean skipEmptyArrays) {
+        this.skipEmptyArrays = skipEmptyArrays;
+    }
+
+    private static class Property {
+        final String name;
+        final Function<Object, Object> getter;
+        final BiConsumer<Object, Object> setter;
+        final TypeAdapter<Object> adapter;
+        final boolean primitive;
+
+        Property(String name, Function<Object, Object> getter, BiConsumer<Object, Object> setter,
+                 TypeAdapter<Object> adapter, boolean primitive) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+            this.adapter = adapter;
+            this.primitive = primitive;
+        }
+    }
+
+    private static class ModelTypeAdapter<T> extends TypeAdapter<T> {
+        private final Supplier<Object> constructor;
+        private final Property[] properties;
+        private final Map<String, Property> propertiesByName;
+        private final boolean skipEmptyArrays;
+
+        ModelTypeAdapter(Supplier<Object> constructor, Property[] properties, Map<String, Property> propertiesByName,
+                         boolean skipEmptyArrays) {
+            this.constructor = constructor;
+            this.properties = properties;
+            this.propertiesByName = propertiesByName;
+            this.skipEmptyArrays = skipEmptyArrays;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            boolean serializeNulls = out.getSerializeNulls();
+            out.beginObject();
+            for (Property property : properties) {
+                Object propertyValue = property.getter.apply(value);
+                if (skipEmptyArrays && propertyValue instanceof Collection && ((Collection<?>) propertyValue).isEmpty()) {
+                    continue;
+                }
+                // most fields of a model are null, and the writer would only drop their names again
+                if (propertyValue != null || serializeNulls) {
+                    out.name(property.name);
+                    property.adapter.write(out, propertyValue);
+                }
+            }
+            out.endObject();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Object value = constructor.get();
+            in.beginObject();
+            while (in.hasNext()) {
+                Property property = propertiesByName.get(in.nextName());
+                if (property == null) {
+                    in.skipValue();
+                } else {
+                    Object propertyValue = property.adapter.read(in);
+                    // a json null leaves a primitive at its default
+                    if (propertyValue != null || !property.primitive) {
+                        property.setter.accept(value, propertyValue);
+                    }
+                }
+            }
+            in.endObject();
+            return (T) value;
+        }
+    }
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<?> raw = type.getRawType();
+        if (!raw.getName().startsWith(MODEL_PACKAGE) || raw.isInterface() || raw.isEnum()
+                || Modifier.isAbstract(raw.getModifiers()) || raw.getSuperclass() != Object.class) {
+            return null;
+        }
+        try {
+            return compile(gson, raw, skipEmptyArrays);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TypeAdapter<T> compile(Gson gson, Class<?> raw, boolean skipEmptyArrays) {
+        List<Property> properties = new ArrayList<>();
+        Map<String, Property> propertiesByName = new HashMap<>();
+        for (Field field : raw.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                continue;
+            }
+            SerializedName serializedName = field.getAnnotation(SerializedName.class);
+            String name = serializedName != null ? serializedName.value() : field.getName();
+            Property property = new Property(name,
+                    LambdaAccessors.compileGetter(findAccessor(raw, "get", field)),
+                    LambdaAccessors.compileSetter(findAccessor(raw, "set", field)),
+                    (TypeAdapter<Object>) gson.getAdapter(TypeToken.get(field.getGenericType())),
+                    field.getType().isPrimitive());
+            properties.add(property);
+            propertiesByName.put(name, property);
+            if (serializedName != null) {
+                for (String alternate : serializedName.alternate()) {
+                    propertiesByName.put(alternate, property);
+                }
+            }
+        }
+        return new ModelTypeAdapter<>(LambdaAccessors.compileConstructor(raw), properties.toArray(new Property[0]),
+                propertiesByName, skipEmptyArrays);
+    }
+
+    /**
+     * Finds getX or setX for field x, or for field _x as the generated models name _etag.
+     */
+    private static Method findAccessor(Class<?> raw, String prefix, Field field) {
+        String name = field.getName();
+        while (name.startsWith("_")) {
+            name = name.substring(1);
+        }
+        String accessor = prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        try {
+            Method method = "get".equals(prefix) ? raw.getMethod(accessor) : raw.getMethod(accessor, field.getType());
+            if ("get".equals(prefix) && method.getReturnType() != field.getType()) {
+                throw new IllegalArgumentException(accessor + " does not return " + field.getType().getSimpleName());
+            }
+            return method;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(raw.getSimpleName() + " has no " + accessor, e);
+        }
+    }
+}
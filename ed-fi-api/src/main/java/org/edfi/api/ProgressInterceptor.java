@@ -0,0 +1,109 @@
+package org.edfi.api;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Network interceptor registered once on the http client of an {@link ApiClient}. It counts the bytes each request
+ * and response puts on the wire, after compression, and reports the progress of a response to the listener its call
+ * was built with. The listener travels as the {@link Tag} of the request, so a call with a listener no longer adds an
+ * interceptor of its own to the shared client.
+ */
+public class ProgressInterceptor implements Interceptor {
+
+    /**
+     * Request tag carrying the response progress listener of one call.
+     */
+    public static class Tag {
+        private final ProgressResponseBody.ProgressListener progressListener;
+
+        public Tag(ProgressResponseBody.ProgressListener progressListener) {
+            this.progressListener = progressListener;
+        }
+
+        public ProgressResponseBody.ProgressListener getProgressListener() {
+            return progressListener;
+        }
+    }
+
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (request.body() != null) {
+            request = request.newBuilder()
+                    .method(request.method(), new ProgressRequestBody(request.body(), new ByteCounter(bytesSent)))
+                    .build();
+        }
+        Response response = chain.proceed(request);
+        if (response.body() == null) {
+            return response;
+        }
+        Object tag = request.tag();
+        ProgressResponseBody.ProgressListener progressListener = tag instanceof Tag
+                ? ((Tag) tag).getProgressListener() : null;
+        return response.newBuilder()
+                .body(new ProgressResponseBody(response.body(), new ByteCounter(bytesReceived, progressListener)))
+                .build();
+    }
+
+    /**
+     * @return bytes of request bodies written to the API so far
+     */
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    /**
+     * @return bytes of response bodies read from the API so far
+     */
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    /**
+     * Adds the bytes of one body to a total as they are transferred. The progress bodies report a running count, so
+     * only the difference from the last report is added.
+     */
+    private static class ByteCounter implements ProgressRequestBody.ProgressRequestListener,
+            ProgressResponseBody.ProgressListener {
+        private final AtomicLong total;
+        private final ProgressResponseBody.ProgressListener delegate;
+        private long counted = 0;
+
+        ByteCounter(AtomicLong total) {
+            this(total, null);
+        }
+
+        ByteCounter(AtomicLong total, ProgressResponseBody.ProgressListener delegate) {
+            this.total = total;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onRequestProgress(long bytesWritten, long contentLength, boolean done) {
+            count(bytesWritten);
+        }
+
+        @Override
+        public void update(long bytesRead, long contentLength, boolean done) {
+            count(bytesRead);
+            if (delegate != null) {
+                delegate.update(bytesRead, contentLength, done);
+            }
+        }
+
+        private void count(long bytes) {
+            if (bytes > counted) {
+                total.addAndGet(bytes - counted);
+                counted = bytes;
+            }
+        }
+    }
+}
@@ -46,8 +46,6 @@ public class ProgressRequestBody extends RequestBody {
 
     private final ProgressRequestListener progressListener;
 
-    private BufferedSink bufferedSink;
-
     public ProgressRequestBody(RequestBody requestBody, ProgressRequestListener progressListener) {
         this.requestBody = requestBody;
         this.progressListener = progressListener;
@@ -65,10 +63,8 @@ public class ProgressRequestBody extends RequestBody {
 
     @Override
     public void writeTo(BufferedSink sink) throws IOException {
-        if (bufferedSink == null) {
-            bufferedSink = Okio.buffer(sink(sink));
-        }
-
+        // a retried request writes the body again, to a new sink
+        BufferedSink bufferedSink = Okio.buffer(sink(sink));
         requestBody.writeTo(bufferedSink);
         bufferedSink.flush();
 
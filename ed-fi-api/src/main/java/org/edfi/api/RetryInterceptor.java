@@ -0,0 +1,321 @@
+package org.edfi.api;
+
+import com.squareup.okhttp.Call;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retry policy for the requests of an {@link ApiClient} which failed for a reason that may pass: a timeout, a refused
+ * or reset connection, or a 408, 429, 500, 502, 503 or 504 answer. The n-th retry waits a random time between zero and
+ * baseDelay * 2^n, at most maxDelay, or as long as the Retry-After header of the answer asks. An answer that asks for
+ * longer than maxDelay is returned as it is.
+ *
+ * Retries are paid from a budget shared by all requests, so that they cannot multiply the load on a server that is
+ * already failing: every request adds budgetRatio to it, up to budgetReserve, and every retry takes one.
+ *
+ * A 401 answer is retried once, without touching the budget, with the token the {@link TokenRefresher} gives in place
+ * of the one the API rejected.
+ *
+ * As an application interceptor it retries the calls run by {@link #execute(Call)}, sleeping on the calling thread
+ * between attempts. Asynchronous calls pass through untouched: {@link AsyncApiClient} retries them on its timer with
+ * {@link #getRetryDelay(int, int, String, Throwable)} and {@link #reauthorizeAsync(String)}, so that a call backing off
+ * or waiting for a token does not hold one of the few dispatcher threads.
+ */
+public class RetryInterceptor implements Interceptor {
+    private static final Set<Integer> RETRY_CODES = new HashSet<>(Arrays.asList(408, 429, 500, 502, 503, 504));
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String BEARER = "Bearer ";
+
+    /**
+     * Replaces an access token the API rejected. The new token must also be set on the api client, since asynchronous
+     * calls are built again with it rather than sent again.
+     */
+    @FunctionalInterface
+    public interface TokenRefresher {
+        /**
+         * @return the token to send instead, or null when there is none
+         */
+        String refreshToken(String rejectedToken) throws IOException;
+
+        /**
+         * Replaces a rejected token without blocking the calling thread. Refreshers that wait for a token server
+         * should override it; by default the token is refreshed on the calling thread.
+         *
+         * @return a future of the token to send instead, completed with null when there is none
+         */
+        default CompletableFuture<String> refreshTokenAsync(String rejectedToken) {
+            CompletableFuture<String> token = new CompletableFuture<>();
+            try {
+                token.complete(refreshToken(rejectedToken));
+            } catch (IOException | RuntimeException e) {
+                token.completeExceptionally(e);
+            }
+            return token;
+        }
+    }
+
+    private int maxRetries = 3;
+    private long baseDelayMillis = 200;
+    private long maxDelayMillis = 10000;
+    private double budgetRatio = 0.1;
+    private double budgetReserve = 10;
+    private TokenRefresher tokenRefresher = null;
+
+    private double budget = budgetReserve;
+    private long retries = 0;
+    private long deniedRetries = 0;
+    private long exhaustedRetries = 0;
+    private long unauthorizedRetries = 0;
+    private long waitMillis = 0;
+
+    private final ThreadLocal<Boolean> synchronous = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Executes the call on the calling thread, retrying it as needed.
+     */
+    public Response execute(Call call) throws IOException {
+        boolean nested = synchronous.get();
+        synchronous.set(true);
+        try {
+            return call.execute();
+        } finally {
+            synchronous.set(nested);
+        }
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!synchronous.get()) {
+            return chain.proceed(request);
+        }
+        countRequest();
+        boolean reauthorized = false;
+        for (int attempt = 0; ; attempt++) {
+            Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                long delay = getRetryDelay(attempt, 0, null, e);
+                if (delay < 0) {
+                    throw e;
+                }
+                sleep(delay);
+                continue;
+            }
+
+            if (response.code() == 401 && !reauthorized) {
+                String header = request.header(AUTHORIZATION);
+                String token = reauthorize(header != null && header.startsWith(BEARER)
+                        ? header.substring(BEARER.length()) : null);
+                if (token == null) {
+                    return response;
+                }
+                reauthorized = true;
+                closeQuietly(response);
+                request = request.newBuilder().header(AUTHORIZATION, BEARER + token).build();
+                attempt--;
+                continue;
+            }
+            long delay = getRetryDelay(attempt, response.code(), response.header("Retry-After"), null);
+            if (delay < 0) {
+                return response;
+            }
+            closeQuietly(response);
+            sleep(delay);
+        }
+    }
+
+    /**
+     * Adds a new request to the retry budget. Each request is counted once, however often it is retried.
+     */
+    public synchronized void countRequest() {
+        budget = Math.min(budgetReserve, budget + budgetRatio);
+    }
+
+    /**
+     * Decides whether a failed attempt is retried, taking the retry from the budget when it is.
+     *
+     * @param attempt Number of the failed attempt, 0 for the first
+     * @param statusCode Status code of the answer, or 0 when there was none
+     * @param retryAfter Retry-After header of the answer, or null
+     * @param error Exception the attempt failed with before it was answered, or null
+     * @return Milliseconds to wait before the retry, or -1 when the failure must be returned
+     */
+    public long getRetryDelay(int attempt, int statusCode, String retryAfter, Throwable error) {
+        if (error != null ? !isRetriable(error) : !RETRY_CODES.contains(statusCode)) {
+            return -1;
+        }
+        long delay = backoff(attempt);
+        Long requested = parseRetryAfter(retryAfter);
+        if (requested != null) {
+            if (requested > maxDelayMillis) {
+                return -1;
+            }
+            delay = Math.max(delay, requested);
+        }
+        if (!mayRetry(attempt)) {
+            return -1;
+        }
+        countWait(delay);
+        return delay;
+    }
+
+    /**
+     * Asks the {@link TokenRefresher} for a token to send instead of one the API answered 401 to.
+     *
+     * @param rejectedToken The rejected token, or null when it is not known
+     * @return The new token, or null when no other token is available
+     */
+    public String reauthorize(String rejectedToken) throws IOException {
+        if (tokenRefresher == null) {
+            return null;
+        }
+        return acceptToken(tokenRefresher.refreshToken(rejectedToken), rejectedToken);
+    }
+
+    /**
+     * Asks the {@link TokenRefresher} for a token to send instead of one the API answered 401 to, without waiting
+     * for it on the calling thread.
+     *
+     * @param rejectedToken The rejected token, or null when it is not known
+     * @return A future of the new token, completed with null when no other token is available
+     */
+    public CompletableFuture<String> reauthorizeAsync(String rejectedToken) {
+        if (tokenRefresher == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return tokenRefresher.refreshTokenAsync(rejectedToken).thenApply(token -> acceptToken(token, rejectedToken));
+    }
+
+    public RetryInterceptor setMaxRetries(int maxRetries) {
+        this.maxRetries = Math.max(0, maxRetries);
+        return this;
+    }
+
+    public RetryInterceptor setDelays(long baseDelayMillis, long maxDelayMillis) {
+        this.baseDelayMillis = Math.max(1, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+        return this;
+    }
+
+    public synchronized RetryInterceptor setBudget(double budgetRatio, double budgetReserve) {
+        this.budgetRatio = budgetRatio;
+        this.budgetReserve = budgetReserve;
+        this.budget = Math.min(budget, budgetReserve);
+        return this;
+    }
+
+    public RetryInterceptor setTokenRefresher(TokenRefresher tokenRefresher) {
+        this.tokenRefresher = tokenRefresher;
+        return this;
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("API Retries", retries);
+        metrics.put("API Retries Denied By Budget", deniedRetries);
+        metrics.put("API Retries Exhausted", exhaustedRetries);
+        metrics.put("API Unauthorized Retries", unauthorizedRetries);
+        metrics.put("API Retry Wait (ms)", waitMillis);
+        return metrics;
+    }
+
+    private static boolean isRetriable(Throwable e) {
+        // the http client reports a cancelled call as a plain IOException, which must not be retried
+        return e instanceof SocketTimeoutException || e instanceof SocketException;
+    }
+
+    /**
+     * Takes a retry from the budget unless the request has used all its retries or the budget is spent.
+     */
+    private synchronized boolean mayRetry(int attempt) {
+        if (attempt >= maxRetries) {
+            exhaustedRetries++;
+            return false;
+        }
+        if (budget < 1) {
+            deniedRetries++;
+            return false;
+        }
+        budget--;
+        retries++;
+        return true;
+    }
+
+    private synchronized String acceptToken(String token, String rejectedToken) {
+        if (token == null || token.equals(rejectedToken)) {
+            return null;
+        }
+        unauthorizedRetries++;
+        return token;
+    }
+
+    private synchronized void countWait(long millis) {
+        waitMillis += millis;
+    }
+
+    /**
+     * Exponential backoff with full jitter: a random wait up to twice as long as the largest of the retry before.
+     */
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * @return the wait a Retry-After header asks for in milliseconds, given in seconds or as an http date
+     */
+    static Long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return null;
+        }
+        String value = retryAfter.trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            // not a number of seconds, so it should be a date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+
+    private static void closeQuietly(Response response) {
+        if (response.body() != null) {
+            try {
+                response.body().close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -32,7 +32,8 @@ import java.util.List;
 
 @javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2020-06-09T12:36:43.982-07:00")
 public class OAuth implements Authentication {
-  private String accessToken;
+  // replaced while requests are in flight, so every request reads the latest token
+  private volatile String accessToken;
 
   public String getAccessToken() {
     return accessToken;
@@ -44,8 +45,9 @@ public class OAuth implements Authentication {
 
   @Override
   public void applyToParams(List<Pair> queryParams, Map<String, String> headerParams) {
-    if (accessToken != null) {
-      headerParams.put("Authorization", "Bearer " + accessToken);
+    String token = accessToken;
+    if (token != null) {
+      headerParams.put("Authorization", "Bearer " + token);
     }
   }
 }
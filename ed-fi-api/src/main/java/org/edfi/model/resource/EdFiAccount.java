@@ -44,7 +44,7 @@ public class EdFiAccount   {
   private String id = null;
 
   @SerializedName("accountCodes")
-  private List<EdFiAccountAccountCode> accountCodes = new ArrayList<EdFiAccountAccountCode>();
+  private List<EdFiAccountAccountCode> accountCodes = null;
 
   @SerializedName("accountIdentifier")
   private String accountIdentifier = null;
@@ -85,6 +85,9 @@ public class EdFiAccount   {
   }
 
   public EdFiAccount addAccountCodesItem(EdFiAccountAccountCode accountCodesItem) {
+    if (this.accountCodes == null) {
+      this.accountCodes = new ArrayList<EdFiAccountAccountCode>();
+    }
     this.accountCodes.add(accountCodesItem);
     return this;
   }
@@ -55,7 +55,7 @@ public class EdFiAssessment   {
   private String id = null;
 
   @SerializedName("academicSubjects")
-  private List<EdFiAssessmentAcademicSubject> academicSubjects = new ArrayList<EdFiAssessmentAcademicSubject>();
+  private List<EdFiAssessmentAcademicSubject> academicSubjects = null;
 
   @SerializedName("assessmentIdentifier")
   private String assessmentIdentifier = null;
@@ -70,7 +70,7 @@ public class EdFiAssessment   {
   private Boolean adaptiveAssessment = null;
 
   @SerializedName("assessedGradeLevels")
-  private List<EdFiAssessmentAssessedGradeLevel> assessedGradeLevels = new ArrayList<EdFiAssessmentAssessedGradeLevel>();
+  private List<EdFiAssessmentAssessedGradeLevel> assessedGradeLevels = null;
 
   @SerializedName("assessmentCategoryDescriptor")
   private String assessmentCategoryDescriptor = null;
@@ -91,10 +91,10 @@ public class EdFiAssessment   {
   private EdFiAssessmentContentStandard contentStandard = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiAssessmentIdentificationCode> identificationCodes = new ArrayList<EdFiAssessmentIdentificationCode>();
+  private List<EdFiAssessmentIdentificationCode> identificationCodes = null;
 
   @SerializedName("languages")
-  private List<EdFiAssessmentLanguage> languages = new ArrayList<EdFiAssessmentLanguage>();
+  private List<EdFiAssessmentLanguage> languages = null;
 
   @SerializedName("maxRawScore")
   private Integer maxRawScore = null;
@@ -103,22 +103,22 @@ public class EdFiAssessment   {
   private String nomenclature = null;
 
   @SerializedName("performanceLevels")
-  private List<EdFiAssessmentPerformanceLevel> performanceLevels = new ArrayList<EdFiAssessmentPerformanceLevel>();
+  private List<EdFiAssessmentPerformanceLevel> performanceLevels = null;
 
   @SerializedName("period")
   private EdFiAssessmentPeriod period = null;
 
   @SerializedName("programs")
-  private List<EdFiAssessmentProgram> programs = new ArrayList<EdFiAssessmentProgram>();
+  private List<EdFiAssessmentProgram> programs = null;
 
   @SerializedName("revisionDate")
   private LocalDate revisionDate = null;
 
   @SerializedName("scores")
-  private List<EdFiAssessmentScore> scores = new ArrayList<EdFiAssessmentScore>();
+  private List<EdFiAssessmentScore> scores = null;
 
   @SerializedName("sections")
-  private List<EdFiAssessmentSection> sections = new ArrayList<EdFiAssessmentSection>();
+  private List<EdFiAssessmentSection> sections = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -150,6 +150,9 @@ public class EdFiAssessment   {
   }
 
   public EdFiAssessment addAcademicSubjectsItem(EdFiAssessmentAcademicSubject academicSubjectsItem) {
+    if (this.academicSubjects == null) {
+      this.academicSubjects = new ArrayList<EdFiAssessmentAcademicSubject>();
+    }
     this.academicSubjects.add(academicSubjectsItem);
     return this;
   }
@@ -245,6 +248,9 @@ public class EdFiAssessment   {
   }
 
   public EdFiAssessment addAssessedGradeLevelsItem(EdFiAssessmentAssessedGradeLevel assessedGradeLevelsItem) {
+    if (this.assessedGradeLevels == null) {
+      this.assessedGradeLevels = new ArrayList<EdFiAssessmentAssessedGradeLevel>();
+    }
     this.assessedGradeLevels.add(assessedGradeLevelsItem);
     return this;
   }
@@ -376,6 +382,9 @@ public class EdFiAssessment   {
   }
 
   public EdFiAssessment addIdentificationCodesItem(EdFiAssessmentIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiAssessmentIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -399,6 +408,9 @@ public class EdFiAssessment   {
   }
 
   public EdFiAssessment addLanguagesItem(EdFiAssessmentLanguage languagesItem) {
+    if (this.languages == null) {
+      this.languages = new ArrayList<EdFiAssessmentLanguage>();
+    }
     this.languages.add(languagesItem);
     return this;
   }
@@ -458,6 +470,9 @@ public class EdFiAssessment   {
   }
 
   public EdFiAssessment addPerformanceLevelsItem(EdFiAssessmentPerformanceLevel performanceLevelsItem) {
+    if (this.performanceLevels == null) {
+      this.performanceLevels = new ArrayList<EdFiAssessmentPerformanceLevel>();
+    }
     this.performanceLevels.add(performanceLevelsItem);
     return this;
   }
@@ -499,6 +514,9 @@ public class EdFiAssessment   {
   }
 
   public EdFiAssessment addProgramsItem(EdFiAssessmentProgram programsItem) {
+    if (this.programs == null) {
+      this.programs = new ArrayList<EdFiAssessmentProgram>();
+    }
     this.programs.add(programsItem);
     return this;
   }
@@ -540,6 +558,9 @@ public class EdFiAssessment   {
   }
 
   public EdFiAssessment addScoresItem(EdFiAssessmentScore scoresItem) {
+    if (this.scores == null) {
+      this.scores = new ArrayList<EdFiAssessmentScore>();
+    }
     this.scores.add(scoresItem);
     return this;
   }
@@ -563,6 +584,9 @@ public class EdFiAssessment   {
   }
 
   public EdFiAssessment addSectionsItem(EdFiAssessmentSection sectionsItem) {
+    if (this.sections == null) {
+      this.sections = new ArrayList<EdFiAssessmentSection>();
+    }
     this.sections.add(sectionsItem);
     return this;
   }
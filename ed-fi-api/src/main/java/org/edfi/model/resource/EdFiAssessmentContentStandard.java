@@ -69,7 +69,7 @@ public class EdFiAssessmentContentStandard   {
   private EdFiEducationOrganizationReference mandatingEducationOrganizationReference = null;
 
   @SerializedName("authors")
-  private List<EdFiAssessmentContentStandardAuthor> authors = new ArrayList<EdFiAssessmentContentStandardAuthor>();
+  private List<EdFiAssessmentContentStandardAuthor> authors = null;
 
   public EdFiAssessmentContentStandard publicationStatusDescriptor(String publicationStatusDescriptor) {
     this.publicationStatusDescriptor = publicationStatusDescriptor;
@@ -239,6 +239,9 @@ public class EdFiAssessmentContentStandard   {
   }
 
   public EdFiAssessmentContentStandard addAuthorsItem(EdFiAssessmentContentStandardAuthor authorsItem) {
+    if (this.authors == null) {
+      this.authors = new ArrayList<EdFiAssessmentContentStandardAuthor>();
+    }
     this.authors.add(authorsItem);
     return this;
   }
@@ -62,7 +62,7 @@ public class EdFiAssessmentItem   {
   private String expectedTimeAssessed = null;
 
   @SerializedName("learningStandards")
-  private List<EdFiAssessmentItemLearningStandard> learningStandards = new ArrayList<EdFiAssessmentItemLearningStandard>();
+  private List<EdFiAssessmentItemLearningStandard> learningStandards = null;
 
   @SerializedName("maxRawScore")
   private Integer maxRawScore = null;
@@ -205,6 +205,9 @@ public class EdFiAssessmentItem   {
   }
 
   public EdFiAssessmentItem addLearningStandardsItem(EdFiAssessmentItemLearningStandard learningStandardsItem) {
+    if (this.learningStandards == null) {
+      this.learningStandards = new ArrayList<EdFiAssessmentItemLearningStandard>();
+    }
     this.learningStandards.add(learningStandardsItem);
     return this;
   }
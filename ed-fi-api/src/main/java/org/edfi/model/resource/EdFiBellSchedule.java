@@ -49,7 +49,7 @@ public class EdFiBellSchedule   {
   private String bellScheduleName = null;
 
   @SerializedName("classPeriods")
-  private List<EdFiBellScheduleClassPeriod> classPeriods = new ArrayList<EdFiBellScheduleClassPeriod>();
+  private List<EdFiBellScheduleClassPeriod> classPeriods = null;
 
   @SerializedName("schoolReference")
   private EdFiSchoolReference schoolReference = null;
@@ -58,10 +58,10 @@ public class EdFiBellSchedule   {
   private String alternateDayName = null;
 
   @SerializedName("dates")
-  private List<EdFiBellScheduleDate> dates = new ArrayList<EdFiBellScheduleDate>();
+  private List<EdFiBellScheduleDate> dates = null;
 
   @SerializedName("gradeLevels")
-  private List<EdFiBellScheduleGradeLevel> gradeLevels = new ArrayList<EdFiBellScheduleGradeLevel>();
+  private List<EdFiBellScheduleGradeLevel> gradeLevels = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -108,6 +108,9 @@ public class EdFiBellSchedule   {
   }
 
   public EdFiBellSchedule addClassPeriodsItem(EdFiBellScheduleClassPeriod classPeriodsItem) {
+    if (this.classPeriods == null) {
+      this.classPeriods = new ArrayList<EdFiBellScheduleClassPeriod>();
+    }
     this.classPeriods.add(classPeriodsItem);
     return this;
   }
@@ -167,6 +170,9 @@ public class EdFiBellSchedule   {
   }
 
   public EdFiBellSchedule addDatesItem(EdFiBellScheduleDate datesItem) {
+    if (this.dates == null) {
+      this.dates = new ArrayList<EdFiBellScheduleDate>();
+    }
     this.dates.add(datesItem);
     return this;
   }
@@ -190,6 +196,9 @@ public class EdFiBellSchedule   {
   }
 
   public EdFiBellSchedule addGradeLevelsItem(EdFiBellScheduleGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<EdFiBellScheduleGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
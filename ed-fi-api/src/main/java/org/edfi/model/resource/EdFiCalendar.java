@@ -57,7 +57,7 @@ public class EdFiCalendar   {
   private String calendarTypeDescriptor = null;
 
   @SerializedName("gradeLevels")
-  private List<EdFiCalendarGradeLevel> gradeLevels = new ArrayList<EdFiCalendarGradeLevel>();
+  private List<EdFiCalendarGradeLevel> gradeLevels = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -158,6 +158,9 @@ public class EdFiCalendar   {
   }
 
   public EdFiCalendar addGradeLevelsItem(EdFiCalendarGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<EdFiCalendarGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
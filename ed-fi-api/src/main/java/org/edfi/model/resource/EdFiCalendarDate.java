@@ -45,7 +45,7 @@ public class EdFiCalendarDate   {
   private String id = null;
 
   @SerializedName("calendarEvents")
-  private List<EdFiCalendarDateCalendarEvent> calendarEvents = new ArrayList<EdFiCalendarDateCalendarEvent>();
+  private List<EdFiCalendarDateCalendarEvent> calendarEvents = null;
 
   @SerializedName("date")
   private LocalDate date = null;
@@ -80,6 +80,9 @@ public class EdFiCalendarDate   {
   }
 
   public EdFiCalendarDate addCalendarEventsItem(EdFiCalendarDateCalendarEvent calendarEventsItem) {
+    if (this.calendarEvents == null) {
+      this.calendarEvents = new ArrayList<EdFiCalendarDateCalendarEvent>();
+    }
     this.calendarEvents.add(calendarEventsItem);
     return this;
   }
@@ -50,7 +50,7 @@ public class EdFiClassPeriod   {
   private EdFiSchoolReference schoolReference = null;
 
   @SerializedName("meetingTimes")
-  private List<EdFiClassPeriodMeetingTime> meetingTimes = new ArrayList<EdFiClassPeriodMeetingTime>();
+  private List<EdFiClassPeriodMeetingTime> meetingTimes = null;
 
   @SerializedName("officialAttendancePeriod")
   private Boolean officialAttendancePeriod = null;
@@ -118,6 +118,9 @@ public class EdFiClassPeriod   {
   }
 
   public EdFiClassPeriod addMeetingTimesItem(EdFiClassPeriodMeetingTime meetingTimesItem) {
+    if (this.meetingTimes == null) {
+      this.meetingTimes = new ArrayList<EdFiClassPeriodMeetingTime>();
+    }
     this.meetingTimes.add(meetingTimesItem);
     return this;
   }
@@ -62,7 +62,7 @@ public class EdFiCohort   {
   private String cohortTypeDescriptor = null;
 
   @SerializedName("programs")
-  private List<EdFiCohortProgram> programs = new ArrayList<EdFiCohortProgram>();
+  private List<EdFiCohortProgram> programs = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -199,6 +199,9 @@ public class EdFiCohort   {
   }
 
   public EdFiCohort addProgramsItem(EdFiCohortProgram programsItem) {
+    if (this.programs == null) {
+      this.programs = new ArrayList<EdFiCohortProgram>();
+    }
     this.programs.add(programsItem);
     return this;
   }
@@ -48,22 +48,22 @@ public class EdFiCommunityOrganization   {
   private String id = null;
 
   @SerializedName("addresses")
-  private List<EdFiEducationOrganizationAddress> addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+  private List<EdFiEducationOrganizationAddress> addresses = null;
 
   @SerializedName("categories")
-  private List<EdFiEducationOrganizationCategory> categories = new ArrayList<EdFiEducationOrganizationCategory>();
+  private List<EdFiEducationOrganizationCategory> categories = null;
 
   @SerializedName("communityOrganizationId")
   private Integer communityOrganizationId = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = null;
 
   @SerializedName("institutionTelephones")
-  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = null;
 
   @SerializedName("nameOfInstitution")
   private String nameOfInstitution = null;
@@ -107,6 +107,9 @@ public class EdFiCommunityOrganization   {
   }
 
   public EdFiCommunityOrganization addAddressesItem(EdFiEducationOrganizationAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -130,6 +133,9 @@ public class EdFiCommunityOrganization   {
   }
 
   public EdFiCommunityOrganization addCategoriesItem(EdFiEducationOrganizationCategory categoriesItem) {
+    if (this.categories == null) {
+      this.categories = new ArrayList<EdFiEducationOrganizationCategory>();
+    }
     this.categories.add(categoriesItem);
     return this;
   }
@@ -171,6 +177,9 @@ public class EdFiCommunityOrganization   {
   }
 
   public EdFiCommunityOrganization addIdentificationCodesItem(EdFiEducationOrganizationIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -194,6 +203,9 @@ public class EdFiCommunityOrganization   {
   }
 
   public EdFiCommunityOrganization addInstitutionTelephonesItem(EdFiEducationOrganizationInstitutionTelephone institutionTelephonesItem) {
+    if (this.institutionTelephones == null) {
+      this.institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+    }
     this.institutionTelephones.add(institutionTelephonesItem);
     return this;
   }
@@ -217,6 +229,9 @@ public class EdFiCommunityOrganization   {
   }
 
   public EdFiCommunityOrganization addInternationalAddressesItem(EdFiEducationOrganizationInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
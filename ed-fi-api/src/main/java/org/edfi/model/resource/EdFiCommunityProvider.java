@@ -49,10 +49,10 @@ public class EdFiCommunityProvider   {
   private String id = null;
 
   @SerializedName("addresses")
-  private List<EdFiEducationOrganizationAddress> addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+  private List<EdFiEducationOrganizationAddress> addresses = null;
 
   @SerializedName("categories")
-  private List<EdFiEducationOrganizationCategory> categories = new ArrayList<EdFiEducationOrganizationCategory>();
+  private List<EdFiEducationOrganizationCategory> categories = null;
 
   @SerializedName("communityProviderId")
   private Integer communityProviderId = null;
@@ -61,13 +61,13 @@ public class EdFiCommunityProvider   {
   private EdFiCommunityOrganizationReference communityOrganizationReference = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = null;
 
   @SerializedName("institutionTelephones")
-  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = null;
 
   @SerializedName("licenseExemptIndicator")
   private Boolean licenseExemptIndicator = null;
@@ -126,6 +126,9 @@ public class EdFiCommunityProvider   {
   }
 
   public EdFiCommunityProvider addAddressesItem(EdFiEducationOrganizationAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -149,6 +152,9 @@ public class EdFiCommunityProvider   {
   }
 
   public EdFiCommunityProvider addCategoriesItem(EdFiEducationOrganizationCategory categoriesItem) {
+    if (this.categories == null) {
+      this.categories = new ArrayList<EdFiEducationOrganizationCategory>();
+    }
     this.categories.add(categoriesItem);
     return this;
   }
@@ -208,6 +214,9 @@ public class EdFiCommunityProvider   {
   }
 
   public EdFiCommunityProvider addIdentificationCodesItem(EdFiEducationOrganizationIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -231,6 +240,9 @@ public class EdFiCommunityProvider   {
   }
 
   public EdFiCommunityProvider addInstitutionTelephonesItem(EdFiEducationOrganizationInstitutionTelephone institutionTelephonesItem) {
+    if (this.institutionTelephones == null) {
+      this.institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+    }
     this.institutionTelephones.add(institutionTelephonesItem);
     return this;
   }
@@ -254,6 +266,9 @@ public class EdFiCommunityProvider   {
   }
 
   public EdFiCommunityProvider addInternationalAddressesItem(EdFiEducationOrganizationInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -53,7 +53,7 @@ public class EdFiCourse   {
   private String courseCode = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiCourseIdentificationCode> identificationCodes = new ArrayList<EdFiCourseIdentificationCode>();
+  private List<EdFiCourseIdentificationCode> identificationCodes = null;
 
   @SerializedName("educationOrganizationReference")
   private EdFiEducationOrganizationReference educationOrganizationReference = null;
@@ -65,7 +65,7 @@ public class EdFiCourse   {
   private String careerPathwayDescriptor = null;
 
   @SerializedName("competencyLevels")
-  private List<EdFiCourseCompetencyLevel> competencyLevels = new ArrayList<EdFiCourseCompetencyLevel>();
+  private List<EdFiCourseCompetencyLevel> competencyLevels = null;
 
   @SerializedName("courseDefinedByDescriptor")
   private String courseDefinedByDescriptor = null;
@@ -86,13 +86,13 @@ public class EdFiCourse   {
   private Boolean highSchoolCourseRequirement = null;
 
   @SerializedName("learningObjectives")
-  private List<EdFiCourseLearningObjective> learningObjectives = new ArrayList<EdFiCourseLearningObjective>();
+  private List<EdFiCourseLearningObjective> learningObjectives = null;
 
   @SerializedName("learningStandards")
-  private List<EdFiCourseLearningStandard> learningStandards = new ArrayList<EdFiCourseLearningStandard>();
+  private List<EdFiCourseLearningStandard> learningStandards = null;
 
   @SerializedName("levelCharacteristics")
-  private List<EdFiCourseLevelCharacteristic> levelCharacteristics = new ArrayList<EdFiCourseLevelCharacteristic>();
+  private List<EdFiCourseLevelCharacteristic> levelCharacteristics = null;
 
   @SerializedName("maxCompletionsForCredit")
   private Integer maxCompletionsForCredit = null;
@@ -119,7 +119,7 @@ public class EdFiCourse   {
   private Integer numberOfParts = null;
 
   @SerializedName("offeredGradeLevels")
-  private List<EdFiCourseOfferedGradeLevel> offeredGradeLevels = new ArrayList<EdFiCourseOfferedGradeLevel>();
+  private List<EdFiCourseOfferedGradeLevel> offeredGradeLevels = null;
 
   @SerializedName("timeRequiredForCompletion")
   private Integer timeRequiredForCompletion = null;
@@ -169,6 +169,9 @@ public class EdFiCourse   {
   }
 
   public EdFiCourse addIdentificationCodesItem(EdFiCourseIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiCourseIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -246,6 +249,9 @@ public class EdFiCourse   {
   }
 
   public EdFiCourse addCompetencyLevelsItem(EdFiCourseCompetencyLevel competencyLevelsItem) {
+    if (this.competencyLevels == null) {
+      this.competencyLevels = new ArrayList<EdFiCourseCompetencyLevel>();
+    }
     this.competencyLevels.add(competencyLevelsItem);
     return this;
   }
@@ -377,6 +383,9 @@ public class EdFiCourse   {
   }
 
   public EdFiCourse addLearningObjectivesItem(EdFiCourseLearningObjective learningObjectivesItem) {
+    if (this.learningObjectives == null) {
+      this.learningObjectives = new ArrayList<EdFiCourseLearningObjective>();
+    }
     this.learningObjectives.add(learningObjectivesItem);
     return this;
   }
@@ -400,6 +409,9 @@ public class EdFiCourse   {
   }
 
   public EdFiCourse addLearningStandardsItem(EdFiCourseLearningStandard learningStandardsItem) {
+    if (this.learningStandards == null) {
+      this.learningStandards = new ArrayList<EdFiCourseLearningStandard>();
+    }
     this.learningStandards.add(learningStandardsItem);
     return this;
   }
@@ -423,6 +435,9 @@ public class EdFiCourse   {
   }
 
   public EdFiCourse addLevelCharacteristicsItem(EdFiCourseLevelCharacteristic levelCharacteristicsItem) {
+    if (this.levelCharacteristics == null) {
+      this.levelCharacteristics = new ArrayList<EdFiCourseLevelCharacteristic>();
+    }
     this.levelCharacteristics.add(levelCharacteristicsItem);
     return this;
   }
@@ -590,6 +605,9 @@ public class EdFiCourse   {
   }
 
   public EdFiCourse addOfferedGradeLevelsItem(EdFiCourseOfferedGradeLevel offeredGradeLevelsItem) {
+    if (this.offeredGradeLevels == null) {
+      this.offeredGradeLevels = new ArrayList<EdFiCourseOfferedGradeLevel>();
+    }
     this.offeredGradeLevels.add(offeredGradeLevelsItem);
     return this;
   }
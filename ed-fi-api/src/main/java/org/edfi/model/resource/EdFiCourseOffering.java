@@ -60,10 +60,10 @@ public class EdFiCourseOffering   {
   private EdFiSessionReference sessionReference = null;
 
   @SerializedName("courseLevelCharacteristics")
-  private List<EdFiCourseOfferingCourseLevelCharacteristic> courseLevelCharacteristics = new ArrayList<EdFiCourseOfferingCourseLevelCharacteristic>();
+  private List<EdFiCourseOfferingCourseLevelCharacteristic> courseLevelCharacteristics = null;
 
   @SerializedName("curriculumUseds")
-  private List<EdFiCourseOfferingCurriculumUsed> curriculumUseds = new ArrayList<EdFiCourseOfferingCurriculumUsed>();
+  private List<EdFiCourseOfferingCurriculumUsed> curriculumUseds = null;
 
   @SerializedName("instructionalTimePlanned")
   private Integer instructionalTimePlanned = null;
@@ -72,7 +72,7 @@ public class EdFiCourseOffering   {
   private String localCourseTitle = null;
 
   @SerializedName("offeredGradeLevels")
-  private List<EdFiCourseOfferingOfferedGradeLevel> offeredGradeLevels = new ArrayList<EdFiCourseOfferingOfferedGradeLevel>();
+  private List<EdFiCourseOfferingOfferedGradeLevel> offeredGradeLevels = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -173,6 +173,9 @@ public class EdFiCourseOffering   {
   }
 
   public EdFiCourseOffering addCourseLevelCharacteristicsItem(EdFiCourseOfferingCourseLevelCharacteristic courseLevelCharacteristicsItem) {
+    if (this.courseLevelCharacteristics == null) {
+      this.courseLevelCharacteristics = new ArrayList<EdFiCourseOfferingCourseLevelCharacteristic>();
+    }
     this.courseLevelCharacteristics.add(courseLevelCharacteristicsItem);
     return this;
   }
@@ -196,6 +199,9 @@ public class EdFiCourseOffering   {
   }
 
   public EdFiCourseOffering addCurriculumUsedsItem(EdFiCourseOfferingCurriculumUsed curriculumUsedsItem) {
+    if (this.curriculumUseds == null) {
+      this.curriculumUseds = new ArrayList<EdFiCourseOfferingCurriculumUsed>();
+    }
     this.curriculumUseds.add(curriculumUsedsItem);
     return this;
   }
@@ -255,6 +261,9 @@ public class EdFiCourseOffering   {
   }
 
   public EdFiCourseOffering addOfferedGradeLevelsItem(EdFiCourseOfferingOfferedGradeLevel offeredGradeLevelsItem) {
+    if (this.offeredGradeLevels == null) {
+      this.offeredGradeLevels = new ArrayList<EdFiCourseOfferingOfferedGradeLevel>();
+    }
     this.offeredGradeLevels.add(offeredGradeLevelsItem);
     return this;
   }
@@ -79,7 +79,7 @@ public class EdFiCourseTranscript   {
   private String courseTitle = null;
 
   @SerializedName("earnedAdditionalCredits")
-  private List<EdFiCourseTranscriptEarnedAdditionalCredits> earnedAdditionalCredits = new ArrayList<EdFiCourseTranscriptEarnedAdditionalCredits>();
+  private List<EdFiCourseTranscriptEarnedAdditionalCredits> earnedAdditionalCredits = null;
 
   @SerializedName("earnedCreditConversion")
   private Double earnedCreditConversion = null;
@@ -327,6 +327,9 @@ public class EdFiCourseTranscript   {
   }
 
   public EdFiCourseTranscript addEarnedAdditionalCreditsItem(EdFiCourseTranscriptEarnedAdditionalCredits earnedAdditionalCreditsItem) {
+    if (this.earnedAdditionalCredits == null) {
+      this.earnedAdditionalCredits = new ArrayList<EdFiCourseTranscriptEarnedAdditionalCredits>();
+    }
     this.earnedAdditionalCredits.add(earnedAdditionalCreditsItem);
     return this;
   }
@@ -50,13 +50,13 @@ public class EdFiCredential   {
   private String credentialIdentifier = null;
 
   @SerializedName("gradeLevels")
-  private List<EdFiCredentialGradeLevel> gradeLevels = new ArrayList<EdFiCredentialGradeLevel>();
+  private List<EdFiCredentialGradeLevel> gradeLevels = null;
 
   @SerializedName("stateOfIssueStateAbbreviationDescriptor")
   private String stateOfIssueStateAbbreviationDescriptor = null;
 
   @SerializedName("academicSubjects")
-  private List<EdFiCredentialAcademicSubject> academicSubjects = new ArrayList<EdFiCredentialAcademicSubject>();
+  private List<EdFiCredentialAcademicSubject> academicSubjects = null;
 
   @SerializedName("credentialFieldDescriptor")
   private String credentialFieldDescriptor = null;
@@ -68,7 +68,7 @@ public class EdFiCredential   {
   private LocalDate effectiveDate = null;
 
   @SerializedName("endorsements")
-  private List<EdFiCredentialEndorsement> endorsements = new ArrayList<EdFiCredentialEndorsement>();
+  private List<EdFiCredentialEndorsement> endorsements = null;
 
   @SerializedName("expirationDate")
   private LocalDate expirationDate = null;
@@ -133,6 +133,9 @@ public class EdFiCredential   {
   }
 
   public EdFiCredential addGradeLevelsItem(EdFiCredentialGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<EdFiCredentialGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -174,6 +177,9 @@ public class EdFiCredential   {
   }
 
   public EdFiCredential addAcademicSubjectsItem(EdFiCredentialAcademicSubject academicSubjectsItem) {
+    if (this.academicSubjects == null) {
+      this.academicSubjects = new ArrayList<EdFiCredentialAcademicSubject>();
+    }
     this.academicSubjects.add(academicSubjectsItem);
     return this;
   }
@@ -251,6 +257,9 @@ public class EdFiCredential   {
   }
 
   public EdFiCredential addEndorsementsItem(EdFiCredentialEndorsement endorsementsItem) {
+    if (this.endorsements == null) {
+      this.endorsements = new ArrayList<EdFiCredentialEndorsement>();
+    }
     this.endorsements.add(endorsementsItem);
     return this;
   }
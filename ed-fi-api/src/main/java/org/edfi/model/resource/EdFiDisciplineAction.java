@@ -54,10 +54,10 @@ public class EdFiDisciplineAction   {
   private LocalDate disciplineDate = null;
 
   @SerializedName("disciplines")
-  private List<EdFiDisciplineActionDiscipline> disciplines = new ArrayList<EdFiDisciplineActionDiscipline>();
+  private List<EdFiDisciplineActionDiscipline> disciplines = null;
 
   @SerializedName("studentDisciplineIncidentAssociations")
-  private List<EdFiDisciplineActionStudentDisciplineIncidentAssociation> studentDisciplineIncidentAssociations = new ArrayList<EdFiDisciplineActionStudentDisciplineIncidentAssociation>();
+  private List<EdFiDisciplineActionStudentDisciplineIncidentAssociation> studentDisciplineIncidentAssociations = null;
 
   @SerializedName("assignmentSchoolReference")
   private EdFiSchoolReference assignmentSchoolReference = null;
@@ -87,7 +87,7 @@ public class EdFiDisciplineAction   {
   private Boolean relatedToZeroTolerancePolicy = null;
 
   @SerializedName("staffs")
-  private List<EdFiDisciplineActionStaff> staffs = new ArrayList<EdFiDisciplineActionStaff>();
+  private List<EdFiDisciplineActionStaff> staffs = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -152,6 +152,9 @@ public class EdFiDisciplineAction   {
   }
 
   public EdFiDisciplineAction addDisciplinesItem(EdFiDisciplineActionDiscipline disciplinesItem) {
+    if (this.disciplines == null) {
+      this.disciplines = new ArrayList<EdFiDisciplineActionDiscipline>();
+    }
     this.disciplines.add(disciplinesItem);
     return this;
   }
@@ -175,6 +178,9 @@ public class EdFiDisciplineAction   {
   }
 
   public EdFiDisciplineAction addStudentDisciplineIncidentAssociationsItem(EdFiDisciplineActionStudentDisciplineIncidentAssociation studentDisciplineIncidentAssociationsItem) {
+    if (this.studentDisciplineIncidentAssociations == null) {
+      this.studentDisciplineIncidentAssociations = new ArrayList<EdFiDisciplineActionStudentDisciplineIncidentAssociation>();
+    }
     this.studentDisciplineIncidentAssociations.add(studentDisciplineIncidentAssociationsItem);
     return this;
   }
@@ -360,6 +366,9 @@ public class EdFiDisciplineAction   {
   }
 
   public EdFiDisciplineAction addStaffsItem(EdFiDisciplineActionStaff staffsItem) {
+    if (this.staffs == null) {
+      this.staffs = new ArrayList<EdFiDisciplineActionStaff>();
+    }
     this.staffs.add(staffsItem);
     return this;
   }
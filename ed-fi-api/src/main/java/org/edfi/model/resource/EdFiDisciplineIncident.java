@@ -56,7 +56,7 @@ public class EdFiDisciplineIncident   {
   private EdFiStaffReference staffReference = null;
 
   @SerializedName("behaviors")
-  private List<EdFiDisciplineIncidentBehavior> behaviors = new ArrayList<EdFiDisciplineIncidentBehavior>();
+  private List<EdFiDisciplineIncidentBehavior> behaviors = null;
 
   @SerializedName("caseNumber")
   private String caseNumber = null;
@@ -86,7 +86,7 @@ public class EdFiDisciplineIncident   {
   private String reporterName = null;
 
   @SerializedName("weapons")
-  private List<EdFiDisciplineIncidentWeapon> weapons = new ArrayList<EdFiDisciplineIncidentWeapon>();
+  private List<EdFiDisciplineIncidentWeapon> weapons = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -169,6 +169,9 @@ public class EdFiDisciplineIncident   {
   }
 
   public EdFiDisciplineIncident addBehaviorsItem(EdFiDisciplineIncidentBehavior behaviorsItem) {
+    if (this.behaviors == null) {
+      this.behaviors = new ArrayList<EdFiDisciplineIncidentBehavior>();
+    }
     this.behaviors.add(behaviorsItem);
     return this;
   }
@@ -354,6 +357,9 @@ public class EdFiDisciplineIncident   {
   }
 
   public EdFiDisciplineIncident addWeaponsItem(EdFiDisciplineIncidentWeapon weaponsItem) {
+    if (this.weapons == null) {
+      this.weapons = new ArrayList<EdFiDisciplineIncidentWeapon>();
+    }
     this.weapons.add(weaponsItem);
     return this;
   }
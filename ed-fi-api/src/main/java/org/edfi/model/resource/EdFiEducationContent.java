@@ -60,13 +60,13 @@ public class EdFiEducationContent   {
   private Boolean additionalAuthorsIndicator = null;
 
   @SerializedName("appropriateGradeLevels")
-  private List<EdFiEducationContentAppropriateGradeLevel> appropriateGradeLevels = new ArrayList<EdFiEducationContentAppropriateGradeLevel>();
+  private List<EdFiEducationContentAppropriateGradeLevel> appropriateGradeLevels = null;
 
   @SerializedName("appropriateSexes")
-  private List<EdFiEducationContentAppropriateSex> appropriateSexes = new ArrayList<EdFiEducationContentAppropriateSex>();
+  private List<EdFiEducationContentAppropriateSex> appropriateSexes = null;
 
   @SerializedName("authors")
-  private List<EdFiEducationContentAuthor> authors = new ArrayList<EdFiEducationContentAuthor>();
+  private List<EdFiEducationContentAuthor> authors = null;
 
   @SerializedName("contentClassDescriptor")
   private String contentClassDescriptor = null;
@@ -78,13 +78,13 @@ public class EdFiEducationContent   {
   private String costRateDescriptor = null;
 
   @SerializedName("derivativeSourceEducationContents")
-  private List<EdFiEducationContentDerivativeSourceEducationContent> derivativeSourceEducationContents = new ArrayList<EdFiEducationContentDerivativeSourceEducationContent>();
+  private List<EdFiEducationContentDerivativeSourceEducationContent> derivativeSourceEducationContents = null;
 
   @SerializedName("derivativeSourceLearningResourceMetadataURIs")
-  private List<EdFiEducationContentDerivativeSourceLearningResourceMetadataURI> derivativeSourceLearningResourceMetadataURIs = new ArrayList<EdFiEducationContentDerivativeSourceLearningResourceMetadataURI>();
+  private List<EdFiEducationContentDerivativeSourceLearningResourceMetadataURI> derivativeSourceLearningResourceMetadataURIs = null;
 
   @SerializedName("derivativeSourceURIs")
-  private List<EdFiEducationContentDerivativeSourceURI> derivativeSourceURIs = new ArrayList<EdFiEducationContentDerivativeSourceURI>();
+  private List<EdFiEducationContentDerivativeSourceURI> derivativeSourceURIs = null;
 
   @SerializedName("description")
   private String description = null;
@@ -93,7 +93,7 @@ public class EdFiEducationContent   {
   private String interactivityStyleDescriptor = null;
 
   @SerializedName("languages")
-  private List<EdFiEducationContentLanguage> languages = new ArrayList<EdFiEducationContentLanguage>();
+  private List<EdFiEducationContentLanguage> languages = null;
 
   @SerializedName("learningResourceMetadataURI")
   private String learningResourceMetadataURI = null;
@@ -203,6 +203,9 @@ public class EdFiEducationContent   {
   }
 
   public EdFiEducationContent addAppropriateGradeLevelsItem(EdFiEducationContentAppropriateGradeLevel appropriateGradeLevelsItem) {
+    if (this.appropriateGradeLevels == null) {
+      this.appropriateGradeLevels = new ArrayList<EdFiEducationContentAppropriateGradeLevel>();
+    }
     this.appropriateGradeLevels.add(appropriateGradeLevelsItem);
     return this;
   }
@@ -226,6 +229,9 @@ public class EdFiEducationContent   {
   }
 
   public EdFiEducationContent addAppropriateSexesItem(EdFiEducationContentAppropriateSex appropriateSexesItem) {
+    if (this.appropriateSexes == null) {
+      this.appropriateSexes = new ArrayList<EdFiEducationContentAppropriateSex>();
+    }
     this.appropriateSexes.add(appropriateSexesItem);
     return this;
   }
@@ -249,6 +255,9 @@ public class EdFiEducationContent   {
   }
 
   public EdFiEducationContent addAuthorsItem(EdFiEducationContentAuthor authorsItem) {
+    if (this.authors == null) {
+      this.authors = new ArrayList<EdFiEducationContentAuthor>();
+    }
     this.authors.add(authorsItem);
     return this;
   }
@@ -326,6 +335,9 @@ public class EdFiEducationContent   {
   }
 
   public EdFiEducationContent addDerivativeSourceEducationContentsItem(EdFiEducationContentDerivativeSourceEducationContent derivativeSourceEducationContentsItem) {
+    if (this.derivativeSourceEducationContents == null) {
+      this.derivativeSourceEducationContents = new ArrayList<EdFiEducationContentDerivativeSourceEducationContent>();
+    }
     this.derivativeSourceEducationContents.add(derivativeSourceEducationContentsItem);
     return this;
   }
@@ -349,6 +361,9 @@ public class EdFiEducationContent   {
   }
 
   public EdFiEducationContent addDerivativeSourceLearningResourceMetadataURIsItem(EdFiEducationContentDerivativeSourceLearningResourceMetadataURI derivativeSourceLearningResourceMetadataURIsItem) {
+    if (this.derivativeSourceLearningResourceMetadataURIs == null) {
+      this.derivativeSourceLearningResourceMetadataURIs = new ArrayList<EdFiEducationContentDerivativeSourceLearningResourceMetadataURI>();
+    }
     this.derivativeSourceLearningResourceMetadataURIs.add(derivativeSourceLearningResourceMetadataURIsItem);
     return this;
   }
@@ -372,6 +387,9 @@ public class EdFiEducationContent   {
   }
 
   public EdFiEducationContent addDerivativeSourceURIsItem(EdFiEducationContentDerivativeSourceURI derivativeSourceURIsItem) {
+    if (this.derivativeSourceURIs == null) {
+      this.derivativeSourceURIs = new ArrayList<EdFiEducationContentDerivativeSourceURI>();
+    }
     this.derivativeSourceURIs.add(derivativeSourceURIsItem);
     return this;
   }
@@ -431,6 +449,9 @@ public class EdFiEducationContent   {
   }
 
   public EdFiEducationContent addLanguagesItem(EdFiEducationContentLanguage languagesItem) {
+    if (this.languages == null) {
+      this.languages = new ArrayList<EdFiEducationContentLanguage>();
+    }
     this.languages.add(languagesItem);
     return this;
   }
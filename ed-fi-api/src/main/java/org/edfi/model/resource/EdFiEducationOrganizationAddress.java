@@ -82,7 +82,7 @@ public class EdFiEducationOrganizationAddress   {
   private String streetNumberName = null;
 
   @SerializedName("periods")
-  private List<EdFiEducationOrganizationAddressPeriod> periods = new ArrayList<EdFiEducationOrganizationAddressPeriod>();
+  private List<EdFiEducationOrganizationAddressPeriod> periods = null;
 
   public EdFiEducationOrganizationAddress addressTypeDescriptor(String addressTypeDescriptor) {
     this.addressTypeDescriptor = addressTypeDescriptor;
@@ -342,6 +342,9 @@ public class EdFiEducationOrganizationAddress   {
   }
 
   public EdFiEducationOrganizationAddress addPeriodsItem(EdFiEducationOrganizationAddressPeriod periodsItem) {
+    if (this.periods == null) {
+      this.periods = new ArrayList<EdFiEducationOrganizationAddressPeriod>();
+    }
     this.periods.add(periodsItem);
     return this;
   }
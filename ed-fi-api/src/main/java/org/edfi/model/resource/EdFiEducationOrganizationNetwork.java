@@ -48,22 +48,22 @@ public class EdFiEducationOrganizationNetwork   {
   private String id = null;
 
   @SerializedName("addresses")
-  private List<EdFiEducationOrganizationAddress> addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+  private List<EdFiEducationOrganizationAddress> addresses = null;
 
   @SerializedName("categories")
-  private List<EdFiEducationOrganizationCategory> categories = new ArrayList<EdFiEducationOrganizationCategory>();
+  private List<EdFiEducationOrganizationCategory> categories = null;
 
   @SerializedName("educationOrganizationNetworkId")
   private Integer educationOrganizationNetworkId = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = null;
 
   @SerializedName("institutionTelephones")
-  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = null;
 
   @SerializedName("nameOfInstitution")
   private String nameOfInstitution = null;
@@ -110,6 +110,9 @@ public class EdFiEducationOrganizationNetwork   {
   }
 
   public EdFiEducationOrganizationNetwork addAddressesItem(EdFiEducationOrganizationAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -133,6 +136,9 @@ public class EdFiEducationOrganizationNetwork   {
   }
 
   public EdFiEducationOrganizationNetwork addCategoriesItem(EdFiEducationOrganizationCategory categoriesItem) {
+    if (this.categories == null) {
+      this.categories = new ArrayList<EdFiEducationOrganizationCategory>();
+    }
     this.categories.add(categoriesItem);
     return this;
   }
@@ -174,6 +180,9 @@ public class EdFiEducationOrganizationNetwork   {
   }
 
   public EdFiEducationOrganizationNetwork addIdentificationCodesItem(EdFiEducationOrganizationIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -197,6 +206,9 @@ public class EdFiEducationOrganizationNetwork   {
   }
 
   public EdFiEducationOrganizationNetwork addInstitutionTelephonesItem(EdFiEducationOrganizationInstitutionTelephone institutionTelephonesItem) {
+    if (this.institutionTelephones == null) {
+      this.institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+    }
     this.institutionTelephones.add(institutionTelephonesItem);
     return this;
   }
@@ -220,6 +232,9 @@ public class EdFiEducationOrganizationNetwork   {
   }
 
   public EdFiEducationOrganizationNetwork addInternationalAddressesItem(EdFiEducationOrganizationInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
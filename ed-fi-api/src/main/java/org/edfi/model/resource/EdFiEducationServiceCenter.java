@@ -49,10 +49,10 @@ public class EdFiEducationServiceCenter   {
   private String id = null;
 
   @SerializedName("addresses")
-  private List<EdFiEducationOrganizationAddress> addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+  private List<EdFiEducationOrganizationAddress> addresses = null;
 
   @SerializedName("categories")
-  private List<EdFiEducationOrganizationCategory> categories = new ArrayList<EdFiEducationOrganizationCategory>();
+  private List<EdFiEducationOrganizationCategory> categories = null;
 
   @SerializedName("educationServiceCenterId")
   private Integer educationServiceCenterId = null;
@@ -61,13 +61,13 @@ public class EdFiEducationServiceCenter   {
   private EdFiStateEducationAgencyReference stateEducationAgencyReference = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = null;
 
   @SerializedName("institutionTelephones")
-  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = null;
 
   @SerializedName("nameOfInstitution")
   private String nameOfInstitution = null;
@@ -111,6 +111,9 @@ public class EdFiEducationServiceCenter   {
   }
 
   public EdFiEducationServiceCenter addAddressesItem(EdFiEducationOrganizationAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -134,6 +137,9 @@ public class EdFiEducationServiceCenter   {
   }
 
   public EdFiEducationServiceCenter addCategoriesItem(EdFiEducationOrganizationCategory categoriesItem) {
+    if (this.categories == null) {
+      this.categories = new ArrayList<EdFiEducationOrganizationCategory>();
+    }
     this.categories.add(categoriesItem);
     return this;
   }
@@ -193,6 +199,9 @@ public class EdFiEducationServiceCenter   {
   }
 
   public EdFiEducationServiceCenter addIdentificationCodesItem(EdFiEducationOrganizationIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -216,6 +225,9 @@ public class EdFiEducationServiceCenter   {
   }
 
   public EdFiEducationServiceCenter addInstitutionTelephonesItem(EdFiEducationOrganizationInstitutionTelephone institutionTelephonesItem) {
+    if (this.institutionTelephones == null) {
+      this.institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+    }
     this.institutionTelephones.add(institutionTelephonesItem);
     return this;
   }
@@ -239,6 +251,9 @@ public class EdFiEducationServiceCenter   {
   }
 
   public EdFiEducationServiceCenter addInternationalAddressesItem(EdFiEducationOrganizationInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -66,10 +66,10 @@ public class EdFiGradebookEntry   {
   private String gradebookEntryTypeDescriptor = null;
 
   @SerializedName("learningObjectives")
-  private List<EdFiGradebookEntryLearningObjective> learningObjectives = new ArrayList<EdFiGradebookEntryLearningObjective>();
+  private List<EdFiGradebookEntryLearningObjective> learningObjectives = null;
 
   @SerializedName("learningStandards")
-  private List<EdFiGradebookEntryLearningStandard> learningStandards = new ArrayList<EdFiGradebookEntryLearningStandard>();
+  private List<EdFiGradebookEntryLearningStandard> learningStandards = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -209,6 +209,9 @@ public class EdFiGradebookEntry   {
   }
 
   public EdFiGradebookEntry addLearningObjectivesItem(EdFiGradebookEntryLearningObjective learningObjectivesItem) {
+    if (this.learningObjectives == null) {
+      this.learningObjectives = new ArrayList<EdFiGradebookEntryLearningObjective>();
+    }
     this.learningObjectives.add(learningObjectivesItem);
     return this;
   }
@@ -232,6 +235,9 @@ public class EdFiGradebookEntry   {
   }
 
   public EdFiGradebookEntry addLearningStandardsItem(EdFiGradebookEntryLearningStandard learningStandardsItem) {
+    if (this.learningStandards == null) {
+      this.learningStandards = new ArrayList<EdFiGradebookEntryLearningStandard>();
+    }
     this.learningStandards.add(learningStandardsItem);
     return this;
   }
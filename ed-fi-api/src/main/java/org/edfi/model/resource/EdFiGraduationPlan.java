@@ -56,16 +56,16 @@ public class EdFiGraduationPlan   {
   private EdFiSchoolYearTypeReference graduationSchoolYearTypeReference = null;
 
   @SerializedName("creditsByCourses")
-  private List<EdFiGraduationPlanCreditsByCourse> creditsByCourses = new ArrayList<EdFiGraduationPlanCreditsByCourse>();
+  private List<EdFiGraduationPlanCreditsByCourse> creditsByCourses = null;
 
   @SerializedName("creditsBySubjects")
-  private List<EdFiGraduationPlanCreditsBySubject> creditsBySubjects = new ArrayList<EdFiGraduationPlanCreditsBySubject>();
+  private List<EdFiGraduationPlanCreditsBySubject> creditsBySubjects = null;
 
   @SerializedName("individualPlan")
   private Boolean individualPlan = null;
 
   @SerializedName("requiredAssessments")
-  private List<EdFiGraduationPlanRequiredAssessment> requiredAssessments = new ArrayList<EdFiGraduationPlanRequiredAssessment>();
+  private List<EdFiGraduationPlanRequiredAssessment> requiredAssessments = null;
 
   @SerializedName("totalRequiredCreditConversion")
   private Double totalRequiredCreditConversion = null;
@@ -157,6 +157,9 @@ public class EdFiGraduationPlan   {
   }
 
   public EdFiGraduationPlan addCreditsByCoursesItem(EdFiGraduationPlanCreditsByCourse creditsByCoursesItem) {
+    if (this.creditsByCourses == null) {
+      this.creditsByCourses = new ArrayList<EdFiGraduationPlanCreditsByCourse>();
+    }
     this.creditsByCourses.add(creditsByCoursesItem);
     return this;
   }
@@ -180,6 +183,9 @@ public class EdFiGraduationPlan   {
   }
 
   public EdFiGraduationPlan addCreditsBySubjectsItem(EdFiGraduationPlanCreditsBySubject creditsBySubjectsItem) {
+    if (this.creditsBySubjects == null) {
+      this.creditsBySubjects = new ArrayList<EdFiGraduationPlanCreditsBySubject>();
+    }
     this.creditsBySubjects.add(creditsBySubjectsItem);
     return this;
   }
@@ -221,6 +227,9 @@ public class EdFiGraduationPlan   {
   }
 
   public EdFiGraduationPlan addRequiredAssessmentsItem(EdFiGraduationPlanRequiredAssessment requiredAssessmentsItem) {
+    if (this.requiredAssessments == null) {
+      this.requiredAssessments = new ArrayList<EdFiGraduationPlanRequiredAssessment>();
+    }
     this.requiredAssessments.add(requiredAssessmentsItem);
     return this;
   }
@@ -55,7 +55,7 @@ public class EdFiGraduationPlanCreditsByCourse   {
   private Double credits = null;
 
   @SerializedName("courses")
-  private List<EdFiGraduationPlanCreditsByCourseCourse> courses = new ArrayList<EdFiGraduationPlanCreditsByCourseCourse>();
+  private List<EdFiGraduationPlanCreditsByCourseCourse> courses = null;
 
   public EdFiGraduationPlanCreditsByCourse courseSetName(String courseSetName) {
     this.courseSetName = courseSetName;
@@ -153,6 +153,9 @@ public class EdFiGraduationPlanCreditsByCourse   {
   }
 
   public EdFiGraduationPlanCreditsByCourse addCoursesItem(EdFiGraduationPlanCreditsByCourseCourse coursesItem) {
+    if (this.courses == null) {
+      this.courses = new ArrayList<EdFiGraduationPlanCreditsByCourseCourse>();
+    }
     this.courses.add(coursesItem);
     return this;
   }
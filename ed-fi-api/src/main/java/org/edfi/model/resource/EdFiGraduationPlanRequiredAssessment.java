@@ -45,7 +45,7 @@ public class EdFiGraduationPlanRequiredAssessment   {
   private EdFiAssessmentReference assessmentReference = null;
 
   @SerializedName("scores")
-  private List<EdFiGraduationPlanRequiredAssessmentScore> scores = new ArrayList<EdFiGraduationPlanRequiredAssessmentScore>();
+  private List<EdFiGraduationPlanRequiredAssessmentScore> scores = null;
 
   @SerializedName("performanceLevel")
   private EdFiGraduationPlanRequiredAssessmentPerformanceLevel performanceLevel = null;
@@ -74,6 +74,9 @@ public class EdFiGraduationPlanRequiredAssessment   {
   }
 
   public EdFiGraduationPlanRequiredAssessment addScoresItem(EdFiGraduationPlanRequiredAssessmentScore scoresItem) {
+    if (this.scores == null) {
+      this.scores = new ArrayList<EdFiGraduationPlanRequiredAssessmentScore>();
+    }
     this.scores.add(scoresItem);
     return this;
   }
@@ -60,10 +60,10 @@ public class EdFiIntervention   {
   private EdFiEducationOrganizationReference educationOrganizationReference = null;
 
   @SerializedName("appropriateGradeLevels")
-  private List<EdFiInterventionAppropriateGradeLevel> appropriateGradeLevels = new ArrayList<EdFiInterventionAppropriateGradeLevel>();
+  private List<EdFiInterventionAppropriateGradeLevel> appropriateGradeLevels = null;
 
   @SerializedName("appropriateSexes")
-  private List<EdFiInterventionAppropriateSex> appropriateSexes = new ArrayList<EdFiInterventionAppropriateSex>();
+  private List<EdFiInterventionAppropriateSex> appropriateSexes = null;
 
   @SerializedName("beginDate")
   private LocalDate beginDate = null;
@@ -72,10 +72,10 @@ public class EdFiIntervention   {
   private String deliveryMethodDescriptor = null;
 
   @SerializedName("diagnoses")
-  private List<EdFiInterventionDiagnosis> diagnoses = new ArrayList<EdFiInterventionDiagnosis>();
+  private List<EdFiInterventionDiagnosis> diagnoses = null;
 
   @SerializedName("educationContents")
-  private List<EdFiInterventionEducationContent> educationContents = new ArrayList<EdFiInterventionEducationContent>();
+  private List<EdFiInterventionEducationContent> educationContents = null;
 
   @SerializedName("endDate")
   private LocalDate endDate = null;
@@ -84,28 +84,28 @@ public class EdFiIntervention   {
   private String interventionClassDescriptor = null;
 
   @SerializedName("interventionPrescriptions")
-  private List<EdFiInterventionInterventionPrescription> interventionPrescriptions = new ArrayList<EdFiInterventionInterventionPrescription>();
+  private List<EdFiInterventionInterventionPrescription> interventionPrescriptions = null;
 
   @SerializedName("learningResourceMetadataURIs")
-  private List<EdFiInterventionLearningResourceMetadataURI> learningResourceMetadataURIs = new ArrayList<EdFiInterventionLearningResourceMetadataURI>();
+  private List<EdFiInterventionLearningResourceMetadataURI> learningResourceMetadataURIs = null;
 
   @SerializedName("maxDosage")
   private Integer maxDosage = null;
 
   @SerializedName("meetingTimes")
-  private List<EdFiInterventionMeetingTime> meetingTimes = new ArrayList<EdFiInterventionMeetingTime>();
+  private List<EdFiInterventionMeetingTime> meetingTimes = null;
 
   @SerializedName("minDosage")
   private Integer minDosage = null;
 
   @SerializedName("populationServeds")
-  private List<EdFiInterventionPopulationServed> populationServeds = new ArrayList<EdFiInterventionPopulationServed>();
+  private List<EdFiInterventionPopulationServed> populationServeds = null;
 
   @SerializedName("staffs")
-  private List<EdFiInterventionStaff> staffs = new ArrayList<EdFiInterventionStaff>();
+  private List<EdFiInterventionStaff> staffs = null;
 
   @SerializedName("uris")
-  private List<EdFiInterventionURI> uris = new ArrayList<EdFiInterventionURI>();
+  private List<EdFiInterventionURI> uris = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -170,6 +170,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addAppropriateGradeLevelsItem(EdFiInterventionAppropriateGradeLevel appropriateGradeLevelsItem) {
+    if (this.appropriateGradeLevels == null) {
+      this.appropriateGradeLevels = new ArrayList<EdFiInterventionAppropriateGradeLevel>();
+    }
     this.appropriateGradeLevels.add(appropriateGradeLevelsItem);
     return this;
   }
@@ -193,6 +196,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addAppropriateSexesItem(EdFiInterventionAppropriateSex appropriateSexesItem) {
+    if (this.appropriateSexes == null) {
+      this.appropriateSexes = new ArrayList<EdFiInterventionAppropriateSex>();
+    }
     this.appropriateSexes.add(appropriateSexesItem);
     return this;
   }
@@ -252,6 +258,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addDiagnosesItem(EdFiInterventionDiagnosis diagnosesItem) {
+    if (this.diagnoses == null) {
+      this.diagnoses = new ArrayList<EdFiInterventionDiagnosis>();
+    }
     this.diagnoses.add(diagnosesItem);
     return this;
   }
@@ -275,6 +284,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addEducationContentsItem(EdFiInterventionEducationContent educationContentsItem) {
+    if (this.educationContents == null) {
+      this.educationContents = new ArrayList<EdFiInterventionEducationContent>();
+    }
     this.educationContents.add(educationContentsItem);
     return this;
   }
@@ -334,6 +346,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addInterventionPrescriptionsItem(EdFiInterventionInterventionPrescription interventionPrescriptionsItem) {
+    if (this.interventionPrescriptions == null) {
+      this.interventionPrescriptions = new ArrayList<EdFiInterventionInterventionPrescription>();
+    }
     this.interventionPrescriptions.add(interventionPrescriptionsItem);
     return this;
   }
@@ -357,6 +372,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addLearningResourceMetadataURIsItem(EdFiInterventionLearningResourceMetadataURI learningResourceMetadataURIsItem) {
+    if (this.learningResourceMetadataURIs == null) {
+      this.learningResourceMetadataURIs = new ArrayList<EdFiInterventionLearningResourceMetadataURI>();
+    }
     this.learningResourceMetadataURIs.add(learningResourceMetadataURIsItem);
     return this;
   }
@@ -398,6 +416,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addMeetingTimesItem(EdFiInterventionMeetingTime meetingTimesItem) {
+    if (this.meetingTimes == null) {
+      this.meetingTimes = new ArrayList<EdFiInterventionMeetingTime>();
+    }
     this.meetingTimes.add(meetingTimesItem);
     return this;
   }
@@ -439,6 +460,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addPopulationServedsItem(EdFiInterventionPopulationServed populationServedsItem) {
+    if (this.populationServeds == null) {
+      this.populationServeds = new ArrayList<EdFiInterventionPopulationServed>();
+    }
     this.populationServeds.add(populationServedsItem);
     return this;
   }
@@ -462,6 +486,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addStaffsItem(EdFiInterventionStaff staffsItem) {
+    if (this.staffs == null) {
+      this.staffs = new ArrayList<EdFiInterventionStaff>();
+    }
     this.staffs.add(staffsItem);
     return this;
   }
@@ -485,6 +512,9 @@ public class EdFiIntervention   {
   }
 
   public EdFiIntervention addUrisItem(EdFiInterventionURI urisItem) {
+    if (this.uris == null) {
+      this.uris = new ArrayList<EdFiInterventionURI>();
+    }
     this.uris.add(urisItem);
     return this;
   }
@@ -56,25 +56,25 @@ public class EdFiInterventionPrescription   {
   private EdFiEducationOrganizationReference educationOrganizationReference = null;
 
   @SerializedName("appropriateGradeLevels")
-  private List<EdFiInterventionPrescriptionAppropriateGradeLevel> appropriateGradeLevels = new ArrayList<EdFiInterventionPrescriptionAppropriateGradeLevel>();
+  private List<EdFiInterventionPrescriptionAppropriateGradeLevel> appropriateGradeLevels = null;
 
   @SerializedName("appropriateSexes")
-  private List<EdFiInterventionPrescriptionAppropriateSex> appropriateSexes = new ArrayList<EdFiInterventionPrescriptionAppropriateSex>();
+  private List<EdFiInterventionPrescriptionAppropriateSex> appropriateSexes = null;
 
   @SerializedName("deliveryMethodDescriptor")
   private String deliveryMethodDescriptor = null;
 
   @SerializedName("diagnoses")
-  private List<EdFiInterventionPrescriptionDiagnosis> diagnoses = new ArrayList<EdFiInterventionPrescriptionDiagnosis>();
+  private List<EdFiInterventionPrescriptionDiagnosis> diagnoses = null;
 
   @SerializedName("educationContents")
-  private List<EdFiInterventionPrescriptionEducationContent> educationContents = new ArrayList<EdFiInterventionPrescriptionEducationContent>();
+  private List<EdFiInterventionPrescriptionEducationContent> educationContents = null;
 
   @SerializedName("interventionClassDescriptor")
   private String interventionClassDescriptor = null;
 
   @SerializedName("learningResourceMetadataURIs")
-  private List<EdFiInterventionPrescriptionLearningResourceMetadataURI> learningResourceMetadataURIs = new ArrayList<EdFiInterventionPrescriptionLearningResourceMetadataURI>();
+  private List<EdFiInterventionPrescriptionLearningResourceMetadataURI> learningResourceMetadataURIs = null;
 
   @SerializedName("maxDosage")
   private Integer maxDosage = null;
@@ -83,10 +83,10 @@ public class EdFiInterventionPrescription   {
   private Integer minDosage = null;
 
   @SerializedName("populationServeds")
-  private List<EdFiInterventionPrescriptionPopulationServed> populationServeds = new ArrayList<EdFiInterventionPrescriptionPopulationServed>();
+  private List<EdFiInterventionPrescriptionPopulationServed> populationServeds = null;
 
   @SerializedName("uris")
-  private List<EdFiInterventionPrescriptionURI> uris = new ArrayList<EdFiInterventionPrescriptionURI>();
+  private List<EdFiInterventionPrescriptionURI> uris = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -151,6 +151,9 @@ public class EdFiInterventionPrescription   {
   }
 
   public EdFiInterventionPrescription addAppropriateGradeLevelsItem(EdFiInterventionPrescriptionAppropriateGradeLevel appropriateGradeLevelsItem) {
+    if (this.appropriateGradeLevels == null) {
+      this.appropriateGradeLevels = new ArrayList<EdFiInterventionPrescriptionAppropriateGradeLevel>();
+    }
     this.appropriateGradeLevels.add(appropriateGradeLevelsItem);
     return this;
   }
@@ -174,6 +177,9 @@ public class EdFiInterventionPrescription   {
   }
 
   public EdFiInterventionPrescription addAppropriateSexesItem(EdFiInterventionPrescriptionAppropriateSex appropriateSexesItem) {
+    if (this.appropriateSexes == null) {
+      this.appropriateSexes = new ArrayList<EdFiInterventionPrescriptionAppropriateSex>();
+    }
     this.appropriateSexes.add(appropriateSexesItem);
     return this;
   }
@@ -215,6 +221,9 @@ public class EdFiInterventionPrescription   {
   }
 
   public EdFiInterventionPrescription addDiagnosesItem(EdFiInterventionPrescriptionDiagnosis diagnosesItem) {
+    if (this.diagnoses == null) {
+      this.diagnoses = new ArrayList<EdFiInterventionPrescriptionDiagnosis>();
+    }
     this.diagnoses.add(diagnosesItem);
     return this;
   }
@@ -238,6 +247,9 @@ public class EdFiInterventionPrescription   {
   }
 
   public EdFiInterventionPrescription addEducationContentsItem(EdFiInterventionPrescriptionEducationContent educationContentsItem) {
+    if (this.educationContents == null) {
+      this.educationContents = new ArrayList<EdFiInterventionPrescriptionEducationContent>();
+    }
     this.educationContents.add(educationContentsItem);
     return this;
   }
@@ -279,6 +291,9 @@ public class EdFiInterventionPrescription   {
   }
 
   public EdFiInterventionPrescription addLearningResourceMetadataURIsItem(EdFiInterventionPrescriptionLearningResourceMetadataURI learningResourceMetadataURIsItem) {
+    if (this.learningResourceMetadataURIs == null) {
+      this.learningResourceMetadataURIs = new ArrayList<EdFiInterventionPrescriptionLearningResourceMetadataURI>();
+    }
     this.learningResourceMetadataURIs.add(learningResourceMetadataURIsItem);
     return this;
   }
@@ -338,6 +353,9 @@ public class EdFiInterventionPrescription   {
   }
 
   public EdFiInterventionPrescription addPopulationServedsItem(EdFiInterventionPrescriptionPopulationServed populationServedsItem) {
+    if (this.populationServeds == null) {
+      this.populationServeds = new ArrayList<EdFiInterventionPrescriptionPopulationServed>();
+    }
     this.populationServeds.add(populationServedsItem);
     return this;
   }
@@ -361,6 +379,9 @@ public class EdFiInterventionPrescription   {
   }
 
   public EdFiInterventionPrescription addUrisItem(EdFiInterventionPrescriptionURI urisItem) {
+    if (this.uris == null) {
+      this.uris = new ArrayList<EdFiInterventionPrescriptionURI>();
+    }
     this.uris.add(urisItem);
     return this;
   }
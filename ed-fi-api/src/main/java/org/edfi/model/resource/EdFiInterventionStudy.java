@@ -61,37 +61,37 @@ public class EdFiInterventionStudy   {
   private EdFiInterventionPrescriptionReference interventionPrescriptionReference = null;
 
   @SerializedName("appropriateGradeLevels")
-  private List<EdFiInterventionStudyAppropriateGradeLevel> appropriateGradeLevels = new ArrayList<EdFiInterventionStudyAppropriateGradeLevel>();
+  private List<EdFiInterventionStudyAppropriateGradeLevel> appropriateGradeLevels = null;
 
   @SerializedName("appropriateSexes")
-  private List<EdFiInterventionStudyAppropriateSex> appropriateSexes = new ArrayList<EdFiInterventionStudyAppropriateSex>();
+  private List<EdFiInterventionStudyAppropriateSex> appropriateSexes = null;
 
   @SerializedName("deliveryMethodDescriptor")
   private String deliveryMethodDescriptor = null;
 
   @SerializedName("educationContents")
-  private List<EdFiInterventionStudyEducationContent> educationContents = new ArrayList<EdFiInterventionStudyEducationContent>();
+  private List<EdFiInterventionStudyEducationContent> educationContents = null;
 
   @SerializedName("interventionClassDescriptor")
   private String interventionClassDescriptor = null;
 
   @SerializedName("interventionEffectivenesses")
-  private List<EdFiInterventionStudyInterventionEffectiveness> interventionEffectivenesses = new ArrayList<EdFiInterventionStudyInterventionEffectiveness>();
+  private List<EdFiInterventionStudyInterventionEffectiveness> interventionEffectivenesses = null;
 
   @SerializedName("learningResourceMetadataURIs")
-  private List<EdFiInterventionStudyLearningResourceMetadataURI> learningResourceMetadataURIs = new ArrayList<EdFiInterventionStudyLearningResourceMetadataURI>();
+  private List<EdFiInterventionStudyLearningResourceMetadataURI> learningResourceMetadataURIs = null;
 
   @SerializedName("participants")
   private Integer participants = null;
 
   @SerializedName("populationServeds")
-  private List<EdFiInterventionStudyPopulationServed> populationServeds = new ArrayList<EdFiInterventionStudyPopulationServed>();
+  private List<EdFiInterventionStudyPopulationServed> populationServeds = null;
 
   @SerializedName("stateAbbreviations")
-  private List<EdFiInterventionStudyStateAbbreviation> stateAbbreviations = new ArrayList<EdFiInterventionStudyStateAbbreviation>();
+  private List<EdFiInterventionStudyStateAbbreviation> stateAbbreviations = null;
 
   @SerializedName("uris")
-  private List<EdFiInterventionStudyURI> uris = new ArrayList<EdFiInterventionStudyURI>();
+  private List<EdFiInterventionStudyURI> uris = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -174,6 +174,9 @@ public class EdFiInterventionStudy   {
   }
 
   public EdFiInterventionStudy addAppropriateGradeLevelsItem(EdFiInterventionStudyAppropriateGradeLevel appropriateGradeLevelsItem) {
+    if (this.appropriateGradeLevels == null) {
+      this.appropriateGradeLevels = new ArrayList<EdFiInterventionStudyAppropriateGradeLevel>();
+    }
     this.appropriateGradeLevels.add(appropriateGradeLevelsItem);
     return this;
   }
@@ -197,6 +200,9 @@ public class EdFiInterventionStudy   {
   }
 
   public EdFiInterventionStudy addAppropriateSexesItem(EdFiInterventionStudyAppropriateSex appropriateSexesItem) {
+    if (this.appropriateSexes == null) {
+      this.appropriateSexes = new ArrayList<EdFiInterventionStudyAppropriateSex>();
+    }
     this.appropriateSexes.add(appropriateSexesItem);
     return this;
   }
@@ -238,6 +244,9 @@ public class EdFiInterventionStudy   {
   }
 
   public EdFiInterventionStudy addEducationContentsItem(EdFiInterventionStudyEducationContent educationContentsItem) {
+    if (this.educationContents == null) {
+      this.educationContents = new ArrayList<EdFiInterventionStudyEducationContent>();
+    }
     this.educationContents.add(educationContentsItem);
     return this;
   }
@@ -279,6 +288,9 @@ public class EdFiInterventionStudy   {
   }
 
   public EdFiInterventionStudy addInterventionEffectivenessesItem(EdFiInterventionStudyInterventionEffectiveness interventionEffectivenessesItem) {
+    if (this.interventionEffectivenesses == null) {
+      this.interventionEffectivenesses = new ArrayList<EdFiInterventionStudyInterventionEffectiveness>();
+    }
     this.interventionEffectivenesses.add(interventionEffectivenessesItem);
     return this;
   }
@@ -302,6 +314,9 @@ public class EdFiInterventionStudy   {
   }
 
   public EdFiInterventionStudy addLearningResourceMetadataURIsItem(EdFiInterventionStudyLearningResourceMetadataURI learningResourceMetadataURIsItem) {
+    if (this.learningResourceMetadataURIs == null) {
+      this.learningResourceMetadataURIs = new ArrayList<EdFiInterventionStudyLearningResourceMetadataURI>();
+    }
     this.learningResourceMetadataURIs.add(learningResourceMetadataURIsItem);
     return this;
   }
@@ -343,6 +358,9 @@ public class EdFiInterventionStudy   {
   }
 
   public EdFiInterventionStudy addPopulationServedsItem(EdFiInterventionStudyPopulationServed populationServedsItem) {
+    if (this.populationServeds == null) {
+      this.populationServeds = new ArrayList<EdFiInterventionStudyPopulationServed>();
+    }
     this.populationServeds.add(populationServedsItem);
     return this;
   }
@@ -366,6 +384,9 @@ public class EdFiInterventionStudy   {
   }
 
   public EdFiInterventionStudy addStateAbbreviationsItem(EdFiInterventionStudyStateAbbreviation stateAbbreviationsItem) {
+    if (this.stateAbbreviations == null) {
+      this.stateAbbreviations = new ArrayList<EdFiInterventionStudyStateAbbreviation>();
+    }
     this.stateAbbreviations.add(stateAbbreviationsItem);
     return this;
   }
@@ -389,6 +410,9 @@ public class EdFiInterventionStudy   {
   }
 
   public EdFiInterventionStudy addUrisItem(EdFiInterventionStudyURI urisItem) {
+    if (this.uris == null) {
+      this.uris = new ArrayList<EdFiInterventionStudyURI>();
+    }
     this.uris.add(urisItem);
     return this;
   }
@@ -47,7 +47,7 @@ public class EdFiLearningObjective   {
   private String id = null;
 
   @SerializedName("academicSubjects")
-  private List<EdFiLearningObjectiveAcademicSubject> academicSubjects = new ArrayList<EdFiLearningObjectiveAcademicSubject>();
+  private List<EdFiLearningObjectiveAcademicSubject> academicSubjects = null;
 
   @SerializedName("learningObjectiveId")
   private String learningObjectiveId = null;
@@ -65,10 +65,10 @@ public class EdFiLearningObjective   {
   private String description = null;
 
   @SerializedName("gradeLevels")
-  private List<EdFiLearningObjectiveGradeLevel> gradeLevels = new ArrayList<EdFiLearningObjectiveGradeLevel>();
+  private List<EdFiLearningObjectiveGradeLevel> gradeLevels = null;
 
   @SerializedName("learningStandards")
-  private List<EdFiLearningObjectiveLearningStandard> learningStandards = new ArrayList<EdFiLearningObjectiveLearningStandard>();
+  private List<EdFiLearningObjectiveLearningStandard> learningStandards = null;
 
   @SerializedName("nomenclature")
   private String nomenclature = null;
@@ -106,6 +106,9 @@ public class EdFiLearningObjective   {
   }
 
   public EdFiLearningObjective addAcademicSubjectsItem(EdFiLearningObjectiveAcademicSubject academicSubjectsItem) {
+    if (this.academicSubjects == null) {
+      this.academicSubjects = new ArrayList<EdFiLearningObjectiveAcademicSubject>();
+    }
     this.academicSubjects.add(academicSubjectsItem);
     return this;
   }
@@ -219,6 +222,9 @@ public class EdFiLearningObjective   {
   }
 
   public EdFiLearningObjective addGradeLevelsItem(EdFiLearningObjectiveGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<EdFiLearningObjectiveGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -242,6 +248,9 @@ public class EdFiLearningObjective   {
   }
 
   public EdFiLearningObjective addLearningStandardsItem(EdFiLearningObjectiveLearningStandard learningStandardsItem) {
+    if (this.learningStandards == null) {
+      this.learningStandards = new ArrayList<EdFiLearningObjectiveLearningStandard>();
+    }
     this.learningStandards.add(learningStandardsItem);
     return this;
   }
@@ -69,7 +69,7 @@ public class EdFiLearningObjectiveContentStandard   {
   private EdFiEducationOrganizationReference mandatingEducationOrganizationReference = null;
 
   @SerializedName("authors")
-  private List<EdFiLearningObjectiveContentStandardAuthor> authors = new ArrayList<EdFiLearningObjectiveContentStandardAuthor>();
+  private List<EdFiLearningObjectiveContentStandardAuthor> authors = null;
 
   public EdFiLearningObjectiveContentStandard publicationStatusDescriptor(String publicationStatusDescriptor) {
     this.publicationStatusDescriptor = publicationStatusDescriptor;
@@ -239,6 +239,9 @@ public class EdFiLearningObjectiveContentStandard   {
   }
 
   public EdFiLearningObjectiveContentStandard addAuthorsItem(EdFiLearningObjectiveContentStandardAuthor authorsItem) {
+    if (this.authors == null) {
+      this.authors = new ArrayList<EdFiLearningObjectiveContentStandardAuthor>();
+    }
     this.authors.add(authorsItem);
     return this;
   }
@@ -48,10 +48,10 @@ public class EdFiLearningStandard   {
   private String id = null;
 
   @SerializedName("academicSubjects")
-  private List<EdFiLearningStandardAcademicSubject> academicSubjects = new ArrayList<EdFiLearningStandardAcademicSubject>();
+  private List<EdFiLearningStandardAcademicSubject> academicSubjects = null;
 
   @SerializedName("gradeLevels")
-  private List<EdFiLearningStandardGradeLevel> gradeLevels = new ArrayList<EdFiLearningStandardGradeLevel>();
+  private List<EdFiLearningStandardGradeLevel> gradeLevels = null;
 
   @SerializedName("learningStandardId")
   private String learningStandardId = null;
@@ -69,7 +69,7 @@ public class EdFiLearningStandard   {
   private String description = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiLearningStandardIdentificationCode> identificationCodes = new ArrayList<EdFiLearningStandardIdentificationCode>();
+  private List<EdFiLearningStandardIdentificationCode> identificationCodes = null;
 
   @SerializedName("learningStandardCategoryDescriptor")
   private String learningStandardCategoryDescriptor = null;
@@ -81,7 +81,7 @@ public class EdFiLearningStandard   {
   private String namespace = null;
 
   @SerializedName("prerequisiteLearningStandards")
-  private List<EdFiLearningStandardPrerequisiteLearningStandard> prerequisiteLearningStandards = new ArrayList<EdFiLearningStandardPrerequisiteLearningStandard>();
+  private List<EdFiLearningStandardPrerequisiteLearningStandard> prerequisiteLearningStandards = null;
 
   @SerializedName("successCriteria")
   private String successCriteria = null;
@@ -116,6 +116,9 @@ public class EdFiLearningStandard   {
   }
 
   public EdFiLearningStandard addAcademicSubjectsItem(EdFiLearningStandardAcademicSubject academicSubjectsItem) {
+    if (this.academicSubjects == null) {
+      this.academicSubjects = new ArrayList<EdFiLearningStandardAcademicSubject>();
+    }
     this.academicSubjects.add(academicSubjectsItem);
     return this;
   }
@@ -139,6 +142,9 @@ public class EdFiLearningStandard   {
   }
 
   public EdFiLearningStandard addGradeLevelsItem(EdFiLearningStandardGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<EdFiLearningStandardGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -252,6 +258,9 @@ public class EdFiLearningStandard   {
   }
 
   public EdFiLearningStandard addIdentificationCodesItem(EdFiLearningStandardIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiLearningStandardIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -329,6 +338,9 @@ public class EdFiLearningStandard   {
   }
 
   public EdFiLearningStandard addPrerequisiteLearningStandardsItem(EdFiLearningStandardPrerequisiteLearningStandard prerequisiteLearningStandardsItem) {
+    if (this.prerequisiteLearningStandards == null) {
+      this.prerequisiteLearningStandards = new ArrayList<EdFiLearningStandardPrerequisiteLearningStandard>();
+    }
     this.prerequisiteLearningStandards.add(prerequisiteLearningStandardsItem);
     return this;
   }
@@ -69,7 +69,7 @@ public class EdFiLearningStandardContentStandard   {
   private EdFiEducationOrganizationReference mandatingEducationOrganizationReference = null;
 
   @SerializedName("authors")
-  private List<EdFiLearningStandardContentStandardAuthor> authors = new ArrayList<EdFiLearningStandardContentStandardAuthor>();
+  private List<EdFiLearningStandardContentStandardAuthor> authors = null;
 
   public EdFiLearningStandardContentStandard publicationStatusDescriptor(String publicationStatusDescriptor) {
     this.publicationStatusDescriptor = publicationStatusDescriptor;
@@ -239,6 +239,9 @@ public class EdFiLearningStandardContentStandard   {
   }
 
   public EdFiLearningStandardContentStandard addAuthorsItem(EdFiLearningStandardContentStandardAuthor authorsItem) {
+    if (this.authors == null) {
+      this.authors = new ArrayList<EdFiLearningStandardContentStandardAuthor>();
+    }
     this.authors.add(authorsItem);
     return this;
   }
@@ -53,10 +53,10 @@ public class EdFiLocalEducationAgency   {
   private String id = null;
 
   @SerializedName("addresses")
-  private List<EdFiEducationOrganizationAddress> addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+  private List<EdFiEducationOrganizationAddress> addresses = null;
 
   @SerializedName("categories")
-  private List<EdFiEducationOrganizationCategory> categories = new ArrayList<EdFiEducationOrganizationCategory>();
+  private List<EdFiEducationOrganizationCategory> categories = null;
 
   @SerializedName("localEducationAgencyId")
   private Integer localEducationAgencyId = null;
@@ -71,22 +71,22 @@ public class EdFiLocalEducationAgency   {
   private EdFiStateEducationAgencyReference stateEducationAgencyReference = null;
 
   @SerializedName("accountabilities")
-  private List<EdFiLocalEducationAgencyAccountability> accountabilities = new ArrayList<EdFiLocalEducationAgencyAccountability>();
+  private List<EdFiLocalEducationAgencyAccountability> accountabilities = null;
 
   @SerializedName("charterStatusDescriptor")
   private String charterStatusDescriptor = null;
 
   @SerializedName("federalFunds")
-  private List<EdFiLocalEducationAgencyFederalFunds> federalFunds = new ArrayList<EdFiLocalEducationAgencyFederalFunds>();
+  private List<EdFiLocalEducationAgencyFederalFunds> federalFunds = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = null;
 
   @SerializedName("institutionTelephones")
-  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = null;
 
   @SerializedName("localEducationAgencyCategoryDescriptor")
   private String localEducationAgencyCategoryDescriptor = null;
@@ -133,6 +133,9 @@ public class EdFiLocalEducationAgency   {
   }
 
   public EdFiLocalEducationAgency addAddressesItem(EdFiEducationOrganizationAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -156,6 +159,9 @@ public class EdFiLocalEducationAgency   {
   }
 
   public EdFiLocalEducationAgency addCategoriesItem(EdFiEducationOrganizationCategory categoriesItem) {
+    if (this.categories == null) {
+      this.categories = new ArrayList<EdFiEducationOrganizationCategory>();
+    }
     this.categories.add(categoriesItem);
     return this;
   }
@@ -251,6 +257,9 @@ public class EdFiLocalEducationAgency   {
   }
 
   public EdFiLocalEducationAgency addAccountabilitiesItem(EdFiLocalEducationAgencyAccountability accountabilitiesItem) {
+    if (this.accountabilities == null) {
+      this.accountabilities = new ArrayList<EdFiLocalEducationAgencyAccountability>();
+    }
     this.accountabilities.add(accountabilitiesItem);
     return this;
   }
@@ -292,6 +301,9 @@ public class EdFiLocalEducationAgency   {
   }
 
   public EdFiLocalEducationAgency addFederalFundsItem(EdFiLocalEducationAgencyFederalFunds federalFundsItem) {
+    if (this.federalFunds == null) {
+      this.federalFunds = new ArrayList<EdFiLocalEducationAgencyFederalFunds>();
+    }
     this.federalFunds.add(federalFundsItem);
     return this;
   }
@@ -315,6 +327,9 @@ public class EdFiLocalEducationAgency   {
   }
 
   public EdFiLocalEducationAgency addIdentificationCodesItem(EdFiEducationOrganizationIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -338,6 +353,9 @@ public class EdFiLocalEducationAgency   {
   }
 
   public EdFiLocalEducationAgency addInstitutionTelephonesItem(EdFiEducationOrganizationInstitutionTelephone institutionTelephonesItem) {
+    if (this.institutionTelephones == null) {
+      this.institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+    }
     this.institutionTelephones.add(institutionTelephonesItem);
     return this;
   }
@@ -361,6 +379,9 @@ public class EdFiLocalEducationAgency   {
   }
 
   public EdFiLocalEducationAgency addInternationalAddressesItem(EdFiEducationOrganizationInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -58,16 +58,16 @@ public class EdFiObjectiveAssessment   {
   private EdFiObjectiveAssessmentReference parentObjectiveAssessmentReference = null;
 
   @SerializedName("assessmentItems")
-  private List<EdFiObjectiveAssessmentAssessmentItem> assessmentItems = new ArrayList<EdFiObjectiveAssessmentAssessmentItem>();
+  private List<EdFiObjectiveAssessmentAssessmentItem> assessmentItems = null;
 
   @SerializedName("description")
   private String description = null;
 
   @SerializedName("learningObjectives")
-  private List<EdFiObjectiveAssessmentLearningObjective> learningObjectives = new ArrayList<EdFiObjectiveAssessmentLearningObjective>();
+  private List<EdFiObjectiveAssessmentLearningObjective> learningObjectives = null;
 
   @SerializedName("learningStandards")
-  private List<EdFiObjectiveAssessmentLearningStandard> learningStandards = new ArrayList<EdFiObjectiveAssessmentLearningStandard>();
+  private List<EdFiObjectiveAssessmentLearningStandard> learningStandards = null;
 
   @SerializedName("maxRawScore")
   private Integer maxRawScore = null;
@@ -79,10 +79,10 @@ public class EdFiObjectiveAssessment   {
   private Double percentOfAssessment = null;
 
   @SerializedName("performanceLevels")
-  private List<EdFiObjectiveAssessmentPerformanceLevel> performanceLevels = new ArrayList<EdFiObjectiveAssessmentPerformanceLevel>();
+  private List<EdFiObjectiveAssessmentPerformanceLevel> performanceLevels = null;
 
   @SerializedName("scores")
-  private List<EdFiObjectiveAssessmentScore> scores = new ArrayList<EdFiObjectiveAssessmentScore>();
+  private List<EdFiObjectiveAssessmentScore> scores = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -165,6 +165,9 @@ public class EdFiObjectiveAssessment   {
   }
 
   public EdFiObjectiveAssessment addAssessmentItemsItem(EdFiObjectiveAssessmentAssessmentItem assessmentItemsItem) {
+    if (this.assessmentItems == null) {
+      this.assessmentItems = new ArrayList<EdFiObjectiveAssessmentAssessmentItem>();
+    }
     this.assessmentItems.add(assessmentItemsItem);
     return this;
   }
@@ -206,6 +209,9 @@ public class EdFiObjectiveAssessment   {
   }
 
   public EdFiObjectiveAssessment addLearningObjectivesItem(EdFiObjectiveAssessmentLearningObjective learningObjectivesItem) {
+    if (this.learningObjectives == null) {
+      this.learningObjectives = new ArrayList<EdFiObjectiveAssessmentLearningObjective>();
+    }
     this.learningObjectives.add(learningObjectivesItem);
     return this;
   }
@@ -229,6 +235,9 @@ public class EdFiObjectiveAssessment   {
   }
 
   public EdFiObjectiveAssessment addLearningStandardsItem(EdFiObjectiveAssessmentLearningStandard learningStandardsItem) {
+    if (this.learningStandards == null) {
+      this.learningStandards = new ArrayList<EdFiObjectiveAssessmentLearningStandard>();
+    }
     this.learningStandards.add(learningStandardsItem);
     return this;
   }
@@ -306,6 +315,9 @@ public class EdFiObjectiveAssessment   {
   }
 
   public EdFiObjectiveAssessment addPerformanceLevelsItem(EdFiObjectiveAssessmentPerformanceLevel performanceLevelsItem) {
+    if (this.performanceLevels == null) {
+      this.performanceLevels = new ArrayList<EdFiObjectiveAssessmentPerformanceLevel>();
+    }
     this.performanceLevels.add(performanceLevelsItem);
     return this;
   }
@@ -329,6 +341,9 @@ public class EdFiObjectiveAssessment   {
   }
 
   public EdFiObjectiveAssessment addScoresItem(EdFiObjectiveAssessmentScore scoresItem) {
+    if (this.scores == null) {
+      this.scores = new ArrayList<EdFiObjectiveAssessmentScore>();
+    }
     this.scores.add(scoresItem);
     return this;
   }
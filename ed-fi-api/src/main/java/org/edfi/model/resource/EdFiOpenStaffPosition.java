@@ -53,7 +53,7 @@ public class EdFiOpenStaffPosition   {
   private EdFiEducationOrganizationReference educationOrganizationReference = null;
 
   @SerializedName("academicSubjects")
-  private List<EdFiOpenStaffPositionAcademicSubject> academicSubjects = new ArrayList<EdFiOpenStaffPositionAcademicSubject>();
+  private List<EdFiOpenStaffPositionAcademicSubject> academicSubjects = null;
 
   @SerializedName("datePosted")
   private LocalDate datePosted = null;
@@ -65,7 +65,7 @@ public class EdFiOpenStaffPosition   {
   private String employmentStatusDescriptor = null;
 
   @SerializedName("instructionalGradeLevels")
-  private List<EdFiOpenStaffPositionInstructionalGradeLevel> instructionalGradeLevels = new ArrayList<EdFiOpenStaffPositionInstructionalGradeLevel>();
+  private List<EdFiOpenStaffPositionInstructionalGradeLevel> instructionalGradeLevels = null;
 
   @SerializedName("positionTitle")
   private String positionTitle = null;
@@ -145,6 +145,9 @@ public class EdFiOpenStaffPosition   {
   }
 
   public EdFiOpenStaffPosition addAcademicSubjectsItem(EdFiOpenStaffPositionAcademicSubject academicSubjectsItem) {
+    if (this.academicSubjects == null) {
+      this.academicSubjects = new ArrayList<EdFiOpenStaffPositionAcademicSubject>();
+    }
     this.academicSubjects.add(academicSubjectsItem);
     return this;
   }
@@ -222,6 +225,9 @@ public class EdFiOpenStaffPosition   {
   }
 
   public EdFiOpenStaffPosition addInstructionalGradeLevelsItem(EdFiOpenStaffPositionInstructionalGradeLevel instructionalGradeLevelsItem) {
+    if (this.instructionalGradeLevels == null) {
+      this.instructionalGradeLevels = new ArrayList<EdFiOpenStaffPositionInstructionalGradeLevel>();
+    }
     this.instructionalGradeLevels.add(instructionalGradeLevelsItem);
     return this;
   }
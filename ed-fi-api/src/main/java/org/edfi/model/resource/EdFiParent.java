@@ -52,10 +52,10 @@ public class EdFiParent   {
   private String parentUniqueId = null;
 
   @SerializedName("addresses")
-  private List<EdFiParentAddress> addresses = new ArrayList<EdFiParentAddress>();
+  private List<EdFiParentAddress> addresses = null;
 
   @SerializedName("electronicMails")
-  private List<EdFiParentElectronicMail> electronicMails = new ArrayList<EdFiParentElectronicMail>();
+  private List<EdFiParentElectronicMail> electronicMails = null;
 
   @SerializedName("firstName")
   private String firstName = null;
@@ -64,10 +64,10 @@ public class EdFiParent   {
   private String generationCodeSuffix = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiParentInternationalAddress> internationalAddresses = new ArrayList<EdFiParentInternationalAddress>();
+  private List<EdFiParentInternationalAddress> internationalAddresses = null;
 
   @SerializedName("languages")
-  private List<EdFiParentLanguage> languages = new ArrayList<EdFiParentLanguage>();
+  private List<EdFiParentLanguage> languages = null;
 
   @SerializedName("lastSurname")
   private String lastSurname = null;
@@ -82,10 +82,10 @@ public class EdFiParent   {
   private String middleName = null;
 
   @SerializedName("otherNames")
-  private List<EdFiParentOtherName> otherNames = new ArrayList<EdFiParentOtherName>();
+  private List<EdFiParentOtherName> otherNames = null;
 
   @SerializedName("personalIdentificationDocuments")
-  private List<EdFiParentPersonalIdentificationDocument> personalIdentificationDocuments = new ArrayList<EdFiParentPersonalIdentificationDocument>();
+  private List<EdFiParentPersonalIdentificationDocument> personalIdentificationDocuments = null;
 
   @SerializedName("personalTitlePrefix")
   private String personalTitlePrefix = null;
@@ -94,7 +94,7 @@ public class EdFiParent   {
   private String sexDescriptor = null;
 
   @SerializedName("telephones")
-  private List<EdFiParentTelephone> telephones = new ArrayList<EdFiParentTelephone>();
+  private List<EdFiParentTelephone> telephones = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -141,6 +141,9 @@ public class EdFiParent   {
   }
 
   public EdFiParent addAddressesItem(EdFiParentAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiParentAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -164,6 +167,9 @@ public class EdFiParent   {
   }
 
   public EdFiParent addElectronicMailsItem(EdFiParentElectronicMail electronicMailsItem) {
+    if (this.electronicMails == null) {
+      this.electronicMails = new ArrayList<EdFiParentElectronicMail>();
+    }
     this.electronicMails.add(electronicMailsItem);
     return this;
   }
@@ -223,6 +229,9 @@ public class EdFiParent   {
   }
 
   public EdFiParent addInternationalAddressesItem(EdFiParentInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiParentInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -246,6 +255,9 @@ public class EdFiParent   {
   }
 
   public EdFiParent addLanguagesItem(EdFiParentLanguage languagesItem) {
+    if (this.languages == null) {
+      this.languages = new ArrayList<EdFiParentLanguage>();
+    }
     this.languages.add(languagesItem);
     return this;
   }
@@ -341,6 +353,9 @@ public class EdFiParent   {
   }
 
   public EdFiParent addOtherNamesItem(EdFiParentOtherName otherNamesItem) {
+    if (this.otherNames == null) {
+      this.otherNames = new ArrayList<EdFiParentOtherName>();
+    }
     this.otherNames.add(otherNamesItem);
     return this;
   }
@@ -364,6 +379,9 @@ public class EdFiParent   {
   }
 
   public EdFiParent addPersonalIdentificationDocumentsItem(EdFiParentPersonalIdentificationDocument personalIdentificationDocumentsItem) {
+    if (this.personalIdentificationDocuments == null) {
+      this.personalIdentificationDocuments = new ArrayList<EdFiParentPersonalIdentificationDocument>();
+    }
     this.personalIdentificationDocuments.add(personalIdentificationDocumentsItem);
     return this;
   }
@@ -423,6 +441,9 @@ public class EdFiParent   {
   }
 
   public EdFiParent addTelephonesItem(EdFiParentTelephone telephonesItem) {
+    if (this.telephones == null) {
+      this.telephones = new ArrayList<EdFiParentTelephone>();
+    }
     this.telephones.add(telephonesItem);
     return this;
   }
@@ -82,7 +82,7 @@ public class EdFiParentAddress   {
   private String streetNumberName = null;
 
   @SerializedName("periods")
-  private List<EdFiParentAddressPeriod> periods = new ArrayList<EdFiParentAddressPeriod>();
+  private List<EdFiParentAddressPeriod> periods = null;
 
   public EdFiParentAddress addressTypeDescriptor(String addressTypeDescriptor) {
     this.addressTypeDescriptor = addressTypeDescriptor;
@@ -342,6 +342,9 @@ public class EdFiParentAddress   {
   }
 
   public EdFiParentAddress addPeriodsItem(EdFiParentAddressPeriod periodsItem) {
+    if (this.periods == null) {
+      this.periods = new ArrayList<EdFiParentAddressPeriod>();
+    }
     this.periods.add(periodsItem);
     return this;
   }
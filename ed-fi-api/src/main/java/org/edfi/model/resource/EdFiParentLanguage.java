@@ -43,7 +43,7 @@ public class EdFiParentLanguage   {
   private String languageDescriptor = null;
 
   @SerializedName("uses")
-  private List<EdFiParentLanguageUse> uses = new ArrayList<EdFiParentLanguageUse>();
+  private List<EdFiParentLanguageUse> uses = null;
 
   public EdFiParentLanguage languageDescriptor(String languageDescriptor) {
     this.languageDescriptor = languageDescriptor;
@@ -69,6 +69,9 @@ public class EdFiParentLanguage   {
   }
 
   public EdFiParentLanguage addUsesItem(EdFiParentLanguageUse usesItem) {
+    if (this.uses == null) {
+      this.uses = new ArrayList<EdFiParentLanguageUse>();
+    }
     this.uses.add(usesItem);
     return this;
   }
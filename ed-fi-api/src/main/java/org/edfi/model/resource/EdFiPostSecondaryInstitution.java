@@ -49,10 +49,10 @@ public class EdFiPostSecondaryInstitution   {
   private String id = null;
 
   @SerializedName("addresses")
-  private List<EdFiEducationOrganizationAddress> addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+  private List<EdFiEducationOrganizationAddress> addresses = null;
 
   @SerializedName("categories")
-  private List<EdFiEducationOrganizationCategory> categories = new ArrayList<EdFiEducationOrganizationCategory>();
+  private List<EdFiEducationOrganizationCategory> categories = null;
 
   @SerializedName("postSecondaryInstitutionId")
   private Integer postSecondaryInstitutionId = null;
@@ -61,16 +61,16 @@ public class EdFiPostSecondaryInstitution   {
   private String administrativeFundingControlDescriptor = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = null;
 
   @SerializedName("institutionTelephones")
-  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = null;
 
   @SerializedName("mediumOfInstructions")
-  private List<EdFiPostSecondaryInstitutionMediumOfInstruction> mediumOfInstructions = new ArrayList<EdFiPostSecondaryInstitutionMediumOfInstruction>();
+  private List<EdFiPostSecondaryInstitutionMediumOfInstruction> mediumOfInstructions = null;
 
   @SerializedName("nameOfInstitution")
   private String nameOfInstitution = null;
@@ -117,6 +117,9 @@ public class EdFiPostSecondaryInstitution   {
   }
 
   public EdFiPostSecondaryInstitution addAddressesItem(EdFiEducationOrganizationAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -140,6 +143,9 @@ public class EdFiPostSecondaryInstitution   {
   }
 
   public EdFiPostSecondaryInstitution addCategoriesItem(EdFiEducationOrganizationCategory categoriesItem) {
+    if (this.categories == null) {
+      this.categories = new ArrayList<EdFiEducationOrganizationCategory>();
+    }
     this.categories.add(categoriesItem);
     return this;
   }
@@ -199,6 +205,9 @@ public class EdFiPostSecondaryInstitution   {
   }
 
   public EdFiPostSecondaryInstitution addIdentificationCodesItem(EdFiEducationOrganizationIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -222,6 +231,9 @@ public class EdFiPostSecondaryInstitution   {
   }
 
   public EdFiPostSecondaryInstitution addInstitutionTelephonesItem(EdFiEducationOrganizationInstitutionTelephone institutionTelephonesItem) {
+    if (this.institutionTelephones == null) {
+      this.institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+    }
     this.institutionTelephones.add(institutionTelephonesItem);
     return this;
   }
@@ -245,6 +257,9 @@ public class EdFiPostSecondaryInstitution   {
   }
 
   public EdFiPostSecondaryInstitution addInternationalAddressesItem(EdFiEducationOrganizationInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -268,6 +283,9 @@ public class EdFiPostSecondaryInstitution   {
   }
 
   public EdFiPostSecondaryInstitution addMediumOfInstructionsItem(EdFiPostSecondaryInstitutionMediumOfInstruction mediumOfInstructionsItem) {
+    if (this.mediumOfInstructions == null) {
+      this.mediumOfInstructions = new ArrayList<EdFiPostSecondaryInstitutionMediumOfInstruction>();
+    }
     this.mediumOfInstructions.add(mediumOfInstructionsItem);
     return this;
   }
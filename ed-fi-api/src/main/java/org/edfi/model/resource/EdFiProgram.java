@@ -57,22 +57,22 @@ public class EdFiProgram   {
   private EdFiEducationOrganizationReference educationOrganizationReference = null;
 
   @SerializedName("characteristics")
-  private List<EdFiProgramCharacteristic> characteristics = new ArrayList<EdFiProgramCharacteristic>();
+  private List<EdFiProgramCharacteristic> characteristics = null;
 
   @SerializedName("learningObjectives")
-  private List<EdFiProgramLearningObjective> learningObjectives = new ArrayList<EdFiProgramLearningObjective>();
+  private List<EdFiProgramLearningObjective> learningObjectives = null;
 
   @SerializedName("learningStandards")
-  private List<EdFiProgramLearningStandard> learningStandards = new ArrayList<EdFiProgramLearningStandard>();
+  private List<EdFiProgramLearningStandard> learningStandards = null;
 
   @SerializedName("programId")
   private String programId = null;
 
   @SerializedName("services")
-  private List<EdFiProgramService> services = new ArrayList<EdFiProgramService>();
+  private List<EdFiProgramService> services = null;
 
   @SerializedName("sponsors")
-  private List<EdFiProgramSponsor> sponsors = new ArrayList<EdFiProgramSponsor>();
+  private List<EdFiProgramSponsor> sponsors = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -155,6 +155,9 @@ public class EdFiProgram   {
   }
 
   public EdFiProgram addCharacteristicsItem(EdFiProgramCharacteristic characteristicsItem) {
+    if (this.characteristics == null) {
+      this.characteristics = new ArrayList<EdFiProgramCharacteristic>();
+    }
     this.characteristics.add(characteristicsItem);
     return this;
   }
@@ -178,6 +181,9 @@ public class EdFiProgram   {
   }
 
   public EdFiProgram addLearningObjectivesItem(EdFiProgramLearningObjective learningObjectivesItem) {
+    if (this.learningObjectives == null) {
+      this.learningObjectives = new ArrayList<EdFiProgramLearningObjective>();
+    }
     this.learningObjectives.add(learningObjectivesItem);
     return this;
   }
@@ -201,6 +207,9 @@ public class EdFiProgram   {
   }
 
   public EdFiProgram addLearningStandardsItem(EdFiProgramLearningStandard learningStandardsItem) {
+    if (this.learningStandards == null) {
+      this.learningStandards = new ArrayList<EdFiProgramLearningStandard>();
+    }
     this.learningStandards.add(learningStandardsItem);
     return this;
   }
@@ -242,6 +251,9 @@ public class EdFiProgram   {
   }
 
   public EdFiProgram addServicesItem(EdFiProgramService servicesItem) {
+    if (this.services == null) {
+      this.services = new ArrayList<EdFiProgramService>();
+    }
     this.services.add(servicesItem);
     return this;
   }
@@ -265,6 +277,9 @@ public class EdFiProgram   {
   }
 
   public EdFiProgram addSponsorsItem(EdFiProgramSponsor sponsorsItem) {
+    if (this.sponsors == null) {
+      this.sponsors = new ArrayList<EdFiProgramSponsor>();
+    }
     this.sponsors.add(sponsorsItem);
     return this;
   }
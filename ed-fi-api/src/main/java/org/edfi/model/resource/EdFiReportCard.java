@@ -63,7 +63,7 @@ public class EdFiReportCard   {
   private Double gpaGivenGradingPeriod = null;
 
   @SerializedName("grades")
-  private List<EdFiReportCardGrade> grades = new ArrayList<EdFiReportCardGrade>();
+  private List<EdFiReportCardGrade> grades = null;
 
   @SerializedName("numberOfDaysAbsent")
   private Double numberOfDaysAbsent = null;
@@ -75,10 +75,10 @@ public class EdFiReportCard   {
   private Integer numberOfDaysTardy = null;
 
   @SerializedName("studentCompetencyObjectives")
-  private List<EdFiReportCardStudentCompetencyObjective> studentCompetencyObjectives = new ArrayList<EdFiReportCardStudentCompetencyObjective>();
+  private List<EdFiReportCardStudentCompetencyObjective> studentCompetencyObjectives = null;
 
   @SerializedName("studentLearningObjectives")
-  private List<EdFiReportCardStudentLearningObjective> studentLearningObjectives = new ArrayList<EdFiReportCardStudentLearningObjective>();
+  private List<EdFiReportCardStudentLearningObjective> studentLearningObjectives = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -197,6 +197,9 @@ public class EdFiReportCard   {
   }
 
   public EdFiReportCard addGradesItem(EdFiReportCardGrade gradesItem) {
+    if (this.grades == null) {
+      this.grades = new ArrayList<EdFiReportCardGrade>();
+    }
     this.grades.add(gradesItem);
     return this;
   }
@@ -274,6 +277,9 @@ public class EdFiReportCard   {
   }
 
   public EdFiReportCard addStudentCompetencyObjectivesItem(EdFiReportCardStudentCompetencyObjective studentCompetencyObjectivesItem) {
+    if (this.studentCompetencyObjectives == null) {
+      this.studentCompetencyObjectives = new ArrayList<EdFiReportCardStudentCompetencyObjective>();
+    }
     this.studentCompetencyObjectives.add(studentCompetencyObjectivesItem);
     return this;
   }
@@ -297,6 +303,9 @@ public class EdFiReportCard   {
   }
 
   public EdFiReportCard addStudentLearningObjectivesItem(EdFiReportCardStudentLearningObjective studentLearningObjectivesItem) {
+    if (this.studentLearningObjectives == null) {
+      this.studentLearningObjectives = new ArrayList<EdFiReportCardStudentLearningObjective>();
+    }
     this.studentLearningObjectives.add(studentLearningObjectivesItem);
     return this;
   }
@@ -62,10 +62,10 @@ public class EdFiRestraintEvent   {
   private LocalDate eventDate = null;
 
   @SerializedName("programs")
-  private List<EdFiRestraintEventProgram> programs = new ArrayList<EdFiRestraintEventProgram>();
+  private List<EdFiRestraintEventProgram> programs = null;
 
   @SerializedName("reasons")
-  private List<EdFiRestraintEventReason> reasons = new ArrayList<EdFiRestraintEventReason>();
+  private List<EdFiRestraintEventReason> reasons = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -184,6 +184,9 @@ public class EdFiRestraintEvent   {
   }
 
   public EdFiRestraintEvent addProgramsItem(EdFiRestraintEventProgram programsItem) {
+    if (this.programs == null) {
+      this.programs = new ArrayList<EdFiRestraintEventProgram>();
+    }
     this.programs.add(programsItem);
     return this;
   }
@@ -207,6 +210,9 @@ public class EdFiRestraintEvent   {
   }
 
   public EdFiRestraintEvent addReasonsItem(EdFiRestraintEventReason reasonsItem) {
+    if (this.reasons == null) {
+      this.reasons = new ArrayList<EdFiRestraintEventReason>();
+    }
     this.reasons.add(reasonsItem);
     return this;
   }
@@ -52,13 +52,13 @@ public class EdFiSchool   {
   private String id = null;
 
   @SerializedName("addresses")
-  private List<EdFiEducationOrganizationAddress> addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+  private List<EdFiEducationOrganizationAddress> addresses = null;
 
   @SerializedName("educationOrganizationCategories")
-  private List<EdFiEducationOrganizationCategory> educationOrganizationCategories = new ArrayList<EdFiEducationOrganizationCategory>();
+  private List<EdFiEducationOrganizationCategory> educationOrganizationCategories = null;
 
   @SerializedName("gradeLevels")
-  private List<EdFiSchoolGradeLevel> gradeLevels = new ArrayList<EdFiSchoolGradeLevel>();
+  private List<EdFiSchoolGradeLevel> gradeLevels = null;
 
   @SerializedName("schoolId")
   private Integer schoolId = null;
@@ -79,13 +79,13 @@ public class EdFiSchool   {
   private String charterStatusDescriptor = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = null;
 
   @SerializedName("institutionTelephones")
-  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = null;
 
   @SerializedName("internetAccessDescriptor")
   private String internetAccessDescriptor = null;
@@ -100,7 +100,7 @@ public class EdFiSchool   {
   private String operationalStatusDescriptor = null;
 
   @SerializedName("schoolCategories")
-  private List<EdFiSchoolCategory> schoolCategories = new ArrayList<EdFiSchoolCategory>();
+  private List<EdFiSchoolCategory> schoolCategories = null;
 
   @SerializedName("schoolTypeDescriptor")
   private String schoolTypeDescriptor = null;
@@ -144,6 +144,9 @@ public class EdFiSchool   {
   }
 
   public EdFiSchool addAddressesItem(EdFiEducationOrganizationAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -167,6 +170,9 @@ public class EdFiSchool   {
   }
 
   public EdFiSchool addEducationOrganizationCategoriesItem(EdFiEducationOrganizationCategory educationOrganizationCategoriesItem) {
+    if (this.educationOrganizationCategories == null) {
+      this.educationOrganizationCategories = new ArrayList<EdFiEducationOrganizationCategory>();
+    }
     this.educationOrganizationCategories.add(educationOrganizationCategoriesItem);
     return this;
   }
@@ -190,6 +196,9 @@ public class EdFiSchool   {
   }
 
   public EdFiSchool addGradeLevelsItem(EdFiSchoolGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<EdFiSchoolGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -321,6 +330,9 @@ public class EdFiSchool   {
   }
 
   public EdFiSchool addIdentificationCodesItem(EdFiEducationOrganizationIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -344,6 +356,9 @@ public class EdFiSchool   {
   }
 
   public EdFiSchool addInstitutionTelephonesItem(EdFiEducationOrganizationInstitutionTelephone institutionTelephonesItem) {
+    if (this.institutionTelephones == null) {
+      this.institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+    }
     this.institutionTelephones.add(institutionTelephonesItem);
     return this;
   }
@@ -367,6 +382,9 @@ public class EdFiSchool   {
   }
 
   public EdFiSchool addInternationalAddressesItem(EdFiEducationOrganizationInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -462,6 +480,9 @@ public class EdFiSchool   {
   }
 
   public EdFiSchool addSchoolCategoriesItem(EdFiSchoolCategory schoolCategoriesItem) {
+    if (this.schoolCategories == null) {
+      this.schoolCategories = new ArrayList<EdFiSchoolCategory>();
+    }
     this.schoolCategories.add(schoolCategoriesItem);
     return this;
   }
@@ -71,13 +71,13 @@ public class EdFiSection   {
   private String availableCreditTypeDescriptor = null;
 
   @SerializedName("characteristics")
-  private List<EdFiSectionCharacteristic> characteristics = new ArrayList<EdFiSectionCharacteristic>();
+  private List<EdFiSectionCharacteristic> characteristics = null;
 
   @SerializedName("classPeriods")
-  private List<EdFiSectionClassPeriod> classPeriods = new ArrayList<EdFiSectionClassPeriod>();
+  private List<EdFiSectionClassPeriod> classPeriods = null;
 
   @SerializedName("courseLevelCharacteristics")
-  private List<EdFiSectionCourseLevelCharacteristic> courseLevelCharacteristics = new ArrayList<EdFiSectionCourseLevelCharacteristic>();
+  private List<EdFiSectionCourseLevelCharacteristic> courseLevelCharacteristics = null;
 
   @SerializedName("educationalEnvironmentDescriptor")
   private String educationalEnvironmentDescriptor = null;
@@ -89,13 +89,13 @@ public class EdFiSection   {
   private String mediumOfInstructionDescriptor = null;
 
   @SerializedName("offeredGradeLevels")
-  private List<EdFiSectionOfferedGradeLevel> offeredGradeLevels = new ArrayList<EdFiSectionOfferedGradeLevel>();
+  private List<EdFiSectionOfferedGradeLevel> offeredGradeLevels = null;
 
   @SerializedName("populationServedDescriptor")
   private String populationServedDescriptor = null;
 
   @SerializedName("programs")
-  private List<EdFiSectionProgram> programs = new ArrayList<EdFiSectionProgram>();
+  private List<EdFiSectionProgram> programs = null;
 
   @SerializedName("sequenceOfCourse")
   private Integer sequenceOfCourse = null;
@@ -253,6 +253,9 @@ public class EdFiSection   {
   }
 
   public EdFiSection addCharacteristicsItem(EdFiSectionCharacteristic characteristicsItem) {
+    if (this.characteristics == null) {
+      this.characteristics = new ArrayList<EdFiSectionCharacteristic>();
+    }
     this.characteristics.add(characteristicsItem);
     return this;
   }
@@ -276,6 +279,9 @@ public class EdFiSection   {
   }
 
   public EdFiSection addClassPeriodsItem(EdFiSectionClassPeriod classPeriodsItem) {
+    if (this.classPeriods == null) {
+      this.classPeriods = new ArrayList<EdFiSectionClassPeriod>();
+    }
     this.classPeriods.add(classPeriodsItem);
     return this;
   }
@@ -299,6 +305,9 @@ public class EdFiSection   {
   }
 
   public EdFiSection addCourseLevelCharacteristicsItem(EdFiSectionCourseLevelCharacteristic courseLevelCharacteristicsItem) {
+    if (this.courseLevelCharacteristics == null) {
+      this.courseLevelCharacteristics = new ArrayList<EdFiSectionCourseLevelCharacteristic>();
+    }
     this.courseLevelCharacteristics.add(courseLevelCharacteristicsItem);
     return this;
   }
@@ -376,6 +385,9 @@ public class EdFiSection   {
   }
 
   public EdFiSection addOfferedGradeLevelsItem(EdFiSectionOfferedGradeLevel offeredGradeLevelsItem) {
+    if (this.offeredGradeLevels == null) {
+      this.offeredGradeLevels = new ArrayList<EdFiSectionOfferedGradeLevel>();
+    }
     this.offeredGradeLevels.add(offeredGradeLevelsItem);
     return this;
   }
@@ -417,6 +429,9 @@ public class EdFiSection   {
   }
 
   public EdFiSection addProgramsItem(EdFiSectionProgram programsItem) {
+    if (this.programs == null) {
+      this.programs = new ArrayList<EdFiSectionProgram>();
+    }
     this.programs.add(programsItem);
     return this;
   }
@@ -56,7 +56,7 @@ public class EdFiSession   {
   private EdFiSchoolYearTypeReference schoolYearTypeReference = null;
 
   @SerializedName("academicWeeks")
-  private List<EdFiSessionAcademicWeek> academicWeeks = new ArrayList<EdFiSessionAcademicWeek>();
+  private List<EdFiSessionAcademicWeek> academicWeeks = null;
 
   @SerializedName("beginDate")
   private LocalDate beginDate = null;
@@ -65,7 +65,7 @@ public class EdFiSession   {
   private LocalDate endDate = null;
 
   @SerializedName("gradingPeriods")
-  private List<EdFiSessionGradingPeriod> gradingPeriods = new ArrayList<EdFiSessionGradingPeriod>();
+  private List<EdFiSessionGradingPeriod> gradingPeriods = null;
 
   @SerializedName("termDescriptor")
   private String termDescriptor = null;
@@ -154,6 +154,9 @@ public class EdFiSession   {
   }
 
   public EdFiSession addAcademicWeeksItem(EdFiSessionAcademicWeek academicWeeksItem) {
+    if (this.academicWeeks == null) {
+      this.academicWeeks = new ArrayList<EdFiSessionAcademicWeek>();
+    }
     this.academicWeeks.add(academicWeeksItem);
     return this;
   }
@@ -213,6 +216,9 @@ public class EdFiSession   {
   }
 
   public EdFiSession addGradingPeriodsItem(EdFiSessionGradingPeriod gradingPeriodsItem) {
+    if (this.gradingPeriods == null) {
+      this.gradingPeriods = new ArrayList<EdFiSessionGradingPeriod>();
+    }
     this.gradingPeriods.add(gradingPeriodsItem);
     return this;
   }
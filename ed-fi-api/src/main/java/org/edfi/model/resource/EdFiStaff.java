@@ -61,7 +61,7 @@ public class EdFiStaff   {
   private String staffUniqueId = null;
 
   @SerializedName("addresses")
-  private List<EdFiStaffAddress> addresses = new ArrayList<EdFiStaffAddress>();
+  private List<EdFiStaffAddress> addresses = null;
 
   @SerializedName("birthDate")
   private LocalDate birthDate = null;
@@ -70,10 +70,10 @@ public class EdFiStaff   {
   private String citizenshipStatusDescriptor = null;
 
   @SerializedName("credentials")
-  private List<EdFiStaffCredential> credentials = new ArrayList<EdFiStaffCredential>();
+  private List<EdFiStaffCredential> credentials = null;
 
   @SerializedName("electronicMails")
-  private List<EdFiStaffElectronicMail> electronicMails = new ArrayList<EdFiStaffElectronicMail>();
+  private List<EdFiStaffElectronicMail> electronicMails = null;
 
   @SerializedName("firstName")
   private String firstName = null;
@@ -91,16 +91,16 @@ public class EdFiStaff   {
   private Boolean hispanicLatinoEthnicity = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiStaffIdentificationCode> identificationCodes = new ArrayList<EdFiStaffIdentificationCode>();
+  private List<EdFiStaffIdentificationCode> identificationCodes = null;
 
   @SerializedName("identificationDocuments")
-  private List<EdFiStaffIdentificationDocument> identificationDocuments = new ArrayList<EdFiStaffIdentificationDocument>();
+  private List<EdFiStaffIdentificationDocument> identificationDocuments = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiStaffInternationalAddress> internationalAddresses = new ArrayList<EdFiStaffInternationalAddress>();
+  private List<EdFiStaffInternationalAddress> internationalAddresses = null;
 
   @SerializedName("languages")
-  private List<EdFiStaffLanguage> languages = new ArrayList<EdFiStaffLanguage>();
+  private List<EdFiStaffLanguage> languages = null;
 
   @SerializedName("lastSurname")
   private String lastSurname = null;
@@ -118,31 +118,31 @@ public class EdFiStaff   {
   private String oldEthnicityDescriptor = null;
 
   @SerializedName("otherNames")
-  private List<EdFiStaffOtherName> otherNames = new ArrayList<EdFiStaffOtherName>();
+  private List<EdFiStaffOtherName> otherNames = null;
 
   @SerializedName("personalIdentificationDocuments")
-  private List<EdFiStaffPersonalIdentificationDocument> personalIdentificationDocuments = new ArrayList<EdFiStaffPersonalIdentificationDocument>();
+  private List<EdFiStaffPersonalIdentificationDocument> personalIdentificationDocuments = null;
 
   @SerializedName("personalTitlePrefix")
   private String personalTitlePrefix = null;
 
   @SerializedName("races")
-  private List<EdFiStaffRace> races = new ArrayList<EdFiStaffRace>();
+  private List<EdFiStaffRace> races = null;
 
   @SerializedName("recognitions")
-  private List<EdFiStaffRecognition> recognitions = new ArrayList<EdFiStaffRecognition>();
+  private List<EdFiStaffRecognition> recognitions = null;
 
   @SerializedName("sexDescriptor")
   private String sexDescriptor = null;
 
   @SerializedName("telephones")
-  private List<EdFiStaffTelephone> telephones = new ArrayList<EdFiStaffTelephone>();
+  private List<EdFiStaffTelephone> telephones = null;
 
   @SerializedName("tribalAffiliations")
-  private List<EdFiStaffTribalAffiliation> tribalAffiliations = new ArrayList<EdFiStaffTribalAffiliation>();
+  private List<EdFiStaffTribalAffiliation> tribalAffiliations = null;
 
   @SerializedName("visas")
-  private List<EdFiStaffVisa> visas = new ArrayList<EdFiStaffVisa>();
+  private List<EdFiStaffVisa> visas = null;
 
   @SerializedName("yearsOfPriorProfessionalExperience")
   private Double yearsOfPriorProfessionalExperience = null;
@@ -198,6 +198,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addAddressesItem(EdFiStaffAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiStaffAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -257,6 +260,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addCredentialsItem(EdFiStaffCredential credentialsItem) {
+    if (this.credentials == null) {
+      this.credentials = new ArrayList<EdFiStaffCredential>();
+    }
     this.credentials.add(credentialsItem);
     return this;
   }
@@ -280,6 +286,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addElectronicMailsItem(EdFiStaffElectronicMail electronicMailsItem) {
+    if (this.electronicMails == null) {
+      this.electronicMails = new ArrayList<EdFiStaffElectronicMail>();
+    }
     this.electronicMails.add(electronicMailsItem);
     return this;
   }
@@ -393,6 +402,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addIdentificationCodesItem(EdFiStaffIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiStaffIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -416,6 +428,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addIdentificationDocumentsItem(EdFiStaffIdentificationDocument identificationDocumentsItem) {
+    if (this.identificationDocuments == null) {
+      this.identificationDocuments = new ArrayList<EdFiStaffIdentificationDocument>();
+    }
     this.identificationDocuments.add(identificationDocumentsItem);
     return this;
   }
@@ -439,6 +454,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addInternationalAddressesItem(EdFiStaffInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiStaffInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -462,6 +480,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addLanguagesItem(EdFiStaffLanguage languagesItem) {
+    if (this.languages == null) {
+      this.languages = new ArrayList<EdFiStaffLanguage>();
+    }
     this.languages.add(languagesItem);
     return this;
   }
@@ -575,6 +596,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addOtherNamesItem(EdFiStaffOtherName otherNamesItem) {
+    if (this.otherNames == null) {
+      this.otherNames = new ArrayList<EdFiStaffOtherName>();
+    }
     this.otherNames.add(otherNamesItem);
     return this;
   }
@@ -598,6 +622,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addPersonalIdentificationDocumentsItem(EdFiStaffPersonalIdentificationDocument personalIdentificationDocumentsItem) {
+    if (this.personalIdentificationDocuments == null) {
+      this.personalIdentificationDocuments = new ArrayList<EdFiStaffPersonalIdentificationDocument>();
+    }
     this.personalIdentificationDocuments.add(personalIdentificationDocumentsItem);
     return this;
   }
@@ -639,6 +666,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addRacesItem(EdFiStaffRace racesItem) {
+    if (this.races == null) {
+      this.races = new ArrayList<EdFiStaffRace>();
+    }
     this.races.add(racesItem);
     return this;
   }
@@ -662,6 +692,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addRecognitionsItem(EdFiStaffRecognition recognitionsItem) {
+    if (this.recognitions == null) {
+      this.recognitions = new ArrayList<EdFiStaffRecognition>();
+    }
     this.recognitions.add(recognitionsItem);
     return this;
   }
@@ -703,6 +736,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addTelephonesItem(EdFiStaffTelephone telephonesItem) {
+    if (this.telephones == null) {
+      this.telephones = new ArrayList<EdFiStaffTelephone>();
+    }
     this.telephones.add(telephonesItem);
     return this;
   }
@@ -726,6 +762,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addTribalAffiliationsItem(EdFiStaffTribalAffiliation tribalAffiliationsItem) {
+    if (this.tribalAffiliations == null) {
+      this.tribalAffiliations = new ArrayList<EdFiStaffTribalAffiliation>();
+    }
     this.tribalAffiliations.add(tribalAffiliationsItem);
     return this;
   }
@@ -749,6 +788,9 @@ public class EdFiStaff   {
   }
 
   public EdFiStaff addVisasItem(EdFiStaffVisa visasItem) {
+    if (this.visas == null) {
+      this.visas = new ArrayList<EdFiStaffVisa>();
+    }
     this.visas.add(visasItem);
     return this;
   }
@@ -82,7 +82,7 @@ public class EdFiStaffAddress   {
   private String streetNumberName = null;
 
   @SerializedName("periods")
-  private List<EdFiStaffAddressPeriod> periods = new ArrayList<EdFiStaffAddressPeriod>();
+  private List<EdFiStaffAddressPeriod> periods = null;
 
   public EdFiStaffAddress addressTypeDescriptor(String addressTypeDescriptor) {
     this.addressTypeDescriptor = addressTypeDescriptor;
@@ -342,6 +342,9 @@ public class EdFiStaffAddress   {
   }
 
   public EdFiStaffAddress addPeriodsItem(EdFiStaffAddressPeriod periodsItem) {
+    if (this.periods == null) {
+      this.periods = new ArrayList<EdFiStaffAddressPeriod>();
+    }
     this.periods.add(periodsItem);
     return this;
   }
@@ -64,7 +64,7 @@ public class EdFiStaffEducationOrganizationContactAssociation   {
   private String electronicMailAddress = null;
 
   @SerializedName("telephones")
-  private List<EdFiStaffEducationOrganizationContactAssociationTelephone> telephones = new ArrayList<EdFiStaffEducationOrganizationContactAssociationTelephone>();
+  private List<EdFiStaffEducationOrganizationContactAssociationTelephone> telephones = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -201,6 +201,9 @@ public class EdFiStaffEducationOrganizationContactAssociation   {
   }
 
   public EdFiStaffEducationOrganizationContactAssociation addTelephonesItem(EdFiStaffEducationOrganizationContactAssociationTelephone telephonesItem) {
+    if (this.telephones == null) {
+      this.telephones = new ArrayList<EdFiStaffEducationOrganizationContactAssociationTelephone>();
+    }
     this.telephones.add(telephonesItem);
     return this;
   }
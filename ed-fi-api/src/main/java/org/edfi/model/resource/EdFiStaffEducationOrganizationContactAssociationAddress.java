@@ -82,7 +82,7 @@ public class EdFiStaffEducationOrganizationContactAssociationAddress   {
   private String streetNumberName = null;
 
   @SerializedName("periods")
-  private List<EdFiStaffEducationOrganizationContactAssociationAddressPeriod> periods = new ArrayList<EdFiStaffEducationOrganizationContactAssociationAddressPeriod>();
+  private List<EdFiStaffEducationOrganizationContactAssociationAddressPeriod> periods = null;
 
   public EdFiStaffEducationOrganizationContactAssociationAddress addressTypeDescriptor(String addressTypeDescriptor) {
     this.addressTypeDescriptor = addressTypeDescriptor;
@@ -342,6 +342,9 @@ public class EdFiStaffEducationOrganizationContactAssociationAddress   {
   }
 
   public EdFiStaffEducationOrganizationContactAssociationAddress addPeriodsItem(EdFiStaffEducationOrganizationContactAssociationAddressPeriod periodsItem) {
+    if (this.periods == null) {
+      this.periods = new ArrayList<EdFiStaffEducationOrganizationContactAssociationAddressPeriod>();
+    }
     this.periods.add(periodsItem);
     return this;
   }
@@ -43,7 +43,7 @@ public class EdFiStaffLanguage   {
   private String languageDescriptor = null;
 
   @SerializedName("uses")
-  private List<EdFiStaffLanguageUse> uses = new ArrayList<EdFiStaffLanguageUse>();
+  private List<EdFiStaffLanguageUse> uses = null;
 
   public EdFiStaffLanguage languageDescriptor(String languageDescriptor) {
     this.languageDescriptor = languageDescriptor;
@@ -69,6 +69,9 @@ public class EdFiStaffLanguage   {
   }
 
   public EdFiStaffLanguage addUsesItem(EdFiStaffLanguageUse usesItem) {
+    if (this.uses == null) {
+      this.uses = new ArrayList<EdFiStaffLanguageUse>();
+    }
     this.uses.add(usesItem);
     return this;
   }
@@ -63,10 +63,10 @@ public class EdFiStaffSchoolAssociation   {
   private EdFiStaffReference staffReference = null;
 
   @SerializedName("academicSubjects")
-  private List<EdFiStaffSchoolAssociationAcademicSubject> academicSubjects = new ArrayList<EdFiStaffSchoolAssociationAcademicSubject>();
+  private List<EdFiStaffSchoolAssociationAcademicSubject> academicSubjects = null;
 
   @SerializedName("gradeLevels")
-  private List<EdFiStaffSchoolAssociationGradeLevel> gradeLevels = new ArrayList<EdFiStaffSchoolAssociationGradeLevel>();
+  private List<EdFiStaffSchoolAssociationGradeLevel> gradeLevels = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -185,6 +185,9 @@ public class EdFiStaffSchoolAssociation   {
   }
 
   public EdFiStaffSchoolAssociation addAcademicSubjectsItem(EdFiStaffSchoolAssociationAcademicSubject academicSubjectsItem) {
+    if (this.academicSubjects == null) {
+      this.academicSubjects = new ArrayList<EdFiStaffSchoolAssociationAcademicSubject>();
+    }
     this.academicSubjects.add(academicSubjectsItem);
     return this;
   }
@@ -208,6 +211,9 @@ public class EdFiStaffSchoolAssociation   {
   }
 
   public EdFiStaffSchoolAssociation addGradeLevelsItem(EdFiStaffSchoolAssociationGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<EdFiStaffSchoolAssociationGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -50,28 +50,28 @@ public class EdFiStateEducationAgency   {
   private String id = null;
 
   @SerializedName("addresses")
-  private List<EdFiEducationOrganizationAddress> addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+  private List<EdFiEducationOrganizationAddress> addresses = null;
 
   @SerializedName("categories")
-  private List<EdFiEducationOrganizationCategory> categories = new ArrayList<EdFiEducationOrganizationCategory>();
+  private List<EdFiEducationOrganizationCategory> categories = null;
 
   @SerializedName("stateEducationAgencyId")
   private Integer stateEducationAgencyId = null;
 
   @SerializedName("accountabilities")
-  private List<EdFiStateEducationAgencyAccountability> accountabilities = new ArrayList<EdFiStateEducationAgencyAccountability>();
+  private List<EdFiStateEducationAgencyAccountability> accountabilities = null;
 
   @SerializedName("federalFunds")
-  private List<EdFiStateEducationAgencyFederalFunds> federalFunds = new ArrayList<EdFiStateEducationAgencyFederalFunds>();
+  private List<EdFiStateEducationAgencyFederalFunds> federalFunds = null;
 
   @SerializedName("identificationCodes")
-  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+  private List<EdFiEducationOrganizationIdentificationCode> identificationCodes = null;
 
   @SerializedName("institutionTelephones")
-  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+  private List<EdFiEducationOrganizationInstitutionTelephone> institutionTelephones = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+  private List<EdFiEducationOrganizationInternationalAddress> internationalAddresses = null;
 
   @SerializedName("nameOfInstitution")
   private String nameOfInstitution = null;
@@ -115,6 +115,9 @@ public class EdFiStateEducationAgency   {
   }
 
   public EdFiStateEducationAgency addAddressesItem(EdFiEducationOrganizationAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiEducationOrganizationAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -138,6 +141,9 @@ public class EdFiStateEducationAgency   {
   }
 
   public EdFiStateEducationAgency addCategoriesItem(EdFiEducationOrganizationCategory categoriesItem) {
+    if (this.categories == null) {
+      this.categories = new ArrayList<EdFiEducationOrganizationCategory>();
+    }
     this.categories.add(categoriesItem);
     return this;
   }
@@ -179,6 +185,9 @@ public class EdFiStateEducationAgency   {
   }
 
   public EdFiStateEducationAgency addAccountabilitiesItem(EdFiStateEducationAgencyAccountability accountabilitiesItem) {
+    if (this.accountabilities == null) {
+      this.accountabilities = new ArrayList<EdFiStateEducationAgencyAccountability>();
+    }
     this.accountabilities.add(accountabilitiesItem);
     return this;
   }
@@ -202,6 +211,9 @@ public class EdFiStateEducationAgency   {
   }
 
   public EdFiStateEducationAgency addFederalFundsItem(EdFiStateEducationAgencyFederalFunds federalFundsItem) {
+    if (this.federalFunds == null) {
+      this.federalFunds = new ArrayList<EdFiStateEducationAgencyFederalFunds>();
+    }
     this.federalFunds.add(federalFundsItem);
     return this;
   }
@@ -225,6 +237,9 @@ public class EdFiStateEducationAgency   {
   }
 
   public EdFiStateEducationAgency addIdentificationCodesItem(EdFiEducationOrganizationIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<EdFiEducationOrganizationIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -248,6 +263,9 @@ public class EdFiStateEducationAgency   {
   }
 
   public EdFiStateEducationAgency addInstitutionTelephonesItem(EdFiEducationOrganizationInstitutionTelephone institutionTelephonesItem) {
+    if (this.institutionTelephones == null) {
+      this.institutionTelephones = new ArrayList<EdFiEducationOrganizationInstitutionTelephone>();
+    }
     this.institutionTelephones.add(institutionTelephonesItem);
     return this;
   }
@@ -271,6 +289,9 @@ public class EdFiStateEducationAgency   {
   }
 
   public EdFiStateEducationAgency addInternationalAddressesItem(EdFiEducationOrganizationInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiEducationOrganizationInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
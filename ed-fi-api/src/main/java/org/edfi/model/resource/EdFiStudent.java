@@ -80,7 +80,7 @@ public class EdFiStudent   {
   private String generationCodeSuffix = null;
 
   @SerializedName("identificationDocuments")
-  private List<EdFiStudentIdentificationDocument> identificationDocuments = new ArrayList<EdFiStudentIdentificationDocument>();
+  private List<EdFiStudentIdentificationDocument> identificationDocuments = null;
 
   @SerializedName("lastSurname")
   private String lastSurname = null;
@@ -95,16 +95,16 @@ public class EdFiStudent   {
   private Boolean multipleBirthStatus = null;
 
   @SerializedName("otherNames")
-  private List<EdFiStudentOtherName> otherNames = new ArrayList<EdFiStudentOtherName>();
+  private List<EdFiStudentOtherName> otherNames = null;
 
   @SerializedName("personalIdentificationDocuments")
-  private List<EdFiStudentPersonalIdentificationDocument> personalIdentificationDocuments = new ArrayList<EdFiStudentPersonalIdentificationDocument>();
+  private List<EdFiStudentPersonalIdentificationDocument> personalIdentificationDocuments = null;
 
   @SerializedName("personalTitlePrefix")
   private String personalTitlePrefix = null;
 
   @SerializedName("visas")
-  private List<EdFiStudentVisa> visas = new ArrayList<EdFiStudentVisa>();
+  private List<EdFiStudentVisa> visas = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -331,6 +331,9 @@ public class EdFiStudent   {
   }
 
   public EdFiStudent addIdentificationDocumentsItem(EdFiStudentIdentificationDocument identificationDocumentsItem) {
+    if (this.identificationDocuments == null) {
+      this.identificationDocuments = new ArrayList<EdFiStudentIdentificationDocument>();
+    }
     this.identificationDocuments.add(identificationDocumentsItem);
     return this;
   }
@@ -426,6 +429,9 @@ public class EdFiStudent   {
   }
 
   public EdFiStudent addOtherNamesItem(EdFiStudentOtherName otherNamesItem) {
+    if (this.otherNames == null) {
+      this.otherNames = new ArrayList<EdFiStudentOtherName>();
+    }
     this.otherNames.add(otherNamesItem);
     return this;
   }
@@ -449,6 +455,9 @@ public class EdFiStudent   {
   }
 
   public EdFiStudent addPersonalIdentificationDocumentsItem(EdFiStudentPersonalIdentificationDocument personalIdentificationDocumentsItem) {
+    if (this.personalIdentificationDocuments == null) {
+      this.personalIdentificationDocuments = new ArrayList<EdFiStudentPersonalIdentificationDocument>();
+    }
     this.personalIdentificationDocuments.add(personalIdentificationDocumentsItem);
     return this;
   }
@@ -490,6 +499,9 @@ public class EdFiStudent   {
   }
 
   public EdFiStudent addVisasItem(EdFiStudentVisa visasItem) {
+    if (this.visas == null) {
+      this.visas = new ArrayList<EdFiStudentVisa>();
+    }
     this.visas.add(visasItem);
     return this;
   }
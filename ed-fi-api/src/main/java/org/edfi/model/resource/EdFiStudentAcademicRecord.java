@@ -63,7 +63,7 @@ public class EdFiStudentAcademicRecord   {
   private EdFiStudentReference studentReference = null;
 
   @SerializedName("academicHonors")
-  private List<EdFiStudentAcademicRecordAcademicHonor> academicHonors = new ArrayList<EdFiStudentAcademicRecordAcademicHonor>();
+  private List<EdFiStudentAcademicRecordAcademicHonor> academicHonors = null;
 
   @SerializedName("classRanking")
   private EdFiStudentAcademicRecordClassRanking classRanking = null;
@@ -93,7 +93,7 @@ public class EdFiStudentAcademicRecord   {
   private Double cumulativeGradePointsEarned = null;
 
   @SerializedName("diplomas")
-  private List<EdFiStudentAcademicRecordDiploma> diplomas = new ArrayList<EdFiStudentAcademicRecordDiploma>();
+  private List<EdFiStudentAcademicRecordDiploma> diplomas = null;
 
   @SerializedName("gradeValueQualifier")
   private String gradeValueQualifier = null;
@@ -102,10 +102,10 @@ public class EdFiStudentAcademicRecord   {
   private LocalDate projectedGraduationDate = null;
 
   @SerializedName("recognitions")
-  private List<EdFiStudentAcademicRecordRecognition> recognitions = new ArrayList<EdFiStudentAcademicRecordRecognition>();
+  private List<EdFiStudentAcademicRecordRecognition> recognitions = null;
 
   @SerializedName("reportCards")
-  private List<EdFiStudentAcademicRecordReportCard> reportCards = new ArrayList<EdFiStudentAcademicRecordReportCard>();
+  private List<EdFiStudentAcademicRecordReportCard> reportCards = null;
 
   @SerializedName("sessionAttemptedCreditConversion")
   private Double sessionAttemptedCreditConversion = null;
@@ -230,6 +230,9 @@ public class EdFiStudentAcademicRecord   {
   }
 
   public EdFiStudentAcademicRecord addAcademicHonorsItem(EdFiStudentAcademicRecordAcademicHonor academicHonorsItem) {
+    if (this.academicHonors == null) {
+      this.academicHonors = new ArrayList<EdFiStudentAcademicRecordAcademicHonor>();
+    }
     this.academicHonors.add(academicHonorsItem);
     return this;
   }
@@ -415,6 +418,9 @@ public class EdFiStudentAcademicRecord   {
   }
 
   public EdFiStudentAcademicRecord addDiplomasItem(EdFiStudentAcademicRecordDiploma diplomasItem) {
+    if (this.diplomas == null) {
+      this.diplomas = new ArrayList<EdFiStudentAcademicRecordDiploma>();
+    }
     this.diplomas.add(diplomasItem);
     return this;
   }
@@ -474,6 +480,9 @@ public class EdFiStudentAcademicRecord   {
   }
 
   public EdFiStudentAcademicRecord addRecognitionsItem(EdFiStudentAcademicRecordRecognition recognitionsItem) {
+    if (this.recognitions == null) {
+      this.recognitions = new ArrayList<EdFiStudentAcademicRecordRecognition>();
+    }
     this.recognitions.add(recognitionsItem);
     return this;
   }
@@ -497,6 +506,9 @@ public class EdFiStudentAcademicRecord   {
   }
 
   public EdFiStudentAcademicRecord addReportCardsItem(EdFiStudentAcademicRecordReportCard reportCardsItem) {
+    if (this.reportCards == null) {
+      this.reportCards = new ArrayList<EdFiStudentAcademicRecordReportCard>();
+    }
     this.reportCards.add(reportCardsItem);
     return this;
   }
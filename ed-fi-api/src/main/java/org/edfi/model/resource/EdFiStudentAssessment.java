@@ -63,7 +63,7 @@ public class EdFiStudentAssessment   {
   private EdFiStudentReference studentReference = null;
 
   @SerializedName("accommodations")
-  private List<EdFiStudentAssessmentAccommodation> accommodations = new ArrayList<EdFiStudentAssessmentAccommodation>();
+  private List<EdFiStudentAssessmentAccommodation> accommodations = null;
 
   @SerializedName("administrationDate")
   private DateTime administrationDate = null;
@@ -84,10 +84,10 @@ public class EdFiStudentAssessment   {
   private String eventDescription = null;
 
   @SerializedName("items")
-  private List<EdFiStudentAssessmentItem> items = new ArrayList<EdFiStudentAssessmentItem>();
+  private List<EdFiStudentAssessmentItem> items = null;
 
   @SerializedName("performanceLevels")
-  private List<EdFiStudentAssessmentPerformanceLevel> performanceLevels = new ArrayList<EdFiStudentAssessmentPerformanceLevel>();
+  private List<EdFiStudentAssessmentPerformanceLevel> performanceLevels = null;
 
   @SerializedName("reasonNotTestedDescriptor")
   private String reasonNotTestedDescriptor = null;
@@ -96,13 +96,13 @@ public class EdFiStudentAssessment   {
   private String retestIndicatorDescriptor = null;
 
   @SerializedName("scoreResults")
-  private List<EdFiStudentAssessmentScoreResult> scoreResults = new ArrayList<EdFiStudentAssessmentScoreResult>();
+  private List<EdFiStudentAssessmentScoreResult> scoreResults = null;
 
   @SerializedName("serialNumber")
   private String serialNumber = null;
 
   @SerializedName("studentObjectiveAssessments")
-  private List<EdFiStudentAssessmentStudentObjectiveAssessment> studentObjectiveAssessments = new ArrayList<EdFiStudentAssessmentStudentObjectiveAssessment>();
+  private List<EdFiStudentAssessmentStudentObjectiveAssessment> studentObjectiveAssessments = null;
 
   @SerializedName("whenAssessedGradeLevelDescriptor")
   private String whenAssessedGradeLevelDescriptor = null;
@@ -206,6 +206,9 @@ public class EdFiStudentAssessment   {
   }
 
   public EdFiStudentAssessment addAccommodationsItem(EdFiStudentAssessmentAccommodation accommodationsItem) {
+    if (this.accommodations == null) {
+      this.accommodations = new ArrayList<EdFiStudentAssessmentAccommodation>();
+    }
     this.accommodations.add(accommodationsItem);
     return this;
   }
@@ -337,6 +340,9 @@ public class EdFiStudentAssessment   {
   }
 
   public EdFiStudentAssessment addItemsItem(EdFiStudentAssessmentItem itemsItem) {
+    if (this.items == null) {
+      this.items = new ArrayList<EdFiStudentAssessmentItem>();
+    }
     this.items.add(itemsItem);
     return this;
   }
@@ -360,6 +366,9 @@ public class EdFiStudentAssessment   {
   }
 
   public EdFiStudentAssessment addPerformanceLevelsItem(EdFiStudentAssessmentPerformanceLevel performanceLevelsItem) {
+    if (this.performanceLevels == null) {
+      this.performanceLevels = new ArrayList<EdFiStudentAssessmentPerformanceLevel>();
+    }
     this.performanceLevels.add(performanceLevelsItem);
     return this;
   }
@@ -419,6 +428,9 @@ public class EdFiStudentAssessment   {
   }
 
   public EdFiStudentAssessment addScoreResultsItem(EdFiStudentAssessmentScoreResult scoreResultsItem) {
+    if (this.scoreResults == null) {
+      this.scoreResults = new ArrayList<EdFiStudentAssessmentScoreResult>();
+    }
     this.scoreResults.add(scoreResultsItem);
     return this;
   }
@@ -460,6 +472,9 @@ public class EdFiStudentAssessment   {
   }
 
   public EdFiStudentAssessment addStudentObjectiveAssessmentsItem(EdFiStudentAssessmentStudentObjectiveAssessment studentObjectiveAssessmentsItem) {
+    if (this.studentObjectiveAssessments == null) {
+      this.studentObjectiveAssessments = new ArrayList<EdFiStudentAssessmentStudentObjectiveAssessment>();
+    }
     this.studentObjectiveAssessments.add(studentObjectiveAssessmentsItem);
     return this;
   }
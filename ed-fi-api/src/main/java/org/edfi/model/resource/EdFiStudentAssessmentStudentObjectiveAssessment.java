@@ -45,10 +45,10 @@ public class EdFiStudentAssessmentStudentObjectiveAssessment   {
   private EdFiObjectiveAssessmentReference objectiveAssessmentReference = null;
 
   @SerializedName("performanceLevels")
-  private List<EdFiStudentAssessmentStudentObjectiveAssessmentPerformanceLevel> performanceLevels = new ArrayList<EdFiStudentAssessmentStudentObjectiveAssessmentPerformanceLevel>();
+  private List<EdFiStudentAssessmentStudentObjectiveAssessmentPerformanceLevel> performanceLevels = null;
 
   @SerializedName("scoreResults")
-  private List<EdFiStudentAssessmentStudentObjectiveAssessmentScoreResult> scoreResults = new ArrayList<EdFiStudentAssessmentStudentObjectiveAssessmentScoreResult>();
+  private List<EdFiStudentAssessmentStudentObjectiveAssessmentScoreResult> scoreResults = null;
 
   public EdFiStudentAssessmentStudentObjectiveAssessment objectiveAssessmentReference(EdFiObjectiveAssessmentReference objectiveAssessmentReference) {
     this.objectiveAssessmentReference = objectiveAssessmentReference;
@@ -74,6 +74,9 @@ public class EdFiStudentAssessmentStudentObjectiveAssessment   {
   }
 
   public EdFiStudentAssessmentStudentObjectiveAssessment addPerformanceLevelsItem(EdFiStudentAssessmentStudentObjectiveAssessmentPerformanceLevel performanceLevelsItem) {
+    if (this.performanceLevels == null) {
+      this.performanceLevels = new ArrayList<EdFiStudentAssessmentStudentObjectiveAssessmentPerformanceLevel>();
+    }
     this.performanceLevels.add(performanceLevelsItem);
     return this;
   }
@@ -97,6 +100,9 @@ public class EdFiStudentAssessmentStudentObjectiveAssessment   {
   }
 
   public EdFiStudentAssessmentStudentObjectiveAssessment addScoreResultsItem(EdFiStudentAssessmentStudentObjectiveAssessmentScoreResult scoreResultsItem) {
+    if (this.scoreResults == null) {
+      this.scoreResults = new ArrayList<EdFiStudentAssessmentStudentObjectiveAssessmentScoreResult>();
+    }
     this.scoreResults.add(scoreResultsItem);
     return this;
   }
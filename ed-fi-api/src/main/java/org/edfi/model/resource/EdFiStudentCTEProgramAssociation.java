@@ -60,7 +60,7 @@ public class EdFiStudentCTEProgramAssociation   {
   private EdFiStudentReference studentReference = null;
 
   @SerializedName("ctePrograms")
-  private List<EdFiStudentCTEProgramAssociationCTEProgram> ctePrograms = new ArrayList<EdFiStudentCTEProgramAssociationCTEProgram>();
+  private List<EdFiStudentCTEProgramAssociationCTEProgram> ctePrograms = null;
 
   @SerializedName("endDate")
   private LocalDate endDate = null;
@@ -78,7 +78,7 @@ public class EdFiStudentCTEProgramAssociation   {
   private Boolean servedOutsideOfRegularSession = null;
 
   @SerializedName("services")
-  private List<EdFiStudentCTEProgramAssociationService> services = new ArrayList<EdFiStudentCTEProgramAssociationService>();
+  private List<EdFiStudentCTEProgramAssociationService> services = null;
 
   @SerializedName("technicalSkillsAssessmentDescriptor")
   private String technicalSkillsAssessmentDescriptor = null;
@@ -182,6 +182,9 @@ public class EdFiStudentCTEProgramAssociation   {
   }
 
   public EdFiStudentCTEProgramAssociation addCteProgramsItem(EdFiStudentCTEProgramAssociationCTEProgram cteProgramsItem) {
+    if (this.ctePrograms == null) {
+      this.ctePrograms = new ArrayList<EdFiStudentCTEProgramAssociationCTEProgram>();
+    }
     this.ctePrograms.add(cteProgramsItem);
     return this;
   }
@@ -295,6 +298,9 @@ public class EdFiStudentCTEProgramAssociation   {
   }
 
   public EdFiStudentCTEProgramAssociation addServicesItem(EdFiStudentCTEProgramAssociationService servicesItem) {
+    if (this.services == null) {
+      this.services = new ArrayList<EdFiStudentCTEProgramAssociationService>();
+    }
     this.services.add(servicesItem);
     return this;
   }
@@ -58,7 +58,7 @@ public class EdFiStudentCohortAssociation   {
   private LocalDate endDate = null;
 
   @SerializedName("sections")
-  private List<EdFiStudentCohortAssociationSection> sections = new ArrayList<EdFiStudentCohortAssociationSection>();
+  private List<EdFiStudentCohortAssociationSection> sections = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -159,6 +159,9 @@ public class EdFiStudentCohortAssociation   {
   }
 
   public EdFiStudentCohortAssociation addSectionsItem(EdFiStudentCohortAssociationSection sectionsItem) {
+    if (this.sections == null) {
+      this.sections = new ArrayList<EdFiStudentCohortAssociationSection>();
+    }
     this.sections.add(sectionsItem);
     return this;
   }
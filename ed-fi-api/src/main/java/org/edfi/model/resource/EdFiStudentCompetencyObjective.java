@@ -62,10 +62,10 @@ public class EdFiStudentCompetencyObjective   {
   private String diagnosticStatement = null;
 
   @SerializedName("generalStudentProgramAssociations")
-  private List<EdFiStudentCompetencyObjectiveGeneralStudentProgramAssociation> generalStudentProgramAssociations = new ArrayList<EdFiStudentCompetencyObjectiveGeneralStudentProgramAssociation>();
+  private List<EdFiStudentCompetencyObjectiveGeneralStudentProgramAssociation> generalStudentProgramAssociations = null;
 
   @SerializedName("studentSectionAssociations")
-  private List<EdFiStudentCompetencyObjectiveStudentSectionAssociation> studentSectionAssociations = new ArrayList<EdFiStudentCompetencyObjectiveStudentSectionAssociation>();
+  private List<EdFiStudentCompetencyObjectiveStudentSectionAssociation> studentSectionAssociations = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -184,6 +184,9 @@ public class EdFiStudentCompetencyObjective   {
   }
 
   public EdFiStudentCompetencyObjective addGeneralStudentProgramAssociationsItem(EdFiStudentCompetencyObjectiveGeneralStudentProgramAssociation generalStudentProgramAssociationsItem) {
+    if (this.generalStudentProgramAssociations == null) {
+      this.generalStudentProgramAssociations = new ArrayList<EdFiStudentCompetencyObjectiveGeneralStudentProgramAssociation>();
+    }
     this.generalStudentProgramAssociations.add(generalStudentProgramAssociationsItem);
     return this;
   }
@@ -207,6 +210,9 @@ public class EdFiStudentCompetencyObjective   {
   }
 
   public EdFiStudentCompetencyObjective addStudentSectionAssociationsItem(EdFiStudentCompetencyObjectiveStudentSectionAssociation studentSectionAssociationsItem) {
+    if (this.studentSectionAssociations == null) {
+      this.studentSectionAssociations = new ArrayList<EdFiStudentCompetencyObjectiveStudentSectionAssociation>();
+    }
     this.studentSectionAssociations.add(studentSectionAssociationsItem);
     return this;
   }
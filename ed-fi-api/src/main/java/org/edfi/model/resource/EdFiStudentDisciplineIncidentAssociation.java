@@ -51,7 +51,7 @@ public class EdFiStudentDisciplineIncidentAssociation   {
   private EdFiStudentReference studentReference = null;
 
   @SerializedName("behaviors")
-  private List<EdFiStudentDisciplineIncidentAssociationBehavior> behaviors = new ArrayList<EdFiStudentDisciplineIncidentAssociationBehavior>();
+  private List<EdFiStudentDisciplineIncidentAssociationBehavior> behaviors = null;
 
   @SerializedName("studentParticipationCodeDescriptor")
   private String studentParticipationCodeDescriptor = null;
@@ -119,6 +119,9 @@ public class EdFiStudentDisciplineIncidentAssociation   {
   }
 
   public EdFiStudentDisciplineIncidentAssociation addBehaviorsItem(EdFiStudentDisciplineIncidentAssociationBehavior behaviorsItem) {
+    if (this.behaviors == null) {
+      this.behaviors = new ArrayList<EdFiStudentDisciplineIncidentAssociationBehavior>();
+    }
     this.behaviors.add(behaviorsItem);
     return this;
   }
@@ -63,25 +63,25 @@ public class EdFiStudentEducationOrganizationAssociation   {
   private EdFiStudentReference studentReference = null;
 
   @SerializedName("addresses")
-  private List<EdFiStudentEducationOrganizationAssociationAddress> addresses = new ArrayList<EdFiStudentEducationOrganizationAssociationAddress>();
+  private List<EdFiStudentEducationOrganizationAssociationAddress> addresses = null;
 
   @SerializedName("cohortYears")
-  private List<EdFiStudentEducationOrganizationAssociationCohortYear> cohortYears = new ArrayList<EdFiStudentEducationOrganizationAssociationCohortYear>();
+  private List<EdFiStudentEducationOrganizationAssociationCohortYear> cohortYears = null;
 
   @SerializedName("disabilities")
-  private List<EdFiStudentEducationOrganizationAssociationDisability> disabilities = new ArrayList<EdFiStudentEducationOrganizationAssociationDisability>();
+  private List<EdFiStudentEducationOrganizationAssociationDisability> disabilities = null;
 
   @SerializedName("electronicMails")
-  private List<EdFiStudentEducationOrganizationAssociationElectronicMail> electronicMails = new ArrayList<EdFiStudentEducationOrganizationAssociationElectronicMail>();
+  private List<EdFiStudentEducationOrganizationAssociationElectronicMail> electronicMails = null;
 
   @SerializedName("hispanicLatinoEthnicity")
   private Boolean hispanicLatinoEthnicity = null;
 
   @SerializedName("internationalAddresses")
-  private List<EdFiStudentEducationOrganizationAssociationInternationalAddress> internationalAddresses = new ArrayList<EdFiStudentEducationOrganizationAssociationInternationalAddress>();
+  private List<EdFiStudentEducationOrganizationAssociationInternationalAddress> internationalAddresses = null;
 
   @SerializedName("languages")
-  private List<EdFiStudentEducationOrganizationAssociationLanguage> languages = new ArrayList<EdFiStudentEducationOrganizationAssociationLanguage>();
+  private List<EdFiStudentEducationOrganizationAssociationLanguage> languages = null;
 
   @SerializedName("limitedEnglishProficiencyDescriptor")
   private String limitedEnglishProficiencyDescriptor = null;
@@ -96,28 +96,28 @@ public class EdFiStudentEducationOrganizationAssociation   {
   private String profileThumbnail = null;
 
   @SerializedName("programParticipations")
-  private List<EdFiStudentEducationOrganizationAssociationProgramParticipation> programParticipations = new ArrayList<EdFiStudentEducationOrganizationAssociationProgramParticipation>();
+  private List<EdFiStudentEducationOrganizationAssociationProgramParticipation> programParticipations = null;
 
   @SerializedName("races")
-  private List<EdFiStudentEducationOrganizationAssociationRace> races = new ArrayList<EdFiStudentEducationOrganizationAssociationRace>();
+  private List<EdFiStudentEducationOrganizationAssociationRace> races = null;
 
   @SerializedName("sexDescriptor")
   private String sexDescriptor = null;
 
   @SerializedName("studentCharacteristics")
-  private List<EdFiStudentEducationOrganizationAssociationStudentCharacteristic> studentCharacteristics = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentCharacteristic>();
+  private List<EdFiStudentEducationOrganizationAssociationStudentCharacteristic> studentCharacteristics = null;
 
   @SerializedName("studentIdentificationCodes")
-  private List<EdFiStudentEducationOrganizationAssociationStudentIdentificationCode> studentIdentificationCodes = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentIdentificationCode>();
+  private List<EdFiStudentEducationOrganizationAssociationStudentIdentificationCode> studentIdentificationCodes = null;
 
   @SerializedName("studentIndicators")
-  private List<EdFiStudentEducationOrganizationAssociationStudentIndicator> studentIndicators = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentIndicator>();
+  private List<EdFiStudentEducationOrganizationAssociationStudentIndicator> studentIndicators = null;
 
   @SerializedName("telephones")
-  private List<EdFiStudentEducationOrganizationAssociationTelephone> telephones = new ArrayList<EdFiStudentEducationOrganizationAssociationTelephone>();
+  private List<EdFiStudentEducationOrganizationAssociationTelephone> telephones = null;
 
   @SerializedName("tribalAffiliations")
-  private List<EdFiStudentEducationOrganizationAssociationTribalAffiliation> tribalAffiliations = new ArrayList<EdFiStudentEducationOrganizationAssociationTribalAffiliation>();
+  private List<EdFiStudentEducationOrganizationAssociationTribalAffiliation> tribalAffiliations = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -182,6 +182,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addAddressesItem(EdFiStudentEducationOrganizationAssociationAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<EdFiStudentEducationOrganizationAssociationAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -205,6 +208,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addCohortYearsItem(EdFiStudentEducationOrganizationAssociationCohortYear cohortYearsItem) {
+    if (this.cohortYears == null) {
+      this.cohortYears = new ArrayList<EdFiStudentEducationOrganizationAssociationCohortYear>();
+    }
     this.cohortYears.add(cohortYearsItem);
     return this;
   }
@@ -228,6 +234,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addDisabilitiesItem(EdFiStudentEducationOrganizationAssociationDisability disabilitiesItem) {
+    if (this.disabilities == null) {
+      this.disabilities = new ArrayList<EdFiStudentEducationOrganizationAssociationDisability>();
+    }
     this.disabilities.add(disabilitiesItem);
     return this;
   }
@@ -251,6 +260,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addElectronicMailsItem(EdFiStudentEducationOrganizationAssociationElectronicMail electronicMailsItem) {
+    if (this.electronicMails == null) {
+      this.electronicMails = new ArrayList<EdFiStudentEducationOrganizationAssociationElectronicMail>();
+    }
     this.electronicMails.add(electronicMailsItem);
     return this;
   }
@@ -292,6 +304,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addInternationalAddressesItem(EdFiStudentEducationOrganizationAssociationInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<EdFiStudentEducationOrganizationAssociationInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -315,6 +330,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addLanguagesItem(EdFiStudentEducationOrganizationAssociationLanguage languagesItem) {
+    if (this.languages == null) {
+      this.languages = new ArrayList<EdFiStudentEducationOrganizationAssociationLanguage>();
+    }
     this.languages.add(languagesItem);
     return this;
   }
@@ -410,6 +428,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addProgramParticipationsItem(EdFiStudentEducationOrganizationAssociationProgramParticipation programParticipationsItem) {
+    if (this.programParticipations == null) {
+      this.programParticipations = new ArrayList<EdFiStudentEducationOrganizationAssociationProgramParticipation>();
+    }
     this.programParticipations.add(programParticipationsItem);
     return this;
   }
@@ -433,6 +454,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addRacesItem(EdFiStudentEducationOrganizationAssociationRace racesItem) {
+    if (this.races == null) {
+      this.races = new ArrayList<EdFiStudentEducationOrganizationAssociationRace>();
+    }
     this.races.add(racesItem);
     return this;
   }
@@ -474,6 +498,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addStudentCharacteristicsItem(EdFiStudentEducationOrganizationAssociationStudentCharacteristic studentCharacteristicsItem) {
+    if (this.studentCharacteristics == null) {
+      this.studentCharacteristics = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentCharacteristic>();
+    }
     this.studentCharacteristics.add(studentCharacteristicsItem);
     return this;
   }
@@ -497,6 +524,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addStudentIdentificationCodesItem(EdFiStudentEducationOrganizationAssociationStudentIdentificationCode studentIdentificationCodesItem) {
+    if (this.studentIdentificationCodes == null) {
+      this.studentIdentificationCodes = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentIdentificationCode>();
+    }
     this.studentIdentificationCodes.add(studentIdentificationCodesItem);
     return this;
   }
@@ -520,6 +550,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addStudentIndicatorsItem(EdFiStudentEducationOrganizationAssociationStudentIndicator studentIndicatorsItem) {
+    if (this.studentIndicators == null) {
+      this.studentIndicators = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentIndicator>();
+    }
     this.studentIndicators.add(studentIndicatorsItem);
     return this;
   }
@@ -543,6 +576,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addTelephonesItem(EdFiStudentEducationOrganizationAssociationTelephone telephonesItem) {
+    if (this.telephones == null) {
+      this.telephones = new ArrayList<EdFiStudentEducationOrganizationAssociationTelephone>();
+    }
     this.telephones.add(telephonesItem);
     return this;
   }
@@ -566,6 +602,9 @@ public class EdFiStudentEducationOrganizationAssociation   {
   }
 
   public EdFiStudentEducationOrganizationAssociation addTribalAffiliationsItem(EdFiStudentEducationOrganizationAssociationTribalAffiliation tribalAffiliationsItem) {
+    if (this.tribalAffiliations == null) {
+      this.tribalAffiliations = new ArrayList<EdFiStudentEducationOrganizationAssociationTribalAffiliation>();
+    }
     this.tribalAffiliations.add(tribalAffiliationsItem);
     return this;
   }
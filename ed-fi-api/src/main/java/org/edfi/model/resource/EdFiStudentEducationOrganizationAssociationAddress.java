@@ -82,7 +82,7 @@ public class EdFiStudentEducationOrganizationAssociationAddress   {
   private String streetNumberName = null;
 
   @SerializedName("periods")
-  private List<EdFiStudentEducationOrganizationAssociationAddressPeriod> periods = new ArrayList<EdFiStudentEducationOrganizationAssociationAddressPeriod>();
+  private List<EdFiStudentEducationOrganizationAssociationAddressPeriod> periods = null;
 
   public EdFiStudentEducationOrganizationAssociationAddress addressTypeDescriptor(String addressTypeDescriptor) {
     this.addressTypeDescriptor = addressTypeDescriptor;
@@ -342,6 +342,9 @@ public class EdFiStudentEducationOrganizationAssociationAddress   {
   }
 
   public EdFiStudentEducationOrganizationAssociationAddress addPeriodsItem(EdFiStudentEducationOrganizationAssociationAddressPeriod periodsItem) {
+    if (this.periods == null) {
+      this.periods = new ArrayList<EdFiStudentEducationOrganizationAssociationAddressPeriod>();
+    }
     this.periods.add(periodsItem);
     return this;
   }
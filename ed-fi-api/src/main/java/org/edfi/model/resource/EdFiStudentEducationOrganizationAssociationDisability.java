@@ -52,7 +52,7 @@ public class EdFiStudentEducationOrganizationAssociationDisability   {
   private Integer orderOfDisability = null;
 
   @SerializedName("designations")
-  private List<EdFiStudentEducationOrganizationAssociationDisabilityDesignation> designations = new ArrayList<EdFiStudentEducationOrganizationAssociationDisabilityDesignation>();
+  private List<EdFiStudentEducationOrganizationAssociationDisabilityDesignation> designations = null;
 
   public EdFiStudentEducationOrganizationAssociationDisability disabilityDescriptor(String disabilityDescriptor) {
     this.disabilityDescriptor = disabilityDescriptor;
@@ -132,6 +132,9 @@ public class EdFiStudentEducationOrganizationAssociationDisability   {
   }
 
   public EdFiStudentEducationOrganizationAssociationDisability addDesignationsItem(EdFiStudentEducationOrganizationAssociationDisabilityDesignation designationsItem) {
+    if (this.designations == null) {
+      this.designations = new ArrayList<EdFiStudentEducationOrganizationAssociationDisabilityDesignation>();
+    }
     this.designations.add(designationsItem);
     return this;
   }
@@ -43,7 +43,7 @@ public class EdFiStudentEducationOrganizationAssociationLanguage   {
   private String languageDescriptor = null;
 
   @SerializedName("uses")
-  private List<EdFiStudentEducationOrganizationAssociationLanguageUse> uses = new ArrayList<EdFiStudentEducationOrganizationAssociationLanguageUse>();
+  private List<EdFiStudentEducationOrganizationAssociationLanguageUse> uses = null;
 
   public EdFiStudentEducationOrganizationAssociationLanguage languageDescriptor(String languageDescriptor) {
     this.languageDescriptor = languageDescriptor;
@@ -69,6 +69,9 @@ public class EdFiStudentEducationOrganizationAssociationLanguage   {
   }
 
   public EdFiStudentEducationOrganizationAssociationLanguage addUsesItem(EdFiStudentEducationOrganizationAssociationLanguageUse usesItem) {
+    if (this.uses == null) {
+      this.uses = new ArrayList<EdFiStudentEducationOrganizationAssociationLanguageUse>();
+    }
     this.uses.add(usesItem);
     return this;
   }
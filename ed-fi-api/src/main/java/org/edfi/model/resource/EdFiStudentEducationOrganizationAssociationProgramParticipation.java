@@ -53,7 +53,7 @@ public class EdFiStudentEducationOrganizationAssociationProgramParticipation   {
   private LocalDate endDate = null;
 
   @SerializedName("programCharacteristics")
-  private List<EdFiStudentEducationOrganizationAssociationProgramParticipationProgramCharacteristic> programCharacteristics = new ArrayList<EdFiStudentEducationOrganizationAssociationProgramParticipationProgramCharacteristic>();
+  private List<EdFiStudentEducationOrganizationAssociationProgramParticipationProgramCharacteristic> programCharacteristics = null;
 
   public EdFiStudentEducationOrganizationAssociationProgramParticipation programTypeDescriptor(String programTypeDescriptor) {
     this.programTypeDescriptor = programTypeDescriptor;
@@ -133,6 +133,9 @@ public class EdFiStudentEducationOrganizationAssociationProgramParticipation   {
   }
 
   public EdFiStudentEducationOrganizationAssociationProgramParticipation addProgramCharacteristicsItem(EdFiStudentEducationOrganizationAssociationProgramParticipationProgramCharacteristic programCharacteristicsItem) {
+    if (this.programCharacteristics == null) {
+      this.programCharacteristics = new ArrayList<EdFiStudentEducationOrganizationAssociationProgramParticipationProgramCharacteristic>();
+    }
     this.programCharacteristics.add(programCharacteristicsItem);
     return this;
   }
@@ -46,7 +46,7 @@ public class EdFiStudentEducationOrganizationAssociationStudentCharacteristic
   private String designatedBy = null;
 
   @SerializedName("periods")
-  private List<EdFiStudentEducationOrganizationAssociationStudentCharacteristicPeriod> periods = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentCharacteristicPeriod>();
+  private List<EdFiStudentEducationOrganizationAssociationStudentCharacteristicPeriod> periods = null;
 
   public EdFiStudentEducationOrganizationAssociationStudentCharacteristic studentCharacteristicDescriptor(String studentCharacteristicDescriptor) {
     this.studentCharacteristicDescriptor = studentCharacteristicDescriptor;
@@ -90,6 +90,9 @@ public class EdFiStudentEducationOrganizationAssociationStudentCharacteristic
   }
 
   public EdFiStudentEducationOrganizationAssociationStudentCharacteristic addPeriodsItem(EdFiStudentEducationOrganizationAssociationStudentCharacteristicPeriod periodsItem) {
+    if (this.periods == null) {
+      this.periods = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentCharacteristicPeriod>();
+    }
     this.periods.add(periodsItem);
     return this;
   }
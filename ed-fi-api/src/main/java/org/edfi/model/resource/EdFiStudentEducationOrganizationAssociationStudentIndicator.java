@@ -52,7 +52,7 @@ public class EdFiStudentEducationOrganizationAssociationStudentIndicator   {
   private String indicatorGroup = null;
 
   @SerializedName("periods")
-  private List<EdFiStudentEducationOrganizationAssociationStudentIndicatorPeriod> periods = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentIndicatorPeriod>();
+  private List<EdFiStudentEducationOrganizationAssociationStudentIndicatorPeriod> periods = null;
 
   public EdFiStudentEducationOrganizationAssociationStudentIndicator indicatorName(String indicatorName) {
     this.indicatorName = indicatorName;
@@ -132,6 +132,9 @@ public class EdFiStudentEducationOrganizationAssociationStudentIndicator   {
   }
 
   public EdFiStudentEducationOrganizationAssociationStudentIndicator addPeriodsItem(EdFiStudentEducationOrganizationAssociationStudentIndicatorPeriod periodsItem) {
+    if (this.periods == null) {
+      this.periods = new ArrayList<EdFiStudentEducationOrganizationAssociationStudentIndicatorPeriod>();
+    }
     this.periods.add(periodsItem);
     return this;
   }
@@ -68,7 +68,7 @@ public class EdFiStudentHomelessProgramAssociation   {
   private String homelessPrimaryNighttimeResidenceDescriptor = null;
 
   @SerializedName("homelessProgramServices")
-  private List<EdFiStudentHomelessProgramAssociationHomelessProgramService> homelessProgramServices = new ArrayList<EdFiStudentHomelessProgramAssociationHomelessProgramService>();
+  private List<EdFiStudentHomelessProgramAssociationHomelessProgramService> homelessProgramServices = null;
 
   @SerializedName("homelessUnaccompaniedYouth")
   private Boolean homelessUnaccompaniedYouth = null;
@@ -232,6 +232,9 @@ public class EdFiStudentHomelessProgramAssociation   {
   }
 
   public EdFiStudentHomelessProgramAssociation addHomelessProgramServicesItem(EdFiStudentHomelessProgramAssociationHomelessProgramService homelessProgramServicesItem) {
+    if (this.homelessProgramServices == null) {
+      this.homelessProgramServices = new ArrayList<EdFiStudentHomelessProgramAssociationHomelessProgramService>();
+    }
     this.homelessProgramServices.add(homelessProgramServicesItem);
     return this;
   }
@@ -61,7 +61,7 @@ public class EdFiStudentInterventionAssociation   {
   private Integer dosage = null;
 
   @SerializedName("interventionEffectivenesses")
-  private List<EdFiStudentInterventionAssociationInterventionEffectiveness> interventionEffectivenesses = new ArrayList<EdFiStudentInterventionAssociationInterventionEffectiveness>();
+  private List<EdFiStudentInterventionAssociationInterventionEffectiveness> interventionEffectivenesses = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -180,6 +180,9 @@ public class EdFiStudentInterventionAssociation   {
   }
 
   public EdFiStudentInterventionAssociation addInterventionEffectivenessesItem(EdFiStudentInterventionAssociationInterventionEffectiveness interventionEffectivenessesItem) {
+    if (this.interventionEffectivenesses == null) {
+      this.interventionEffectivenesses = new ArrayList<EdFiStudentInterventionAssociationInterventionEffectiveness>();
+    }
     this.interventionEffectivenesses.add(interventionEffectivenessesItem);
     return this;
   }
@@ -63,13 +63,13 @@ public class EdFiStudentLanguageInstructionProgramAssociation   {
   private LocalDate endDate = null;
 
   @SerializedName("englishLanguageProficiencyAssessments")
-  private List<EdFiStudentLanguageInstructionProgramAssociationEnglishLanguageProficiencyAssessment> englishLanguageProficiencyAssessments = new ArrayList<EdFiStudentLanguageInstructionProgramAssociationEnglishLanguageProficiencyAssessment>();
+  private List<EdFiStudentLanguageInstructionProgramAssociationEnglishLanguageProficiencyAssessment> englishLanguageProficiencyAssessments = null;
 
   @SerializedName("englishLearnerParticipation")
   private Boolean englishLearnerParticipation = null;
 
   @SerializedName("languageInstructionProgramServices")
-  private List<EdFiStudentLanguageInstructionProgramAssociationLanguageInstructionProgramService> languageInstructionProgramServices = new ArrayList<EdFiStudentLanguageInstructionProgramAssociationLanguageInstructionProgramService>();
+  private List<EdFiStudentLanguageInstructionProgramAssociationLanguageInstructionProgramService> languageInstructionProgramServices = null;
 
   @SerializedName("reasonExitedDescriptor")
   private String reasonExitedDescriptor = null;
@@ -194,6 +194,9 @@ public class EdFiStudentLanguageInstructionProgramAssociation   {
   }
 
   public EdFiStudentLanguageInstructionProgramAssociation addEnglishLanguageProficiencyAssessmentsItem(EdFiStudentLanguageInstructionProgramAssociationEnglishLanguageProficiencyAssessment englishLanguageProficiencyAssessmentsItem) {
+    if (this.englishLanguageProficiencyAssessments == null) {
+      this.englishLanguageProficiencyAssessments = new ArrayList<EdFiStudentLanguageInstructionProgramAssociationEnglishLanguageProficiencyAssessment>();
+    }
     this.englishLanguageProficiencyAssessments.add(englishLanguageProficiencyAssessmentsItem);
     return this;
   }
@@ -235,6 +238,9 @@ public class EdFiStudentLanguageInstructionProgramAssociation   {
   }
 
   public EdFiStudentLanguageInstructionProgramAssociation addLanguageInstructionProgramServicesItem(EdFiStudentLanguageInstructionProgramAssociationLanguageInstructionProgramService languageInstructionProgramServicesItem) {
+    if (this.languageInstructionProgramServices == null) {
+      this.languageInstructionProgramServices = new ArrayList<EdFiStudentLanguageInstructionProgramAssociationLanguageInstructionProgramService>();
+    }
     this.languageInstructionProgramServices.add(languageInstructionProgramServicesItem);
     return this;
   }
@@ -62,10 +62,10 @@ public class EdFiStudentLearningObjective   {
   private String diagnosticStatement = null;
 
   @SerializedName("generalStudentProgramAssociations")
-  private List<EdFiStudentLearningObjectiveGeneralStudentProgramAssociation> generalStudentProgramAssociations = new ArrayList<EdFiStudentLearningObjectiveGeneralStudentProgramAssociation>();
+  private List<EdFiStudentLearningObjectiveGeneralStudentProgramAssociation> generalStudentProgramAssociations = null;
 
   @SerializedName("studentSectionAssociations")
-  private List<EdFiStudentLearningObjectiveStudentSectionAssociation> studentSectionAssociations = new ArrayList<EdFiStudentLearningObjectiveStudentSectionAssociation>();
+  private List<EdFiStudentLearningObjectiveStudentSectionAssociation> studentSectionAssociations = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -184,6 +184,9 @@ public class EdFiStudentLearningObjective   {
   }
 
   public EdFiStudentLearningObjective addGeneralStudentProgramAssociationsItem(EdFiStudentLearningObjectiveGeneralStudentProgramAssociation generalStudentProgramAssociationsItem) {
+    if (this.generalStudentProgramAssociations == null) {
+      this.generalStudentProgramAssociations = new ArrayList<EdFiStudentLearningObjectiveGeneralStudentProgramAssociation>();
+    }
     this.generalStudentProgramAssociations.add(generalStudentProgramAssociationsItem);
     return this;
   }
@@ -207,6 +210,9 @@ public class EdFiStudentLearningObjective   {
   }
 
   public EdFiStudentLearningObjective addStudentSectionAssociationsItem(EdFiStudentLearningObjectiveStudentSectionAssociation studentSectionAssociationsItem) {
+    if (this.studentSectionAssociations == null) {
+      this.studentSectionAssociations = new ArrayList<EdFiStudentLearningObjectiveStudentSectionAssociation>();
+    }
     this.studentSectionAssociations.add(studentSectionAssociationsItem);
     return this;
   }
@@ -71,7 +71,7 @@ public class EdFiStudentMigrantEducationProgramAssociation   {
   private LocalDate lastQualifyingMove = null;
 
   @SerializedName("migrantEducationProgramServices")
-  private List<EdFiStudentMigrantEducationProgramAssociationMigrantEducationProgramService> migrantEducationProgramServices = new ArrayList<EdFiStudentMigrantEducationProgramAssociationMigrantEducationProgramService>();
+  private List<EdFiStudentMigrantEducationProgramAssociationMigrantEducationProgramService> migrantEducationProgramServices = null;
 
   @SerializedName("priorityForServices")
   private Boolean priorityForServices = null;
@@ -268,6 +268,9 @@ public class EdFiStudentMigrantEducationProgramAssociation   {
   }
 
   public EdFiStudentMigrantEducationProgramAssociation addMigrantEducationProgramServicesItem(EdFiStudentMigrantEducationProgramAssociationMigrantEducationProgramService migrantEducationProgramServicesItem) {
+    if (this.migrantEducationProgramServices == null) {
+      this.migrantEducationProgramServices = new ArrayList<EdFiStudentMigrantEducationProgramAssociationMigrantEducationProgramService>();
+    }
     this.migrantEducationProgramServices.add(migrantEducationProgramServicesItem);
     return this;
   }
@@ -71,7 +71,7 @@ public class EdFiStudentNeglectedOrDelinquentProgramAssociation   {
   private String neglectedOrDelinquentProgramDescriptor = null;
 
   @SerializedName("neglectedOrDelinquentProgramServices")
-  private List<EdFiStudentNeglectedOrDelinquentProgramAssociationNeglectedOrDelinquentProgramService> neglectedOrDelinquentProgramServices = new ArrayList<EdFiStudentNeglectedOrDelinquentProgramAssociationNeglectedOrDelinquentProgramService>();
+  private List<EdFiStudentNeglectedOrDelinquentProgramAssociationNeglectedOrDelinquentProgramService> neglectedOrDelinquentProgramServices = null;
 
   @SerializedName("reasonExitedDescriptor")
   private String reasonExitedDescriptor = null;
@@ -250,6 +250,9 @@ public class EdFiStudentNeglectedOrDelinquentProgramAssociation   {
   }
 
   public EdFiStudentNeglectedOrDelinquentProgramAssociation addNeglectedOrDelinquentProgramServicesItem(EdFiStudentNeglectedOrDelinquentProgramAssociationNeglectedOrDelinquentProgramService neglectedOrDelinquentProgramServicesItem) {
+    if (this.neglectedOrDelinquentProgramServices == null) {
+      this.neglectedOrDelinquentProgramServices = new ArrayList<EdFiStudentNeglectedOrDelinquentProgramAssociationNeglectedOrDelinquentProgramService>();
+    }
     this.neglectedOrDelinquentProgramServices.add(neglectedOrDelinquentProgramServicesItem);
     return this;
   }
@@ -68,7 +68,7 @@ public class EdFiStudentProgramAssociation   {
   private Boolean servedOutsideOfRegularSession = null;
 
   @SerializedName("services")
-  private List<EdFiStudentProgramAssociationService> services = new ArrayList<EdFiStudentProgramAssociationService>();
+  private List<EdFiStudentProgramAssociationService> services = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -223,6 +223,9 @@ public class EdFiStudentProgramAssociation   {
   }
 
   public EdFiStudentProgramAssociation addServicesItem(EdFiStudentProgramAssociationService servicesItem) {
+    if (this.services == null) {
+      this.services = new ArrayList<EdFiStudentProgramAssociationService>();
+    }
     this.services.add(servicesItem);
     return this;
   }
@@ -70,7 +70,7 @@ public class EdFiStudentSchoolAssociation   {
   private EdFiStudentReference studentReference = null;
 
   @SerializedName("educationPlans")
-  private List<EdFiStudentSchoolAssociationEducationPlan> educationPlans = new ArrayList<EdFiStudentSchoolAssociationEducationPlan>();
+  private List<EdFiStudentSchoolAssociationEducationPlan> educationPlans = null;
 
   @SerializedName("employedWhileEnrolled")
   private Boolean employedWhileEnrolled = null;
@@ -255,6 +255,9 @@ public class EdFiStudentSchoolAssociation   {
   }
 
   public EdFiStudentSchoolAssociation addEducationPlansItem(EdFiStudentSchoolAssociationEducationPlan educationPlansItem) {
+    if (this.educationPlans == null) {
+      this.educationPlans = new ArrayList<EdFiStudentSchoolAssociationEducationPlan>();
+    }
     this.educationPlans.add(educationPlansItem);
     return this;
   }
@@ -68,7 +68,7 @@ public class EdFiStudentSchoolFoodServiceProgramAssociation   {
   private String reasonExitedDescriptor = null;
 
   @SerializedName("schoolFoodServiceProgramServices")
-  private List<EdFiStudentSchoolFoodServiceProgramAssociationSchoolFoodServiceProgramService> schoolFoodServiceProgramServices = new ArrayList<EdFiStudentSchoolFoodServiceProgramAssociationSchoolFoodServiceProgramService>();
+  private List<EdFiStudentSchoolFoodServiceProgramAssociationSchoolFoodServiceProgramService> schoolFoodServiceProgramServices = null;
 
   @SerializedName("servedOutsideOfRegularSession")
   private Boolean servedOutsideOfRegularSession = null;
@@ -226,6 +226,9 @@ public class EdFiStudentSchoolFoodServiceProgramAssociation   {
   }
 
   public EdFiStudentSchoolFoodServiceProgramAssociation addSchoolFoodServiceProgramServicesItem(EdFiStudentSchoolFoodServiceProgramAssociationSchoolFoodServiceProgramService schoolFoodServiceProgramServicesItem) {
+    if (this.schoolFoodServiceProgramServices == null) {
+      this.schoolFoodServiceProgramServices = new ArrayList<EdFiStudentSchoolFoodServiceProgramAssociationSchoolFoodServiceProgramService>();
+    }
     this.schoolFoodServiceProgramServices.add(schoolFoodServiceProgramServicesItem);
     return this;
   }
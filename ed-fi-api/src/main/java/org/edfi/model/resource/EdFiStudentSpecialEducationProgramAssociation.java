@@ -61,7 +61,7 @@ public class EdFiStudentSpecialEducationProgramAssociation   {
   private EdFiStudentReference studentReference = null;
 
   @SerializedName("disabilities")
-  private List<EdFiStudentSpecialEducationProgramAssociationDisability> disabilities = new ArrayList<EdFiStudentSpecialEducationProgramAssociationDisability>();
+  private List<EdFiStudentSpecialEducationProgramAssociationDisability> disabilities = null;
 
   @SerializedName("endDate")
   private LocalDate endDate = null;
@@ -97,13 +97,13 @@ public class EdFiStudentSpecialEducationProgramAssociation   {
   private Boolean servedOutsideOfRegularSession = null;
 
   @SerializedName("serviceProviders")
-  private List<EdFiStudentSpecialEducationProgramAssociationServiceProvider> serviceProviders = new ArrayList<EdFiStudentSpecialEducationProgramAssociationServiceProvider>();
+  private List<EdFiStudentSpecialEducationProgramAssociationServiceProvider> serviceProviders = null;
 
   @SerializedName("specialEducationHoursPerWeek")
   private Double specialEducationHoursPerWeek = null;
 
   @SerializedName("specialEducationProgramServices")
-  private List<EdFiStudentSpecialEducationProgramAssociationSpecialEducationProgramService> specialEducationProgramServices = new ArrayList<EdFiStudentSpecialEducationProgramAssociationSpecialEducationProgramService>();
+  private List<EdFiStudentSpecialEducationProgramAssociationSpecialEducationProgramService> specialEducationProgramServices = null;
 
   @SerializedName("specialEducationSettingDescriptor")
   private String specialEducationSettingDescriptor = null;
@@ -207,6 +207,9 @@ public class EdFiStudentSpecialEducationProgramAssociation   {
   }
 
   public EdFiStudentSpecialEducationProgramAssociation addDisabilitiesItem(EdFiStudentSpecialEducationProgramAssociationDisability disabilitiesItem) {
+    if (this.disabilities == null) {
+      this.disabilities = new ArrayList<EdFiStudentSpecialEducationProgramAssociationDisability>();
+    }
     this.disabilities.add(disabilitiesItem);
     return this;
   }
@@ -428,6 +431,9 @@ public class EdFiStudentSpecialEducationProgramAssociation   {
   }
 
   public EdFiStudentSpecialEducationProgramAssociation addServiceProvidersItem(EdFiStudentSpecialEducationProgramAssociationServiceProvider serviceProvidersItem) {
+    if (this.serviceProviders == null) {
+      this.serviceProviders = new ArrayList<EdFiStudentSpecialEducationProgramAssociationServiceProvider>();
+    }
     this.serviceProviders.add(serviceProvidersItem);
     return this;
   }
@@ -469,6 +475,9 @@ public class EdFiStudentSpecialEducationProgramAssociation   {
   }
 
   public EdFiStudentSpecialEducationProgramAssociation addSpecialEducationProgramServicesItem(EdFiStudentSpecialEducationProgramAssociationSpecialEducationProgramService specialEducationProgramServicesItem) {
+    if (this.specialEducationProgramServices == null) {
+      this.specialEducationProgramServices = new ArrayList<EdFiStudentSpecialEducationProgramAssociationSpecialEducationProgramService>();
+    }
     this.specialEducationProgramServices.add(specialEducationProgramServicesItem);
     return this;
   }
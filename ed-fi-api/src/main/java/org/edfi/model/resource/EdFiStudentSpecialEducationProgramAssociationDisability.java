@@ -52,7 +52,7 @@ public class EdFiStudentSpecialEducationProgramAssociationDisability   {
   private Integer orderOfDisability = null;
 
   @SerializedName("designations")
-  private List<EdFiStudentSpecialEducationProgramAssociationDisabilityDesignation> designations = new ArrayList<EdFiStudentSpecialEducationProgramAssociationDisabilityDesignation>();
+  private List<EdFiStudentSpecialEducationProgramAssociationDisabilityDesignation> designations = null;
 
   public EdFiStudentSpecialEducationProgramAssociationDisability disabilityDescriptor(String disabilityDescriptor) {
     this.disabilityDescriptor = disabilityDescriptor;
@@ -132,6 +132,9 @@ public class EdFiStudentSpecialEducationProgramAssociationDisability   {
   }
 
   public EdFiStudentSpecialEducationProgramAssociationDisability addDesignationsItem(EdFiStudentSpecialEducationProgramAssociationDisabilityDesignation designationsItem) {
+    if (this.designations == null) {
+      this.designations = new ArrayList<EdFiStudentSpecialEducationProgramAssociationDisabilityDesignation>();
+    }
     this.designations.add(designationsItem);
     return this;
   }
@@ -68,7 +68,7 @@ public class EdFiStudentTitleIPartAProgramAssociation   {
   private Boolean servedOutsideOfRegularSession = null;
 
   @SerializedName("services")
-  private List<EdFiStudentTitleIPartAProgramAssociationService> services = new ArrayList<EdFiStudentTitleIPartAProgramAssociationService>();
+  private List<EdFiStudentTitleIPartAProgramAssociationService> services = null;
 
   @SerializedName("titleIPartAParticipantDescriptor")
   private String titleIPartAParticipantDescriptor = null;
@@ -226,6 +226,9 @@ public class EdFiStudentTitleIPartAProgramAssociation   {
   }
 
   public EdFiStudentTitleIPartAProgramAssociation addServicesItem(EdFiStudentTitleIPartAProgramAssociationService servicesItem) {
+    if (this.services == null) {
+      this.services = new ArrayList<EdFiStudentTitleIPartAProgramAssociationService>();
+    }
     this.services.add(servicesItem);
     return this;
   }
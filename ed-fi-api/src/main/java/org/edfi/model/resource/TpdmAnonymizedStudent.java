@@ -59,7 +59,7 @@ public class TpdmAnonymizedStudent   {
   private Boolean atriskIndicator = null;
 
   @SerializedName("disabilities")
-  private List<TpdmAnonymizedStudentDisability> disabilities = new ArrayList<TpdmAnonymizedStudentDisability>();
+  private List<TpdmAnonymizedStudentDisability> disabilities = null;
 
   @SerializedName("ellEnrollment")
   private Boolean ellEnrollment = null;
@@ -77,13 +77,13 @@ public class TpdmAnonymizedStudent   {
   private Boolean hispanicLatinoEthnicity = null;
 
   @SerializedName("languages")
-  private List<TpdmAnonymizedStudentLanguage> languages = new ArrayList<TpdmAnonymizedStudentLanguage>();
+  private List<TpdmAnonymizedStudentLanguage> languages = null;
 
   @SerializedName("mobility")
   private Integer mobility = null;
 
   @SerializedName("races")
-  private List<TpdmAnonymizedStudentRace> races = new ArrayList<TpdmAnonymizedStudentRace>();
+  private List<TpdmAnonymizedStudentRace> races = null;
 
   @SerializedName("section504Enrollment")
   private Boolean section504Enrollment = null;
@@ -199,6 +199,9 @@ public class TpdmAnonymizedStudent   {
   }
 
   public TpdmAnonymizedStudent addDisabilitiesItem(TpdmAnonymizedStudentDisability disabilitiesItem) {
+    if (this.disabilities == null) {
+      this.disabilities = new ArrayList<TpdmAnonymizedStudentDisability>();
+    }
     this.disabilities.add(disabilitiesItem);
     return this;
   }
@@ -312,6 +315,9 @@ public class TpdmAnonymizedStudent   {
   }
 
   public TpdmAnonymizedStudent addLanguagesItem(TpdmAnonymizedStudentLanguage languagesItem) {
+    if (this.languages == null) {
+      this.languages = new ArrayList<TpdmAnonymizedStudentLanguage>();
+    }
     this.languages.add(languagesItem);
     return this;
   }
@@ -353,6 +359,9 @@ public class TpdmAnonymizedStudent   {
   }
 
   public TpdmAnonymizedStudent addRacesItem(TpdmAnonymizedStudentRace racesItem) {
+    if (this.races == null) {
+      this.races = new ArrayList<TpdmAnonymizedStudentRace>();
+    }
     this.races.add(racesItem);
     return this;
   }
@@ -52,7 +52,7 @@ public class TpdmAnonymizedStudentDisability   {
   private Integer orderOfDisability = null;
 
   @SerializedName("designations")
-  private List<TpdmAnonymizedStudentDisabilityDesignation> designations = new ArrayList<TpdmAnonymizedStudentDisabilityDesignation>();
+  private List<TpdmAnonymizedStudentDisabilityDesignation> designations = null;
 
   public TpdmAnonymizedStudentDisability disabilityDescriptor(String disabilityDescriptor) {
     this.disabilityDescriptor = disabilityDescriptor;
@@ -132,6 +132,9 @@ public class TpdmAnonymizedStudentDisability   {
   }
 
   public TpdmAnonymizedStudentDisability addDesignationsItem(TpdmAnonymizedStudentDisabilityDesignation designationsItem) {
+    if (this.designations == null) {
+      this.designations = new ArrayList<TpdmAnonymizedStudentDisabilityDesignation>();
+    }
     this.designations.add(designationsItem);
     return this;
   }
@@ -43,7 +43,7 @@ public class TpdmAnonymizedStudentLanguage   {
   private String languageDescriptor = null;
 
   @SerializedName("uses")
-  private List<TpdmAnonymizedStudentLanguageUse> uses = new ArrayList<TpdmAnonymizedStudentLanguageUse>();
+  private List<TpdmAnonymizedStudentLanguageUse> uses = null;
 
   public TpdmAnonymizedStudentLanguage languageDescriptor(String languageDescriptor) {
     this.languageDescriptor = languageDescriptor;
@@ -69,6 +69,9 @@ public class TpdmAnonymizedStudentLanguage   {
   }
 
   public TpdmAnonymizedStudentLanguage addUsesItem(TpdmAnonymizedStudentLanguageUse usesItem) {
+    if (this.uses == null) {
+      this.uses = new ArrayList<TpdmAnonymizedStudentLanguageUse>();
+    }
     this.uses.add(usesItem);
     return this;
   }
@@ -72,34 +72,34 @@ public class TpdmApplicant   {
   private TpdmTeacherCandidateReference teacherCandidateReference = null;
 
   @SerializedName("addresses")
-  private List<TpdmApplicantAddress> addresses = new ArrayList<TpdmApplicantAddress>();
+  private List<TpdmApplicantAddress> addresses = null;
 
   @SerializedName("aids")
-  private List<TpdmApplicantAid> aids = new ArrayList<TpdmApplicantAid>();
+  private List<TpdmApplicantAid> aids = null;
 
   @SerializedName("backgroundChecks")
-  private List<TpdmApplicantBackgroundCheck> backgroundChecks = new ArrayList<TpdmApplicantBackgroundCheck>();
+  private List<TpdmApplicantBackgroundCheck> backgroundChecks = null;
 
   @SerializedName("birthDate")
   private LocalDate birthDate = null;
 
   @SerializedName("characteristics")
-  private List<TpdmApplicantCharacteristic> characteristics = new ArrayList<TpdmApplicantCharacteristic>();
+  private List<TpdmApplicantCharacteristic> characteristics = null;
 
   @SerializedName("citizenshipStatusDescriptor")
   private String citizenshipStatusDescriptor = null;
 
   @SerializedName("credentials")
-  private List<TpdmApplicantCredential> credentials = new ArrayList<TpdmApplicantCredential>();
+  private List<TpdmApplicantCredential> credentials = null;
 
   @SerializedName("disabilities")
-  private List<TpdmApplicantDisability> disabilities = new ArrayList<TpdmApplicantDisability>();
+  private List<TpdmApplicantDisability> disabilities = null;
 
   @SerializedName("economicDisadvantaged")
   private Boolean economicDisadvantaged = null;
 
   @SerializedName("electronicMails")
-  private List<TpdmApplicantElectronicMail> electronicMails = new ArrayList<TpdmApplicantElectronicMail>();
+  private List<TpdmApplicantElectronicMail> electronicMails = null;
 
   @SerializedName("firstGenerationStudent")
   private Boolean firstGenerationStudent = null;
@@ -114,7 +114,7 @@ public class TpdmApplicant   {
   private String generationCodeSuffix = null;
 
   @SerializedName("gradePointAverages")
-  private List<TpdmApplicantGradePointAverage> gradePointAverages = new ArrayList<TpdmApplicantGradePointAverage>();
+  private List<TpdmApplicantGradePointAverage> gradePointAverages = null;
 
   @SerializedName("highestCompletedLevelOfEducationDescriptor")
   private String highestCompletedLevelOfEducationDescriptor = null;
@@ -129,13 +129,13 @@ public class TpdmApplicant   {
   private Boolean hispanicLatinoEthnicity = null;
 
   @SerializedName("identificationDocuments")
-  private List<TpdmApplicantIdentificationDocument> identificationDocuments = new ArrayList<TpdmApplicantIdentificationDocument>();
+  private List<TpdmApplicantIdentificationDocument> identificationDocuments = null;
 
   @SerializedName("internationalAddresses")
-  private List<TpdmApplicantInternationalAddress> internationalAddresses = new ArrayList<TpdmApplicantInternationalAddress>();
+  private List<TpdmApplicantInternationalAddress> internationalAddresses = null;
 
   @SerializedName("languages")
-  private List<TpdmApplicantLanguage> languages = new ArrayList<TpdmApplicantLanguage>();
+  private List<TpdmApplicantLanguage> languages = null;
 
   @SerializedName("lastSurname")
   private String lastSurname = null;
@@ -150,31 +150,31 @@ public class TpdmApplicant   {
   private String middleName = null;
 
   @SerializedName("personalIdentificationDocuments")
-  private List<TpdmApplicantPersonalIdentificationDocument> personalIdentificationDocuments = new ArrayList<TpdmApplicantPersonalIdentificationDocument>();
+  private List<TpdmApplicantPersonalIdentificationDocument> personalIdentificationDocuments = null;
 
   @SerializedName("personalTitlePrefix")
   private String personalTitlePrefix = null;
 
   @SerializedName("races")
-  private List<TpdmApplicantRace> races = new ArrayList<TpdmApplicantRace>();
+  private List<TpdmApplicantRace> races = null;
 
   @SerializedName("scoreResults")
-  private List<TpdmApplicantScoreResult> scoreResults = new ArrayList<TpdmApplicantScoreResult>();
+  private List<TpdmApplicantScoreResult> scoreResults = null;
 
   @SerializedName("sexDescriptor")
   private String sexDescriptor = null;
 
   @SerializedName("staffIdentificationCodes")
-  private List<TpdmApplicantStaffIdentificationCode> staffIdentificationCodes = new ArrayList<TpdmApplicantStaffIdentificationCode>();
+  private List<TpdmApplicantStaffIdentificationCode> staffIdentificationCodes = null;
 
   @SerializedName("teacherPreparationPrograms")
-  private List<TpdmApplicantTeacherPreparationProgram> teacherPreparationPrograms = new ArrayList<TpdmApplicantTeacherPreparationProgram>();
+  private List<TpdmApplicantTeacherPreparationProgram> teacherPreparationPrograms = null;
 
   @SerializedName("telephones")
-  private List<TpdmApplicantTelephone> telephones = new ArrayList<TpdmApplicantTelephone>();
+  private List<TpdmApplicantTelephone> telephones = null;
 
   @SerializedName("visas")
-  private List<TpdmApplicantVisa> visas = new ArrayList<TpdmApplicantVisa>();
+  private List<TpdmApplicantVisa> visas = null;
 
   @SerializedName("yearsOfPriorProfessionalExperience")
   private Double yearsOfPriorProfessionalExperience = null;
@@ -263,6 +263,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addAddressesItem(TpdmApplicantAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<TpdmApplicantAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -286,6 +289,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addAidsItem(TpdmApplicantAid aidsItem) {
+    if (this.aids == null) {
+      this.aids = new ArrayList<TpdmApplicantAid>();
+    }
     this.aids.add(aidsItem);
     return this;
   }
@@ -309,6 +315,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addBackgroundChecksItem(TpdmApplicantBackgroundCheck backgroundChecksItem) {
+    if (this.backgroundChecks == null) {
+      this.backgroundChecks = new ArrayList<TpdmApplicantBackgroundCheck>();
+    }
     this.backgroundChecks.add(backgroundChecksItem);
     return this;
   }
@@ -350,6 +359,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addCharacteristicsItem(TpdmApplicantCharacteristic characteristicsItem) {
+    if (this.characteristics == null) {
+      this.characteristics = new ArrayList<TpdmApplicantCharacteristic>();
+    }
     this.characteristics.add(characteristicsItem);
     return this;
   }
@@ -391,6 +403,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addCredentialsItem(TpdmApplicantCredential credentialsItem) {
+    if (this.credentials == null) {
+      this.credentials = new ArrayList<TpdmApplicantCredential>();
+    }
     this.credentials.add(credentialsItem);
     return this;
   }
@@ -414,6 +429,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addDisabilitiesItem(TpdmApplicantDisability disabilitiesItem) {
+    if (this.disabilities == null) {
+      this.disabilities = new ArrayList<TpdmApplicantDisability>();
+    }
     this.disabilities.add(disabilitiesItem);
     return this;
   }
@@ -455,6 +473,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addElectronicMailsItem(TpdmApplicantElectronicMail electronicMailsItem) {
+    if (this.electronicMails == null) {
+      this.electronicMails = new ArrayList<TpdmApplicantElectronicMail>();
+    }
     this.electronicMails.add(electronicMailsItem);
     return this;
   }
@@ -550,6 +571,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addGradePointAveragesItem(TpdmApplicantGradePointAverage gradePointAveragesItem) {
+    if (this.gradePointAverages == null) {
+      this.gradePointAverages = new ArrayList<TpdmApplicantGradePointAverage>();
+    }
     this.gradePointAverages.add(gradePointAveragesItem);
     return this;
   }
@@ -645,6 +669,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addIdentificationDocumentsItem(TpdmApplicantIdentificationDocument identificationDocumentsItem) {
+    if (this.identificationDocuments == null) {
+      this.identificationDocuments = new ArrayList<TpdmApplicantIdentificationDocument>();
+    }
     this.identificationDocuments.add(identificationDocumentsItem);
     return this;
   }
@@ -668,6 +695,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addInternationalAddressesItem(TpdmApplicantInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<TpdmApplicantInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -691,6 +721,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addLanguagesItem(TpdmApplicantLanguage languagesItem) {
+    if (this.languages == null) {
+      this.languages = new ArrayList<TpdmApplicantLanguage>();
+    }
     this.languages.add(languagesItem);
     return this;
   }
@@ -786,6 +819,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addPersonalIdentificationDocumentsItem(TpdmApplicantPersonalIdentificationDocument personalIdentificationDocumentsItem) {
+    if (this.personalIdentificationDocuments == null) {
+      this.personalIdentificationDocuments = new ArrayList<TpdmApplicantPersonalIdentificationDocument>();
+    }
     this.personalIdentificationDocuments.add(personalIdentificationDocumentsItem);
     return this;
   }
@@ -827,6 +863,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addRacesItem(TpdmApplicantRace racesItem) {
+    if (this.races == null) {
+      this.races = new ArrayList<TpdmApplicantRace>();
+    }
     this.races.add(racesItem);
     return this;
   }
@@ -850,6 +889,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addScoreResultsItem(TpdmApplicantScoreResult scoreResultsItem) {
+    if (this.scoreResults == null) {
+      this.scoreResults = new ArrayList<TpdmApplicantScoreResult>();
+    }
     this.scoreResults.add(scoreResultsItem);
     return this;
   }
@@ -891,6 +933,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addStaffIdentificationCodesItem(TpdmApplicantStaffIdentificationCode staffIdentificationCodesItem) {
+    if (this.staffIdentificationCodes == null) {
+      this.staffIdentificationCodes = new ArrayList<TpdmApplicantStaffIdentificationCode>();
+    }
     this.staffIdentificationCodes.add(staffIdentificationCodesItem);
     return this;
   }
@@ -914,6 +959,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addTeacherPreparationProgramsItem(TpdmApplicantTeacherPreparationProgram teacherPreparationProgramsItem) {
+    if (this.teacherPreparationPrograms == null) {
+      this.teacherPreparationPrograms = new ArrayList<TpdmApplicantTeacherPreparationProgram>();
+    }
     this.teacherPreparationPrograms.add(teacherPreparationProgramsItem);
     return this;
   }
@@ -937,6 +985,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addTelephonesItem(TpdmApplicantTelephone telephonesItem) {
+    if (this.telephones == null) {
+      this.telephones = new ArrayList<TpdmApplicantTelephone>();
+    }
     this.telephones.add(telephonesItem);
     return this;
   }
@@ -960,6 +1011,9 @@ public class TpdmApplicant   {
   }
 
   public TpdmApplicant addVisasItem(TpdmApplicantVisa visasItem) {
+    if (this.visas == null) {
+      this.visas = new ArrayList<TpdmApplicantVisa>();
+    }
     this.visas.add(visasItem);
     return this;
   }
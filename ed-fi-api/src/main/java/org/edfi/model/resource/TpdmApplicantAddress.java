@@ -82,7 +82,7 @@ public class TpdmApplicantAddress   {
   private String streetNumberName = null;
 
   @SerializedName("periods")
-  private List<TpdmApplicantAddressPeriod> periods = new ArrayList<TpdmApplicantAddressPeriod>();
+  private List<TpdmApplicantAddressPeriod> periods = null;
 
   public TpdmApplicantAddress addressTypeDescriptor(String addressTypeDescriptor) {
     this.addressTypeDescriptor = addressTypeDescriptor;
@@ -342,6 +342,9 @@ public class TpdmApplicantAddress   {
   }
 
   public TpdmApplicantAddress addPeriodsItem(TpdmApplicantAddressPeriod periodsItem) {
+    if (this.periods == null) {
+      this.periods = new ArrayList<TpdmApplicantAddressPeriod>();
+    }
     this.periods.add(periodsItem);
     return this;
   }
@@ -52,7 +52,7 @@ public class TpdmApplicantDisability   {
   private Integer orderOfDisability = null;
 
   @SerializedName("designations")
-  private List<TpdmApplicantDisabilityDesignation> designations = new ArrayList<TpdmApplicantDisabilityDesignation>();
+  private List<TpdmApplicantDisabilityDesignation> designations = null;
 
   public TpdmApplicantDisability disabilityDescriptor(String disabilityDescriptor) {
     this.disabilityDescriptor = disabilityDescriptor;
@@ -132,6 +132,9 @@ public class TpdmApplicantDisability   {
   }
 
   public TpdmApplicantDisability addDesignationsItem(TpdmApplicantDisabilityDesignation designationsItem) {
+    if (this.designations == null) {
+      this.designations = new ArrayList<TpdmApplicantDisabilityDesignation>();
+    }
     this.designations.add(designationsItem);
     return this;
   }
@@ -43,7 +43,7 @@ public class TpdmApplicantLanguage   {
   private String languageDescriptor = null;
 
   @SerializedName("uses")
-  private List<TpdmApplicantLanguageUse> uses = new ArrayList<TpdmApplicantLanguageUse>();
+  private List<TpdmApplicantLanguageUse> uses = null;
 
   public TpdmApplicantLanguage languageDescriptor(String languageDescriptor) {
     this.languageDescriptor = languageDescriptor;
@@ -69,6 +69,9 @@ public class TpdmApplicantLanguage   {
   }
 
   public TpdmApplicantLanguage addUsesItem(TpdmApplicantLanguageUse usesItem) {
+    if (this.uses == null) {
+      this.uses = new ArrayList<TpdmApplicantLanguageUse>();
+    }
     this.uses.add(usesItem);
     return this;
   }
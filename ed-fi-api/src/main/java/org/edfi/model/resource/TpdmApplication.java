@@ -86,10 +86,10 @@ public class TpdmApplication   {
   private String hiringSourceDescriptor = null;
 
   @SerializedName("openStaffPositions")
-  private List<TpdmApplicationOpenStaffPosition> openStaffPositions = new ArrayList<TpdmApplicationOpenStaffPosition>();
+  private List<TpdmApplicationOpenStaffPosition> openStaffPositions = null;
 
   @SerializedName("terms")
-  private List<TpdmApplicationTerm> terms = new ArrayList<TpdmApplicationTerm>();
+  private List<TpdmApplicationTerm> terms = null;
 
   @SerializedName("withdrawDate")
   private LocalDate withdrawDate = null;
@@ -358,6 +358,9 @@ public class TpdmApplication   {
   }
 
   public TpdmApplication addOpenStaffPositionsItem(TpdmApplicationOpenStaffPosition openStaffPositionsItem) {
+    if (this.openStaffPositions == null) {
+      this.openStaffPositions = new ArrayList<TpdmApplicationOpenStaffPosition>();
+    }
     this.openStaffPositions.add(openStaffPositionsItem);
     return this;
   }
@@ -381,6 +384,9 @@ public class TpdmApplication   {
   }
 
   public TpdmApplication addTermsItem(TpdmApplicationTerm termsItem) {
+    if (this.terms == null) {
+      this.terms = new ArrayList<TpdmApplicationTerm>();
+    }
     this.terms.add(termsItem);
     return this;
   }
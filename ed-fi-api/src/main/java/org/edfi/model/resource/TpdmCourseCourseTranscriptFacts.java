@@ -53,7 +53,7 @@ public class TpdmCourseCourseTranscriptFacts   {
   private TpdmCourseStudentAcademicRecordFactsReference courseStudentAcademicRecordFactsReference = null;
 
   @SerializedName("aggregatedFinalLetterGradeEarneds")
-  private List<TpdmCourseCourseTranscriptFactsAggregatedFinalLetterGradeEarned> aggregatedFinalLetterGradeEarneds = new ArrayList<TpdmCourseCourseTranscriptFactsAggregatedFinalLetterGradeEarned>();
+  private List<TpdmCourseCourseTranscriptFactsAggregatedFinalLetterGradeEarned> aggregatedFinalLetterGradeEarneds = null;
 
   @SerializedName("aggregatedNumericGradeEarned")
   private TpdmCourseCourseTranscriptFactsAggregatedNumericGradeEarned aggregatedNumericGradeEarned = null;
@@ -127,6 +127,9 @@ public class TpdmCourseCourseTranscriptFacts   {
   }
 
   public TpdmCourseCourseTranscriptFacts addAggregatedFinalLetterGradeEarnedsItem(TpdmCourseCourseTranscriptFactsAggregatedFinalLetterGradeEarned aggregatedFinalLetterGradeEarnedsItem) {
+    if (this.aggregatedFinalLetterGradeEarneds == null) {
+      this.aggregatedFinalLetterGradeEarneds = new ArrayList<TpdmCourseCourseTranscriptFactsAggregatedFinalLetterGradeEarned>();
+    }
     this.aggregatedFinalLetterGradeEarneds.add(aggregatedFinalLetterGradeEarnedsItem);
     return this;
   }
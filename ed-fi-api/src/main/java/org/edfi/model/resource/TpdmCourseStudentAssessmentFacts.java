@@ -63,7 +63,7 @@ public class TpdmCourseStudentAssessmentFacts   {
   private LocalDate administrationDate = null;
 
   @SerializedName("aggregatedPerformanceLevels")
-  private List<TpdmCourseStudentAssessmentFactsAggregatedPerformanceLevel> aggregatedPerformanceLevels = new ArrayList<TpdmCourseStudentAssessmentFactsAggregatedPerformanceLevel>();
+  private List<TpdmCourseStudentAssessmentFactsAggregatedPerformanceLevel> aggregatedPerformanceLevels = null;
 
   @SerializedName("aggregatedScoreResult")
   private TpdmCourseStudentAssessmentFactsAggregatedScoreResult aggregatedScoreResult = null;
@@ -200,6 +200,9 @@ public class TpdmCourseStudentAssessmentFacts   {
   }
 
   public TpdmCourseStudentAssessmentFacts addAggregatedPerformanceLevelsItem(TpdmCourseStudentAssessmentFactsAggregatedPerformanceLevel aggregatedPerformanceLevelsItem) {
+    if (this.aggregatedPerformanceLevels == null) {
+      this.aggregatedPerformanceLevels = new ArrayList<TpdmCourseStudentAssessmentFactsAggregatedPerformanceLevel>();
+    }
     this.aggregatedPerformanceLevels.add(aggregatedPerformanceLevelsItem);
     return this;
   }
@@ -64,7 +64,7 @@ public class TpdmCourseStudentFacts   {
   private EdFiCourseReference courseReference = null;
 
   @SerializedName("aggregatedByDisabilities")
-  private List<TpdmCourseStudentFactsAggregatedByDisability> aggregatedByDisabilities = new ArrayList<TpdmCourseStudentFactsAggregatedByDisability>();
+  private List<TpdmCourseStudentFactsAggregatedByDisability> aggregatedByDisabilities = null;
 
   @SerializedName("aggregatedDisabilityTotalStudentsDisabled")
   private TpdmCourseStudentFactsAggregatedDisabilityTotalStudentsDisabled aggregatedDisabilityTotalStudentsDisabled = null;
@@ -76,25 +76,25 @@ public class TpdmCourseStudentFacts   {
   private TpdmCourseStudentFactsAggregatedESLEnrollment aggregatedESLEnrollment = null;
 
   @SerializedName("aggregatedGenders")
-  private List<TpdmCourseStudentFactsAggregatedGender> aggregatedGenders = new ArrayList<TpdmCourseStudentFactsAggregatedGender>();
+  private List<TpdmCourseStudentFactsAggregatedGender> aggregatedGenders = null;
 
   @SerializedName("aggregatedHispanicLatinoEthnicities")
-  private List<TpdmCourseStudentFactsAggregatedHispanicLatinoEthnicity> aggregatedHispanicLatinoEthnicities = new ArrayList<TpdmCourseStudentFactsAggregatedHispanicLatinoEthnicity>();
+  private List<TpdmCourseStudentFactsAggregatedHispanicLatinoEthnicity> aggregatedHispanicLatinoEthnicities = null;
 
   @SerializedName("aggregatedLanguages")
-  private List<TpdmCourseStudentFactsAggregatedLanguage> aggregatedLanguages = new ArrayList<TpdmCourseStudentFactsAggregatedLanguage>();
+  private List<TpdmCourseStudentFactsAggregatedLanguage> aggregatedLanguages = null;
 
   @SerializedName("aggregatedRaces")
-  private List<TpdmCourseStudentFactsAggregatedRace> aggregatedRaces = new ArrayList<TpdmCourseStudentFactsAggregatedRace>();
+  private List<TpdmCourseStudentFactsAggregatedRace> aggregatedRaces = null;
 
   @SerializedName("aggregatedSchoolFoodServiceProgramServices")
-  private List<TpdmCourseStudentFactsAggregatedSchoolFoodServiceProgramService> aggregatedSchoolFoodServiceProgramServices = new ArrayList<TpdmCourseStudentFactsAggregatedSchoolFoodServiceProgramService>();
+  private List<TpdmCourseStudentFactsAggregatedSchoolFoodServiceProgramService> aggregatedSchoolFoodServiceProgramServices = null;
 
   @SerializedName("aggregatedSection504Enrollment")
   private TpdmCourseStudentFactsAggregatedSection504Enrollment aggregatedSection504Enrollment = null;
 
   @SerializedName("aggregatedSexes")
-  private List<TpdmCourseStudentFactsAggregatedSex> aggregatedSexes = new ArrayList<TpdmCourseStudentFactsAggregatedSex>();
+  private List<TpdmCourseStudentFactsAggregatedSex> aggregatedSexes = null;
 
   @SerializedName("aggregatedSPED")
   private TpdmCourseStudentFactsAggregatedSPED aggregatedSPED = null;
@@ -168,6 +168,9 @@ public class TpdmCourseStudentFacts   {
   }
 
   public TpdmCourseStudentFacts addAggregatedByDisabilitiesItem(TpdmCourseStudentFactsAggregatedByDisability aggregatedByDisabilitiesItem) {
+    if (this.aggregatedByDisabilities == null) {
+      this.aggregatedByDisabilities = new ArrayList<TpdmCourseStudentFactsAggregatedByDisability>();
+    }
     this.aggregatedByDisabilities.add(aggregatedByDisabilitiesItem);
     return this;
   }
@@ -245,6 +248,9 @@ public class TpdmCourseStudentFacts   {
   }
 
   public TpdmCourseStudentFacts addAggregatedGendersItem(TpdmCourseStudentFactsAggregatedGender aggregatedGendersItem) {
+    if (this.aggregatedGenders == null) {
+      this.aggregatedGenders = new ArrayList<TpdmCourseStudentFactsAggregatedGender>();
+    }
     this.aggregatedGenders.add(aggregatedGendersItem);
     return this;
   }
@@ -268,6 +274,9 @@ public class TpdmCourseStudentFacts   {
   }
 
   public TpdmCourseStudentFacts addAggregatedHispanicLatinoEthnicitiesItem(TpdmCourseStudentFactsAggregatedHispanicLatinoEthnicity aggregatedHispanicLatinoEthnicitiesItem) {
+    if (this.aggregatedHispanicLatinoEthnicities == null) {
+      this.aggregatedHispanicLatinoEthnicities = new ArrayList<TpdmCourseStudentFactsAggregatedHispanicLatinoEthnicity>();
+    }
     this.aggregatedHispanicLatinoEthnicities.add(aggregatedHispanicLatinoEthnicitiesItem);
     return this;
   }
@@ -291,6 +300,9 @@ public class TpdmCourseStudentFacts   {
   }
 
   public TpdmCourseStudentFacts addAggregatedLanguagesItem(TpdmCourseStudentFactsAggregatedLanguage aggregatedLanguagesItem) {
+    if (this.aggregatedLanguages == null) {
+      this.aggregatedLanguages = new ArrayList<TpdmCourseStudentFactsAggregatedLanguage>();
+    }
     this.aggregatedLanguages.add(aggregatedLanguagesItem);
     return this;
   }
@@ -314,6 +326,9 @@ public class TpdmCourseStudentFacts   {
   }
 
   public TpdmCourseStudentFacts addAggregatedRacesItem(TpdmCourseStudentFactsAggregatedRace aggregatedRacesItem) {
+    if (this.aggregatedRaces == null) {
+      this.aggregatedRaces = new ArrayList<TpdmCourseStudentFactsAggregatedRace>();
+    }
     this.aggregatedRaces.add(aggregatedRacesItem);
     return this;
   }
@@ -337,6 +352,9 @@ public class TpdmCourseStudentFacts   {
   }
 
   public TpdmCourseStudentFacts addAggregatedSchoolFoodServiceProgramServicesItem(TpdmCourseStudentFactsAggregatedSchoolFoodServiceProgramService aggregatedSchoolFoodServiceProgramServicesItem) {
+    if (this.aggregatedSchoolFoodServiceProgramServices == null) {
+      this.aggregatedSchoolFoodServiceProgramServices = new ArrayList<TpdmCourseStudentFactsAggregatedSchoolFoodServiceProgramService>();
+    }
     this.aggregatedSchoolFoodServiceProgramServices.add(aggregatedSchoolFoodServiceProgramServicesItem);
     return this;
   }
@@ -378,6 +396,9 @@ public class TpdmCourseStudentFacts   {
   }
 
   public TpdmCourseStudentFacts addAggregatedSexesItem(TpdmCourseStudentFactsAggregatedSex aggregatedSexesItem) {
+    if (this.aggregatedSexes == null) {
+      this.aggregatedSexes = new ArrayList<TpdmCourseStudentFactsAggregatedSex>();
+    }
     this.aggregatedSexes.add(aggregatedSexesItem);
     return this;
   }
@@ -55,7 +55,7 @@ public class TpdmCourseSurveyQuestionResponseFacts   {
   private TpdmCourseSurveyQuestionResponseFactsAggregatedNumericResponse aggregatedNumericResponse = null;
 
   @SerializedName("aggregatedSurveyQuestionMatrixElementResponses")
-  private List<TpdmCourseSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse> aggregatedSurveyQuestionMatrixElementResponses = new ArrayList<TpdmCourseSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse>();
+  private List<TpdmCourseSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse> aggregatedSurveyQuestionMatrixElementResponses = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -138,6 +138,9 @@ public class TpdmCourseSurveyQuestionResponseFacts   {
   }
 
   public TpdmCourseSurveyQuestionResponseFacts addAggregatedSurveyQuestionMatrixElementResponsesItem(TpdmCourseSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse aggregatedSurveyQuestionMatrixElementResponsesItem) {
+    if (this.aggregatedSurveyQuestionMatrixElementResponses == null) {
+      this.aggregatedSurveyQuestionMatrixElementResponses = new ArrayList<TpdmCourseSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse>();
+    }
     this.aggregatedSurveyQuestionMatrixElementResponses.add(aggregatedSurveyQuestionMatrixElementResponsesItem);
     return this;
   }
@@ -62,7 +62,7 @@ public class TpdmCredentialExtension   {
   private String suspensionReason = null;
 
   @SerializedName("certificationExams")
-  private List<TpdmCredentialCertificationExam> certificationExams = new ArrayList<TpdmCredentialCertificationExam>();
+  private List<TpdmCredentialCertificationExam> certificationExams = null;
 
   @SerializedName("boardCertification")
   private TpdmCredentialBoardCertification boardCertification = null;
@@ -187,6 +187,9 @@ public class TpdmCredentialExtension   {
   }
 
   public TpdmCredentialExtension addCertificationExamsItem(TpdmCredentialCertificationExam certificationExamsItem) {
+    if (this.certificationExams == null) {
+      this.certificationExams = new ArrayList<TpdmCredentialCertificationExam>();
+    }
     this.certificationExams.add(certificationExamsItem);
     return this;
   }
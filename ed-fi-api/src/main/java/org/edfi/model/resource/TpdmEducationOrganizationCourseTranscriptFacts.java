@@ -53,7 +53,7 @@ public class TpdmEducationOrganizationCourseTranscriptFacts   {
   private TpdmEducationOrganizationStudentAcademicRecordFactsReference educationOrganizationStudentAcademicRecordFactsReference = null;
 
   @SerializedName("aggregatedFinalLetterGradeEarneds")
-  private List<TpdmEducationOrganizationCourseTranscriptFactsAggregatedFinalLetterGradeEarned> aggregatedFinalLetterGradeEarneds = new ArrayList<TpdmEducationOrganizationCourseTranscriptFactsAggregatedFinalLetterGradeEarned>();
+  private List<TpdmEducationOrganizationCourseTranscriptFactsAggregatedFinalLetterGradeEarned> aggregatedFinalLetterGradeEarneds = null;
 
   @SerializedName("aggregatedNumericGradeEarned")
   private TpdmEducationOrganizationCourseTranscriptFactsAggregatedNumericGradeEarned aggregatedNumericGradeEarned = null;
@@ -127,6 +127,9 @@ public class TpdmEducationOrganizationCourseTranscriptFacts   {
   }
 
   public TpdmEducationOrganizationCourseTranscriptFacts addAggregatedFinalLetterGradeEarnedsItem(TpdmEducationOrganizationCourseTranscriptFactsAggregatedFinalLetterGradeEarned aggregatedFinalLetterGradeEarnedsItem) {
+    if (this.aggregatedFinalLetterGradeEarneds == null) {
+      this.aggregatedFinalLetterGradeEarneds = new ArrayList<TpdmEducationOrganizationCourseTranscriptFactsAggregatedFinalLetterGradeEarned>();
+    }
     this.aggregatedFinalLetterGradeEarneds.add(aggregatedFinalLetterGradeEarnedsItem);
     return this;
   }
@@ -89,7 +89,7 @@ public class TpdmEducationOrganizationFacts   {
   private Double retirementRate = null;
 
   @SerializedName("vacancies")
-  private List<TpdmEducationOrganizationFactsVacancies> vacancies = new ArrayList<TpdmEducationOrganizationFactsVacancies>();
+  private List<TpdmEducationOrganizationFactsVacancies> vacancies = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -370,6 +370,9 @@ public class TpdmEducationOrganizationFacts   {
   }
 
   public TpdmEducationOrganizationFacts addVacanciesItem(TpdmEducationOrganizationFactsVacancies vacanciesItem) {
+    if (this.vacancies == null) {
+      this.vacancies = new ArrayList<TpdmEducationOrganizationFactsVacancies>();
+    }
     this.vacancies.add(vacanciesItem);
     return this;
   }
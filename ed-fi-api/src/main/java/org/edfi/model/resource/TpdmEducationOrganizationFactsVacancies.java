@@ -49,7 +49,7 @@ public class TpdmEducationOrganizationFactsVacancies   {
   private Integer numberOfVacancies = null;
 
   @SerializedName("gradeLevels")
-  private List<TpdmEducationOrganizationFactsVacanciesGradeLevel> gradeLevels = new ArrayList<TpdmEducationOrganizationFactsVacanciesGradeLevel>();
+  private List<TpdmEducationOrganizationFactsVacanciesGradeLevel> gradeLevels = null;
 
   public TpdmEducationOrganizationFactsVacancies academicSubjectDescriptor(String academicSubjectDescriptor) {
     this.academicSubjectDescriptor = academicSubjectDescriptor;
@@ -111,6 +111,9 @@ public class TpdmEducationOrganizationFactsVacancies   {
   }
 
   public TpdmEducationOrganizationFactsVacancies addGradeLevelsItem(TpdmEducationOrganizationFactsVacanciesGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<TpdmEducationOrganizationFactsVacanciesGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -63,7 +63,7 @@ public class TpdmEducationOrganizationStudentAssessmentFacts   {
   private LocalDate administrationDate = null;
 
   @SerializedName("aggregatedPerformanceLevels")
-  private List<TpdmEducationOrganizationStudentAssessmentFactsAggregatedPerformanceLevel> aggregatedPerformanceLevels = new ArrayList<TpdmEducationOrganizationStudentAssessmentFactsAggregatedPerformanceLevel>();
+  private List<TpdmEducationOrganizationStudentAssessmentFactsAggregatedPerformanceLevel> aggregatedPerformanceLevels = null;
 
   @SerializedName("aggregatedScoreResult")
   private TpdmEducationOrganizationStudentAssessmentFactsAggregatedScoreResult aggregatedScoreResult = null;
@@ -200,6 +200,9 @@ public class TpdmEducationOrganizationStudentAssessmentFacts   {
   }
 
   public TpdmEducationOrganizationStudentAssessmentFacts addAggregatedPerformanceLevelsItem(TpdmEducationOrganizationStudentAssessmentFactsAggregatedPerformanceLevel aggregatedPerformanceLevelsItem) {
+    if (this.aggregatedPerformanceLevels == null) {
+      this.aggregatedPerformanceLevels = new ArrayList<TpdmEducationOrganizationStudentAssessmentFactsAggregatedPerformanceLevel>();
+    }
     this.aggregatedPerformanceLevels.add(aggregatedPerformanceLevelsItem);
     return this;
   }
@@ -64,7 +64,7 @@ public class TpdmEducationOrganizationStudentFacts   {
   private EdFiEducationOrganizationReference educationOrganizationReference = null;
 
   @SerializedName("aggregatedByDisabilities")
-  private List<TpdmEducationOrganizationStudentFactsAggregatedByDisability> aggregatedByDisabilities = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedByDisability>();
+  private List<TpdmEducationOrganizationStudentFactsAggregatedByDisability> aggregatedByDisabilities = null;
 
   @SerializedName("aggregatedDisabilityTotalStudentsDisabled")
   private TpdmEducationOrganizationStudentFactsAggregatedDisabilityTotalStudentsDisabled aggregatedDisabilityTotalStudentsDisabled = null;
@@ -76,25 +76,25 @@ public class TpdmEducationOrganizationStudentFacts   {
   private TpdmEducationOrganizationStudentFactsAggregatedESLEnrollment aggregatedESLEnrollment = null;
 
   @SerializedName("aggregatedGenders")
-  private List<TpdmEducationOrganizationStudentFactsAggregatedGender> aggregatedGenders = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedGender>();
+  private List<TpdmEducationOrganizationStudentFactsAggregatedGender> aggregatedGenders = null;
 
   @SerializedName("aggregatedHispanicLatinoEthnicities")
-  private List<TpdmEducationOrganizationStudentFactsAggregatedHispanicLatinoEthnicity> aggregatedHispanicLatinoEthnicities = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedHispanicLatinoEthnicity>();
+  private List<TpdmEducationOrganizationStudentFactsAggregatedHispanicLatinoEthnicity> aggregatedHispanicLatinoEthnicities = null;
 
   @SerializedName("aggregatedLanguages")
-  private List<TpdmEducationOrganizationStudentFactsAggregatedLanguage> aggregatedLanguages = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedLanguage>();
+  private List<TpdmEducationOrganizationStudentFactsAggregatedLanguage> aggregatedLanguages = null;
 
   @SerializedName("aggregatedRaces")
-  private List<TpdmEducationOrganizationStudentFactsAggregatedRace> aggregatedRaces = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedRace>();
+  private List<TpdmEducationOrganizationStudentFactsAggregatedRace> aggregatedRaces = null;
 
   @SerializedName("aggregatedSchoolFoodServiceProgramServices")
-  private List<TpdmEducationOrganizationStudentFactsAggregatedSchoolFoodServiceProgramService> aggregatedSchoolFoodServiceProgramServices = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedSchoolFoodServiceProgramService>();
+  private List<TpdmEducationOrganizationStudentFactsAggregatedSchoolFoodServiceProgramService> aggregatedSchoolFoodServiceProgramServices = null;
 
   @SerializedName("aggregatedSection504Enrollment")
   private TpdmEducationOrganizationStudentFactsAggregatedSection504Enrollment aggregatedSection504Enrollment = null;
 
   @SerializedName("aggregatedSexes")
-  private List<TpdmEducationOrganizationStudentFactsAggregatedSex> aggregatedSexes = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedSex>();
+  private List<TpdmEducationOrganizationStudentFactsAggregatedSex> aggregatedSexes = null;
 
   @SerializedName("aggregatedSPED")
   private TpdmEducationOrganizationStudentFactsAggregatedSPED aggregatedSPED = null;
@@ -168,6 +168,9 @@ public class TpdmEducationOrganizationStudentFacts   {
   }
 
   public TpdmEducationOrganizationStudentFacts addAggregatedByDisabilitiesItem(TpdmEducationOrganizationStudentFactsAggregatedByDisability aggregatedByDisabilitiesItem) {
+    if (this.aggregatedByDisabilities == null) {
+      this.aggregatedByDisabilities = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedByDisability>();
+    }
     this.aggregatedByDisabilities.add(aggregatedByDisabilitiesItem);
     return this;
   }
@@ -245,6 +248,9 @@ public class TpdmEducationOrganizationStudentFacts   {
   }
 
   public TpdmEducationOrganizationStudentFacts addAggregatedGendersItem(TpdmEducationOrganizationStudentFactsAggregatedGender aggregatedGendersItem) {
+    if (this.aggregatedGenders == null) {
+      this.aggregatedGenders = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedGender>();
+    }
     this.aggregatedGenders.add(aggregatedGendersItem);
     return this;
   }
@@ -268,6 +274,9 @@ public class TpdmEducationOrganizationStudentFacts   {
   }
 
   public TpdmEducationOrganizationStudentFacts addAggregatedHispanicLatinoEthnicitiesItem(TpdmEducationOrganizationStudentFactsAggregatedHispanicLatinoEthnicity aggregatedHispanicLatinoEthnicitiesItem) {
+    if (this.aggregatedHispanicLatinoEthnicities == null) {
+      this.aggregatedHispanicLatinoEthnicities = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedHispanicLatinoEthnicity>();
+    }
     this.aggregatedHispanicLatinoEthnicities.add(aggregatedHispanicLatinoEthnicitiesItem);
     return this;
   }
@@ -291,6 +300,9 @@ public class TpdmEducationOrganizationStudentFacts   {
   }
 
   public TpdmEducationOrganizationStudentFacts addAggregatedLanguagesItem(TpdmEducationOrganizationStudentFactsAggregatedLanguage aggregatedLanguagesItem) {
+    if (this.aggregatedLanguages == null) {
+      this.aggregatedLanguages = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedLanguage>();
+    }
     this.aggregatedLanguages.add(aggregatedLanguagesItem);
     return this;
   }
@@ -314,6 +326,9 @@ public class TpdmEducationOrganizationStudentFacts   {
   }
 
   public TpdmEducationOrganizationStudentFacts addAggregatedRacesItem(TpdmEducationOrganizationStudentFactsAggregatedRace aggregatedRacesItem) {
+    if (this.aggregatedRaces == null) {
+      this.aggregatedRaces = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedRace>();
+    }
     this.aggregatedRaces.add(aggregatedRacesItem);
     return this;
   }
@@ -337,6 +352,9 @@ public class TpdmEducationOrganizationStudentFacts   {
   }
 
   public TpdmEducationOrganizationStudentFacts addAggregatedSchoolFoodServiceProgramServicesItem(TpdmEducationOrganizationStudentFactsAggregatedSchoolFoodServiceProgramService aggregatedSchoolFoodServiceProgramServicesItem) {
+    if (this.aggregatedSchoolFoodServiceProgramServices == null) {
+      this.aggregatedSchoolFoodServiceProgramServices = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedSchoolFoodServiceProgramService>();
+    }
     this.aggregatedSchoolFoodServiceProgramServices.add(aggregatedSchoolFoodServiceProgramServicesItem);
     return this;
   }
@@ -378,6 +396,9 @@ public class TpdmEducationOrganizationStudentFacts   {
   }
 
   public TpdmEducationOrganizationStudentFacts addAggregatedSexesItem(TpdmEducationOrganizationStudentFactsAggregatedSex aggregatedSexesItem) {
+    if (this.aggregatedSexes == null) {
+      this.aggregatedSexes = new ArrayList<TpdmEducationOrganizationStudentFactsAggregatedSex>();
+    }
     this.aggregatedSexes.add(aggregatedSexesItem);
     return this;
   }
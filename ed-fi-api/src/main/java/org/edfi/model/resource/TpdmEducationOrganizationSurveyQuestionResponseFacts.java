@@ -55,7 +55,7 @@ public class TpdmEducationOrganizationSurveyQuestionResponseFacts   {
   private TpdmEducationOrganizationSurveyQuestionResponseFactsAggregatedNumericResponse aggregatedNumericResponse = null;
 
   @SerializedName("aggregatedSurveyQuestionMatrixElementResponses")
-  private List<TpdmEducationOrganizationSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse> aggregatedSurveyQuestionMatrixElementResponses = new ArrayList<TpdmEducationOrganizationSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse>();
+  private List<TpdmEducationOrganizationSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse> aggregatedSurveyQuestionMatrixElementResponses = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -138,6 +138,9 @@ public class TpdmEducationOrganizationSurveyQuestionResponseFacts   {
   }
 
   public TpdmEducationOrganizationSurveyQuestionResponseFacts addAggregatedSurveyQuestionMatrixElementResponsesItem(TpdmEducationOrganizationSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse aggregatedSurveyQuestionMatrixElementResponsesItem) {
+    if (this.aggregatedSurveyQuestionMatrixElementResponses == null) {
+      this.aggregatedSurveyQuestionMatrixElementResponses = new ArrayList<TpdmEducationOrganizationSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse>();
+    }
     this.aggregatedSurveyQuestionMatrixElementResponses.add(aggregatedSurveyQuestionMatrixElementResponsesItem);
     return this;
   }
@@ -51,7 +51,7 @@ public class TpdmPerformanceMeasure   {
   private String performanceMeasureIdentifier = null;
 
   @SerializedName("rubrics")
-  private List<TpdmPerformanceMeasureRubric> rubrics = new ArrayList<TpdmPerformanceMeasureRubric>();
+  private List<TpdmPerformanceMeasureRubric> rubrics = null;
 
   @SerializedName("academicSubjectDescriptor")
   private String academicSubjectDescriptor = null;
@@ -72,7 +72,7 @@ public class TpdmPerformanceMeasure   {
   private Integer durationOfPerformanceMeasure = null;
 
   @SerializedName("gradeLevels")
-  private List<TpdmPerformanceMeasureGradeLevel> gradeLevels = new ArrayList<TpdmPerformanceMeasureGradeLevel>();
+  private List<TpdmPerformanceMeasureGradeLevel> gradeLevels = null;
 
   @SerializedName("performanceMeasureInstanceDescriptor")
   private String performanceMeasureInstanceDescriptor = null;
@@ -84,10 +84,10 @@ public class TpdmPerformanceMeasure   {
   private TpdmPerformanceMeasurePersonBeingReviewed personBeingReviewed = null;
 
   @SerializedName("programGateways")
-  private List<TpdmPerformanceMeasureProgramGateway> programGateways = new ArrayList<TpdmPerformanceMeasureProgramGateway>();
+  private List<TpdmPerformanceMeasureProgramGateway> programGateways = null;
 
   @SerializedName("reviewers")
-  private List<TpdmPerformanceMeasureReviewer> reviewers = new ArrayList<TpdmPerformanceMeasureReviewer>();
+  private List<TpdmPerformanceMeasureReviewer> reviewers = null;
 
   @SerializedName("scheduleDateOfPerformanceMeasure")
   private LocalDate scheduleDateOfPerformanceMeasure = null;
@@ -143,6 +143,9 @@ public class TpdmPerformanceMeasure   {
   }
 
   public TpdmPerformanceMeasure addRubricsItem(TpdmPerformanceMeasureRubric rubricsItem) {
+    if (this.rubrics == null) {
+      this.rubrics = new ArrayList<TpdmPerformanceMeasureRubric>();
+    }
     this.rubrics.add(rubricsItem);
     return this;
   }
@@ -274,6 +277,9 @@ public class TpdmPerformanceMeasure   {
   }
 
   public TpdmPerformanceMeasure addGradeLevelsItem(TpdmPerformanceMeasureGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<TpdmPerformanceMeasureGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -351,6 +357,9 @@ public class TpdmPerformanceMeasure   {
   }
 
   public TpdmPerformanceMeasure addProgramGatewaysItem(TpdmPerformanceMeasureProgramGateway programGatewaysItem) {
+    if (this.programGateways == null) {
+      this.programGateways = new ArrayList<TpdmPerformanceMeasureProgramGateway>();
+    }
     this.programGateways.add(programGatewaysItem);
     return this;
   }
@@ -374,6 +383,9 @@ public class TpdmPerformanceMeasure   {
   }
 
   public TpdmPerformanceMeasure addReviewersItem(TpdmPerformanceMeasureReviewer reviewersItem) {
+    if (this.reviewers == null) {
+      this.reviewers = new ArrayList<TpdmPerformanceMeasureReviewer>();
+    }
     this.reviewers.add(reviewersItem);
     return this;
   }
@@ -49,7 +49,7 @@ public class TpdmPerformanceMeasureFacts   {
   private LocalDate factsAsOfDate = null;
 
   @SerializedName("gradeLevels")
-  private List<TpdmPerformanceMeasureFactsGradeLevel> gradeLevels = new ArrayList<TpdmPerformanceMeasureFactsGradeLevel>();
+  private List<TpdmPerformanceMeasureFactsGradeLevel> gradeLevels = null;
 
   @SerializedName("rubricReference")
   private TpdmRubricReference rubricReference = null;
@@ -108,6 +108,9 @@ public class TpdmPerformanceMeasureFacts   {
   }
 
   public TpdmPerformanceMeasureFacts addGradeLevelsItem(TpdmPerformanceMeasureFactsGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<TpdmPerformanceMeasureFactsGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -69,13 +69,13 @@ public class TpdmProspect   {
   private Boolean applied = null;
 
   @SerializedName("credentials")
-  private List<TpdmProspectCredential> credentials = new ArrayList<TpdmProspectCredential>();
+  private List<TpdmProspectCredential> credentials = null;
 
   @SerializedName("currentPosition")
   private TpdmProspectCurrentPosition currentPosition = null;
 
   @SerializedName("disabilities")
-  private List<TpdmProspectDisability> disabilities = new ArrayList<TpdmProspectDisability>();
+  private List<TpdmProspectDisability> disabilities = null;
 
   @SerializedName("economicDisadvantaged")
   private Boolean economicDisadvantaged = null;
@@ -114,7 +114,7 @@ public class TpdmProspect   {
   private String notes = null;
 
   @SerializedName("personalIdentificationDocuments")
-  private List<TpdmProspectPersonalIdentificationDocument> personalIdentificationDocuments = new ArrayList<TpdmProspectPersonalIdentificationDocument>();
+  private List<TpdmProspectPersonalIdentificationDocument> personalIdentificationDocuments = null;
 
   @SerializedName("personalTitlePrefix")
   private String personalTitlePrefix = null;
@@ -129,10 +129,10 @@ public class TpdmProspect   {
   private TpdmProspectQualifications qualifications = null;
 
   @SerializedName("races")
-  private List<TpdmProspectRace> races = new ArrayList<TpdmProspectRace>();
+  private List<TpdmProspectRace> races = null;
 
   @SerializedName("recruitmentEvents")
-  private List<TpdmProspectRecruitmentEvent> recruitmentEvents = new ArrayList<TpdmProspectRecruitmentEvent>();
+  private List<TpdmProspectRecruitmentEvent> recruitmentEvents = null;
 
   @SerializedName("referral")
   private Boolean referral = null;
@@ -150,10 +150,10 @@ public class TpdmProspect   {
   private String socialMediaUserName = null;
 
   @SerializedName("telephones")
-  private List<TpdmProspectTelephone> telephones = new ArrayList<TpdmProspectTelephone>();
+  private List<TpdmProspectTelephone> telephones = null;
 
   @SerializedName("touchpoints")
-  private List<TpdmProspectTouchpoint> touchpoints = new ArrayList<TpdmProspectTouchpoint>();
+  private List<TpdmProspectTouchpoint> touchpoints = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -272,6 +272,9 @@ public class TpdmProspect   {
   }
 
   public TpdmProspect addCredentialsItem(TpdmProspectCredential credentialsItem) {
+    if (this.credentials == null) {
+      this.credentials = new ArrayList<TpdmProspectCredential>();
+    }
     this.credentials.add(credentialsItem);
     return this;
   }
@@ -313,6 +316,9 @@ public class TpdmProspect   {
   }
 
   public TpdmProspect addDisabilitiesItem(TpdmProspectDisability disabilitiesItem) {
+    if (this.disabilities == null) {
+      this.disabilities = new ArrayList<TpdmProspectDisability>();
+    }
     this.disabilities.add(disabilitiesItem);
     return this;
   }
@@ -552,6 +558,9 @@ public class TpdmProspect   {
   }
 
   public TpdmProspect addPersonalIdentificationDocumentsItem(TpdmProspectPersonalIdentificationDocument personalIdentificationDocumentsItem) {
+    if (this.personalIdentificationDocuments == null) {
+      this.personalIdentificationDocuments = new ArrayList<TpdmProspectPersonalIdentificationDocument>();
+    }
     this.personalIdentificationDocuments.add(personalIdentificationDocumentsItem);
     return this;
   }
@@ -647,6 +656,9 @@ public class TpdmProspect   {
   }
 
   public TpdmProspect addRacesItem(TpdmProspectRace racesItem) {
+    if (this.races == null) {
+      this.races = new ArrayList<TpdmProspectRace>();
+    }
     this.races.add(racesItem);
     return this;
   }
@@ -670,6 +682,9 @@ public class TpdmProspect   {
   }
 
   public TpdmProspect addRecruitmentEventsItem(TpdmProspectRecruitmentEvent recruitmentEventsItem) {
+    if (this.recruitmentEvents == null) {
+      this.recruitmentEvents = new ArrayList<TpdmProspectRecruitmentEvent>();
+    }
     this.recruitmentEvents.add(recruitmentEventsItem);
     return this;
   }
@@ -783,6 +798,9 @@ public class TpdmProspect   {
   }
 
   public TpdmProspect addTelephonesItem(TpdmProspectTelephone telephonesItem) {
+    if (this.telephones == null) {
+      this.telephones = new ArrayList<TpdmProspectTelephone>();
+    }
     this.telephones.add(telephonesItem);
     return this;
   }
@@ -806,6 +824,9 @@ public class TpdmProspect   {
   }
 
   public TpdmProspect addTouchpointsItem(TpdmProspectTouchpoint touchpointsItem) {
+    if (this.touchpoints == null) {
+      this.touchpoints = new ArrayList<TpdmProspectTouchpoint>();
+    }
     this.touchpoints.add(touchpointsItem);
     return this;
   }
@@ -52,7 +52,7 @@ public class TpdmProspectCurrentPosition   {
   private String positionTitle = null;
 
   @SerializedName("gradeLevels")
-  private List<TpdmProspectCurrentPositionGradeLevel> gradeLevels = new ArrayList<TpdmProspectCurrentPositionGradeLevel>();
+  private List<TpdmProspectCurrentPositionGradeLevel> gradeLevels = null;
 
   public TpdmProspectCurrentPosition academicSubjectDescriptor(String academicSubjectDescriptor) {
     this.academicSubjectDescriptor = academicSubjectDescriptor;
@@ -132,6 +132,9 @@ public class TpdmProspectCurrentPosition   {
   }
 
   public TpdmProspectCurrentPosition addGradeLevelsItem(TpdmProspectCurrentPositionGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<TpdmProspectCurrentPositionGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -52,7 +52,7 @@ public class TpdmProspectDisability   {
   private Integer orderOfDisability = null;
 
   @SerializedName("designations")
-  private List<TpdmProspectDisabilityDesignation> designations = new ArrayList<TpdmProspectDisabilityDesignation>();
+  private List<TpdmProspectDisabilityDesignation> designations = null;
 
   public TpdmProspectDisability disabilityDescriptor(String disabilityDescriptor) {
     this.disabilityDescriptor = disabilityDescriptor;
@@ -132,6 +132,9 @@ public class TpdmProspectDisability   {
   }
 
   public TpdmProspectDisability addDesignationsItem(TpdmProspectDisabilityDesignation designationsItem) {
+    if (this.designations == null) {
+      this.designations = new ArrayList<TpdmProspectDisabilityDesignation>();
+    }
     this.designations.add(designationsItem);
     return this;
   }
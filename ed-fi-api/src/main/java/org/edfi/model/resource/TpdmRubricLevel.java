@@ -54,7 +54,7 @@ public class TpdmRubricLevel   {
   private TpdmRubricLevelInformation information = null;
 
   @SerializedName("themes")
-  private List<TpdmRubricLevelTheme> themes = new ArrayList<TpdmRubricLevelTheme>();
+  private List<TpdmRubricLevelTheme> themes = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -137,6 +137,9 @@ public class TpdmRubricLevel   {
   }
 
   public TpdmRubricLevel addThemesItem(TpdmRubricLevelTheme themesItem) {
+    if (this.themes == null) {
+      this.themes = new ArrayList<TpdmRubricLevelTheme>();
+    }
     this.themes.add(themesItem);
     return this;
   }
@@ -53,7 +53,7 @@ public class TpdmSectionCourseTranscriptFacts   {
   private TpdmSectionStudentAcademicRecordFactsReference sectionStudentAcademicRecordFactsReference = null;
 
   @SerializedName("aggregatedFinalLetterGradeEarneds")
-  private List<TpdmSectionCourseTranscriptFactsAggregatedFinalLetterGradeEarned> aggregatedFinalLetterGradeEarneds = new ArrayList<TpdmSectionCourseTranscriptFactsAggregatedFinalLetterGradeEarned>();
+  private List<TpdmSectionCourseTranscriptFactsAggregatedFinalLetterGradeEarned> aggregatedFinalLetterGradeEarneds = null;
 
   @SerializedName("aggregatedNumericGradeEarned")
   private TpdmSectionCourseTranscriptFactsAggregatedNumericGradeEarned aggregatedNumericGradeEarned = null;
@@ -127,6 +127,9 @@ public class TpdmSectionCourseTranscriptFacts   {
   }
 
   public TpdmSectionCourseTranscriptFacts addAggregatedFinalLetterGradeEarnedsItem(TpdmSectionCourseTranscriptFactsAggregatedFinalLetterGradeEarned aggregatedFinalLetterGradeEarnedsItem) {
+    if (this.aggregatedFinalLetterGradeEarneds == null) {
+      this.aggregatedFinalLetterGradeEarneds = new ArrayList<TpdmSectionCourseTranscriptFactsAggregatedFinalLetterGradeEarned>();
+    }
     this.aggregatedFinalLetterGradeEarneds.add(aggregatedFinalLetterGradeEarnedsItem);
     return this;
   }
@@ -63,7 +63,7 @@ public class TpdmSectionStudentAssessmentFacts   {
   private LocalDate administrationDate = null;
 
   @SerializedName("aggregatedPerformanceLevels")
-  private List<TpdmSectionStudentAssessmentFactsAggregatedPerformanceLevel> aggregatedPerformanceLevels = new ArrayList<TpdmSectionStudentAssessmentFactsAggregatedPerformanceLevel>();
+  private List<TpdmSectionStudentAssessmentFactsAggregatedPerformanceLevel> aggregatedPerformanceLevels = null;
 
   @SerializedName("aggregatedScoreResult")
   private TpdmSectionStudentAssessmentFactsAggregatedScoreResult aggregatedScoreResult = null;
@@ -197,6 +197,9 @@ public class TpdmSectionStudentAssessmentFacts   {
   }
 
   public TpdmSectionStudentAssessmentFacts addAggregatedPerformanceLevelsItem(TpdmSectionStudentAssessmentFactsAggregatedPerformanceLevel aggregatedPerformanceLevelsItem) {
+    if (this.aggregatedPerformanceLevels == null) {
+      this.aggregatedPerformanceLevels = new ArrayList<TpdmSectionStudentAssessmentFactsAggregatedPerformanceLevel>();
+    }
     this.aggregatedPerformanceLevels.add(aggregatedPerformanceLevelsItem);
     return this;
   }
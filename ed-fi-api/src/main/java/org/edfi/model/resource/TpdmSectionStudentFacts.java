@@ -64,7 +64,7 @@ public class TpdmSectionStudentFacts   {
   private EdFiSectionReference sectionReference = null;
 
   @SerializedName("aggregatedByDisabilities")
-  private List<TpdmSectionStudentFactsAggregatedByDisability> aggregatedByDisabilities = new ArrayList<TpdmSectionStudentFactsAggregatedByDisability>();
+  private List<TpdmSectionStudentFactsAggregatedByDisability> aggregatedByDisabilities = null;
 
   @SerializedName("aggregatedDisabilityTotalStudentsDisabled")
   private TpdmSectionStudentFactsAggregatedDisabilityTotalStudentsDisabled aggregatedDisabilityTotalStudentsDisabled = null;
@@ -76,25 +76,25 @@ public class TpdmSectionStudentFacts   {
   private TpdmSectionStudentFactsAggregatedESLEnrollment aggregatedESLEnrollment = null;
 
   @SerializedName("aggregatedGenders")
-  private List<TpdmSectionStudentFactsAggregatedGender> aggregatedGenders = new ArrayList<TpdmSectionStudentFactsAggregatedGender>();
+  private List<TpdmSectionStudentFactsAggregatedGender> aggregatedGenders = null;
 
   @SerializedName("aggregatedHispanicLatinoEthnicities")
-  private List<TpdmSectionStudentFactsAggregatedHispanicLatinoEthnicity> aggregatedHispanicLatinoEthnicities = new ArrayList<TpdmSectionStudentFactsAggregatedHispanicLatinoEthnicity>();
+  private List<TpdmSectionStudentFactsAggregatedHispanicLatinoEthnicity> aggregatedHispanicLatinoEthnicities = null;
 
   @SerializedName("aggregatedLanguages")
-  private List<TpdmSectionStudentFactsAggregatedLanguage> aggregatedLanguages = new ArrayList<TpdmSectionStudentFactsAggregatedLanguage>();
+  private List<TpdmSectionStudentFactsAggregatedLanguage> aggregatedLanguages = null;
 
   @SerializedName("aggregatedRaces")
-  private List<TpdmSectionStudentFactsAggregatedRace> aggregatedRaces = new ArrayList<TpdmSectionStudentFactsAggregatedRace>();
+  private List<TpdmSectionStudentFactsAggregatedRace> aggregatedRaces = null;
 
   @SerializedName("aggregatedSchoolFoodServiceProgramServices")
-  private List<TpdmSectionStudentFactsAggregatedSchoolFoodServiceProgramService> aggregatedSchoolFoodServiceProgramServices = new ArrayList<TpdmSectionStudentFactsAggregatedSchoolFoodServiceProgramService>();
+  private List<TpdmSectionStudentFactsAggregatedSchoolFoodServiceProgramService> aggregatedSchoolFoodServiceProgramServices = null;
 
   @SerializedName("aggregatedSection504Enrollment")
   private TpdmSectionStudentFactsAggregatedSection504Enrollment aggregatedSection504Enrollment = null;
 
   @SerializedName("aggregatedSexes")
-  private List<TpdmSectionStudentFactsAggregatedSex> aggregatedSexes = new ArrayList<TpdmSectionStudentFactsAggregatedSex>();
+  private List<TpdmSectionStudentFactsAggregatedSex> aggregatedSexes = null;
 
   @SerializedName("aggregatedSPED")
   private TpdmSectionStudentFactsAggregatedSPED aggregatedSPED = null;
@@ -168,6 +168,9 @@ public class TpdmSectionStudentFacts   {
   }
 
   public TpdmSectionStudentFacts addAggregatedByDisabilitiesItem(TpdmSectionStudentFactsAggregatedByDisability aggregatedByDisabilitiesItem) {
+    if (this.aggregatedByDisabilities == null) {
+      this.aggregatedByDisabilities = new ArrayList<TpdmSectionStudentFactsAggregatedByDisability>();
+    }
     this.aggregatedByDisabilities.add(aggregatedByDisabilitiesItem);
     return this;
   }
@@ -245,6 +248,9 @@ public class TpdmSectionStudentFacts   {
   }
 
   public TpdmSectionStudentFacts addAggregatedGendersItem(TpdmSectionStudentFactsAggregatedGender aggregatedGendersItem) {
+    if (this.aggregatedGenders == null) {
+      this.aggregatedGenders = new ArrayList<TpdmSectionStudentFactsAggregatedGender>();
+    }
     this.aggregatedGenders.add(aggregatedGendersItem);
     return this;
   }
@@ -268,6 +274,9 @@ public class TpdmSectionStudentFacts   {
   }
 
   public TpdmSectionStudentFacts addAggregatedHispanicLatinoEthnicitiesItem(TpdmSectionStudentFactsAggregatedHispanicLatinoEthnicity aggregatedHispanicLatinoEthnicitiesItem) {
+    if (this.aggregatedHispanicLatinoEthnicities == null) {
+      this.aggregatedHispanicLatinoEthnicities = new ArrayList<TpdmSectionStudentFactsAggregatedHispanicLatinoEthnicity>();
+    }
     this.aggregatedHispanicLatinoEthnicities.add(aggregatedHispanicLatinoEthnicitiesItem);
     return this;
   }
@@ -291,6 +300,9 @@ public class TpdmSectionStudentFacts   {
   }
 
   public TpdmSectionStudentFacts addAggregatedLanguagesItem(TpdmSectionStudentFactsAggregatedLanguage aggregatedLanguagesItem) {
+    if (this.aggregatedLanguages == null) {
+      this.aggregatedLanguages = new ArrayList<TpdmSectionStudentFactsAggregatedLanguage>();
+    }
     this.aggregatedLanguages.add(aggregatedLanguagesItem);
     return this;
   }
@@ -314,6 +326,9 @@ public class TpdmSectionStudentFacts   {
   }
 
   public TpdmSectionStudentFacts addAggregatedRacesItem(TpdmSectionStudentFactsAggregatedRace aggregatedRacesItem) {
+    if (this.aggregatedRaces == null) {
+      this.aggregatedRaces = new ArrayList<TpdmSectionStudentFactsAggregatedRace>();
+    }
     this.aggregatedRaces.add(aggregatedRacesItem);
     return this;
   }
@@ -337,6 +352,9 @@ public class TpdmSectionStudentFacts   {
   }
 
   public TpdmSectionStudentFacts addAggregatedSchoolFoodServiceProgramServicesItem(TpdmSectionStudentFactsAggregatedSchoolFoodServiceProgramService aggregatedSchoolFoodServiceProgramServicesItem) {
+    if (this.aggregatedSchoolFoodServiceProgramServices == null) {
+      this.aggregatedSchoolFoodServiceProgramServices = new ArrayList<TpdmSectionStudentFactsAggregatedSchoolFoodServiceProgramService>();
+    }
     this.aggregatedSchoolFoodServiceProgramServices.add(aggregatedSchoolFoodServiceProgramServicesItem);
     return this;
   }
@@ -378,6 +396,9 @@ public class TpdmSectionStudentFacts   {
   }
 
   public TpdmSectionStudentFacts addAggregatedSexesItem(TpdmSectionStudentFactsAggregatedSex aggregatedSexesItem) {
+    if (this.aggregatedSexes == null) {
+      this.aggregatedSexes = new ArrayList<TpdmSectionStudentFactsAggregatedSex>();
+    }
     this.aggregatedSexes.add(aggregatedSexesItem);
     return this;
   }
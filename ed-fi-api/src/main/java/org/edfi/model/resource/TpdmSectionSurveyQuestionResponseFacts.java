@@ -55,7 +55,7 @@ public class TpdmSectionSurveyQuestionResponseFacts   {
   private TpdmSectionSurveyQuestionResponseFactsAggregatedNumericResponse aggregatedNumericResponse = null;
 
   @SerializedName("aggregatedSurveyQuestionMatrixElementResponses")
-  private List<TpdmSectionSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse> aggregatedSurveyQuestionMatrixElementResponses = new ArrayList<TpdmSectionSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse>();
+  private List<TpdmSectionSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse> aggregatedSurveyQuestionMatrixElementResponses = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -138,6 +138,9 @@ public class TpdmSectionSurveyQuestionResponseFacts   {
   }
 
   public TpdmSectionSurveyQuestionResponseFacts addAggregatedSurveyQuestionMatrixElementResponsesItem(TpdmSectionSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse aggregatedSurveyQuestionMatrixElementResponsesItem) {
+    if (this.aggregatedSurveyQuestionMatrixElementResponses == null) {
+      this.aggregatedSurveyQuestionMatrixElementResponses = new ArrayList<TpdmSectionSurveyQuestionResponseFactsAggregatedSurveyQuestionMatrixElementResponse>();
+    }
     this.aggregatedSurveyQuestionMatrixElementResponses.add(aggregatedSurveyQuestionMatrixElementResponsesItem);
     return this;
   }
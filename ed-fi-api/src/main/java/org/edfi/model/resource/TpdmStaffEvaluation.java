@@ -66,7 +66,7 @@ public class TpdmStaffEvaluation   {
   private String staffEvaluationTypeDescriptor = null;
 
   @SerializedName("staffRatingLevels")
-  private List<TpdmStaffEvaluationStaffRatingLevel> staffRatingLevels = new ArrayList<TpdmStaffEvaluationStaffRatingLevel>();
+  private List<TpdmStaffEvaluationStaffRatingLevel> staffRatingLevels = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -221,6 +221,9 @@ public class TpdmStaffEvaluation   {
   }
 
   public TpdmStaffEvaluation addStaffRatingLevelsItem(TpdmStaffEvaluationStaffRatingLevel staffRatingLevelsItem) {
+    if (this.staffRatingLevels == null) {
+      this.staffRatingLevels = new ArrayList<TpdmStaffEvaluationStaffRatingLevel>();
+    }
     this.staffRatingLevels.add(staffRatingLevelsItem);
     return this;
   }
@@ -62,7 +62,7 @@ public class TpdmStaffEvaluationComponent   {
   private String staffEvaluationTypeDescriptor = null;
 
   @SerializedName("staffRatingLevels")
-  private List<TpdmStaffEvaluationComponentStaffRatingLevel> staffRatingLevels = new ArrayList<TpdmStaffEvaluationComponentStaffRatingLevel>();
+  private List<TpdmStaffEvaluationComponentStaffRatingLevel> staffRatingLevels = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -199,6 +199,9 @@ public class TpdmStaffEvaluationComponent   {
   }
 
   public TpdmStaffEvaluationComponent addStaffRatingLevelsItem(TpdmStaffEvaluationComponentStaffRatingLevel staffRatingLevelsItem) {
+    if (this.staffRatingLevels == null) {
+      this.staffRatingLevels = new ArrayList<TpdmStaffEvaluationComponentStaffRatingLevel>();
+    }
     this.staffRatingLevels.add(staffRatingLevelsItem);
     return this;
   }
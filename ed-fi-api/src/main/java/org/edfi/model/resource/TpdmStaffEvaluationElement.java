@@ -59,7 +59,7 @@ public class TpdmStaffEvaluationElement   {
   private String rubricReference = null;
 
   @SerializedName("staffRatingLevels")
-  private List<TpdmStaffEvaluationElementStaffRatingLevel> staffRatingLevels = new ArrayList<TpdmStaffEvaluationElementStaffRatingLevel>();
+  private List<TpdmStaffEvaluationElementStaffRatingLevel> staffRatingLevels = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -178,6 +178,9 @@ public class TpdmStaffEvaluationElement   {
   }
 
   public TpdmStaffEvaluationElement addStaffRatingLevelsItem(TpdmStaffEvaluationElementStaffRatingLevel staffRatingLevelsItem) {
+    if (this.staffRatingLevels == null) {
+      this.staffRatingLevels = new ArrayList<TpdmStaffEvaluationElementStaffRatingLevel>();
+    }
     this.staffRatingLevels.add(staffRatingLevelsItem);
     return this;
   }
@@ -58,16 +58,16 @@ public class TpdmStaffExtension   {
   private Boolean tenureTrack = null;
 
   @SerializedName("backgroundChecks")
-  private List<TpdmStaffBackgroundCheck> backgroundChecks = new ArrayList<TpdmStaffBackgroundCheck>();
+  private List<TpdmStaffBackgroundCheck> backgroundChecks = null;
 
   @SerializedName("highlyQualifiedAcademicSubjects")
-  private List<TpdmStaffHighlyQualifiedAcademicSubject> highlyQualifiedAcademicSubjects = new ArrayList<TpdmStaffHighlyQualifiedAcademicSubject>();
+  private List<TpdmStaffHighlyQualifiedAcademicSubject> highlyQualifiedAcademicSubjects = null;
 
   @SerializedName("seniorities")
-  private List<TpdmStaffSeniority> seniorities = new ArrayList<TpdmStaffSeniority>();
+  private List<TpdmStaffSeniority> seniorities = null;
 
   @SerializedName("teacherPreparationPrograms")
-  private List<TpdmStaffTeacherPreparationProgram> teacherPreparationPrograms = new ArrayList<TpdmStaffTeacherPreparationProgram>();
+  private List<TpdmStaffTeacherPreparationProgram> teacherPreparationPrograms = null;
 
   @SerializedName("salary")
   private TpdmStaffSalary salary = null;
@@ -153,6 +153,9 @@ public class TpdmStaffExtension   {
   }
 
   public TpdmStaffExtension addBackgroundChecksItem(TpdmStaffBackgroundCheck backgroundChecksItem) {
+    if (this.backgroundChecks == null) {
+      this.backgroundChecks = new ArrayList<TpdmStaffBackgroundCheck>();
+    }
     this.backgroundChecks.add(backgroundChecksItem);
     return this;
   }
@@ -176,6 +179,9 @@ public class TpdmStaffExtension   {
   }
 
   public TpdmStaffExtension addHighlyQualifiedAcademicSubjectsItem(TpdmStaffHighlyQualifiedAcademicSubject highlyQualifiedAcademicSubjectsItem) {
+    if (this.highlyQualifiedAcademicSubjects == null) {
+      this.highlyQualifiedAcademicSubjects = new ArrayList<TpdmStaffHighlyQualifiedAcademicSubject>();
+    }
     this.highlyQualifiedAcademicSubjects.add(highlyQualifiedAcademicSubjectsItem);
     return this;
   }
@@ -199,6 +205,9 @@ public class TpdmStaffExtension   {
   }
 
   public TpdmStaffExtension addSenioritiesItem(TpdmStaffSeniority senioritiesItem) {
+    if (this.seniorities == null) {
+      this.seniorities = new ArrayList<TpdmStaffSeniority>();
+    }
     this.seniorities.add(senioritiesItem);
     return this;
   }
@@ -222,6 +231,9 @@ public class TpdmStaffExtension   {
   }
 
   public TpdmStaffExtension addTeacherPreparationProgramsItem(TpdmStaffTeacherPreparationProgram teacherPreparationProgramsItem) {
+    if (this.teacherPreparationPrograms == null) {
+      this.teacherPreparationPrograms = new ArrayList<TpdmStaffTeacherPreparationProgram>();
+    }
     this.teacherPreparationPrograms.add(teacherPreparationProgramsItem);
     return this;
   }
@@ -52,7 +52,7 @@ public class TpdmStaffFieldworkExperience   {
   private String fieldworkIdentifier = null;
 
   @SerializedName("schools")
-  private List<TpdmStaffFieldworkExperienceSchool> schools = new ArrayList<TpdmStaffFieldworkExperienceSchool>();
+  private List<TpdmStaffFieldworkExperienceSchool> schools = null;
 
   @SerializedName("staffReference")
   private EdFiStaffReference staffReference = null;
@@ -135,6 +135,9 @@ public class TpdmStaffFieldworkExperience   {
   }
 
   public TpdmStaffFieldworkExperience addSchoolsItem(TpdmStaffFieldworkExperienceSchool schoolsItem) {
+    if (this.schools == null) {
+      this.schools = new ArrayList<TpdmStaffFieldworkExperienceSchool>();
+    }
     this.schools.add(schoolsItem);
     return this;
   }
@@ -59,10 +59,10 @@ public class TpdmStaffStudentGrowthMeasure   {
   private EdFiStaffReference staffReference = null;
 
   @SerializedName("academicSubjects")
-  private List<TpdmStaffStudentGrowthMeasureAcademicSubject> academicSubjects = new ArrayList<TpdmStaffStudentGrowthMeasureAcademicSubject>();
+  private List<TpdmStaffStudentGrowthMeasureAcademicSubject> academicSubjects = null;
 
   @SerializedName("gradeLevels")
-  private List<TpdmStaffStudentGrowthMeasureGradeLevel> gradeLevels = new ArrayList<TpdmStaffStudentGrowthMeasureGradeLevel>();
+  private List<TpdmStaffStudentGrowthMeasureGradeLevel> gradeLevels = null;
 
   @SerializedName("resultDatatypeTypeDescriptor")
   private String resultDatatypeTypeDescriptor = null;
@@ -187,6 +187,9 @@ public class TpdmStaffStudentGrowthMeasure   {
   }
 
   public TpdmStaffStudentGrowthMeasure addAcademicSubjectsItem(TpdmStaffStudentGrowthMeasureAcademicSubject academicSubjectsItem) {
+    if (this.academicSubjects == null) {
+      this.academicSubjects = new ArrayList<TpdmStaffStudentGrowthMeasureAcademicSubject>();
+    }
     this.academicSubjects.add(academicSubjectsItem);
     return this;
   }
@@ -210,6 +213,9 @@ public class TpdmStaffStudentGrowthMeasure   {
   }
 
   public TpdmStaffStudentGrowthMeasure addGradeLevelsItem(TpdmStaffStudentGrowthMeasureGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<TpdmStaffStudentGrowthMeasureGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -56,10 +56,10 @@ public class TpdmStaffTeacherPreparationProviderAssociation   {
   private TpdmTeacherPreparationProviderReference teacherPreparationProviderReference = null;
 
   @SerializedName("academicSubjects")
-  private List<TpdmStaffTeacherPreparationProviderAssociationAcademicSubject> academicSubjects = new ArrayList<TpdmStaffTeacherPreparationProviderAssociationAcademicSubject>();
+  private List<TpdmStaffTeacherPreparationProviderAssociationAcademicSubject> academicSubjects = null;
 
   @SerializedName("gradeLevels")
-  private List<TpdmStaffTeacherPreparationProviderAssociationGradeLevel> gradeLevels = new ArrayList<TpdmStaffTeacherPreparationProviderAssociationGradeLevel>();
+  private List<TpdmStaffTeacherPreparationProviderAssociationGradeLevel> gradeLevels = null;
 
   @SerializedName("programAssignmentDescriptor")
   private String programAssignmentDescriptor = null;
@@ -145,6 +145,9 @@ public class TpdmStaffTeacherPreparationProviderAssociation   {
   }
 
   public TpdmStaffTeacherPreparationProviderAssociation addAcademicSubjectsItem(TpdmStaffTeacherPreparationProviderAssociationAcademicSubject academicSubjectsItem) {
+    if (this.academicSubjects == null) {
+      this.academicSubjects = new ArrayList<TpdmStaffTeacherPreparationProviderAssociationAcademicSubject>();
+    }
     this.academicSubjects.add(academicSubjectsItem);
     return this;
   }
@@ -168,6 +171,9 @@ public class TpdmStaffTeacherPreparationProviderAssociation   {
   }
 
   public TpdmStaffTeacherPreparationProviderAssociation addGradeLevelsItem(TpdmStaffTeacherPreparationProviderAssociationGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<TpdmStaffTeacherPreparationProviderAssociationGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -56,10 +56,10 @@ public class TpdmSurveyQuestion   {
   private TpdmSurveySectionReference surveySectionReference = null;
 
   @SerializedName("matrices")
-  private List<TpdmSurveyQuestionMatrix> matrices = new ArrayList<TpdmSurveyQuestionMatrix>();
+  private List<TpdmSurveyQuestionMatrix> matrices = null;
 
   @SerializedName("numericChoices")
-  private List<TpdmSurveyQuestionNumericChoice> numericChoices = new ArrayList<TpdmSurveyQuestionNumericChoice>();
+  private List<TpdmSurveyQuestionNumericChoice> numericChoices = null;
 
   @SerializedName("questionFormDescriptor")
   private String questionFormDescriptor = null;
@@ -68,7 +68,7 @@ public class TpdmSurveyQuestion   {
   private String questionText = null;
 
   @SerializedName("textChoices")
-  private List<TpdmSurveyQuestionTextChoice> textChoices = new ArrayList<TpdmSurveyQuestionTextChoice>();
+  private List<TpdmSurveyQuestionTextChoice> textChoices = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -151,6 +151,9 @@ public class TpdmSurveyQuestion   {
   }
 
   public TpdmSurveyQuestion addMatricesItem(TpdmSurveyQuestionMatrix matricesItem) {
+    if (this.matrices == null) {
+      this.matrices = new ArrayList<TpdmSurveyQuestionMatrix>();
+    }
     this.matrices.add(matricesItem);
     return this;
   }
@@ -174,6 +177,9 @@ public class TpdmSurveyQuestion   {
   }
 
   public TpdmSurveyQuestion addNumericChoicesItem(TpdmSurveyQuestionNumericChoice numericChoicesItem) {
+    if (this.numericChoices == null) {
+      this.numericChoices = new ArrayList<TpdmSurveyQuestionNumericChoice>();
+    }
     this.numericChoices.add(numericChoicesItem);
     return this;
   }
@@ -233,6 +239,9 @@ public class TpdmSurveyQuestion   {
   }
 
   public TpdmSurveyQuestion addTextChoicesItem(TpdmSurveyQuestionTextChoice textChoicesItem) {
+    if (this.textChoices == null) {
+      this.textChoices = new ArrayList<TpdmSurveyQuestionTextChoice>();
+    }
     this.textChoices.add(textChoicesItem);
     return this;
   }
@@ -60,7 +60,7 @@ public class TpdmSurveyQuestionResponse   {
   private Integer numericResponse = null;
 
   @SerializedName("surveyQuestionMatrixElementResponses")
-  private List<TpdmSurveyQuestionResponseSurveyQuestionMatrixElementResponse> surveyQuestionMatrixElementResponses = new ArrayList<TpdmSurveyQuestionResponseSurveyQuestionMatrixElementResponse>();
+  private List<TpdmSurveyQuestionResponseSurveyQuestionMatrixElementResponse> surveyQuestionMatrixElementResponses = null;
 
   @SerializedName("textResponse")
   private String textResponse = null;
@@ -182,6 +182,9 @@ public class TpdmSurveyQuestionResponse   {
   }
 
   public TpdmSurveyQuestionResponse addSurveyQuestionMatrixElementResponsesItem(TpdmSurveyQuestionResponseSurveyQuestionMatrixElementResponse surveyQuestionMatrixElementResponsesItem) {
+    if (this.surveyQuestionMatrixElementResponses == null) {
+      this.surveyQuestionMatrixElementResponses = new ArrayList<TpdmSurveyQuestionResponseSurveyQuestionMatrixElementResponse>();
+    }
     this.surveyQuestionMatrixElementResponses.add(surveyQuestionMatrixElementResponsesItem);
     return this;
   }
@@ -90,7 +90,7 @@ public class TpdmSurveyResponse   {
   private Integer responseTime = null;
 
   @SerializedName("surveyLevels")
-  private List<TpdmSurveyResponseSurveyLevel> surveyLevels = new ArrayList<TpdmSurveyResponseSurveyLevel>();
+  private List<TpdmSurveyResponseSurveyLevel> surveyLevels = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -353,6 +353,9 @@ public class TpdmSurveyResponse   {
   }
 
   public TpdmSurveyResponse addSurveyLevelsItem(TpdmSurveyResponseSurveyLevel surveyLevelsItem) {
+    if (this.surveyLevels == null) {
+      this.surveyLevels = new ArrayList<TpdmSurveyResponseSurveyLevel>();
+    }
     this.surveyLevels.add(surveyLevelsItem);
     return this;
   }
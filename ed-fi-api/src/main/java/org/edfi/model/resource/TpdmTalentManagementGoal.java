@@ -44,7 +44,7 @@ public class TpdmTalentManagementGoal   {
   private String id = null;
 
   @SerializedName("educationOrganizations")
-  private List<TpdmTalentManagementGoalEducationOrganization> educationOrganizations = new ArrayList<TpdmTalentManagementGoalEducationOrganization>();
+  private List<TpdmTalentManagementGoalEducationOrganization> educationOrganizations = null;
 
   @SerializedName("goalTitle")
   private String goalTitle = null;
@@ -82,6 +82,9 @@ public class TpdmTalentManagementGoal   {
   }
 
   public TpdmTalentManagementGoal addEducationOrganizationsItem(TpdmTalentManagementGoalEducationOrganization educationOrganizationsItem) {
+    if (this.educationOrganizations == null) {
+      this.educationOrganizations = new ArrayList<TpdmTalentManagementGoalEducationOrganization>();
+    }
     this.educationOrganizations.add(educationOrganizationsItem);
     return this;
   }
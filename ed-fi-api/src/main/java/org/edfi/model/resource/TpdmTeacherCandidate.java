@@ -67,16 +67,16 @@ public class TpdmTeacherCandidate   {
   private String teacherCandidateIdentifier = null;
 
   @SerializedName("tppProgramDegrees")
-  private List<TpdmTeacherCandidateTPPProgramDegree> tppProgramDegrees = new ArrayList<TpdmTeacherCandidateTPPProgramDegree>();
+  private List<TpdmTeacherCandidateTPPProgramDegree> tppProgramDegrees = null;
 
   @SerializedName("studentReference")
   private EdFiStudentReference studentReference = null;
 
   @SerializedName("addresses")
-  private List<TpdmTeacherCandidateAddress> addresses = new ArrayList<TpdmTeacherCandidateAddress>();
+  private List<TpdmTeacherCandidateAddress> addresses = null;
 
   @SerializedName("aids")
-  private List<TpdmTeacherCandidateAid> aids = new ArrayList<TpdmTeacherCandidateAid>();
+  private List<TpdmTeacherCandidateAid> aids = null;
 
   @SerializedName("backgroundCheck")
   private TpdmTeacherCandidateBackgroundCheck backgroundCheck = null;
@@ -100,25 +100,25 @@ public class TpdmTeacherCandidate   {
   private String birthStateAbbreviationDescriptor = null;
 
   @SerializedName("characteristics")
-  private List<TpdmTeacherCandidateCharacteristic> characteristics = new ArrayList<TpdmTeacherCandidateCharacteristic>();
+  private List<TpdmTeacherCandidateCharacteristic> characteristics = null;
 
   @SerializedName("citizenshipStatusDescriptor")
   private String citizenshipStatusDescriptor = null;
 
   @SerializedName("cohortYears")
-  private List<TpdmTeacherCandidateCohortYear> cohortYears = new ArrayList<TpdmTeacherCandidateCohortYear>();
+  private List<TpdmTeacherCandidateCohortYear> cohortYears = null;
 
   @SerializedName("credentials")
-  private List<TpdmTeacherCandidateCredential> credentials = new ArrayList<TpdmTeacherCandidateCredential>();
+  private List<TpdmTeacherCandidateCredential> credentials = null;
 
   @SerializedName("dateEnteredUS")
   private LocalDate dateEnteredUS = null;
 
   @SerializedName("degreeSpecializations")
-  private List<TpdmTeacherCandidateDegreeSpecialization> degreeSpecializations = new ArrayList<TpdmTeacherCandidateDegreeSpecialization>();
+  private List<TpdmTeacherCandidateDegreeSpecialization> degreeSpecializations = null;
 
   @SerializedName("disabilities")
-  private List<TpdmTeacherCandidateDisability> disabilities = new ArrayList<TpdmTeacherCandidateDisability>();
+  private List<TpdmTeacherCandidateDisability> disabilities = null;
 
   @SerializedName("displacementStatus")
   private String displacementStatus = null;
@@ -127,7 +127,7 @@ public class TpdmTeacherCandidate   {
   private Boolean economicDisadvantaged = null;
 
   @SerializedName("electronicMails")
-  private List<TpdmTeacherCandidateElectronicMail> electronicMails = new ArrayList<TpdmTeacherCandidateElectronicMail>();
+  private List<TpdmTeacherCandidateElectronicMail> electronicMails = null;
 
   @SerializedName("englishLanguageExamDescriptor")
   private String englishLanguageExamDescriptor = null;
@@ -148,19 +148,19 @@ public class TpdmTeacherCandidate   {
   private Boolean hispanicLatinoEthnicity = null;
 
   @SerializedName("identificationCodes")
-  private List<TpdmTeacherCandidateIdentificationCode> identificationCodes = new ArrayList<TpdmTeacherCandidateIdentificationCode>();
+  private List<TpdmTeacherCandidateIdentificationCode> identificationCodes = null;
 
   @SerializedName("identificationDocuments")
-  private List<TpdmTeacherCandidateIdentificationDocument> identificationDocuments = new ArrayList<TpdmTeacherCandidateIdentificationDocument>();
+  private List<TpdmTeacherCandidateIdentificationDocument> identificationDocuments = null;
 
   @SerializedName("indicators")
-  private List<TpdmTeacherCandidateIndicator> indicators = new ArrayList<TpdmTeacherCandidateIndicator>();
+  private List<TpdmTeacherCandidateIndicator> indicators = null;
 
   @SerializedName("internationalAddresses")
-  private List<TpdmTeacherCandidateInternationalAddress> internationalAddresses = new ArrayList<TpdmTeacherCandidateInternationalAddress>();
+  private List<TpdmTeacherCandidateInternationalAddress> internationalAddresses = null;
 
   @SerializedName("languages")
-  private List<TpdmTeacherCandidateLanguage> languages = new ArrayList<TpdmTeacherCandidateLanguage>();
+  private List<TpdmTeacherCandidateLanguage> languages = null;
 
   @SerializedName("lastSurname")
   private String lastSurname = null;
@@ -184,10 +184,10 @@ public class TpdmTeacherCandidate   {
   private String oldEthnicityDescriptor = null;
 
   @SerializedName("otherNames")
-  private List<TpdmTeacherCandidateOtherName> otherNames = new ArrayList<TpdmTeacherCandidateOtherName>();
+  private List<TpdmTeacherCandidateOtherName> otherNames = null;
 
   @SerializedName("personalIdentificationDocuments")
-  private List<TpdmTeacherCandidatePersonalIdentificationDocument> personalIdentificationDocuments = new ArrayList<TpdmTeacherCandidatePersonalIdentificationDocument>();
+  private List<TpdmTeacherCandidatePersonalIdentificationDocument> personalIdentificationDocuments = null;
 
   @SerializedName("personalTitlePrefix")
   private String personalTitlePrefix = null;
@@ -202,19 +202,19 @@ public class TpdmTeacherCandidate   {
   private Boolean programComplete = null;
 
   @SerializedName("races")
-  private List<TpdmTeacherCandidateRace> races = new ArrayList<TpdmTeacherCandidateRace>();
+  private List<TpdmTeacherCandidateRace> races = null;
 
   @SerializedName("sexDescriptor")
   private String sexDescriptor = null;
 
   @SerializedName("telephones")
-  private List<TpdmTeacherCandidateTelephone> telephones = new ArrayList<TpdmTeacherCandidateTelephone>();
+  private List<TpdmTeacherCandidateTelephone> telephones = null;
 
   @SerializedName("tuitionCost")
   private Double tuitionCost = null;
 
   @SerializedName("visas")
-  private List<TpdmTeacherCandidateVisa> visas = new ArrayList<TpdmTeacherCandidateVisa>();
+  private List<TpdmTeacherCandidateVisa> visas = null;
 
   @SerializedName("_etag")
   private String etag = null;
@@ -261,6 +261,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addTppProgramDegreesItem(TpdmTeacherCandidateTPPProgramDegree tppProgramDegreesItem) {
+    if (this.tppProgramDegrees == null) {
+      this.tppProgramDegrees = new ArrayList<TpdmTeacherCandidateTPPProgramDegree>();
+    }
     this.tppProgramDegrees.add(tppProgramDegreesItem);
     return this;
   }
@@ -302,6 +305,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addAddressesItem(TpdmTeacherCandidateAddress addressesItem) {
+    if (this.addresses == null) {
+      this.addresses = new ArrayList<TpdmTeacherCandidateAddress>();
+    }
     this.addresses.add(addressesItem);
     return this;
   }
@@ -325,6 +331,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addAidsItem(TpdmTeacherCandidateAid aidsItem) {
+    if (this.aids == null) {
+      this.aids = new ArrayList<TpdmTeacherCandidateAid>();
+    }
     this.aids.add(aidsItem);
     return this;
   }
@@ -474,6 +483,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addCharacteristicsItem(TpdmTeacherCandidateCharacteristic characteristicsItem) {
+    if (this.characteristics == null) {
+      this.characteristics = new ArrayList<TpdmTeacherCandidateCharacteristic>();
+    }
     this.characteristics.add(characteristicsItem);
     return this;
   }
@@ -515,6 +527,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addCohortYearsItem(TpdmTeacherCandidateCohortYear cohortYearsItem) {
+    if (this.cohortYears == null) {
+      this.cohortYears = new ArrayList<TpdmTeacherCandidateCohortYear>();
+    }
     this.cohortYears.add(cohortYearsItem);
     return this;
   }
@@ -538,6 +553,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addCredentialsItem(TpdmTeacherCandidateCredential credentialsItem) {
+    if (this.credentials == null) {
+      this.credentials = new ArrayList<TpdmTeacherCandidateCredential>();
+    }
     this.credentials.add(credentialsItem);
     return this;
   }
@@ -579,6 +597,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addDegreeSpecializationsItem(TpdmTeacherCandidateDegreeSpecialization degreeSpecializationsItem) {
+    if (this.degreeSpecializations == null) {
+      this.degreeSpecializations = new ArrayList<TpdmTeacherCandidateDegreeSpecialization>();
+    }
     this.degreeSpecializations.add(degreeSpecializationsItem);
     return this;
   }
@@ -602,6 +623,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addDisabilitiesItem(TpdmTeacherCandidateDisability disabilitiesItem) {
+    if (this.disabilities == null) {
+      this.disabilities = new ArrayList<TpdmTeacherCandidateDisability>();
+    }
     this.disabilities.add(disabilitiesItem);
     return this;
   }
@@ -661,6 +685,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addElectronicMailsItem(TpdmTeacherCandidateElectronicMail electronicMailsItem) {
+    if (this.electronicMails == null) {
+      this.electronicMails = new ArrayList<TpdmTeacherCandidateElectronicMail>();
+    }
     this.electronicMails.add(electronicMailsItem);
     return this;
   }
@@ -792,6 +819,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addIdentificationCodesItem(TpdmTeacherCandidateIdentificationCode identificationCodesItem) {
+    if (this.identificationCodes == null) {
+      this.identificationCodes = new ArrayList<TpdmTeacherCandidateIdentificationCode>();
+    }
     this.identificationCodes.add(identificationCodesItem);
     return this;
   }
@@ -815,6 +845,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addIdentificationDocumentsItem(TpdmTeacherCandidateIdentificationDocument identificationDocumentsItem) {
+    if (this.identificationDocuments == null) {
+      this.identificationDocuments = new ArrayList<TpdmTeacherCandidateIdentificationDocument>();
+    }
     this.identificationDocuments.add(identificationDocumentsItem);
     return this;
   }
@@ -838,6 +871,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addIndicatorsItem(TpdmTeacherCandidateIndicator indicatorsItem) {
+    if (this.indicators == null) {
+      this.indicators = new ArrayList<TpdmTeacherCandidateIndicator>();
+    }
     this.indicators.add(indicatorsItem);
     return this;
   }
@@ -861,6 +897,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addInternationalAddressesItem(TpdmTeacherCandidateInternationalAddress internationalAddressesItem) {
+    if (this.internationalAddresses == null) {
+      this.internationalAddresses = new ArrayList<TpdmTeacherCandidateInternationalAddress>();
+    }
     this.internationalAddresses.add(internationalAddressesItem);
     return this;
   }
@@ -884,6 +923,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addLanguagesItem(TpdmTeacherCandidateLanguage languagesItem) {
+    if (this.languages == null) {
+      this.languages = new ArrayList<TpdmTeacherCandidateLanguage>();
+    }
     this.languages.add(languagesItem);
     return this;
   }
@@ -1033,6 +1075,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addOtherNamesItem(TpdmTeacherCandidateOtherName otherNamesItem) {
+    if (this.otherNames == null) {
+      this.otherNames = new ArrayList<TpdmTeacherCandidateOtherName>();
+    }
     this.otherNames.add(otherNamesItem);
     return this;
   }
@@ -1056,6 +1101,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addPersonalIdentificationDocumentsItem(TpdmTeacherCandidatePersonalIdentificationDocument personalIdentificationDocumentsItem) {
+    if (this.personalIdentificationDocuments == null) {
+      this.personalIdentificationDocuments = new ArrayList<TpdmTeacherCandidatePersonalIdentificationDocument>();
+    }
     this.personalIdentificationDocuments.add(personalIdentificationDocumentsItem);
     return this;
   }
@@ -1151,6 +1199,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addRacesItem(TpdmTeacherCandidateRace racesItem) {
+    if (this.races == null) {
+      this.races = new ArrayList<TpdmTeacherCandidateRace>();
+    }
     this.races.add(racesItem);
     return this;
   }
@@ -1192,6 +1243,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addTelephonesItem(TpdmTeacherCandidateTelephone telephonesItem) {
+    if (this.telephones == null) {
+      this.telephones = new ArrayList<TpdmTeacherCandidateTelephone>();
+    }
     this.telephones.add(telephonesItem);
     return this;
   }
@@ -1233,6 +1287,9 @@ public class TpdmTeacherCandidate   {
   }
 
   public TpdmTeacherCandidate addVisasItem(TpdmTeacherCandidateVisa visasItem) {
+    if (this.visas == null) {
+      this.visas = new ArrayList<TpdmTeacherCandidateVisa>();
+    }
     this.visas.add(visasItem);
     return this;
   }
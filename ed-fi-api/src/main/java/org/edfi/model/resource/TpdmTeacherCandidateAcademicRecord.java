@@ -63,7 +63,7 @@ public class TpdmTeacherCandidateAcademicRecord   {
   private TpdmTeacherCandidateReference teacherCandidateReference = null;
 
   @SerializedName("academicHonors")
-  private List<TpdmTeacherCandidateAcademicRecordAcademicHonor> academicHonors = new ArrayList<TpdmTeacherCandidateAcademicRecordAcademicHonor>();
+  private List<TpdmTeacherCandidateAcademicRecordAcademicHonor> academicHonors = null;
 
   @SerializedName("classRanking")
   private TpdmTeacherCandidateAcademicRecordClassRanking classRanking = null;
@@ -99,10 +99,10 @@ public class TpdmTeacherCandidateAcademicRecord   {
   private Double cumulativeGradePointsEarned = null;
 
   @SerializedName("diplomas")
-  private List<TpdmTeacherCandidateAcademicRecordDiploma> diplomas = new ArrayList<TpdmTeacherCandidateAcademicRecordDiploma>();
+  private List<TpdmTeacherCandidateAcademicRecordDiploma> diplomas = null;
 
   @SerializedName("gradePointAverages")
-  private List<TpdmTeacherCandidateAcademicRecordGradePointAverage> gradePointAverages = new ArrayList<TpdmTeacherCandidateAcademicRecordGradePointAverage>();
+  private List<TpdmTeacherCandidateAcademicRecordGradePointAverage> gradePointAverages = null;
 
   @SerializedName("gradeValueQualifier")
   private String gradeValueQualifier = null;
@@ -114,7 +114,7 @@ public class TpdmTeacherCandidateAcademicRecord   {
   private LocalDate projectedGraduationDate = null;
 
   @SerializedName("recognitions")
-  private List<TpdmTeacherCandidateAcademicRecordRecognition> recognitions = new ArrayList<TpdmTeacherCandidateAcademicRecordRecognition>();
+  private List<TpdmTeacherCandidateAcademicRecordRecognition> recognitions = null;
 
   @SerializedName("sessionAttemptedCreditConversion")
   private Double sessionAttemptedCreditConversion = null;
@@ -242,6 +242,9 @@ public class TpdmTeacherCandidateAcademicRecord   {
   }
 
   public TpdmTeacherCandidateAcademicRecord addAcademicHonorsItem(TpdmTeacherCandidateAcademicRecordAcademicHonor academicHonorsItem) {
+    if (this.academicHonors == null) {
+      this.academicHonors = new ArrayList<TpdmTeacherCandidateAcademicRecordAcademicHonor>();
+    }
     this.academicHonors.add(academicHonorsItem);
     return this;
   }
@@ -463,6 +466,9 @@ public class TpdmTeacherCandidateAcademicRecord   {
   }
 
   public TpdmTeacherCandidateAcademicRecord addDiplomasItem(TpdmTeacherCandidateAcademicRecordDiploma diplomasItem) {
+    if (this.diplomas == null) {
+      this.diplomas = new ArrayList<TpdmTeacherCandidateAcademicRecordDiploma>();
+    }
     this.diplomas.add(diplomasItem);
     return this;
   }
@@ -486,6 +492,9 @@ public class TpdmTeacherCandidateAcademicRecord   {
   }
 
   public TpdmTeacherCandidateAcademicRecord addGradePointAveragesItem(TpdmTeacherCandidateAcademicRecordGradePointAverage gradePointAveragesItem) {
+    if (this.gradePointAverages == null) {
+      this.gradePointAverages = new ArrayList<TpdmTeacherCandidateAcademicRecordGradePointAverage>();
+    }
     this.gradePointAverages.add(gradePointAveragesItem);
     return this;
   }
@@ -563,6 +572,9 @@ public class TpdmTeacherCandidateAcademicRecord   {
   }
 
   public TpdmTeacherCandidateAcademicRecord addRecognitionsItem(TpdmTeacherCandidateAcademicRecordRecognition recognitionsItem) {
+    if (this.recognitions == null) {
+      this.recognitions = new ArrayList<TpdmTeacherCandidateAcademicRecordRecognition>();
+    }
     this.recognitions.add(recognitionsItem);
     return this;
   }
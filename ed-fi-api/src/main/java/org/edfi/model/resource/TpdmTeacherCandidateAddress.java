@@ -82,7 +82,7 @@ public class TpdmTeacherCandidateAddress   {
   private String streetNumberName = null;
 
   @SerializedName("periods")
-  private List<TpdmTeacherCandidateAddressPeriod> periods = new ArrayList<TpdmTeacherCandidateAddressPeriod>();
+  private List<TpdmTeacherCandidateAddressPeriod> periods = null;
 
   public TpdmTeacherCandidateAddress addressTypeDescriptor(String addressTypeDescriptor) {
     this.addressTypeDescriptor = addressTypeDescriptor;
@@ -342,6 +342,9 @@ public class TpdmTeacherCandidateAddress   {
   }
 
   public TpdmTeacherCandidateAddress addPeriodsItem(TpdmTeacherCandidateAddressPeriod periodsItem) {
+    if (this.periods == null) {
+      this.periods = new ArrayList<TpdmTeacherCandidateAddressPeriod>();
+    }
     this.periods.add(periodsItem);
     return this;
   }
@@ -79,7 +79,7 @@ public class TpdmTeacherCandidateCourseTranscript   {
   private String courseTitle = null;
 
   @SerializedName("earnedAdditionalCredits")
-  private List<TpdmTeacherCandidateCourseTranscriptEarnedAdditionalCredits> earnedAdditionalCredits = new ArrayList<TpdmTeacherCandidateCourseTranscriptEarnedAdditionalCredits>();
+  private List<TpdmTeacherCandidateCourseTranscriptEarnedAdditionalCredits> earnedAdditionalCredits = null;
 
   @SerializedName("earnedCreditConversion")
   private Double earnedCreditConversion = null;
@@ -327,6 +327,9 @@ public class TpdmTeacherCandidateCourseTranscript   {
   }
 
   public TpdmTeacherCandidateCourseTranscript addEarnedAdditionalCreditsItem(TpdmTeacherCandidateCourseTranscriptEarnedAdditionalCredits earnedAdditionalCreditsItem) {
+    if (this.earnedAdditionalCredits == null) {
+      this.earnedAdditionalCredits = new ArrayList<TpdmTeacherCandidateCourseTranscriptEarnedAdditionalCredits>();
+    }
     this.earnedAdditionalCredits.add(earnedAdditionalCreditsItem);
     return this;
   }
@@ -52,7 +52,7 @@ public class TpdmTeacherCandidateDisability   {
   private Integer orderOfDisability = null;
 
   @SerializedName("designations")
-  private List<TpdmTeacherCandidateDisabilityDesignation> designations = new ArrayList<TpdmTeacherCandidateDisabilityDesignation>();
+  private List<TpdmTeacherCandidateDisabilityDesignation> designations = null;
 
   public TpdmTeacherCandidateDisability disabilityDescriptor(String disabilityDescriptor) {
     this.disabilityDescriptor = disabilityDescriptor;
@@ -132,6 +132,9 @@ public class TpdmTeacherCandidateDisability   {
   }
 
   public TpdmTeacherCandidateDisability addDesignationsItem(TpdmTeacherCandidateDisabilityDesignation designationsItem) {
+    if (this.designations == null) {
+      this.designations = new ArrayList<TpdmTeacherCandidateDisabilityDesignation>();
+    }
     this.designations.add(designationsItem);
     return this;
   }
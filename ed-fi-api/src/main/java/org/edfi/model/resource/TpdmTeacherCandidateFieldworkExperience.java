@@ -52,7 +52,7 @@ public class TpdmTeacherCandidateFieldworkExperience   {
   private String fieldworkIdentifier = null;
 
   @SerializedName("schools")
-  private List<TpdmTeacherCandidateFieldworkExperienceSchool> schools = new ArrayList<TpdmTeacherCandidateFieldworkExperienceSchool>();
+  private List<TpdmTeacherCandidateFieldworkExperienceSchool> schools = null;
 
   @SerializedName("teacherCandidateReference")
   private TpdmTeacherCandidateReference teacherCandidateReference = null;
@@ -135,6 +135,9 @@ public class TpdmTeacherCandidateFieldworkExperience   {
   }
 
   public TpdmTeacherCandidateFieldworkExperience addSchoolsItem(TpdmTeacherCandidateFieldworkExperienceSchool schoolsItem) {
+    if (this.schools == null) {
+      this.schools = new ArrayList<TpdmTeacherCandidateFieldworkExperienceSchool>();
+    }
     this.schools.add(schoolsItem);
     return this;
   }
@@ -43,7 +43,7 @@ public class TpdmTeacherCandidateLanguage   {
   private String languageDescriptor = null;
 
   @SerializedName("uses")
-  private List<TpdmTeacherCandidateLanguageUse> uses = new ArrayList<TpdmTeacherCandidateLanguageUse>();
+  private List<TpdmTeacherCandidateLanguageUse> uses = null;
 
   public TpdmTeacherCandidateLanguage languageDescriptor(String languageDescriptor) {
     this.languageDescriptor = languageDescriptor;
@@ -69,6 +69,9 @@ public class TpdmTeacherCandidateLanguage   {
   }
 
   public TpdmTeacherCandidateLanguage addUsesItem(TpdmTeacherCandidateLanguageUse usesItem) {
+    if (this.uses == null) {
+      this.uses = new ArrayList<TpdmTeacherCandidateLanguageUse>();
+    }
     this.uses.add(usesItem);
     return this;
   }
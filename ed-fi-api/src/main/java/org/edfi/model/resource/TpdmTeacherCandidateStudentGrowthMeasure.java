@@ -59,10 +59,10 @@ public class TpdmTeacherCandidateStudentGrowthMeasure   {
   private TpdmTeacherCandidateReference teacherCandidateReference = null;
 
   @SerializedName("academicSubjects")
-  private List<TpdmTeacherCandidateStudentGrowthMeasureAcademicSubject> academicSubjects = new ArrayList<TpdmTeacherCandidateStudentGrowthMeasureAcademicSubject>();
+  private List<TpdmTeacherCandidateStudentGrowthMeasureAcademicSubject> academicSubjects = null;
 
   @SerializedName("gradeLevels")
-  private List<TpdmTeacherCandidateStudentGrowthMeasureGradeLevel> gradeLevels = new ArrayList<TpdmTeacherCandidateStudentGrowthMeasureGradeLevel>();
+  private List<TpdmTeacherCandidateStudentGrowthMeasureGradeLevel> gradeLevels = null;
 
   @SerializedName("resultDatatypeTypeDescriptor")
   private String resultDatatypeTypeDescriptor = null;
@@ -187,6 +187,9 @@ public class TpdmTeacherCandidateStudentGrowthMeasure   {
   }
 
   public TpdmTeacherCandidateStudentGrowthMeasure addAcademicSubjectsItem(TpdmTeacherCandidateStudentGrowthMeasureAcademicSubject academicSubjectsItem) {
+    if (this.academicSubjects == null) {
+      this.academicSubjects = new ArrayList<TpdmTeacherCandidateStudentGrowthMeasureAcademicSubject>();
+    }
     this.academicSubjects.add(academicSubjectsItem);
     return this;
   }
@@ -210,6 +213,9 @@ public class TpdmTeacherCandidateStudentGrowthMeasure   {
   }
 
   public TpdmTeacherCandidateStudentGrowthMeasure addGradeLevelsItem(TpdmTeacherCandidateStudentGrowthMeasureGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<TpdmTeacherCandidateStudentGrowthMeasureGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -53,7 +53,7 @@ public class TpdmTeacherPreparationProviderProgram   {
   private EdFiEducationOrganizationReference educationOrganizationReference = null;
 
   @SerializedName("gradeLevels")
-  private List<TpdmTeacherPreparationProviderProgramGradeLevel> gradeLevels = new ArrayList<TpdmTeacherPreparationProviderProgramGradeLevel>();
+  private List<TpdmTeacherPreparationProviderProgramGradeLevel> gradeLevels = null;
 
   @SerializedName("majorSpecialization")
   private String majorSpecialization = null;
@@ -151,6 +151,9 @@ public class TpdmTeacherPreparationProviderProgram   {
   }
 
   public TpdmTeacherPreparationProviderProgram addGradeLevelsItem(TpdmTeacherPreparationProviderProgramGradeLevel gradeLevelsItem) {
+    if (this.gradeLevels == null) {
+      this.gradeLevels = new ArrayList<TpdmTeacherPreparationProviderProgramGradeLevel>();
+    }
     this.gradeLevels.add(gradeLevelsItem);
     return this;
   }
@@ -0,0 +1,109 @@
+package org.edfi.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptiveConcurrencyLimiterTest {
+    // a window this long never completes, so the latency of the test itself cannot cut the limit
+    private static final int WINDOW_SIZE = 100_000;
+
+    @Test
+    void growsWhileTheWholeLimitIsInUse() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 2, WINDOW_SIZE);
+
+        // each round fills the limit, and only the write released while it is full raises it, by 1/limit
+        for (int round = 0; round < 3; round++) {
+            for (AdaptiveConcurrencyLimiter.Permit permit : acquire(limiter, limiter.getLimit())) {
+                permit.release(200, null);
+            }
+        }
+
+        assertEquals(3, limiter.getLimit());
+        assertEquals(1L, limiter.getMetrics().get("API Write Limit Increases"));
+    }
+
+    @Test
+    void doesNotGrowWhileUnderUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 0.5, 2, WINDOW_SIZE);
+
+        for (int i = 0; i < 100; i++) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, 3);
+            for (AdaptiveConcurrencyLimiter.Permit permit : permits) {
+                permit.release(201, null);
+            }
+        }
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0L, limiter.getMetrics().get("API Write Limit Increases"));
+    }
+
+    @Test
+    void cutsOnceForABurstOfOverloads() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, 2, WINDOW_SIZE);
+
+        List<AdaptiveConcurrencyLimiter.Permit> burst = acquire(limiter, 8);
+        burst.get(0).release(0, new SocketTimeoutException());
+        for (AdaptiveConcurrencyLimiter.Permit permit : burst.subList(1, burst.size())) {
+            permit.release(503, null);
+        }
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(1L, limiter.getMetrics().get("API Write Limit Decreases"));
+        assertEquals(8L, limiter.getMetrics().get("API Write Overloads"));
+
+        // a write sent after the cut shows the server is still overloaded
+        acquire(limiter, 1).get(0).release(429, null);
+
+        assertEquals(2, limiter.getLimit());
+        assertEquals(2L, limiter.getMetrics().get("API Write Limit Decreases"));
+    }
+
+    @Test
+    void startsWaitingWritesInOrder() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 2, WINDOW_SIZE);
+        List<Integer> started = new ArrayList<>();
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            int write = i;
+            limiter.acquire(permit -> {
+                started.add(write);
+                permits.add(permit);
+            });
+        }
+        assertEquals(Arrays.asList(0), started);
+        assertEquals(3, limiter.getMetrics().get("API Write Peak Waiting"));
+
+        permits.get(0).release(200, null);
+        // releasing a permit again does not free another slot
+        permits.get(0).release(200, null);
+        assertEquals(Arrays.asList(0, 1), started);
+
+        // a later write queues behind those already waiting
+        permits.get(1).release(500, null);
+        limiter.acquire(permit -> {
+            started.add(4);
+            permits.add(permit);
+        });
+        permits.get(2).release(200, null);
+        permits.get(3).release(200, null);
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), started);
+        assertEquals(1, limiter.getMetrics().get("API Write Peak In Flight"));
+    }
+
+    private static List<AdaptiveConcurrencyLimiter.Permit> acquire(AdaptiveConcurrencyLimiter limiter, int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            limiter.acquire(permits::add);
+        }
+        assertEquals(count, permits.size(), "writes started at once");
+        return permits;
+    }
+}
@@ -0,0 +1,152 @@
+package org.edfi.api;
+
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryInterceptorTest {
+
+    @Test
+    void parsesRetryAfterInSecondsOrAsAnHttpDate() {
+        assertEquals(Long.valueOf(120_000), RetryInterceptor.parseRetryAfter("120"));
+        assertEquals(Long.valueOf(0), RetryInterceptor.parseRetryAfter(" 0 "));
+        assertEquals(Long.valueOf(0), RetryInterceptor.parseRetryAfter("-5"));
+
+        String inAMinute = DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60));
+        long wait = RetryInterceptor.parseRetryAfter(inAMinute);
+        assertTrue(wait > 55_000 && wait <= 60_000, "waits " + wait + " ms");
+        assertEquals(Long.valueOf(0), RetryInterceptor.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+
+        assertNull(RetryInterceptor.parseRetryAfter("soon"));
+        assertNull(RetryInterceptor.parseRetryAfter(" "));
+        assertNull(RetryInterceptor.parseRetryAfter(null));
+    }
+
+    @Test
+    void retriesOnlyFailuresThatMayPass() {
+        RetryInterceptor retries = new RetryInterceptor().setBudget(0, 100);
+
+        for (int code : new int[] {408, 429, 500, 502, 503, 504}) {
+            assertTrue(retries.getRetryDelay(0, code, null, null) >= 0, "status " + code);
+        }
+        for (int code : new int[] {400, 401, 404, 409, 501}) {
+            assertEquals(-1, retries.getRetryDelay(0, code, null, null), "status " + code);
+        }
+        assertTrue(retries.getRetryDelay(0, 0, null, new SocketTimeoutException()) >= 0);
+        assertTrue(retries.getRetryDelay(0, 0, null, new ConnectException()) >= 0);
+        // the http client fails a cancelled call with a plain IOException
+        assertEquals(-1, retries.getRetryDelay(0, 0, null, new IOException("Canceled")));
+    }
+
+    @Test
+    void waitsAsLongAsRetryAfterAsksUpToTheMaxDelay() {
+        RetryInterceptor retries = new RetryInterceptor().setDelays(10, 5000);
+
+        assertEquals(2000, retries.getRetryDelay(0, 503, "2", null));
+        assertEquals(-1, retries.getRetryDelay(0, 503, "6", null));
+        assertEquals(1L, retries.getMetrics().get("API Retries"));
+        assertEquals(2000L, retries.getMetrics().get("API Retry Wait (ms)"));
+    }
+
+    @Test
+    void backsOffWithinAGrowingCeiling() {
+        RetryInterceptor retries = new RetryInterceptor().setMaxRetries(10).setDelays(100, 400).setBudget(1, 100);
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            for (int i = 0; i < 50; i++) {
+                retries.countRequest();
+                long delay = retries.getRetryDelay(attempt, 503, null, null);
+                long ceiling = Math.min(400, 100 << attempt);
+                assertTrue(delay >= 0 && delay <= ceiling, "attempt " + attempt + " waits " + delay + " ms");
+            }
+        }
+    }
+
+    @Test
+    void stopsAfterTheMaxRetries() {
+        RetryInterceptor retries = new RetryInterceptor().setMaxRetries(2);
+
+        assertTrue(retries.getRetryDelay(0, 503, null, null) >= 0);
+        assertTrue(retries.getRetryDelay(1, 503, null, null) >= 0);
+        assertEquals(-1, retries.getRetryDelay(2, 503, null, null));
+        assertEquals(1L, retries.getMetrics().get("API Retries Exhausted"));
+    }
+
+    @Test
+    void refusesRetriesOnceTheBudgetIsSpent() {
+        RetryInterceptor retries = new RetryInterceptor().setBudget(0.5, 2);
+
+        assertTrue(retries.getRetryDelay(0, 503, null, null) >= 0);
+        assertTrue(retries.getRetryDelay(0, 503, null, null) >= 0);
+        assertEquals(-1, retries.getRetryDelay(0, 503, null, null));
+        assertEquals(1L, retries.getMetrics().get("API Retries Denied By Budget"));
+
+        // two new requests earn one retry
+        retries.countRequest();
+        retries.countRequest();
+        assertTrue(retries.getRetryDelay(0, 503, null, null) >= 0);
+        assertEquals(-1, retries.getRetryDelay(0, 503, null, null));
+        assertEquals(3L, retries.getMetrics().get("API Retries"));
+    }
+
+    @Test
+    void reauthorizesOnlyWithAnotherToken() throws Exception {
+        RetryInterceptor retries = new RetryInterceptor();
+        assertNull(retries.reauthorize("old"));
+        assertNull(retries.reauthorizeAsync("old").get());
+
+        retries.setTokenRefresher(rejectedToken -> rejectedToken.equals("old") ? "new" : rejectedToken);
+        assertEquals("new", retries.reauthorize("old"));
+        assertNull(retries.reauthorize("new"));
+        assertEquals("new", retries.reauthorizeAsync("old").get());
+        assertNull(retries.reauthorizeAsync("new").get());
+        assertEquals(2L, retries.getMetrics().get("API Unauthorized Retries"));
+
+        retries.setTokenRefresher(rejectedToken -> null);
+        assertNull(retries.reauthorize("old"));
+        assertNull(retries.reauthorizeAsync("old").get());
+    }
+
+    @Test
+    void sendsACallAgainOnceAfterA401() throws Exception {
+        AtomicInteger refreshes = new AtomicInteger();
+        RetryInterceptor retries = new RetryInterceptor()
+                .setTokenRefresher(rejectedToken -> "token" + refreshes.incrementAndGet());
+        List<String> sent = new ArrayList<>();
+        OkHttpClient client = new OkHttpClient();
+        client.interceptors().add(retries);
+        // answers every request with 401 instead of sending it
+        client.interceptors().add(chain -> {
+            sent.add(chain.request().header("Authorization"));
+            return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).code(401)
+                    .message("Unauthorized").body(ResponseBody.create(MediaType.parse("text/plain"), "")).build();
+        });
+
+        Response response = retries.execute(client.newCall(new Request.Builder().url("http://localhost/")
+                .header("Authorization", "Bearer token0").build()));
+
+        assertEquals(401, response.code());
+        assertEquals(Arrays.asList("Bearer token0", "Bearer token1"), sent);
+        assertEquals(1, refreshes.get());
+    }
+}
@@ -0,0 +1,4 @@
+SELECT GREATEST(
+  (SELECT MAX(SPRIDEN.SPRIDEN_ACTIVITY_DATE) FROM SPRIDEN),
+  (SELECT MAX(SPRADDR.SPRADDR_ACTIVITY_DATE) FROM SPRADDR))
+FROM DUAL